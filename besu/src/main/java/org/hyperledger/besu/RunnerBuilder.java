@@ -41,6 +41,7 @@ import org.hyperledger.besu.ethereum.api.jsonrpc.authentication.DefaultAuthentic
 import org.hyperledger.besu.ethereum.api.jsonrpc.authentication.EngineAuthService;
 import org.hyperledger.besu.ethereum.api.jsonrpc.execution.AuthenticatedJsonRpcProcessor;
 import org.hyperledger.besu.ethereum.api.jsonrpc.execution.BaseJsonRpcProcessor;
+import org.hyperledger.besu.ethereum.api.jsonrpc.execution.ConcurrencyLimitedJsonRpcProcessor;
 import org.hyperledger.besu.ethereum.api.jsonrpc.execution.JsonRpcExecutor;
 import org.hyperledger.besu.ethereum.api.jsonrpc.execution.JsonRpcProcessor;
 import org.hyperledger.besu.ethereum.api.jsonrpc.health.HealthService;
@@ -65,6 +66,8 @@ import org.hyperledger.besu.ethereum.api.jsonrpc.websocket.subscription.pending.
 import org.hyperledger.besu.ethereum.api.jsonrpc.websocket.subscription.syncing.SyncingSubscriptionService;
 import org.hyperledger.besu.ethereum.api.query.BlockchainQueries;
 import org.hyperledger.besu.ethereum.api.query.PrivacyQueries;
+import org.hyperledger.besu.ethereum.api.query.cache.LogIndex;
+import org.hyperledger.besu.ethereum.api.query.cache.LogIndexingService;
 import org.hyperledger.besu.ethereum.blockcreation.MiningCoordinator;
 import org.hyperledger.besu.ethereum.blockcreation.PoWMiningCoordinator;
 import org.hyperledger.besu.ethereum.chain.Blockchain;
@@ -105,6 +108,7 @@ import org.hyperledger.besu.ethereum.permissioning.node.NodePermissioningControl
 import org.hyperledger.besu.ethereum.permissioning.node.PeerPermissionsAdapter;
 import org.hyperledger.besu.ethereum.privacy.PrivateTransactionObserver;
 import org.hyperledger.besu.ethereum.storage.StorageProvider;
+import org.hyperledger.besu.ethereum.storage.keyvalue.KeyValueSegmentIdentifier;
 import org.hyperledger.besu.ethereum.stratum.StratumServer;
 import org.hyperledger.besu.ethereum.transaction.TransactionSimulator;
 import org.hyperledger.besu.ethstats.EthStatsService;
@@ -761,6 +765,14 @@ public class RunnerBuilder {
     final MiningCoordinator miningCoordinator = besuController.getMiningCoordinator();
     final MiningParameters miningParameters = besuController.getMiningParameters();
 
+    final Optional<LogIndex> logIndex =
+        apiConfiguration.isLogIndexEnabled()
+            ? Optional.of(
+                new LogIndex(
+                    context.getBlockchain(),
+                    storageProvider.getStorageBySegmentIdentifier(
+                        KeyValueSegmentIdentifier.LOG_INDEX)))
+            : Optional.empty();
     final BlockchainQueries blockchainQueries =
         new BlockchainQueries(
             protocolSchedule,
@@ -769,6 +781,7 @@ public class RunnerBuilder {
             Optional.of(dataDir.resolve(CACHE_PATH)),
             Optional.of(besuController.getProtocolManager().ethContext().getScheduler()),
             apiConfiguration,
+            logIndex,
             miningParameters);
 
     final PrivacyParameters privacyParameters = besuController.getPrivacyParameters();
@@ -1111,6 +1124,13 @@ public class RunnerBuilder {
         dataDir,
         pidPath,
         autoLogBloomCaching ? blockchainQueries.getTransactionLogBloomCacher() : Optional.empty(),
+        logIndex.map(
+            index ->
+                new LogIndexingService(
+                    context.getBlockchain(),
+                    index,
+                    besuController.getProtocolManager().ethContext().getScheduler(),
+                    metricsSystem)),
         context.getBlockchain());
   }
 
@@ -1404,15 +1424,20 @@ public class RunnerBuilder {
         .values()
         .forEach(websocketMethodsFactory::addMethods);
 
+    final JsonRpcProcessor baseProcessor =
+        configuration.getMethodConcurrencyLimits().isEmpty()
+            ? new BaseJsonRpcProcessor()
+            : new ConcurrencyLimitedJsonRpcProcessor(
+                new BaseJsonRpcProcessor(),
+                configuration.getMethodConcurrencyLimits(),
+                metricsSystem);
     final JsonRpcProcessor jsonRpcProcessor;
     if (authenticationService.isPresent()) {
       jsonRpcProcessor =
           new AuthenticatedJsonRpcProcessor(
-              new BaseJsonRpcProcessor(),
-              authenticationService.get(),
-              configuration.getRpcApisNoAuth());
+              baseProcessor, authenticationService.get(), configuration.getRpcApisNoAuth());
     } else {
-      jsonRpcProcessor = new BaseJsonRpcProcessor();
+      jsonRpcProcessor = baseProcessor;
     }
     final JsonRpcExecutor jsonRpcExecutor =
         new JsonRpcExecutor(jsonRpcProcessor, websocketMethodsFactory.methods());
@@ -1421,7 +1446,8 @@ public class RunnerBuilder {
             vertx,
             jsonRpcExecutor,
             besuController.getProtocolManager().ethContext().getScheduler(),
-            webSocketConfiguration.getTimeoutSec());
+            webSocketConfiguration.getTimeoutSec(),
+            configuration.isVirtualThreadsEnabled());
 
     return new WebSocketService(
         vertx, configuration, websocketMessageHandler, authenticationService, metricsSystem);
@@ -1788,6 +1788,9 @@ public class BesuCommand implements DefaultCommandValues, Runnable {
             hostsAllowlist,
             p2PDiscoveryOptionGroup.autoDiscoverDefaultIP().getHostAddress(),
             unstableRPCOptions.getHttpTimeoutSec());
+    jsonRpcConfiguration.setVirtualThreadsEnabled(unstableRPCOptions.isVirtualThreadsEnabled());
+    jsonRpcConfiguration.setMethodConcurrencyLimits(
+        unstableRPCOptions.getMethodConcurrencyLimits());
     if (isEngineApiEnabled()) {
       engineJsonRpcConfiguration =
           createEngineJsonRpcConfiguration(
@@ -1804,6 +1807,9 @@ public class BesuCommand implements DefaultCommandValues, Runnable {
             hostsAllowlist,
             p2PDiscoveryOptionGroup.autoDiscoverDefaultIP().getHostAddress(),
             unstableRPCOptions.getWsTimeoutSec());
+    webSocketConfiguration.setVirtualThreadsEnabled(unstableRPCOptions.isVirtualThreadsEnabled());
+    webSocketConfiguration.setMethodConcurrencyLimits(
+        unstableRPCOptions.getMethodConcurrencyLimits());
     jsonRpcIpcConfiguration =
         jsonRpcIpcConfiguration(
             unstableIpcOptions.isEnabled(),
@@ -2199,7 +2205,15 @@ public class BesuCommand implements DefaultCommandValues, Runnable {
     final var txPoolConfBuilder =
         ImmutableTransactionPoolConfiguration.builder()
             .from(txPoolConf)
-            .saveFile((dataPath.resolve(txPoolConf.getSaveFile().getPath()).toFile()));
+            .saveFile((dataPath.resolve(txPoolConf.getSaveFile().getPath()).toFile()))
+            .unstable(
+                ImmutableTransactionPoolConfiguration.Unstable.builder()
+                    .from(txPoolConf.getUnstable())
+                    .overflowLayerFile(
+                        dataPath
+                            .resolve(txPoolConf.getUnstable().getOverflowLayerFile().getPath())
+                            .toFile())
+                    .build());
 
     if (genesisConfigOptionsSupplier.get().isZeroBaseFee()) {
       logger.warn(
@@ -2705,6 +2719,9 @@ public class BesuCommand implements DefaultCommandValues, Runnable {
     if (!unstableChainPruningOptions.getChainDataPruningEnabled()) {
       rocksDBPlugin.addIgnorableSegmentIdentifier(KeyValueSegmentIdentifier.CHAIN_PRUNER_STATE);
     }
+    if (!apiConfigurationOptions.apiConfiguration().isLogIndexEnabled()) {
+      rocksDBPlugin.addIgnorableSegmentIdentifier(KeyValueSegmentIdentifier.LOG_INDEX);
+    }
   }
 
   private void validatePostMergeCheckpointBlockRequirements() {
@@ -100,6 +100,9 @@ public interface DefaultCommandValues {
   /** The constant DEFAULT_HTTP_MAX_BATCH_SIZE. */
   int DEFAULT_HTTP_MAX_BATCH_SIZE = 1024;
 
+  /** The constant DEFAULT_HTTP_MAX_BATCH_CONCURRENCY. */
+  int DEFAULT_HTTP_MAX_BATCH_CONCURRENCY = 1;
+
   /** The constant DEFAULT_MAX_REQUEST_CONTENT_LENGTH. */
   long DEFAULT_MAX_REQUEST_CONTENT_LENGTH = 5 * 1024 * 1024; // 5MB
 
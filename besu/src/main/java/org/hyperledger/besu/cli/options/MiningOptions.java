@@ -23,9 +23,12 @@ import static org.hyperledger.besu.ethereum.core.MiningParameters.MutableInitVal
 import static org.hyperledger.besu.ethereum.core.MiningParameters.MutableInitValues.DEFAULT_MIN_BLOCK_OCCUPANCY_RATIO;
 import static org.hyperledger.besu.ethereum.core.MiningParameters.MutableInitValues.DEFAULT_MIN_PRIORITY_FEE_PER_GAS;
 import static org.hyperledger.besu.ethereum.core.MiningParameters.MutableInitValues.DEFAULT_MIN_TRANSACTION_GAS_PRICE;
+import static org.hyperledger.besu.ethereum.core.MiningParameters.Unstable.DEFAULT_BLOCK_TXS_SELECTION_PARALLEL_CANDIDATES;
 import static org.hyperledger.besu.ethereum.core.MiningParameters.Unstable.DEFAULT_MAX_OMMERS_DEPTH;
 import static org.hyperledger.besu.ethereum.core.MiningParameters.Unstable.DEFAULT_POS_BLOCK_CREATION_MAX_TIME;
 import static org.hyperledger.besu.ethereum.core.MiningParameters.Unstable.DEFAULT_POS_BLOCK_CREATION_REPETITION_MIN_DURATION;
+import static org.hyperledger.besu.ethereum.core.MiningParameters.Unstable.DEFAULT_POS_SECONDS_PER_SLOT;
+import static org.hyperledger.besu.ethereum.core.MiningParameters.Unstable.DEFAULT_POS_SPECULATIVE_BLOCK_CREATION_ENABLED;
 import static org.hyperledger.besu.ethereum.core.MiningParameters.Unstable.DEFAULT_POW_JOB_TTL;
 import static org.hyperledger.besu.ethereum.core.MiningParameters.Unstable.DEFAULT_REMOTE_SEALERS_LIMIT;
 import static org.hyperledger.besu.ethereum.core.MiningParameters.Unstable.DEFAULT_REMOTE_SEALERS_TTL;
@@ -188,6 +191,30 @@ public class MiningOptions implements CLIOptions<MiningParameters> {
                 + " then it waits before next repetition. Must be positive and ≤ 2000 (default: ${DEFAULT-VALUE} milliseconds)")
     private Long posBlockCreationRepetitionMinDuration =
         DEFAULT_POS_BLOCK_CREATION_REPETITION_MIN_DURATION;
+
+    @CommandLine.Option(
+        hidden = true,
+        names = {"--Xpos-speculative-block-creation-enabled"},
+        description =
+            "Keep building a speculative block on top of the current head, so that when a PoS block creation is requested its transactions are already selected (default: ${DEFAULT-VALUE})",
+        arity = "0..1")
+    private Boolean posSpeculativeBlockCreationEnabled =
+        DEFAULT_POS_SPECULATIVE_BLOCK_CREATION_ENABLED;
+
+    @CommandLine.Option(
+        hidden = true,
+        names = {"--Xpos-seconds-per-slot"},
+        description =
+            "Duration of a PoS slot, in seconds, used to guess the timestamp of the next block when building a speculative block. Must be positive (default: ${DEFAULT-VALUE})")
+    private Long posSecondsPerSlot = DEFAULT_POS_SECONDS_PER_SLOT;
+
+    @CommandLine.Option(
+        hidden = true,
+        names = {"--Xblock-txs-selection-parallel-candidates"},
+        description =
+            "Number of candidate transactions executed in parallel ahead of their evaluation during the block transaction selection, 0 to evaluate them only sequentially. Requires Bonsai (default: ${DEFAULT-VALUE})")
+    private Integer blockTxsSelectionParallelCandidates =
+        DEFAULT_BLOCK_TXS_SELECTION_PARALLEL_CANDIDATES;
   }
 
   private TransactionSelectionService transactionSelectionService;
@@ -280,6 +307,15 @@ public class MiningOptions implements CLIOptions<MiningParameters> {
           commandLine, "--Xpos-block-creation-repetition-min-duration must be positive and ≤ 2000");
     }
 
+    if (unstableOptions.posSecondsPerSlot <= 0) {
+      throw new ParameterException(commandLine, "--Xpos-seconds-per-slot must be positive");
+    }
+
+    if (unstableOptions.blockTxsSelectionParallelCandidates < 0) {
+      throw new ParameterException(
+          commandLine, "--Xblock-txs-selection-parallel-candidates must not be negative");
+    }
+
     if (genesisConfigOptions.isPoa()) {
       CommandLineUtils.failIfOptionDoesntMeetRequirement(
           commandLine,
@@ -326,6 +362,12 @@ public class MiningOptions implements CLIOptions<MiningParameters> {
         miningParameters.getUnstable().getPosBlockCreationMaxTime();
     miningOptions.unstableOptions.posBlockCreationRepetitionMinDuration =
         miningParameters.getUnstable().getPosBlockCreationRepetitionMinDuration();
+    miningOptions.unstableOptions.posSpeculativeBlockCreationEnabled =
+        miningParameters.getUnstable().isPosSpeculativeBlockCreationEnabled();
+    miningOptions.unstableOptions.posSecondsPerSlot =
+        miningParameters.getUnstable().getPosSecondsPerSlot();
+    miningOptions.unstableOptions.blockTxsSelectionParallelCandidates =
+        miningParameters.getUnstable().getBlockTxsSelectionParallelCandidates();
 
     miningParameters.getCoinbase().ifPresent(coinbase -> miningOptions.coinbase = coinbase);
     miningParameters.getTargetGasLimit().ifPresent(tgl -> miningOptions.targetGasLimit = tgl);
@@ -371,6 +413,11 @@ public class MiningOptions implements CLIOptions<MiningParameters> {
                 .posBlockCreationMaxTime(unstableOptions.posBlockCreationMaxTime)
                 .posBlockCreationRepetitionMinDuration(
                     unstableOptions.posBlockCreationRepetitionMinDuration)
+                .isPosSpeculativeBlockCreationEnabled(
+                    unstableOptions.posSpeculativeBlockCreationEnabled)
+                .posSecondsPerSlot(unstableOptions.posSecondsPerSlot)
+                .blockTxsSelectionParallelCandidates(
+                    unstableOptions.blockTxsSelectionParallelCandidates)
                 .build())
         .build();
   }
@@ -247,6 +247,12 @@ public class TransactionPoolOptions implements CLIOptions<TransactionPoolConfigu
     private static final String ETH65_TX_ANNOUNCED_BUFFERING_PERIOD_FLAG =
         "--Xeth65-tx-announced-buffering-period-milliseconds";
 
+    private static final String TX_POOL_OVERFLOW_LAYER_MAX_CAPACITY_FLAG =
+        "--Xtx-pool-overflow-layer-max-capacity";
+
+    private static final String TX_POOL_OVERFLOW_LAYER_FILE_FLAG =
+        "--Xtx-pool-overflow-layer-file";
+
     @CommandLine.Option(
         names = {TX_MESSAGE_KEEP_ALIVE_SEC_FLAG},
         paramLabel = "<INTEGER>",
@@ -267,6 +273,26 @@ public class TransactionPoolOptions implements CLIOptions<TransactionPoolConfigu
         arity = "1")
     private Duration eth65TrxAnnouncedBufferingPeriod =
         TransactionPoolConfiguration.Unstable.ETH65_TRX_ANNOUNCED_BUFFERING_PERIOD;
+
+    @CommandLine.Option(
+        names = {TX_POOL_OVERFLOW_LAYER_MAX_CAPACITY_FLAG},
+        paramLabel = MANDATORY_LONG_FORMAT_HELP,
+        hidden = true,
+        description =
+            "Max amount of disk space, in bytes, used to keep the transactions that do not fit in the layered transaction pool memory, 0 to disable (default: ${DEFAULT-VALUE})",
+        arity = "1")
+    private Long overflowLayerMaxCapacity =
+        TransactionPoolConfiguration.Unstable.DEFAULT_OVERFLOW_LAYER_MAX_CAPACITY_BYTES;
+
+    @CommandLine.Option(
+        names = {TX_POOL_OVERFLOW_LAYER_FILE_FLAG},
+        paramLabel = "<STRING>",
+        hidden = true,
+        description =
+            "File, relative to the data dir, where the layered transaction pool keeps the overflowing transactions (default: ${DEFAULT-VALUE})",
+        arity = "1")
+    private File overflowLayerFile =
+        TransactionPoolConfiguration.Unstable.DEFAULT_OVERFLOW_LAYER_FILE;
   }
 
   private TransactionPoolOptions() {}
@@ -323,6 +349,9 @@ public class TransactionPoolOptions implements CLIOptions<TransactionPoolConfigu
         config.getUnstable().getTxMessageKeepAliveSeconds();
     options.unstableOptions.eth65TrxAnnouncedBufferingPeriod =
         config.getUnstable().getEth65TrxAnnouncedBufferingPeriod();
+    options.unstableOptions.overflowLayerMaxCapacity =
+        config.getUnstable().getOverflowLayerMaxCapacityBytes();
+    options.unstableOptions.overflowLayerFile = config.getUnstable().getOverflowLayerFile();
 
     return options;
   }
@@ -380,6 +409,8 @@ public class TransactionPoolOptions implements CLIOptions<TransactionPoolConfigu
             ImmutableTransactionPoolConfiguration.Unstable.builder()
                 .txMessageKeepAliveSeconds(unstableOptions.txMessageKeepAliveSeconds)
                 .eth65TrxAnnouncedBufferingPeriod(unstableOptions.eth65TrxAnnouncedBufferingPeriod)
+                .overflowLayerMaxCapacityBytes(unstableOptions.overflowLayerMaxCapacity)
+                .overflowLayerFile(unstableOptions.overflowLayerFile)
                 .build())
         .build();
   }
@@ -88,6 +88,41 @@ public class ApiConfigurationOptions {
           "Specifies the maximum number of blocks for the trace_filter method. Must be >=0. 0 specifies no limit  (default: $DEFAULT-VALUE)")
   private final Long maxTraceFilterRange = 1000L;
 
+  @CommandLine.Option(
+      names = {"--rpc-trace-cache-max-size-bytes"},
+      hidden = true,
+      description =
+          "Maximum size in bytes of the on disk cache of the results of the block tracing RPC methods. 0 disables the cache (default: ${DEFAULT-VALUE})")
+  private final Long traceCacheMaxSizeBytes = 0L;
+
+  @CommandLine.Option(
+      names = {"--rpc-parallel-block-tracing-enabled"},
+      hidden = true,
+      description =
+          "Trace the transactions of a block in parallel in debug_traceBlock and trace_replayBlockTransactions, after executing the block once without tracing (default: ${DEFAULT-VALUE})")
+  private final Boolean parallelBlockTracingEnabled = false;
+
+  @CommandLine.Option(
+      names = {"--rpc-log-index-enabled"},
+      hidden = true,
+      description =
+          "Index the addresses and topics of the logs of the chain in the database, so eth_getLogs only reads the matching blocks (default: ${DEFAULT-VALUE})")
+  private final Boolean logIndexEnabled = false;
+
+  @CommandLine.Option(
+      names = {"--rpc-max-logs-scan-concurrency"},
+      hidden = true,
+      description =
+          "Maximum number of chunks of eth_getLogs block ranges scanned in parallel, across all the requests. 0 scans each range sequentially (default: ${DEFAULT-VALUE})")
+  private final Integer maxLogsScanConcurrency = 0;
+
+  @CommandLine.Option(
+      names = {"--rpc-max-logs-results"},
+      hidden = true,
+      description =
+          "Maximum number of logs returned by eth_getLogs, the scan stops as soon as it is exceeded. Must be >=0. 0 specifies no limit (default: ${DEFAULT-VALUE})")
+  private final Long maxLogsResults = 0L;
+
   /**
    * Validates the API options.
    *
@@ -102,6 +137,18 @@ public class ApiConfigurationOptions {
             "--api-gas-and-priority-fee-lower-bound-coefficient cannot be greater than the value of --api-gas-and-priority-fee-upper-bound-coefficient");
       }
     }
+    if (traceCacheMaxSizeBytes < 0) {
+      throw new CommandLine.ParameterException(
+          commandLine, "--rpc-trace-cache-max-size-bytes must be greater than or equal to 0");
+    }
+    if (maxLogsScanConcurrency < 0) {
+      throw new CommandLine.ParameterException(
+          commandLine, "--rpc-max-logs-scan-concurrency must be greater than or equal to 0");
+    }
+    if (maxLogsResults < 0) {
+      throw new CommandLine.ParameterException(
+          commandLine, "--rpc-max-logs-results must be greater than or equal to 0");
+    }
     checkApiOptionsDependencies(commandLine, logger);
   }
 
@@ -130,7 +177,12 @@ public class ApiConfigurationOptions {
             .maxLogsRange(rpcMaxLogsRange)
             .gasCap(rpcGasCap)
             .isGasAndPriorityFeeLimitingEnabled(apiGasAndPriorityFeeLimitingEnabled)
-            .maxTraceFilterRange(maxTraceFilterRange);
+            .maxTraceFilterRange(maxTraceFilterRange)
+            .traceCacheMaxSizeBytes(traceCacheMaxSizeBytes)
+            .isParallelBlockTracingEnabled(parallelBlockTracingEnabled)
+            .isLogIndexEnabled(logIndexEnabled)
+            .maxLogsScanConcurrency(maxLogsScanConcurrency)
+            .maxLogsResults(maxLogsResults);
     if (apiGasAndPriorityFeeLimitingEnabled) {
       builder
           .lowerBoundGasAndPriorityFeeCoefficient(apiGasAndPriorityFeeLowerBoundCoefficient)
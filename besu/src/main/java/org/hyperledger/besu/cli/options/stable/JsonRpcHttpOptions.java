@@ -196,6 +196,14 @@ public class JsonRpcHttpOptions {
           "Specifies the maximum number of requests in a single RPC batch request via RPC. -1 specifies no limit  (default: ${DEFAULT-VALUE})")
   private final Integer rpcHttpMaxBatchSize = DefaultCommandValues.DEFAULT_HTTP_MAX_BATCH_SIZE;
 
+  @CommandLine.Option(
+      names = {"--rpc-http-max-batch-concurrency"},
+      paramLabel = DefaultCommandValues.MANDATORY_INTEGER_FORMAT_HELP,
+      description =
+          "Specifies the maximum number of requests of a single RPC batch request that are executed concurrently. 1 executes them one after another  (default: ${DEFAULT-VALUE})")
+  private final Integer rpcHttpMaxBatchConcurrency =
+      DefaultCommandValues.DEFAULT_HTTP_MAX_BATCH_CONCURRENCY;
+
   @CommandLine.Option(
       names = {"--rpc-http-max-request-content-length"},
       paramLabel = DefaultCommandValues.MANDATORY_LONG_FORMAT_HELP,
@@ -229,6 +237,12 @@ public class JsonRpcHttpOptions {
           "Invalid value for option '--rpc-http-api': invalid entries found " + invalidHttpApis);
     }
 
+    if (rpcHttpMaxBatchConcurrency < 1) {
+      throw new CommandLine.ParameterException(
+          commandLine,
+          "Invalid value for option '--rpc-http-max-batch-concurrency', it must be greater than 0");
+    }
+
     final boolean validHttpApiMethods =
         rpcHttpApiMethodsNoAuth.stream().allMatch(RpcMethod::rpcMethodExists);
 
@@ -291,6 +305,7 @@ public class JsonRpcHttpOptions {
     jsonRpcConfiguration.setTlsConfiguration(rpcHttpTlsConfiguration());
     jsonRpcConfiguration.setHttpTimeoutSec(timoutSec);
     jsonRpcConfiguration.setMaxBatchSize(rpcHttpMaxBatchSize);
+    jsonRpcConfiguration.setMaxBatchConcurrency(rpcHttpMaxBatchConcurrency);
     jsonRpcConfiguration.setMaxRequestContentLength(rpcHttpMaxRequestContentLength);
     jsonRpcConfiguration.setPrettyJsonEnabled(prettyJsonEnabled);
     return jsonRpcConfiguration;
@@ -16,6 +16,9 @@ package org.hyperledger.besu.cli.options.unstable;
 
 import org.hyperledger.besu.ethereum.api.handlers.TimeoutOptions;
 
+import java.util.HashMap;
+import java.util.Map;
+
 import picocli.CommandLine;
 
 /** The Rpc Cli options. */
@@ -35,6 +38,24 @@ public class RPCOptions {
       arity = "1")
   private final Long wsTimeoutSec = TimeoutOptions.defaultOptions().getTimeoutSeconds();
 
+  @CommandLine.Option(
+      hidden = true,
+      names = {"--Xrpc-virtual-threads-enabled"},
+      description =
+          "Execute the JSON-RPC HTTP and WebSocket requests on virtual threads instead of the worker pool (default: ${DEFAULT-VALUE})",
+      arity = "1")
+  private final Boolean virtualThreadsEnabled = false;
+
+  @CommandLine.Option(
+      hidden = true,
+      names = {"--Xrpc-method-concurrency-limits"},
+      paramLabel = "<METHOD=LIMIT>",
+      description =
+          "Comma separated list of JSON-RPC methods with the maximum number of their requests that are executed at the same time, for example debug_traceTransaction=4,eth_getLogs=8. The requests over the limit wait on virtual threads, otherwise they are rejected (default: no limit)",
+      split = ",",
+      arity = "1..*")
+  private final Map<String, Integer> methodConcurrencyLimits = new HashMap<>();
+
   /** Default Constructor. */
   RPCOptions() {}
 
@@ -64,4 +85,22 @@ public class RPCOptions {
   public Long getWsTimeoutSec() {
     return wsTimeoutSec;
   }
+
+  /**
+   * Whether the JSON-RPC requests are executed on virtual threads.
+   *
+   * @return true if the JSON-RPC requests are executed on virtual threads
+   */
+  public boolean isVirtualThreadsEnabled() {
+    return virtualThreadsEnabled;
+  }
+
+  /**
+   * Gets the maximum number of requests executed at the same time, for the limited methods.
+   *
+   * @return the concurrency limit by method name
+   */
+  public Map<String, Integer> getMethodConcurrencyLimits() {
+    return methodConcurrencyLimits;
+  }
 }
@@ -87,6 +87,9 @@ public class SynchronizerOptions implements CLIOptions<SynchronizerConfiguration
 
   private static final String SNAP_SYNC_BFT_ENABLED_FLAG = "--Xsnapsync-bft-enabled";
 
+  private static final String SNAP_FLAT_DB_BULK_LOAD_ENABLED_FLAG =
+      "--Xsnapsync-synchronizer-flat-db-bulk-load-enabled";
+
   /**
    * Parse block propagation range.
    *
@@ -314,6 +317,16 @@ public class SynchronizerOptions implements CLIOptions<SynchronizerConfiguration
       description = "Snap sync enabled for BFT chains (default: ${DEFAULT-VALUE})")
   private Boolean snapsyncBftEnabled = SnapSyncConfiguration.DEFAULT_SNAP_SYNC_BFT_ENABLED;
 
+  @CommandLine.Option(
+      names = SNAP_FLAT_DB_BULK_LOAD_ENABLED_FLAG,
+      hidden = true,
+      paramLabel = "<Boolean>",
+      arity = "0..1",
+      description =
+          "Snap sync ingests downloaded ranges into the flat database as sorted files when the storage supports it (default: ${DEFAULT-VALUE})")
+  private Boolean snapsyncFlatDbBulkLoadEnabled =
+      SnapSyncConfiguration.DEFAULT_FLAT_DB_BULK_LOAD_ENABLED;
+
   private SynchronizerOptions() {}
 
   /**
@@ -385,6 +398,8 @@ public class SynchronizerOptions implements CLIOptions<SynchronizerConfiguration
     options.checkpointPostMergeSyncEnabled = config.isCheckpointPostMergeEnabled();
     options.snapsyncServerEnabled = config.getSnapSyncConfiguration().isSnapServerEnabled();
     options.snapsyncBftEnabled = config.getSnapSyncConfiguration().isSnapSyncBftEnabled();
+    options.snapsyncFlatDbBulkLoadEnabled =
+        config.getSnapSyncConfiguration().isFlatDbBulkLoadEnabled();
     return options;
   }
 
@@ -418,6 +433,7 @@ public class SynchronizerOptions implements CLIOptions<SynchronizerConfiguration
             .localFlatStorageCountToHealPerRequest(snapsyncFlatStorageHealedCountPerRequest)
             .isSnapServerEnabled(snapsyncServerEnabled)
             .isSnapSyncBftEnabled(snapsyncBftEnabled)
+            .isFlatDbBulkLoadEnabled(snapsyncFlatDbBulkLoadEnabled)
             .build());
     builder.checkpointPostMergeEnabled(checkpointPostMergeSyncEnabled);
 
@@ -477,7 +493,9 @@ public class SynchronizerOptions implements CLIOptions<SynchronizerConfiguration
             SNAP_SERVER_ENABLED_FLAG,
             OptionParser.format(snapsyncServerEnabled),
             SNAP_SYNC_BFT_ENABLED_FLAG,
-            OptionParser.format(snapsyncBftEnabled));
+            OptionParser.format(snapsyncBftEnabled),
+            SNAP_FLAT_DB_BULK_LOAD_ENABLED_FLAG,
+            OptionParser.format(snapsyncFlatDbBulkLoadEnabled));
     return value;
   }
 }
@@ -78,6 +78,7 @@ import org.hyperledger.besu.ethereum.eth.transactions.TransactionPoolFactory;
 import org.hyperledger.besu.ethereum.forkid.ForkIdManager;
 import org.hyperledger.besu.ethereum.mainnet.ProtocolSchedule;
 import org.hyperledger.besu.ethereum.mainnet.ProtocolSpec;
+import org.hyperledger.besu.ethereum.mainnet.TransactionSenderRecovery;
 import org.hyperledger.besu.ethereum.p2p.config.NetworkingConfiguration;
 import org.hyperledger.besu.ethereum.p2p.config.SubProtocolConfiguration;
 import org.hyperledger.besu.ethereum.storage.StorageProvider;
@@ -601,6 +602,9 @@ public abstract class BesuControllerBuilder implements MiningParameterOverrides
     protocolSchedule.setPublicWorldStateArchiveForPrivacyBlockProcessor(
         protocolContext.getWorldStateArchive());
 
+    final TransactionSenderRecovery transactionSenderRecovery = createTransactionSenderRecovery();
+    protocolContext.setTransactionSenderRecovery(Optional.of(transactionSenderRecovery));
+
     final int maxMessageSize = ethereumWireProtocolConfiguration.getMaxMessageSize();
     final Supplier<ProtocolSpec> currentProtocolSpecSupplier =
         () -> protocolSchedule.getByBlockHeader(blockchain.getChainHeadHeader());
@@ -754,6 +758,7 @@ public abstract class BesuControllerBuilder implements MiningParameterOverrides
     final List<Closeable> closeables = new ArrayList<>();
     closeables.add(protocolContext.getWorldStateArchive());
     closeables.add(storageProvider);
+    closeables.add(transactionSenderRecovery);
     if (privacyParameters.getPrivateStorageProvider() != null) {
       closeables.add(privacyParameters.getPrivateStorageProvider());
     }
@@ -1111,6 +1116,17 @@ public abstract class BesuControllerBuilder implements MiningParameterOverrides
     };
   }
 
+  private TransactionSenderRecovery createTransactionSenderRecovery() {
+    final int workerCount = Runtime.getRuntime().availableProcessors();
+    return new TransactionSenderRecovery(
+        MonitoredExecutors.newBoundedThreadPool(
+            TransactionSenderRecovery.class.getSimpleName(),
+            workerCount,
+            workerCount,
+            TransactionSenderRecovery.MAX_QUEUE_SIZE,
+            metricsSystem));
+  }
+
   private ChainDataPruner createChainPruner(final BlockchainStorage blockchainStorage) {
     return new ChainDataPruner(
         blockchainStorage,
@@ -854,6 +854,33 @@ public class JsonRpcHttpOptionsTest extends CommandTestAbstract {
     assertThat(commandErrorOutput.toString(UTF_8)).isEmpty();
   }
 
+  @Test
+  public void rpcHttpMaxBatchConcurrencyOptionMustBeUsed() {
+    final int rpcHttpMaxBatchConcurrency = 8;
+    parseCommand("--rpc-http-max-batch-concurrency", Integer.toString(rpcHttpMaxBatchConcurrency));
+
+    verify(mockRunnerBuilder).jsonRpcConfiguration(jsonRpcConfigArgumentCaptor.capture());
+    verify(mockRunnerBuilder).build();
+
+    assertThat(jsonRpcConfigArgumentCaptor.getValue().getMaxBatchConcurrency())
+        .isEqualTo(rpcHttpMaxBatchConcurrency);
+
+    assertThat(commandOutput.toString(UTF_8)).isEmpty();
+    assertThat(commandErrorOutput.toString(UTF_8)).isEmpty();
+  }
+
+  @Test
+  public void rpcHttpMaxBatchConcurrencyMustBeGreaterThanZero() {
+    parseCommand("--rpc-http-max-batch-concurrency", "0");
+
+    verifyNoInteractions(mockRunnerBuilder);
+
+    assertThat(commandOutput.toString(UTF_8)).isEmpty();
+    assertThat(commandErrorOutput.toString(UTF_8))
+        .contains(
+            "Invalid value for option '--rpc-http-max-batch-concurrency', it must be greater than 0");
+  }
+
   @Test
   public void portInUseReportsError() throws IOException {
     final ServerSocket serverSocket = new ServerSocket(8545);
@@ -304,6 +304,54 @@ public class MiningOptionsTest extends AbstractCLIOptionsTest<MiningParameters,
         "7000");
   }
 
+  @Test
+  public void posSpeculativeBlockCreationDisabledByDefault() {
+    internalTestSuccess(
+        miningParams ->
+            assertThat(miningParams.getUnstable().isPosSpeculativeBlockCreationEnabled())
+                .isFalse());
+  }
+
+  @Test
+  public void posSpeculativeBlockCreationOption() {
+    internalTestSuccess(
+        miningParams ->
+            assertThat(miningParams.getUnstable().isPosSpeculativeBlockCreationEnabled())
+                .isTrue(),
+        "--Xpos-speculative-block-creation-enabled");
+  }
+
+  @Test
+  public void posSecondsPerSlotOption() {
+    internalTestSuccess(
+        miningParams -> assertThat(miningParams.getUnstable().getPosSecondsPerSlot()).isEqualTo(6L),
+        "--Xpos-seconds-per-slot",
+        "6");
+  }
+
+  @Test
+  public void posSecondsPerSlotMustBePositive() {
+    internalTestFailure("--Xpos-seconds-per-slot must be positive", "--Xpos-seconds-per-slot", "0");
+  }
+
+  @Test
+  public void blockTxsSelectionParallelCandidatesOption() {
+    internalTestSuccess(
+        miningParams ->
+            assertThat(miningParams.getUnstable().getBlockTxsSelectionParallelCandidates())
+                .isEqualTo(8),
+        "--Xblock-txs-selection-parallel-candidates",
+        "8");
+  }
+
+  @Test
+  public void blockTxsSelectionParallelCandidatesMustNotBeNegative() {
+    internalTestFailure(
+        "--Xblock-txs-selection-parallel-candidates must not be negative",
+        "--Xblock-txs-selection-parallel-candidates",
+        "-1");
+  }
+
   @Test
   public void posBlockCreationMaxTimeOutOfAllowedRange() {
     internalTestFailure(
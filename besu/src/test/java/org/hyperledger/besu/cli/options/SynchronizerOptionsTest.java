@@ -79,6 +79,7 @@ public class SynchronizerOptionsTest
                 .bytecodeCountPerRequest(
                     SnapSyncConfiguration.DEFAULT_BYTECODE_COUNT_PER_REQUEST + 2)
                 .isSnapServerEnabled(Boolean.TRUE)
+                .isFlatDbBulkLoadEnabled(Boolean.TRUE)
                 .build());
   }
 
@@ -345,6 +345,17 @@ public class TransactionPoolOptionsTest
         "acbd");
   }
 
+  @Test
+  public void overflowLayerMaxCapacity() {
+    final long overflowLayerMaxCapacity = 100_000_000L;
+    internalTestSuccess(
+        config ->
+            assertThat(config.getUnstable().getOverflowLayerMaxCapacityBytes())
+                .isEqualTo(overflowLayerMaxCapacity),
+        "--Xtx-pool-overflow-layer-max-capacity",
+        String.valueOf(overflowLayerMaxCapacity));
+  }
+
   @Test
   public void eth65TrxAnnouncedBufferingPeriod() {
     final Duration eth65TrxAnnouncedBufferingPeriod = Duration.ofMillis(999);
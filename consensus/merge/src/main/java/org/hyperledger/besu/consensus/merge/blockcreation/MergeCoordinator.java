@@ -22,6 +22,7 @@ import org.hyperledger.besu.consensus.merge.PayloadWrapper;
 import org.hyperledger.besu.datatypes.Address;
 import org.hyperledger.besu.datatypes.Hash;
 import org.hyperledger.besu.datatypes.Wei;
+import org.hyperledger.besu.ethereum.BlockProcessingOutputs;
 import org.hyperledger.besu.ethereum.BlockProcessingResult;
 import org.hyperledger.besu.ethereum.ProtocolContext;
 import org.hyperledger.besu.ethereum.blockcreation.BlockCreator.BlockCreationResult;
@@ -35,7 +36,9 @@ import org.hyperledger.besu.ethereum.core.BlockWithReceipts;
 import org.hyperledger.besu.ethereum.core.Difficulty;
 import org.hyperledger.besu.ethereum.core.MiningParameters;
 import org.hyperledger.besu.ethereum.core.MutableWorldState;
+import org.hyperledger.besu.ethereum.core.Request;
 import org.hyperledger.besu.ethereum.core.Transaction;
+import org.hyperledger.besu.ethereum.core.TransactionReceipt;
 import org.hyperledger.besu.ethereum.core.Withdrawal;
 import org.hyperledger.besu.ethereum.eth.manager.EthScheduler;
 import org.hyperledger.besu.ethereum.eth.sync.backwardsync.BackwardSyncContext;
@@ -58,9 +61,12 @@ import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Supplier;
 
 import com.google.common.annotations.VisibleForTesting;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import org.apache.tuweni.bytes.Bytes32;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -80,6 +86,8 @@ public class MergeCoordinator implements MergeMiningCoordinator, BadChainListene
 
   private static final long DEFAULT_TARGET_GAS_LIMIT = 30000000L;
 
+  private static final int MAX_BUILT_BLOCKS = 32;
+
   /** The Mining parameters. */
   protected final MiningParameters miningParameters;
 
@@ -104,6 +112,14 @@ public class MergeCoordinator implements MergeMiningCoordinator, BadChainListene
   private final Map<PayloadIdentifier, BlockCreationTask> blockCreationTasks =
       new ConcurrentHashMap<>();
 
+  private final AtomicReference<SpeculativeBlockCreationTask> speculativeBlockCreationTask =
+      new AtomicReference<>();
+
+  // outputs of the validation of the blocks built locally, to import the one that is proposed
+  // without executing it again
+  private final Cache<Hash, BuiltBlockOutputs> builtBlocksOutputs =
+      CacheBuilder.newBuilder().maximumSize(MAX_BUILT_BLOCKS).concurrencyLevel(1).build();
+
   /**
    * Instantiates a new Merge coordinator.
    *
@@ -281,6 +297,9 @@ public class MergeCoordinator implements MergeMiningCoordinator, BadChainListene
     // it's a new payloadId so...
     cancelAnyExistingBlockCreationTasks(payloadIdentifier);
 
+    final Optional<List<Transaction>> speculativeTransactions =
+        takeSpeculativeTransactions(parentHeader);
+
     final MergeBlockCreator mergeBlockCreator =
         this.mergeBlockCreatorFactory.forParams(parentHeader, Optional.ofNullable(feeRecipient));
 
@@ -299,6 +318,7 @@ public class MergeCoordinator implements MergeMiningCoordinator, BadChainListene
 
     BlockProcessingResult result = validateProposedBlock(emptyBlock);
     if (result.isSuccessful()) {
+      rememberBuiltBlockOutputs(emptyBlock, result);
       mergeContext.putPayloadById(
           new PayloadWrapper(
               payloadIdentifier, new BlockWithReceipts(emptyBlock, result.getReceipts())));
@@ -322,7 +342,8 @@ public class MergeCoordinator implements MergeMiningCoordinator, BadChainListene
         payloadIdentifier,
         mergeBlockCreator,
         withdrawals,
-        parentBeaconBlockRoot);
+        parentBeaconBlockRoot,
+        speculativeTransactions);
 
     return payloadIdentifier;
   }
@@ -363,12 +384,23 @@ public class MergeCoordinator implements MergeMiningCoordinator, BadChainListene
       final PayloadIdentifier payloadIdentifier,
       final MergeBlockCreator mergeBlockCreator,
       final Optional<List<Withdrawal>> withdrawals,
-      final Optional<Bytes32> parentBeaconBlockRoot) {
+      final Optional<Bytes32> parentBeaconBlockRoot,
+      final Optional<List<Transaction>> speculativeTransactions) {
 
     final Supplier<BlockCreationResult> blockCreator =
         () ->
             mergeBlockCreator.createBlock(
                 Optional.empty(), random, timestamp, withdrawals, parentBeaconBlockRoot);
+    final Optional<Supplier<BlockCreationResult>> speculativeBlockCreator =
+        speculativeTransactions.map(
+            transactions ->
+                () ->
+                    mergeBlockCreator.createBlock(
+                        Optional.of(transactions),
+                        random,
+                        timestamp,
+                        withdrawals,
+                        parentBeaconBlockRoot));
 
     LOG.debug(
         "Block creation started for payload id {}, remaining time is {}ms",
@@ -377,7 +409,11 @@ public class MergeCoordinator implements MergeMiningCoordinator, BadChainListene
 
     ethScheduler
         .scheduleBlockCreationTask(
-            () -> retryBlockCreationUntilUseful(payloadIdentifier, blockCreator))
+            () -> {
+              speculativeBlockCreator.ifPresent(
+                  creator -> buildFromSpeculativeTransactions(payloadIdentifier, creator));
+              retryBlockCreationUntilUseful(payloadIdentifier, blockCreator);
+            })
         .orTimeout(
             miningParameters.getUnstable().getPosBlockCreationMaxTime(), TimeUnit.MILLISECONDS)
         .whenComplete(
@@ -393,6 +429,140 @@ public class MergeCoordinator implements MergeMiningCoordinator, BadChainListene
             });
   }
 
+  /**
+   * The transactions selected by the speculative block are executed, with the real payload
+   * attributes, before running the full selection, so a well-filled proposal is available as soon
+   * as possible. Transactions that are no longer valid are simply skipped by the selector.
+   */
+  private void buildFromSpeculativeTransactions(
+      final PayloadIdentifier payloadIdentifier,
+      final Supplier<BlockCreationResult> speculativeBlockCreator) {
+    try {
+      recoverableBlockCreation(
+          payloadIdentifier, speculativeBlockCreator, System.currentTimeMillis());
+    } catch (final Throwable throwable) {
+      LOG.atDebug()
+          .setMessage(
+              "Failed to build block from speculative transactions for payload id {}, reason {}")
+          .addArgument(payloadIdentifier)
+          .addArgument(() -> logException(throwable))
+          .log();
+    }
+  }
+
+  /**
+   * When speculative block creation is enabled, keep building a block on top of the new head, with
+   * guessed payload attributes, until a block is requested for it, so that the expensive part of
+   * the work, the selection of the transactions, is already done when the request arrives.
+   *
+   * @param head the new chain head
+   */
+  private void startSpeculativeBlockCreation(final BlockHeader head) {
+    final SpeculativeBlockCreationTask currentTask = speculativeBlockCreationTask.get();
+    if (currentTask != null && currentTask.parentHash.equals(head.getHash())) {
+      return;
+    }
+
+    final MergeBlockCreator blockCreator =
+        mergeBlockCreatorFactory.forParams(head, Optional.empty());
+    final SpeculativeBlockCreationTask task =
+        new SpeculativeBlockCreationTask(head.getHash(), blockCreator);
+    final SpeculativeBlockCreationTask previousTask = speculativeBlockCreationTask.getAndSet(task);
+    if (previousTask != null) {
+      previousTask.cancel();
+    }
+
+    // the guessed timestamp only needs to be close enough to select the same protocol spec of the
+    // block that will be requested
+    final long timestamp =
+        head.getTimestamp() + miningParameters.getUnstable().getPosSecondsPerSlot();
+    final Bytes32 prevRandao = head.getPrevRandao().orElse(Bytes32.ZERO);
+    final Optional<List<Withdrawal>> withdrawals =
+        head.getWithdrawalsRoot().map(unused -> Collections.<Withdrawal>emptyList());
+    final Optional<Bytes32> parentBeaconBlockRoot = head.getParentBeaconBlockRoot();
+
+    final Supplier<BlockCreationResult> speculativeBlockCreator =
+        () ->
+            blockCreator.createBlock(
+                Optional.empty(), prevRandao, timestamp, withdrawals, parentBeaconBlockRoot);
+
+    LOG.atDebug()
+        .setMessage("Speculative block creation started on top of {}")
+        .addArgument(head::toLogString)
+        .log();
+
+    ethScheduler
+        .scheduleBlockCreationTask(
+            () -> retrySpeculativeBlockCreation(task, speculativeBlockCreator))
+        .orTimeout(
+            miningParameters.getUnstable().getPosBlockCreationMaxTime(), TimeUnit.MILLISECONDS)
+        .whenComplete(
+            (unused, throwable) -> {
+              if (throwable != null) {
+                LOG.atDebug()
+                    .setMessage("Exception building speculative block on top of {}, reason {}")
+                    .addArgument(head::toLogString)
+                    .addArgument(() -> logException(throwable))
+                    .log();
+              }
+              task.cancel();
+            });
+  }
+
+  private void retrySpeculativeBlockCreation(
+      final SpeculativeBlockCreationTask task,
+      final Supplier<BlockCreationResult> speculativeBlockCreator) {
+
+    while (!task.cancelled.get()) {
+      try {
+        final long startedAt = System.currentTimeMillis();
+        final Block block = speculativeBlockCreator.get().getBlock();
+        task.selectedTransactions = block.getBody().getTransactions();
+        final long lastDuration = System.currentTimeMillis() - startedAt;
+        LOG.atDebug()
+            .setMessage("Speculative block on top of {} built with {} transactions, in {}ms")
+            .addArgument(task.parentHash)
+            .addArgument(task.selectedTransactions::size)
+            .addArgument(lastDuration)
+            .log();
+        Thread.sleep(
+            Math.max(
+                100,
+                miningParameters.getUnstable().getPosBlockCreationRepetitionMinDuration()
+                    - lastDuration));
+      } catch (final CancellationException | InterruptedException ce) {
+        return;
+      } catch (final Throwable throwable) {
+        if (!canRetryBlockCreation(throwable)) {
+          LOG.atDebug()
+              .setMessage("Stopping speculative block creation on top of {}, reason {}")
+              .addArgument(task.parentHash)
+              .addArgument(() -> logException(throwable))
+              .log();
+          return;
+        }
+      }
+    }
+  }
+
+  private Optional<List<Transaction>> takeSpeculativeTransactions(final BlockHeader parentHeader) {
+    final SpeculativeBlockCreationTask task = speculativeBlockCreationTask.getAndSet(null);
+    if (task == null) {
+      return Optional.empty();
+    }
+    // the proposal is going to be built now, so stop speculating to leave it the resources
+    task.cancel();
+    if (!task.parentHash.equals(parentHeader.getHash()) || task.selectedTransactions.isEmpty()) {
+      return Optional.empty();
+    }
+    LOG.atDebug()
+        .setMessage("Reusing {} transactions selected by the speculative block on top of {}")
+        .addArgument(task.selectedTransactions::size)
+        .addArgument(parentHeader::toLogString)
+        .log();
+    return Optional.of(task.selectedTransactions);
+  }
+
   private Void retryBlockCreationUntilUseful(
       final PayloadIdentifier payloadIdentifier, final Supplier<BlockCreationResult> blockCreator) {
 
@@ -459,6 +629,7 @@ public class MergeCoordinator implements MergeMiningCoordinator, BadChainListene
 
       if (isBlockCreationCancelled(payloadIdentifier)) return;
 
+      rememberBuiltBlockOutputs(bestBlock, resultBest);
       mergeContext.putPayloadById(
           new PayloadWrapper(
               payloadIdentifier, new BlockWithReceipts(bestBlock, resultBest.getReceipts())));
@@ -572,9 +743,90 @@ public class MergeCoordinator implements MergeMiningCoordinator, BadChainListene
     return validationResult;
   }
 
+  private void rememberBuiltBlockOutputs(
+      final Block block, final BlockProcessingResult validationResult) {
+    validationResult
+        .getYield()
+        .ifPresent(
+            outputs ->
+                builtBlocksOutputs.put(
+                    block.getHash(),
+                    new BuiltBlockOutputs(outputs.getReceipts(), outputs.getRequests())));
+  }
+
+  /**
+   * If the block was built locally, then it was already executed when it was validated, so it is
+   * imported reusing the outputs of that validation, and the world state is moved to it using the
+   * state changes saved at that time, without executing the block again.
+   *
+   * <p>The block is only stored once the world state has been moved to it, so nothing is left
+   * stored when it must be executed again and that execution fails.
+   *
+   * @param block the block to import
+   * @return the result of the import if the block was built locally and its world state has been
+   *     reached, empty if the block must be validated and stored as usual, without having stored it
+   */
+  private Optional<BlockProcessingResult> importBuiltBlock(final Block block) {
+    final BuiltBlockOutputs builtBlockOutputs = builtBlocksOutputs.getIfPresent(block.getHash());
+    if (builtBlockOutputs == null) {
+      return Optional.empty();
+    }
+    builtBlocksOutputs.invalidate(block.getHash());
+
+    final var worldStateArchive = protocolContext.getWorldStateArchive();
+    if (!worldStateArchive.isWorldStateAvailable(
+        block.getHeader().getStateRoot(), block.getHash())) {
+      LOG.atDebug()
+          .setMessage("World state of built block {} not available, executing it again")
+          .addArgument(block::toLogString)
+          .log();
+      return Optional.empty();
+    }
+
+    // the persisted world state is owned by the archive, so it is not closed here
+    final Optional<MutableWorldState> maybeWorldState;
+    try {
+      maybeWorldState = worldStateArchive.getMutable(block.getHeader(), true);
+    } catch (final Exception e) {
+      LOG.atDebug()
+          .setMessage("Failed to move to the world state of built block {}: {}")
+          .addArgument(block::toLogString)
+          .addArgument(() -> logException(e))
+          .log();
+      return Optional.empty();
+    }
+
+    if (maybeWorldState.isEmpty()
+        || !maybeWorldState.get().rootHash().equals(block.getHeader().getStateRoot())) {
+      LOG.atDebug()
+          .setMessage("World state of built block {} not reached, executing it again")
+          .addArgument(block::toLogString)
+          .log();
+      return Optional.empty();
+    }
+
+    protocolContext.getBlockchain().storeBlock(block, builtBlockOutputs.receipts());
+    LOG.atDebug()
+        .setMessage("Imported built block {} without executing it again")
+        .addArgument(block::toLogString)
+        .log();
+    return Optional.of(
+        new BlockProcessingResult(
+            Optional.of(
+                new BlockProcessingOutputs(
+                    maybeWorldState.get(),
+                    builtBlockOutputs.receipts(),
+                    builtBlockOutputs.maybeRequests()))));
+  }
+
   @Override
   public BlockProcessingResult rememberBlock(final Block block) {
     LOG.atDebug().setMessage("Remember block {}").addArgument(block::toLogString).log();
+    final Optional<BlockProcessingResult> builtBlockResult = importBuiltBlock(block);
+    if (builtBlockResult.isPresent()) {
+      return builtBlockResult.get();
+    }
+
     final var chain = protocolContext.getBlockchain();
     final var validationResult = validateBlock(block);
     validationResult
@@ -610,7 +862,7 @@ public class MergeCoordinator implements MergeMiningCoordinator, BadChainListene
           INVALID, "new head timestamp not greater than parent", latestValid);
     }
 
-    setNewHead(blockchain, newHead);
+    final boolean isNewHeadSet = setNewHead(blockchain, newHead);
 
     // set and persist the new finalized block if it is present
     newFinalized.ifPresent(
@@ -627,6 +879,12 @@ public class MergeCoordinator implements MergeMiningCoordinator, BadChainListene
               mergeContext.setSafeBlock(newSafeBlock);
             });
 
+    if (isNewHeadSet
+        && miningParameters.getUnstable().isPosSpeculativeBlockCreationEnabled()
+        && !mergeContext.isSyncing()) {
+      startSpeculativeBlockCreation(newHead);
+    }
+
     return ForkchoiceResult.withResult(newFinalized, Optional.of(newHead));
   }
 
@@ -887,4 +1145,45 @@ public class MergeCoordinator implements MergeMiningCoordinator, BadChainListene
       blockCreator.cancel();
     }
   }
+
+  private static class SpeculativeBlockCreationTask {
+    /** The hash of the block the speculative block is built on top of. */
+    final Hash parentHash;
+
+    /** The Block creator. */
+    final MergeBlockCreator blockCreator;
+
+    /** The Cancelled. */
+    final AtomicBoolean cancelled = new AtomicBoolean(false);
+
+    /** The transactions selected by the last speculative block built. */
+    volatile List<Transaction> selectedTransactions = List.of();
+
+    /**
+     * Instantiates a new Speculative block creation task.
+     *
+     * @param parentHash the hash of the parent block
+     * @param blockCreator the block creator
+     */
+    public SpeculativeBlockCreationTask(
+        final Hash parentHash, final MergeBlockCreator blockCreator) {
+      this.parentHash = parentHash;
+      this.blockCreator = blockCreator;
+    }
+
+    /** Cancel. */
+    public void cancel() {
+      cancelled.set(true);
+      blockCreator.cancel();
+    }
+  }
+
+  /**
+   * The outputs of the validation of a block built locally.
+   *
+   * @param receipts the receipts of the block
+   * @param maybeRequests the requests of the block
+   */
+  private record BuiltBlockOutputs(
+      List<TransactionReceipt> receipts, Optional<List<Request>> maybeRequests) {}
 }
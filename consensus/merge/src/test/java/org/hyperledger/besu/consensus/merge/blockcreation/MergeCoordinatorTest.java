@@ -25,6 +25,7 @@ import static org.mockito.Mockito.atLeast;
 import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doCallRealMethod;
+import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
@@ -43,6 +44,7 @@ import org.hyperledger.besu.crypto.SignatureAlgorithmFactory;
 import org.hyperledger.besu.datatypes.Address;
 import org.hyperledger.besu.datatypes.Hash;
 import org.hyperledger.besu.datatypes.Wei;
+import org.hyperledger.besu.ethereum.BlockProcessingResult;
 import org.hyperledger.besu.ethereum.ProtocolContext;
 import org.hyperledger.besu.ethereum.chain.BadBlockManager;
 import org.hyperledger.besu.ethereum.chain.BlockAddedEvent;
@@ -54,6 +56,7 @@ import org.hyperledger.besu.ethereum.core.Block;
 import org.hyperledger.besu.ethereum.core.BlockBody;
 import org.hyperledger.besu.ethereum.core.BlockHeader;
 import org.hyperledger.besu.ethereum.core.BlockHeaderTestFixture;
+import org.hyperledger.besu.ethereum.core.BlockWithReceipts;
 import org.hyperledger.besu.ethereum.core.Difficulty;
 import org.hyperledger.besu.ethereum.core.ImmutableMiningParameters;
 import org.hyperledger.besu.ethereum.core.ImmutableMiningParameters.MutableInitValues;
@@ -86,6 +89,7 @@ import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
@@ -149,7 +153,7 @@ public class MergeCoordinatorTest implements MergeGenesisConfigHelper {
   private final GenesisState genesisState =
       GenesisState.fromConfig(getPosGenesisConfigFile(), protocolSchedule);
 
-  private final WorldStateArchive worldStateArchive = createInMemoryWorldStateArchive();
+  private final WorldStateArchive worldStateArchive = spy(createInMemoryWorldStateArchive());
 
   private final MutableBlockchain blockchain =
       spy(createInMemoryBlockchain(genesisState.getBlock()));
@@ -536,7 +540,7 @@ public class MergeCoordinatorTest implements MergeGenesisConfigHelper {
     final AtomicLong retries = new AtomicLong(0);
     miningParameters =
         ImmutableMiningParameters.builder()
-            .from(miningParameters)
+            .mutableInitValues(MutableInitValues.builder().coinbase(coinbase).build())
             .unstable(Unstable.builder().posBlockCreationMaxTime(100).build())
             .build();
     doAnswer(
@@ -724,6 +728,187 @@ public class MergeCoordinatorTest implements MergeGenesisConfigHelper {
     assertThat(coordinator.isBlockCreationCancelled(payloadId2)).isFalse();
   }
 
+  @Test
+  public void shouldReuseSpeculativeTransactionsWhenPreparingPayloadOnTheSameHead()
+      throws InterruptedException, ExecutionException {
+    final MiningParameters speculativeMiningParameters =
+        ImmutableMiningParameters.builder()
+            .from(miningParameters)
+            .unstable(
+                Unstable.builder()
+                    .posBlockCreationRepetitionMinDuration(REPETITION_MIN_DURATION)
+                    .isPosSpeculativeBlockCreationEnabled(true)
+                    .build())
+            .build();
+
+    final List<PendingTransaction> pendingTransactions = new ArrayList<>();
+    for (int i = 0; i < 3; i++) {
+      final PendingTransaction pendingTransaction = createLocalTransaction(i);
+      pendingTransactions.add(pendingTransaction);
+      transactions.addTransaction(pendingTransaction, Optional.empty());
+    }
+
+    final List<MergeBlockCreator> blockCreators = new ArrayList<>();
+    // the second repetition of the speculative block creation means the first one is done
+    final CountDownLatch speculativeBlocksBuilt = new CountDownLatch(2);
+    MergeCoordinator.MergeBlockCreatorFactory mergeBlockCreatorFactory =
+        (parentHeader, address) -> {
+          MergeBlockCreator beingSpiedOn =
+              spy(
+                  new MergeBlockCreator(
+                      speculativeMiningParameters,
+                      parent -> Bytes.EMPTY,
+                      transactionPool,
+                      protocolContext,
+                      protocolSchedule,
+                      parentHeader,
+                      ethScheduler));
+          if (address.isEmpty()) {
+            doAnswer(
+                    invocation -> {
+                      speculativeBlocksBuilt.countDown();
+                      return invocation.callRealMethod();
+                    })
+                .when(beingSpiedOn)
+                .createBlock(any(), any(Bytes32.class), anyLong(), any(), any());
+          }
+          blockCreators.add(beingSpiedOn);
+          return beingSpiedOn;
+        };
+
+    final MergeCoordinator speculativeCoordinator =
+        new MergeCoordinator(
+            protocolContext,
+            protocolSchedule,
+            ethScheduler,
+            speculativeMiningParameters,
+            backwardSyncContext,
+            mergeBlockCreatorFactory);
+
+    doAnswer(
+            invocation -> {
+              final PayloadWrapper payload = invocation.getArgument(0, PayloadWrapper.class);
+              if (!payload.blockWithReceipts().getBlock().getBody().getTransactions().isEmpty()) {
+                speculativeCoordinator.finalizeProposalById(payload.payloadIdentifier());
+              }
+              return null;
+            })
+        .when(mergeContext)
+        .putPayloadById(any());
+
+    final BlockHeader head = genesisState.getBlock().getHeader();
+    speculativeCoordinator.updateForkChoice(head, Hash.ZERO, Hash.ZERO);
+
+    assertThat(speculativeBlocksBuilt.await(10, TimeUnit.SECONDS)).isTrue();
+
+    speculativeCoordinator.preparePayload(
+        head,
+        System.currentTimeMillis() / 1000,
+        Bytes32.random(),
+        suggestedFeeRecipient,
+        Optional.empty(),
+        Optional.empty());
+
+    blockCreationTask.get();
+
+    assertThat(blockCreators).hasSize(2);
+    final MergeBlockCreator speculativeBlockCreator = blockCreators.get(0);
+    final MergeBlockCreator payloadBlockCreator = blockCreators.get(1);
+    assertThat(speculativeBlockCreator.isCancelled()).isTrue();
+    verify(payloadBlockCreator)
+        .createBlock(
+            eq(
+                Optional.of(
+                    pendingTransactions.stream().map(PendingTransaction::getTransaction).toList())),
+            any(Bytes32.class),
+            anyLong(),
+            eq(Optional.empty()),
+            eq(Optional.empty()));
+  }
+
+  @Test
+  public void shouldImportBuiltBlockWithoutExecutingItAgain()
+      throws InterruptedException, ExecutionException {
+    final MergeCoordinator spiedCoordinator = spy(coordinator);
+    final BlockWithReceipts builtBlock = buildBlockWithOneTransaction(spiedCoordinator);
+
+    final BlockProcessingResult result = spiedCoordinator.rememberBlock(builtBlock.getBlock());
+
+    assertThat(result.isSuccessful()).isTrue();
+    assertThat(result.getReceipts()).isEqualTo(builtBlock.getReceipts());
+    assertThat(blockchain.getBlockByHash(builtBlock.getHash())).contains(builtBlock.getBlock());
+    verify(blockchain).storeBlock(eq(builtBlock.getBlock()), any());
+    verify(spiedCoordinator, never()).validateBlock(any());
+  }
+
+  @Test
+  public void shouldExecuteBuiltBlockAgainBeforeStoringItIfItsWorldStateIsNotAvailable()
+      throws InterruptedException, ExecutionException {
+    final MergeCoordinator spiedCoordinator = spy(coordinator);
+    final BlockWithReceipts builtBlock = buildBlockWithOneTransaction(spiedCoordinator);
+    doReturn(false).when(worldStateArchive).isWorldStateAvailable(any(), eq(builtBlock.getHash()));
+
+    final BlockProcessingResult result = spiedCoordinator.rememberBlock(builtBlock.getBlock());
+
+    assertThat(result.isSuccessful()).isTrue();
+    assertThat(result.getReceipts()).isEqualTo(builtBlock.getReceipts());
+    assertThat(blockchain.getBlockByHash(builtBlock.getHash())).contains(builtBlock.getBlock());
+    // stored only once, with the receipts of the new execution
+    verify(blockchain).storeBlock(eq(builtBlock.getBlock()), any());
+    verify(spiedCoordinator).validateBlock(builtBlock.getBlock());
+  }
+
+  @Test
+  public void shouldNotStoreBuiltBlockIfItsWorldStateIsNotReachedAndExecutingItAgainFails()
+      throws InterruptedException, ExecutionException {
+    final MergeCoordinator spiedCoordinator = spy(coordinator);
+    final BlockWithReceipts builtBlock = buildBlockWithOneTransaction(spiedCoordinator);
+    doReturn(Optional.empty())
+        .when(worldStateArchive)
+        .getMutable(builtBlock.getBlock().getHeader(), true);
+    doReturn(BlockProcessingResult.FAILED)
+        .when(spiedCoordinator)
+        .validateBlock(builtBlock.getBlock());
+
+    final BlockProcessingResult result = spiedCoordinator.rememberBlock(builtBlock.getBlock());
+
+    assertThat(result.isFailed()).isTrue();
+    assertThat(blockchain.getBlockByHash(builtBlock.getHash())).isEmpty();
+    verify(blockchain, never()).storeBlock(eq(builtBlock.getBlock()), any());
+  }
+
+  private BlockWithReceipts buildBlockWithOneTransaction(final MergeCoordinator spiedCoordinator)
+      throws InterruptedException, ExecutionException {
+    transactions.addTransaction(createLocalTransaction(0), Optional.empty());
+
+    doAnswer(
+            invocation -> {
+              final PayloadWrapper payload = invocation.getArgument(0, PayloadWrapper.class);
+              if (!payload.blockWithReceipts().getBlock().getBody().getTransactions().isEmpty()) {
+                spiedCoordinator.finalizeProposalById(payload.payloadIdentifier());
+              }
+              return null;
+            })
+        .when(mergeContext)
+        .putPayloadById(any());
+
+    spiedCoordinator.preparePayload(
+        genesisState.getBlock().getHeader(),
+        System.currentTimeMillis() / 1000,
+        Bytes32.ZERO,
+        suggestedFeeRecipient,
+        Optional.empty(),
+        Optional.empty());
+
+    blockCreationTask.get();
+
+    ArgumentCaptor<PayloadWrapper> payloadWrapper = ArgumentCaptor.forClass(PayloadWrapper.class);
+    verify(mergeContext, atLeastOnce()).putPayloadById(payloadWrapper.capture());
+    final BlockWithReceipts builtBlock = payloadWrapper.getValue().blockWithReceipts();
+    assertThat(builtBlock.getBlock().getBody().getTransactions()).hasSize(1);
+    return builtBlock;
+  }
+
   @Test
   public void shouldUseExtraDataFromMiningParameters() {
     final Bytes extraData = Bytes.fromHexString("0x1234");
@@ -141,4 +141,59 @@ public abstract class ApiConfiguration {
   public Long getMaxTraceFilterRange() {
     return 1000L;
   }
+
+  /**
+   * Returns the maximum size in bytes of the on disk cache of block traces. Default value is 0,
+   * meaning the cache is disabled.
+   *
+   * @return the maximum size in bytes of the trace cache
+   */
+  @Value.Default
+  public long getTraceCacheMaxSizeBytes() {
+    return 0L;
+  }
+
+  /**
+   * Returns whether the transactions of a block are traced in parallel by debug_traceBlock and
+   * trace_replayBlockTransactions. Default value is false.
+   *
+   * @return true if parallel block tracing is enabled, false otherwise
+   */
+  @Value.Default
+  public boolean isParallelBlockTracingEnabled() {
+    return false;
+  }
+
+  /**
+   * Returns whether the addresses and topics of the logs of the canonical chain are indexed, to
+   * read only the matching blocks in eth_getLogs. Default value is false.
+   *
+   * @return true if the log index is enabled, false otherwise
+   */
+  @Value.Default
+  public boolean isLogIndexEnabled() {
+    return false;
+  }
+
+  /**
+   * Returns the maximum number of chunks of eth_getLogs ranges scanned in parallel, across all the
+   * queries. Default value is 0, which scans each range sequentially.
+   *
+   * @return the maximum number of logs scans running concurrently
+   */
+  @Value.Default
+  public int getMaxLogsScanConcurrency() {
+    return 0;
+  }
+
+  /**
+   * Returns the maximum number of logs returned by eth_getLogs. Default value is 0, which specifies
+   * no limit.
+   *
+   * @return the maximum number of logs returned by eth_getLogs
+   */
+  @Value.Default
+  public long getMaxLogsResults() {
+    return 0L;
+  }
 }
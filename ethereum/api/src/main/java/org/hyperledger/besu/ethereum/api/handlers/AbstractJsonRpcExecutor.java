@@ -75,6 +75,21 @@ public abstract class AbstractJsonRpcExecutor {
 
   abstract void execute() throws IOException;
 
+  /**
+   * Executes the JSON-RPC request(s) associated with the current routing context, without touching
+   * the HTTP response, so the response can then be written from the Vert.x context of the request,
+   * when the request is executed on a thread that does not belong to Vert.x.
+   *
+   * @return the writer of the response
+   */
+  abstract ResponseWriter executeWithoutResponse();
+
+  /** Writes the response of the already executed JSON-RPC request(s). */
+  @FunctionalInterface
+  interface ResponseWriter {
+    void write() throws IOException;
+  }
+
   abstract String getRpcMethodName(final RoutingContext ctx);
 
   protected static JsonRpcResponse executeRequest(
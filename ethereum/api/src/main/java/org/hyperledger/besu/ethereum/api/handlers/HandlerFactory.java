@@ -22,6 +22,7 @@ import org.hyperledger.besu.ethereum.api.jsonrpc.internal.methods.JsonRpcMethod;
 import java.util.Collection;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.Executor;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -55,4 +56,26 @@ public class HandlerFactory {
       final JsonRpcConfiguration jsonRpcConfiguration) {
     return JsonRpcExecutorHandler.handler(jsonRpcExecutor, tracer, jsonRpcConfiguration);
   }
+
+  /**
+   * Creates a handler that executes the requests on the threads of the given executor, like one
+   * that starts a virtual thread per request, instead of the Vert.x event loop or worker threads.
+   * The responses are still written from the Vert.x context of the requests. The handler must be
+   * registered as a non blocking one, and any per method concurrency limit has to be applied by
+   * the processor of the given JSON-RPC executor.
+   *
+   * @param jsonRpcExecutor the executor of the JSON-RPC requests
+   * @param tracer the tracer
+   * @param jsonRpcConfiguration the JSON-RPC configuration
+   * @param executionExecutor the executor whose threads execute the requests
+   * @return the handler
+   */
+  public static Handler<RoutingContext> jsonRpcExecutor(
+      final JsonRpcExecutor jsonRpcExecutor,
+      final Tracer tracer,
+      final JsonRpcConfiguration jsonRpcConfiguration,
+      final Executor executionExecutor) {
+    return JsonRpcExecutorHandler.handler(
+        jsonRpcExecutor, tracer, jsonRpcConfiguration, executionExecutor);
+  }
 }
@@ -26,6 +26,12 @@ import org.hyperledger.besu.ethereum.api.jsonrpc.internal.response.JsonRpcRespon
 import org.hyperledger.besu.ethereum.api.jsonrpc.internal.response.RpcErrorType;
 
 import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
 
 import com.fasterxml.jackson.core.JsonGenerator;
 import io.opentelemetry.api.trace.Tracer;
@@ -62,8 +68,48 @@ public class JsonRpcArrayExecutor extends AbstractJsonRpcExecutor {
     }
   }
 
+  @Override
+  ResponseWriter executeWithoutResponse() {
+    final JsonArray batchJsonRequest = getRequestBodyAsJsonArray(ctx);
+    if (!isBatchSizeValid(batchJsonRequest)) {
+      return () -> handleJsonRpcError(ctx, null, RpcErrorType.EXCEEDS_RPC_MAX_BATCH_SIZE);
+    }
+    final List<JsonRpcResponse> responses = new ArrayList<>(batchJsonRequest.size());
+    try {
+      executeRpcRequestBatch(
+          batchJsonRequest,
+          new ResponseSink() {
+            @Override
+            public void accept(final JsonRpcResponse response) {
+              responses.add(response);
+            }
+
+            @Override
+            public void flush() {}
+          });
+    } catch (final IOException e) {
+      // nothing is written until the response writer runs
+      throw new UncheckedIOException(e);
+    }
+    return () -> {
+      final HttpServerResponse response = prepareHttpResponse(ctx);
+      try (final JsonResponseStreamer streamer =
+              new JsonResponseStreamer(response, ctx.request().remoteAddress());
+          final JsonGenerator generator =
+              getJsonObjectMapper().getFactory().createGenerator(streamer)) {
+        generator.writeStartArray();
+        for (final JsonRpcResponse jsonRpcResponse : responses) {
+          writeResponse(generator, jsonRpcResponse);
+        }
+        generator.writeEndArray();
+      }
+    };
+  }
+
   /**
-   * Executes a batch of RPC requests.
+   * Executes a batch of RPC requests. When the configured batch concurrency allows it, the
+   * requests are executed concurrently, and the responses are streamed in request order as soon
+   * as all the previous ones are done.
    *
    * @param rpcRequestBatch the batch of RPC requests.
    * @param streamer the JsonResponseStreamer to use.
@@ -72,13 +118,99 @@ public class JsonRpcArrayExecutor extends AbstractJsonRpcExecutor {
       final JsonArray rpcRequestBatch, final JsonResponseStreamer streamer) throws IOException {
     try (JsonGenerator generator = getJsonObjectMapper().getFactory().createGenerator(streamer)) {
       generator.writeStartArray();
+      executeRpcRequestBatch(
+          rpcRequestBatch,
+          new ResponseSink() {
+            @Override
+            public void accept(final JsonRpcResponse response) throws IOException {
+              writeResponse(generator, response);
+            }
+
+            @Override
+            public void flush() throws IOException {
+              generator.flush();
+            }
+          });
+      generator.writeEndArray();
+    }
+  }
+
+  private void executeRpcRequestBatch(final JsonArray rpcRequestBatch, final ResponseSink sink)
+      throws IOException {
+    if (jsonRpcConfiguration.getMaxBatchConcurrency() > 1 && rpcRequestBatch.size() > 1) {
+      executeConcurrently(rpcRequestBatch, sink);
+    } else {
       for (int i = 0; i < rpcRequestBatch.size(); i++) {
-        JsonRpcResponse response = processMaybeRequest(rpcRequestBatch.getValue(i));
-        if (response.getType() != JsonRpcResponseType.NONE) {
-          generator.writeObject(response);
+        sink.accept(processMaybeRequest(rpcRequestBatch.getValue(i)));
+      }
+    }
+  }
+
+  /**
+   * Executes the requests of the batch on up to the configured batch concurrency threads: this one
+   * and some helpers from the worker pool. This thread also writes the responses in order, and
+   * while the next one to write is not done, it flushes what has been written so far and executes
+   * the next request not yet taken. So, if the worker pool is busy, this thread alone executes the
+   * whole batch, as when it is executed sequentially.
+   *
+   * @param rpcRequestBatch the batch of RPC requests.
+   * @param sink the sink of the responses, in request order.
+   */
+  private void executeConcurrently(final JsonArray rpcRequestBatch, final ResponseSink sink)
+      throws IOException {
+    final int batchSize = rpcRequestBatch.size();
+    final List<CompletableFuture<JsonRpcResponse>> responses =
+        IntStream.range(0, batchSize)
+            .mapToObj(unused -> new CompletableFuture<JsonRpcResponse>())
+            .toList();
+    final AtomicInteger nextToExecute = new AtomicInteger();
+
+    final int helpers = Math.min(jsonRpcConfiguration.getMaxBatchConcurrency(), batchSize) - 1;
+    for (int h = 0; h < helpers; h++) {
+      ctx.vertx()
+          .executeBlocking(
+              () -> {
+                int index;
+                while ((index = nextToExecute.getAndIncrement()) < batchSize) {
+                  execute(rpcRequestBatch, index, responses.get(index));
+                }
+                return null;
+              },
+              false);
+    }
+
+    try {
+      for (final CompletableFuture<JsonRpcResponse> response : responses) {
+        if (!response.isDone()) {
+          sink.flush();
+          int index;
+          while (!response.isDone() && (index = nextToExecute.getAndIncrement()) < batchSize) {
+            execute(rpcRequestBatch, index, responses.get(index));
+          }
         }
+        sink.accept(response.join());
       }
-      generator.writeEndArray();
+    } finally {
+      // in case of failure, the helpers stop taking requests
+      nextToExecute.set(batchSize);
+    }
+  }
+
+  private void execute(
+      final JsonArray rpcRequestBatch,
+      final int index,
+      final CompletableFuture<JsonRpcResponse> response) {
+    try {
+      response.complete(processMaybeRequest(rpcRequestBatch.getValue(index)));
+    } catch (final RuntimeException e) {
+      response.completeExceptionally(e);
+    }
+  }
+
+  private void writeResponse(final JsonGenerator generator, final JsonRpcResponse response)
+      throws IOException {
+    if (response.getType() != JsonRpcResponseType.NONE) {
+      generator.writeObject(response);
     }
   }
 
@@ -121,6 +253,14 @@ public class JsonRpcArrayExecutor extends AbstractJsonRpcExecutor {
     return "JsonArray";
   }
 
+  /** Receives the responses of a batch in request order. */
+  private interface ResponseSink {
+    void accept(JsonRpcResponse response) throws IOException;
+
+    /** Called before waiting for the next response, to send what has been received so far. */
+    void flush() throws IOException;
+  }
+
   private boolean isBatchSizeValid(final JsonArray batchJsonRequest) {
     return !(jsonRpcConfiguration.getMaxBatchSize() > 0
         && batchJsonRequest.size() > jsonRpcConfiguration.getMaxBatchSize());
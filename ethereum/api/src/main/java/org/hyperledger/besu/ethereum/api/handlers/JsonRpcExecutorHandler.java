@@ -23,9 +23,11 @@ import org.hyperledger.besu.ethereum.api.jsonrpc.internal.response.RpcErrorType;
 
 import java.io.IOException;
 import java.util.Optional;
+import java.util.concurrent.Executor;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.opentelemetry.api.trace.Tracer;
+import io.vertx.core.Context;
 import io.vertx.core.Handler;
 import io.vertx.ext.web.RoutingContext;
 import org.slf4j.Logger;
@@ -70,6 +72,56 @@ public class JsonRpcExecutorHandler {
     };
   }
 
+  /**
+   * Creates a handler that executes the requests on the threads of the given executor, that do not
+   * belong to Vert.x, and then writes the responses from the Vert.x context of the requests.
+   *
+   * @param jsonRpcExecutor the executor of the JSON-RPC requests
+   * @param tracer the tracer
+   * @param jsonRpcConfiguration the JSON-RPC configuration
+   * @param executionExecutor the executor whose threads execute the requests
+   * @return the handler
+   */
+  public static Handler<RoutingContext> handler(
+      final JsonRpcExecutor jsonRpcExecutor,
+      final Tracer tracer,
+      final JsonRpcConfiguration jsonRpcConfiguration,
+      final Executor executionExecutor) {
+    return ctx -> {
+      // the context of the request, captured here since the execution threads have none
+      final Context context = ctx.vertx().getOrCreateContext();
+      executionExecutor.execute(
+          () -> {
+            try {
+              createExecutor(jsonRpcExecutor, tracer, ctx, jsonRpcConfiguration)
+                  .ifPresentOrElse(
+                      executor -> {
+                        final AbstractJsonRpcExecutor.ResponseWriter responseWriter =
+                            executor.executeWithoutResponse();
+                        context.runOnContext(
+                            unused -> {
+                              try {
+                                responseWriter.write();
+                              } catch (IOException e) {
+                                final String method = executor.getRpcMethodName(ctx);
+                                LOG.error("{} - Error streaming JSON-RPC response", method, e);
+                                handleJsonRpcError(ctx, null, RpcErrorType.INTERNAL_ERROR);
+                              }
+                            });
+                      },
+                      () ->
+                          context.runOnContext(
+                              unused -> handleJsonRpcError(ctx, null, RpcErrorType.PARSE_ERROR)));
+            } catch (final RuntimeException e) {
+              final String method = ctx.get(ContextKey.REQUEST_BODY_AS_JSON_OBJECT.name());
+              LOG.error("Unhandled exception in JSON-RPC executor for method {}", method, e);
+              context.runOnContext(
+                  unused -> handleJsonRpcError(ctx, null, RpcErrorType.INTERNAL_ERROR));
+            }
+          });
+    };
+  }
+
   private static Optional<AbstractJsonRpcExecutor> createExecutor(
       final JsonRpcExecutor jsonRpcExecutor,
       final Tracer tracer,
@@ -48,14 +48,20 @@ public class JsonRpcObjectExecutor extends AbstractJsonRpcExecutor {
 
   @Override
   void execute() throws IOException {
-    HttpServerResponse response = ctx.response();
-    response = response.putHeader("Content-Type", APPLICATION_JSON);
+    executeWithoutResponse().write();
+  }
 
+  @Override
+  ResponseWriter executeWithoutResponse() {
     final JsonObject jsonRequest = ctx.get(ContextKey.REQUEST_BODY_AS_JSON_OBJECT.name());
     lazyTraceLogger(jsonRequest::toString);
     final JsonRpcResponse jsonRpcResponse =
         executeRequest(jsonRpcExecutor, tracer, jsonRequest, ctx);
-    handleJsonObjectResponse(response, jsonRpcResponse, ctx);
+    return () -> {
+      final HttpServerResponse response =
+          ctx.response().putHeader("Content-Type", APPLICATION_JSON);
+      handleJsonObjectResponse(response, jsonRpcResponse, ctx);
+    };
   }
 
   @Override
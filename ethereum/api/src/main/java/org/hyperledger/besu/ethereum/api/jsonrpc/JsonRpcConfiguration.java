@@ -26,6 +26,7 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 
@@ -37,6 +38,7 @@ public class JsonRpcConfiguration {
   public static final int DEFAULT_ENGINE_JSON_RPC_PORT = 8551;
   public static final int DEFAULT_MAX_ACTIVE_CONNECTIONS = 80;
   public static final int DEFAULT_MAX_BATCH_SIZE = 1024;
+  public static final int DEFAULT_MAX_BATCH_CONCURRENCY = 1;
   public static final long DEFAULT_MAX_REQUEST_CONTENT_LENGTH = 5 * 1024 * 1024; // 5MB
   public static final boolean DEFAULT_PRETTY_JSON_ENABLED = false;
 
@@ -55,8 +57,11 @@ public class JsonRpcConfiguration {
   private long httpTimeoutSec = TimeoutOptions.defaultOptions().getTimeoutSeconds();
   private int maxActiveConnections;
   private int maxBatchSize;
+  private int maxBatchConcurrency;
   private long maxRequestContentLength;
   private boolean prettyJsonEnabled;
+  private boolean virtualThreadsEnabled = false;
+  private Map<String, Integer> methodConcurrencyLimits = Collections.emptyMap();
 
   public static JsonRpcConfiguration createDefault() {
     final JsonRpcConfiguration config = new JsonRpcConfiguration();
@@ -67,6 +72,7 @@ public class JsonRpcConfiguration {
     config.httpTimeoutSec = TimeoutOptions.defaultOptions().getTimeoutSeconds();
     config.setMaxActiveConnections(DEFAULT_MAX_ACTIVE_CONNECTIONS);
     config.setMaxBatchSize(DEFAULT_MAX_BATCH_SIZE);
+    config.setMaxBatchConcurrency(DEFAULT_MAX_BATCH_CONCURRENCY);
     config.setMaxRequestContentLength(DEFAULT_MAX_REQUEST_CONTENT_LENGTH);
     config.setPrettyJsonEnabled(DEFAULT_PRETTY_JSON_ENABLED);
     return config;
@@ -223,6 +229,9 @@ public class JsonRpcConfiguration {
         .add("httpTimeoutSec", httpTimeoutSec)
         .add("maxActiveConnections", maxActiveConnections)
         .add("maxBatchSize", maxBatchSize)
+        .add("maxBatchConcurrency", maxBatchConcurrency)
+        .add("virtualThreadsEnabled", virtualThreadsEnabled)
+        .add("methodConcurrencyLimits", methodConcurrencyLimits)
         .toString();
   }
 
@@ -244,7 +253,8 @@ public class JsonRpcConfiguration {
         && Objects.equals(hostsAllowlist, that.hostsAllowlist)
         && Objects.equals(authenticationCredentialsFile, that.authenticationCredentialsFile)
         && Objects.equals(authenticationPublicKeyFile, that.authenticationPublicKeyFile)
-        && maxBatchSize == that.maxBatchSize;
+        && maxBatchSize == that.maxBatchSize
+        && maxBatchConcurrency == that.maxBatchConcurrency;
   }
 
   @Override
@@ -259,7 +269,8 @@ public class JsonRpcConfiguration {
         authenticationEnabled,
         authenticationCredentialsFile,
         authenticationPublicKeyFile,
-        maxBatchSize);
+        maxBatchSize,
+        maxBatchConcurrency);
   }
 
   public int getMaxActiveConnections() {
@@ -278,6 +289,14 @@ public class JsonRpcConfiguration {
     this.maxBatchSize = maxBatchSize;
   }
 
+  public int getMaxBatchConcurrency() {
+    return maxBatchConcurrency;
+  }
+
+  public void setMaxBatchConcurrency(final int maxBatchConcurrency) {
+    this.maxBatchConcurrency = maxBatchConcurrency;
+  }
+
   public long getMaxRequestContentLength() {
     return maxRequestContentLength;
   }
@@ -285,4 +304,20 @@ public class JsonRpcConfiguration {
   public void setMaxRequestContentLength(final long maxRequestContentLength) {
     this.maxRequestContentLength = maxRequestContentLength;
   }
+
+  public boolean isVirtualThreadsEnabled() {
+    return virtualThreadsEnabled;
+  }
+
+  public void setVirtualThreadsEnabled(final boolean virtualThreadsEnabled) {
+    this.virtualThreadsEnabled = virtualThreadsEnabled;
+  }
+
+  public Map<String, Integer> getMethodConcurrencyLimits() {
+    return methodConcurrencyLimits;
+  }
+
+  public void setMethodConcurrencyLimits(final Map<String, Integer> methodConcurrencyLimits) {
+    this.methodConcurrencyLimits = methodConcurrencyLimits;
+  }
 }
@@ -23,7 +23,9 @@ import org.hyperledger.besu.ethereum.api.jsonrpc.authentication.AuthenticationSe
 import org.hyperledger.besu.ethereum.api.jsonrpc.authentication.DefaultAuthenticationService;
 import org.hyperledger.besu.ethereum.api.jsonrpc.execution.AuthenticatedJsonRpcProcessor;
 import org.hyperledger.besu.ethereum.api.jsonrpc.execution.BaseJsonRpcProcessor;
+import org.hyperledger.besu.ethereum.api.jsonrpc.execution.ConcurrencyLimitedJsonRpcProcessor;
 import org.hyperledger.besu.ethereum.api.jsonrpc.execution.JsonRpcExecutor;
+import org.hyperledger.besu.ethereum.api.jsonrpc.execution.JsonRpcProcessor;
 import org.hyperledger.besu.ethereum.api.jsonrpc.execution.TimedJsonRpcProcessor;
 import org.hyperledger.besu.ethereum.api.jsonrpc.execution.TracedJsonRpcProcessor;
 import org.hyperledger.besu.ethereum.api.jsonrpc.health.HealthService;
@@ -50,6 +52,8 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.StringJoiner;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.atomic.AtomicInteger;
 import javax.annotation.Nullable;
 
@@ -121,6 +125,7 @@ public class JsonRpcHttpService {
   private final Vertx vertx;
   private final JsonRpcConfiguration config;
   private final Map<String, JsonRpcMethod> rpcMethods;
+  private ExecutorService virtualThreadExecutor;
   private final NatService natService;
   private final Path dataDir;
   private final LabelledMetric<OperationTimer> requestTimer;
@@ -341,31 +346,30 @@ public class JsonRpcHttpService {
         .handler(HandlerFactory.jsonRpcParser())
         .handler(
             HandlerFactory.timeout(new TimeoutOptions(config.getHttpTimeoutSec()), rpcMethods));
-    if (authenticationService.isPresent()) {
-      mainRoute.blockingHandler(
-          HandlerFactory.jsonRpcExecutor(
-              new JsonRpcExecutor(
-                  new AuthenticatedJsonRpcProcessor(
-                      new TimedJsonRpcProcessor(
-                          new TracedJsonRpcProcessor(new BaseJsonRpcProcessor(), metricsSystem),
-                          requestTimer),
-                      authenticationService.get(),
-                      config.getNoAuthRpcApis()),
-                  rpcMethods),
-              tracer,
-              config),
-          false);
+    final JsonRpcProcessor timedProcessor =
+        new TimedJsonRpcProcessor(
+            new TracedJsonRpcProcessor(new BaseJsonRpcProcessor(), metricsSystem), requestTimer);
+    final JsonRpcProcessor limitedProcessor =
+        config.getMethodConcurrencyLimits().isEmpty()
+            ? timedProcessor
+            : new ConcurrencyLimitedJsonRpcProcessor(
+                timedProcessor, config.getMethodConcurrencyLimits(), metricsSystem);
+    final JsonRpcProcessor jsonRpcProcessor =
+        authenticationService.isPresent()
+            ? new AuthenticatedJsonRpcProcessor(
+                limitedProcessor, authenticationService.get(), config.getNoAuthRpcApis())
+            : limitedProcessor;
+    final JsonRpcExecutor jsonRpcExecutor = new JsonRpcExecutor(jsonRpcProcessor, rpcMethods);
+    if (config.isVirtualThreadsEnabled()) {
+      // every request gets its own virtual thread, so requests blocked on I/O do not hold
+      // the threads of the worker pool
+      virtualThreadExecutor =
+          Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("rpc-http-", 0).factory());
+      mainRoute.handler(
+          HandlerFactory.jsonRpcExecutor(jsonRpcExecutor, tracer, config, virtualThreadExecutor));
     } else {
       mainRoute.blockingHandler(
-          HandlerFactory.jsonRpcExecutor(
-              new JsonRpcExecutor(
-                  new TimedJsonRpcProcessor(
-                      new TracedJsonRpcProcessor(new BaseJsonRpcProcessor(), metricsSystem),
-                      requestTimer),
-                  rpcMethods),
-              tracer,
-              config),
-          false);
+          HandlerFactory.jsonRpcExecutor(jsonRpcExecutor, tracer, config), false);
     }
 
     if (authenticationService.isPresent()) {
@@ -524,6 +528,10 @@ public class JsonRpcHttpService {
   }
 
   public CompletableFuture<?> stop() {
+    if (virtualThreadExecutor != null) {
+      virtualThreadExecutor.shutdown();
+      virtualThreadExecutor = null;
+    }
     if (httpServer == null) {
       return CompletableFuture.completedFuture(null);
     }
@@ -0,0 +1,107 @@
+/*
+ * Copyright contributors to Hyperledger Besu.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.ethereum.api.jsonrpc.execution;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import org.hyperledger.besu.ethereum.api.jsonrpc.internal.JsonRpcRequestContext;
+import org.hyperledger.besu.ethereum.api.jsonrpc.internal.JsonRpcRequestId;
+import org.hyperledger.besu.ethereum.api.jsonrpc.internal.methods.JsonRpcMethod;
+import org.hyperledger.besu.ethereum.api.jsonrpc.internal.response.JsonRpcErrorResponse;
+import org.hyperledger.besu.ethereum.api.jsonrpc.internal.response.JsonRpcResponse;
+import org.hyperledger.besu.ethereum.api.jsonrpc.internal.response.RpcErrorType;
+import org.hyperledger.besu.metrics.BesuMetricCategory;
+import org.hyperledger.besu.plugin.services.MetricsSystem;
+import org.hyperledger.besu.plugin.services.metrics.LabelledMetric;
+import org.hyperledger.besu.plugin.services.metrics.OperationTimer;
+
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.stream.Collectors;
+
+import io.opentelemetry.api.trace.Span;
+
+/**
+ * Limits how many requests of the same method are processed at the same time, while requests of
+ * methods without a limit are processed right away, so a few expensive methods cannot use all the
+ * available threads and delay the cheap ones.
+ *
+ * <p>Requests of a method that has reached its limit wait, in arrival order, for one of the running
+ * requests to complete, only when they run on their own virtual thread. On the threads of the
+ * worker pool they are rejected instead, since waiting would hold the threads the other requests
+ * need.
+ */
+public class ConcurrencyLimitedJsonRpcProcessor implements JsonRpcProcessor {
+
+  private final JsonRpcProcessor rpcProcessor;
+  private final Map<String, Semaphore> permitsByMethod;
+  private final LabelledMetric<OperationTimer> queueTimer;
+
+  public ConcurrencyLimitedJsonRpcProcessor(
+      final JsonRpcProcessor rpcProcessor,
+      final Map<String, Integer> concurrencyLimitByMethod,
+      final MetricsSystem metricsSystem) {
+    concurrencyLimitByMethod.forEach(
+        (methodName, limit) ->
+            checkArgument(
+                limit > 0, "Concurrency limit of %s must be greater than 0", methodName));
+    this.rpcProcessor = rpcProcessor;
+    this.permitsByMethod =
+        concurrencyLimitByMethod.entrySet().stream()
+            .collect(
+                Collectors.toUnmodifiableMap(
+                    Map.Entry::getKey, entry -> new Semaphore(entry.getValue(), true)));
+    this.queueTimer =
+        metricsSystem.createLabelledTimer(
+            BesuMetricCategory.RPC,
+            "request_queue_time",
+            "Time a JSON-RPC request waited for the concurrency limit of its method",
+            "methodName");
+  }
+
+  @Override
+  public JsonRpcResponse process(
+      final JsonRpcRequestId id,
+      final JsonRpcMethod method,
+      final Span metricSpan,
+      final JsonRpcRequestContext request) {
+    final String methodName = request.getRequest().getMethod();
+    final Semaphore permits = permitsByMethod.get(methodName);
+    if (permits == null) {
+      return rpcProcessor.process(id, method, metricSpan, request);
+    }
+
+    if (Thread.currentThread().isVirtual()) {
+      final OperationTimer.TimingContext queueTimingContext =
+          queueTimer.labels(methodName).startTimer();
+      try {
+        permits.acquire();
+      } catch (final InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return new JsonRpcErrorResponse(id, RpcErrorType.TIMEOUT_ERROR);
+      } finally {
+        queueTimingContext.stopTimer();
+      }
+    } else if (!permits.tryAcquire()) {
+      return new JsonRpcErrorResponse(id, RpcErrorType.METHOD_CONCURRENCY_LIMIT_EXCEEDED);
+    }
+
+    try {
+      return rpcProcessor.process(id, method, metricSpan, request);
+    } finally {
+      permits.release();
+    }
+  }
+}
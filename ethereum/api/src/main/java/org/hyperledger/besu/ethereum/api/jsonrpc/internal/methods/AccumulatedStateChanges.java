@@ -0,0 +1,149 @@
+/*
+ * Copyright contributors to Hyperledger Besu.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.ethereum.api.jsonrpc.internal.methods;
+
+import org.hyperledger.besu.datatypes.Address;
+import org.hyperledger.besu.datatypes.Wei;
+import org.hyperledger.besu.evm.account.Account;
+import org.hyperledger.besu.evm.account.MutableAccount;
+import org.hyperledger.besu.evm.worldstate.UpdateTrackingAccount;
+import org.hyperledger.besu.evm.worldstate.WorldUpdater;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.apache.tuweni.bytes.Bytes;
+import org.apache.tuweni.units.bigints.UInt256;
+
+/**
+ * The changes made to the world state by the transactions of a block executed so far, recorded
+ * from the updater of each transaction, so they can be replayed on another copy of the parent state
+ * to bring it to the state between two transactions.
+ */
+class AccumulatedStateChanges {
+
+  private final Map<Address, AccountChanges> accounts;
+
+  AccumulatedStateChanges() {
+    this.accounts = new LinkedHashMap<>();
+  }
+
+  private AccumulatedStateChanges(final Map<Address, AccountChanges> accounts) {
+    this.accounts = accounts;
+  }
+
+  /**
+   * Adds the changes of a transaction, that must be read from the updater the transaction was
+   * executed on, before it is committed or another updater is stacked on it.
+   *
+   * @param transactionUpdater the updater the transaction was executed on
+   */
+  void record(final WorldUpdater transactionUpdater) {
+    for (final Address address : transactionUpdater.getDeletedAccountAddresses()) {
+      accounts.put(address, AccountChanges.deleted());
+    }
+    for (final Account account : transactionUpdater.getTouchedAccounts()) {
+      final AccountChanges previous = accounts.get(account.getAddress());
+      final AccountChanges changes = previous == null ? new AccountChanges() : previous.copy();
+      // an account that is touched again after being deleted has been recreated
+      changes.deleted = false;
+      changes.nonce = account.getNonce();
+      changes.balance = account.getBalance();
+      boolean codeWasUpdated = true;
+      if (account instanceof UpdateTrackingAccount<?> trackingAccount) {
+        if (trackingAccount.getStorageWasCleared()) {
+          changes.storageCleared = true;
+          changes.storage.clear();
+        }
+        codeWasUpdated = trackingAccount.codeWasUpdated();
+      }
+      if (codeWasUpdated || changes.storageCleared) {
+        // the account is recreated when the changes are applied, so its code is needed as well
+        changes.code = account.getCode();
+      }
+      if (account instanceof MutableAccount mutableAccount) {
+        changes.storage.putAll(mutableAccount.getUpdatedStorage());
+      }
+      accounts.put(account.getAddress(), changes);
+    }
+  }
+
+  /**
+   * Applies the recorded changes to an updater of the state the recorded transactions started
+   * from.
+   *
+   * @param updater the updater to apply the changes to
+   */
+  void applyTo(final WorldUpdater updater) {
+    accounts.forEach(
+        (address, changes) -> {
+          if (changes.storageCleared) {
+            // the account was deleted, or its storage cleared, since the state the updater reads
+            updater.deleteAccount(address);
+          }
+          if (changes.deleted) {
+            return;
+          }
+          final MutableAccount account = updater.getOrCreate(address);
+          account.setNonce(changes.nonce);
+          account.setBalance(changes.balance);
+          if (changes.code != null) {
+            account.setCode(changes.code);
+          }
+          changes.storage.forEach(account::setStorageValue);
+        });
+  }
+
+  /**
+   * Returns a copy of the changes recorded so far, which is not affected by the changes recorded
+   * later.
+   *
+   * @return a copy of the recorded changes
+   */
+  AccumulatedStateChanges copy() {
+    final Map<Address, AccountChanges> accountsCopy = new LinkedHashMap<>();
+    accounts.forEach((address, changes) -> accountsCopy.put(address, changes.copy()));
+    return new AccumulatedStateChanges(accountsCopy);
+  }
+
+  private static class AccountChanges {
+    private boolean deleted;
+    private boolean storageCleared;
+    private long nonce;
+    private Wei balance = Wei.ZERO;
+    // not set when the account keeps the code of the parent state
+    private Bytes code;
+    private final Map<UInt256, UInt256> storage = new TreeMap<>();
+
+    static AccountChanges deleted() {
+      final AccountChanges changes = new AccountChanges();
+      changes.deleted = true;
+      changes.storageCleared = true;
+      return changes;
+    }
+
+    AccountChanges copy() {
+      final AccountChanges changes = new AccountChanges();
+      changes.deleted = deleted;
+      changes.storageCleared = storageCleared;
+      changes.nonce = nonce;
+      changes.balance = balance;
+      changes.code = code;
+      changes.storage.putAll(storage);
+      return changes;
+    }
+  }
+}
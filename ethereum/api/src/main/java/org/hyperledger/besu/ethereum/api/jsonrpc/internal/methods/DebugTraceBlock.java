@@ -25,10 +25,12 @@ import org.hyperledger.besu.ethereum.api.jsonrpc.internal.response.JsonRpcRespon
 import org.hyperledger.besu.ethereum.api.jsonrpc.internal.response.JsonRpcSuccessResponse;
 import org.hyperledger.besu.ethereum.api.jsonrpc.internal.response.RpcErrorType;
 import org.hyperledger.besu.ethereum.api.jsonrpc.internal.results.DebugTraceTransactionResult;
+import org.hyperledger.besu.ethereum.api.jsonrpc.internal.results.tracing.NativeTracer;
 import org.hyperledger.besu.ethereum.api.query.BlockchainQueries;
 import org.hyperledger.besu.ethereum.core.Block;
 import org.hyperledger.besu.ethereum.core.BlockHeaderFunctions;
 import org.hyperledger.besu.ethereum.debug.TraceOptions;
+import org.hyperledger.besu.ethereum.mainnet.ProtocolSchedule;
 import org.hyperledger.besu.ethereum.rlp.RLP;
 import org.hyperledger.besu.ethereum.rlp.RLPException;
 import org.hyperledger.besu.ethereum.vm.DebugOperationTracer;
@@ -37,6 +39,7 @@ import java.util.Collection;
 import java.util.Optional;
 import java.util.function.Supplier;
 
+import com.google.common.annotations.VisibleForTesting;
 import org.apache.tuweni.bytes.Bytes;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -47,14 +50,39 @@ public class DebugTraceBlock implements JsonRpcMethod {
   private final Supplier<BlockTracer> blockTracerSupplier;
   private final BlockHeaderFunctions blockHeaderFunctions;
   private final BlockchainQueries blockchainQueries;
+  private final Optional<ParallelBlockTracer> parallelBlockTracer;
 
   public DebugTraceBlock(
       final Supplier<BlockTracer> blockTracerSupplier,
       final BlockHeaderFunctions blockHeaderFunctions,
       final BlockchainQueries blockchainQueries) {
+    this(blockTracerSupplier, blockHeaderFunctions, blockchainQueries, Optional.empty());
+  }
+
+  public DebugTraceBlock(
+      final Supplier<BlockTracer> blockTracerSupplier,
+      final BlockHeaderFunctions blockHeaderFunctions,
+      final BlockchainQueries blockchainQueries,
+      final ProtocolSchedule protocolSchedule) {
+    this(
+        blockTracerSupplier,
+        blockHeaderFunctions,
+        blockchainQueries,
+        blockchainQueries.isParallelBlockTracingEnabled()
+            ? Optional.of(new ParallelBlockTracer(blockchainQueries, protocolSchedule))
+            : Optional.empty());
+  }
+
+  @VisibleForTesting
+  DebugTraceBlock(
+      final Supplier<BlockTracer> blockTracerSupplier,
+      final BlockHeaderFunctions blockHeaderFunctions,
+      final BlockchainQueries blockchainQueries,
+      final Optional<ParallelBlockTracer> parallelBlockTracer) {
     this.blockTracerSupplier = blockTracerSupplier;
     this.blockHeaderFunctions = blockHeaderFunctions;
     this.blockchainQueries = blockchainQueries;
+    this.parallelBlockTracer = parallelBlockTracer;
   }
 
   @Override
@@ -73,31 +101,58 @@ public class DebugTraceBlock implements JsonRpcMethod {
       return new JsonRpcErrorResponse(
           requestContext.getRequest().getId(), RpcErrorType.INVALID_PARAMS);
     }
+    final Optional<TransactionTraceParams> transactionTraceParams =
+        requestContext.getOptionalParameter(1, TransactionTraceParams.class);
+    final Optional<NativeTracer> nativeTracer =
+        transactionTraceParams.flatMap(NativeTracer::create);
     final TraceOptions traceOptions =
-        requestContext
-            .getOptionalParameter(1, TransactionTraceParams.class)
+        transactionTraceParams
             .map(TransactionTraceParams::traceOptions)
             .orElse(TraceOptions.DEFAULT);
 
-    if (this.blockchainQueries.blockByHash(block.getHeader().getParentHash()).isPresent()) {
-      final Collection<DebugTraceTransactionResult> results =
+    if (this.blockchainQueries.blockByHash(block.getHeader().getParentHash()).isEmpty()) {
+      return new JsonRpcErrorResponse(
+          requestContext.getRequest().getId(), RpcErrorType.PARENT_BLOCK_NOT_FOUND);
+    }
+    if (nativeTracer.isPresent()) {
+      return new JsonRpcSuccessResponse(
+          requestContext.getRequest().getId(),
           Tracer.processTracing(
                   blockchainQueries,
                   Optional.of(block.getHeader()),
                   mutableWorldState ->
                       blockTracerSupplier
                           .get()
-                          .trace(
-                              mutableWorldState,
-                              block,
-                              new DebugOperationTracer(traceOptions, true))
-                          .map(BlockTrace::getTransactionTraces)
-                          .map(DebugTraceTransactionResult::of))
-              .orElse(null);
-      return new JsonRpcSuccessResponse(requestContext.getRequest().getId(), results);
-    } else {
-      return new JsonRpcErrorResponse(
-          requestContext.getRequest().getId(), RpcErrorType.PARENT_BLOCK_NOT_FOUND);
+                          .traceNative(mutableWorldState, block, nativeTracer.get()))
+              .orElse(null));
+    }
+
+    if (parallelBlockTracer.isPresent()) {
+      return new JsonRpcSuccessResponse(
+          requestContext.getRequest().getId(),
+          parallelBlockTracer
+              .get()
+              .trace(
+                  block,
+                  () -> new DebugOperationTracer(traceOptions, true),
+                  DebugTraceTransactionResult::new)
+              .orElse(null));
     }
+
+    final Collection<DebugTraceTransactionResult> results =
+        Tracer.processTracing(
+                blockchainQueries,
+                Optional.of(block.getHeader()),
+                mutableWorldState ->
+                    blockTracerSupplier
+                        .get()
+                        .trace(
+                            mutableWorldState,
+                            block,
+                            new DebugOperationTracer(traceOptions, true))
+                        .map(BlockTrace::getTransactionTraces)
+                        .map(DebugTraceTransactionResult::of))
+            .orElse(null);
+    return new JsonRpcSuccessResponse(requestContext.getRequest().getId(), results);
   }
 }
@@ -24,11 +24,13 @@ import org.hyperledger.besu.ethereum.api.jsonrpc.internal.processor.Tracer;
 import org.hyperledger.besu.ethereum.api.jsonrpc.internal.response.JsonRpcResponse;
 import org.hyperledger.besu.ethereum.api.jsonrpc.internal.response.JsonRpcSuccessResponse;
 import org.hyperledger.besu.ethereum.api.jsonrpc.internal.results.DebugTraceTransactionResult;
+import org.hyperledger.besu.ethereum.api.jsonrpc.internal.results.tracing.NativeTracer;
 import org.hyperledger.besu.ethereum.api.query.BlockchainQueries;
 import org.hyperledger.besu.ethereum.debug.TraceOptions;
 import org.hyperledger.besu.ethereum.vm.DebugOperationTracer;
 
 import java.util.Collection;
+import java.util.Optional;
 import java.util.function.Supplier;
 
 public class DebugTraceBlockByHash implements JsonRpcMethod {
@@ -51,9 +53,24 @@ public class DebugTraceBlockByHash implements JsonRpcMethod {
   @Override
   public JsonRpcResponse response(final JsonRpcRequestContext requestContext) {
     final Hash blockHash = requestContext.getRequiredParameter(0, Hash.class);
+    final Optional<TransactionTraceParams> transactionTraceParams =
+        requestContext.getOptionalParameter(1, TransactionTraceParams.class);
+    final Optional<NativeTracer> nativeTracer =
+        transactionTraceParams.flatMap(NativeTracer::create);
+    if (nativeTracer.isPresent()) {
+      return new JsonRpcSuccessResponse(
+          requestContext.getRequest().getId(),
+          Tracer.processTracing(
+                  blockchainQueries.get(),
+                  blockHash,
+                  mutableWorldState ->
+                      blockTracerSupplier
+                          .get()
+                          .traceNative(mutableWorldState, blockHash, nativeTracer.get()))
+              .orElse(null));
+    }
     final TraceOptions traceOptions =
-        requestContext
-            .getOptionalParameter(1, TransactionTraceParams.class)
+        transactionTraceParams
             .map(TransactionTraceParams::traceOptions)
             .orElse(TraceOptions.DEFAULT);
 
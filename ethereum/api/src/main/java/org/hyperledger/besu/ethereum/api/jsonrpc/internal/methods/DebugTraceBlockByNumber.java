@@ -23,6 +23,7 @@ import org.hyperledger.besu.ethereum.api.jsonrpc.internal.processor.BlockTrace;
 import org.hyperledger.besu.ethereum.api.jsonrpc.internal.processor.BlockTracer;
 import org.hyperledger.besu.ethereum.api.jsonrpc.internal.processor.Tracer;
 import org.hyperledger.besu.ethereum.api.jsonrpc.internal.results.DebugTraceTransactionResult;
+import org.hyperledger.besu.ethereum.api.jsonrpc.internal.results.tracing.NativeTracer;
 import org.hyperledger.besu.ethereum.api.query.BlockchainQueries;
 import org.hyperledger.besu.ethereum.debug.TraceOptions;
 import org.hyperledger.besu.ethereum.vm.DebugOperationTracer;
@@ -54,9 +55,25 @@ public class DebugTraceBlockByNumber extends AbstractBlockParameterMethod {
   protected Object resultByBlockNumber(
       final JsonRpcRequestContext request, final long blockNumber) {
     final Optional<Hash> blockHash = getBlockchainQueries().getBlockHashByNumber(blockNumber);
+    final Optional<TransactionTraceParams> transactionTraceParams =
+        request.getOptionalParameter(1, TransactionTraceParams.class);
+    final Optional<NativeTracer> nativeTracer =
+        transactionTraceParams.flatMap(NativeTracer::create);
+    if (nativeTracer.isPresent()) {
+      return blockHash
+          .flatMap(
+              hash ->
+                  Tracer.processTracing(
+                      blockchainQueriesSupplier.get(),
+                      hash,
+                      mutableWorldState ->
+                          blockTracerSupplier
+                              .get()
+                              .traceNative(mutableWorldState, hash, nativeTracer.get())))
+          .orElse(null);
+    }
     final TraceOptions traceOptions =
-        request
-            .getOptionalParameter(1, TransactionTraceParams.class)
+        transactionTraceParams
             .map(TransactionTraceParams::traceOptions)
             .orElse(TraceOptions.DEFAULT);
 
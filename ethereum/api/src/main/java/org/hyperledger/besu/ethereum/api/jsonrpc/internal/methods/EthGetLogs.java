@@ -38,10 +38,17 @@ public class EthGetLogs implements JsonRpcMethod {
 
   private final BlockchainQueries blockchain;
   private final long maxLogRange;
+  private final long maxLogsResults;
 
   public EthGetLogs(final BlockchainQueries blockchain, final long maxLogRange) {
+    this(blockchain, maxLogRange, 0);
+  }
+
+  public EthGetLogs(
+      final BlockchainQueries blockchain, final long maxLogRange, final long maxLogsResults) {
     this.blockchain = blockchain;
     this.maxLogRange = maxLogRange;
+    this.maxLogsResults = maxLogsResults;
   }
 
   @Override
@@ -94,6 +101,15 @@ public class EthGetLogs implements JsonRpcMethod {
                     return Collections.emptyList();
                   }
 
+                  if (maxLogsResults > 0) {
+                    // the scan stops as soon as the limit is exceeded
+                    return blockchain.matchingLogs(
+                        fromBlockNumber,
+                        toBlockNumber,
+                        filter.getLogsQuery(),
+                        maxLogsResults,
+                        requestContext::isAlive);
+                  }
                   return blockchain.matchingLogs(
                       fromBlockNumber,
                       toBlockNumber,
@@ -115,6 +131,11 @@ public class EthGetLogs implements JsonRpcMethod {
           requestContext.getRequest().getId(), RpcErrorType.INVALID_PARAMS);
     }
 
+    if (maxLogsResults > 0 && matchingLogs.size() > maxLogsResults) {
+      return new JsonRpcErrorResponse(
+          requestContext.getRequest().getId(), RpcErrorType.EXCEEDS_RPC_MAX_LOGS_RESULTS);
+    }
+
     return new JsonRpcSuccessResponse(
         requestContext.getRequest().getId(), new LogsResult(matchingLogs));
   }
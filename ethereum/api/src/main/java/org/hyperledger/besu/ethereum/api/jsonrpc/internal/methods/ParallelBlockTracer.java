@@ -0,0 +1,257 @@
+/*
+ * Copyright contributors to Hyperledger Besu.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.ethereum.api.jsonrpc.internal.methods;
+
+import static org.hyperledger.besu.ethereum.mainnet.feemarket.ExcessBlobGasCalculator.calculateExcessBlobGasForParent;
+
+import org.hyperledger.besu.datatypes.BlobGas;
+import org.hyperledger.besu.datatypes.Wei;
+import org.hyperledger.besu.ethereum.api.jsonrpc.internal.processor.Tracer;
+import org.hyperledger.besu.ethereum.api.jsonrpc.internal.processor.TransactionTrace;
+import org.hyperledger.besu.ethereum.api.query.BlockchainQueries;
+import org.hyperledger.besu.ethereum.chain.Blockchain;
+import org.hyperledger.besu.ethereum.core.Block;
+import org.hyperledger.besu.ethereum.core.BlockHeader;
+import org.hyperledger.besu.ethereum.core.MutableWorldState;
+import org.hyperledger.besu.ethereum.core.Transaction;
+import org.hyperledger.besu.ethereum.eth.manager.EthScheduler;
+import org.hyperledger.besu.ethereum.mainnet.MainnetTransactionProcessor;
+import org.hyperledger.besu.ethereum.mainnet.ProtocolSchedule;
+import org.hyperledger.besu.ethereum.mainnet.ProtocolSpec;
+import org.hyperledger.besu.ethereum.processing.TransactionProcessingResult;
+import org.hyperledger.besu.ethereum.vm.CachingBlockHashLookup;
+import org.hyperledger.besu.ethereum.vm.DebugOperationTracer;
+import org.hyperledger.besu.evm.operation.BlockHashOperation.BlockHashLookup;
+import org.hyperledger.besu.evm.tracing.OperationTracer;
+import org.hyperledger.besu.evm.worldstate.WorldUpdater;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import com.google.common.annotations.VisibleForTesting;
+
+/**
+ * Traces the transactions of a block in parallel.
+ *
+ * <p>Each transaction depends on the state left by the previous ones, so the block is first
+ * executed without tracing, which is much cheaper than tracing it, to record the state changes of
+ * its transactions. The transactions are then split in contiguous segments that are traced
+ * concurrently, each on its own copy of the parent state, brought to the state at the start of the
+ * segment with the recorded changes. The traces of the segments are reassembled in block order.
+ */
+public class ParallelBlockTracer {
+  // below this, the untraced execution and the extra world states cost more than they save
+  private static final int MIN_TRANSACTIONS_PER_SEGMENT = 4;
+
+  private final BlockchainQueries blockchainQueries;
+  private final ProtocolSchedule protocolSchedule;
+  private final int parallelism;
+  private final int minTransactionsPerSegment;
+
+  public ParallelBlockTracer(
+      final BlockchainQueries blockchainQueries, final ProtocolSchedule protocolSchedule) {
+    this(blockchainQueries, protocolSchedule, Runtime.getRuntime().availableProcessors());
+  }
+
+  @VisibleForTesting
+  ParallelBlockTracer(
+      final BlockchainQueries blockchainQueries,
+      final ProtocolSchedule protocolSchedule,
+      final int parallelism) {
+    this(blockchainQueries, protocolSchedule, parallelism, MIN_TRANSACTIONS_PER_SEGMENT);
+  }
+
+  @VisibleForTesting
+  ParallelBlockTracer(
+      final BlockchainQueries blockchainQueries,
+      final ProtocolSchedule protocolSchedule,
+      final int parallelism,
+      final int minTransactionsPerSegment) {
+    this.blockchainQueries = blockchainQueries;
+    this.protocolSchedule = protocolSchedule;
+    this.parallelism = parallelism;
+    this.minTransactionsPerSegment = minTransactionsPerSegment;
+  }
+
+  /**
+   * Traces the transactions of a block.
+   *
+   * @param block the block to trace
+   * @param tracerSupplier creates the tracer of each segment of transactions
+   * @param resultMapper maps the trace of a transaction to its result, while the world state the
+   *     transaction was traced on is still open
+   * @param <T> the type of the result of a transaction
+   * @return the results of the transactions of the block in block order, or empty if the state of
+   *     the parent block is not available
+   */
+  public <T> Optional<List<T>> trace(
+      final Block block,
+      final Supplier<DebugOperationTracer> tracerSupplier,
+      final Function<TransactionTrace, T> resultMapper) {
+    final List<Integer> segmentStarts = segmentStarts(block.getBody().getTransactions().size());
+    final Optional<List<AccumulatedStateChanges>> maybeSegmentStates =
+        segmentStarts.size() == 1
+            ? Optional.of(List.of(new AccumulatedStateChanges()))
+            : Tracer.processTracing(
+                blockchainQueries,
+                Optional.of(block.getHeader()),
+                traceableState ->
+                    Optional.of(recordSegmentStates(traceableState, block, segmentStarts)));
+    if (maybeSegmentStates.isEmpty()) {
+      return Optional.empty();
+    }
+    final List<AccumulatedStateChanges> segmentStates = maybeSegmentStates.get();
+
+    final Optional<EthScheduler> maybeEthScheduler = blockchainQueries.getEthScheduler();
+    final List<CompletableFuture<Optional<List<T>>>> segmentTraces = new ArrayList<>();
+    try {
+      for (int i = 0; i < segmentStarts.size(); i++) {
+        final int from = segmentStarts.get(i);
+        final int to =
+            i + 1 < segmentStarts.size()
+                ? segmentStarts.get(i + 1)
+                : block.getBody().getTransactions().size();
+        final AccumulatedStateChanges segmentState = segmentStates.get(i);
+        final Supplier<Optional<List<T>>> segmentTrace =
+            () -> traceSegment(block, from, to, segmentState, tracerSupplier.get(), resultMapper);
+        segmentTraces.add(
+            maybeEthScheduler
+                .map(ethScheduler -> ethScheduler.scheduleComputationTask(segmentTrace))
+                .orElseGet(() -> CompletableFuture.completedFuture(segmentTrace.get())));
+      }
+
+      final List<T> results = new ArrayList<>();
+      for (final CompletableFuture<Optional<List<T>>> segment : segmentTraces) {
+        final Optional<List<T>> segmentResults = segment.join();
+        if (segmentResults.isEmpty()) {
+          return Optional.empty();
+        }
+        results.addAll(segmentResults.get());
+      }
+      return Optional.of(results);
+    } finally {
+      // if a segment failed, there is no need to trace the other ones
+      segmentTraces.forEach(segment -> segment.cancel(false));
+    }
+  }
+
+  @VisibleForTesting
+  List<Integer> segmentStarts(final int transactionCount) {
+    final int segmentCount =
+        Math.max(1, Math.min(parallelism, transactionCount / minTransactionsPerSegment));
+    final List<Integer> segmentStarts = new ArrayList<>(segmentCount);
+    for (int i = 0; i < segmentCount; i++) {
+      segmentStarts.add((int) ((long) transactionCount * i / segmentCount));
+    }
+    return segmentStarts;
+  }
+
+  /**
+   * Executes the transactions of the block without tracing, up to the start of the last segment,
+   * and returns the state changes accumulated at the start of each segment.
+   */
+  private List<AccumulatedStateChanges> recordSegmentStates(
+      final MutableWorldState parentState, final Block block, final List<Integer> segmentStarts) {
+    final List<AccumulatedStateChanges> segmentStates = new ArrayList<>(segmentStarts.size());
+    final AccumulatedStateChanges stateChanges = new AccumulatedStateChanges();
+    final BlockExecution blockExecution = new BlockExecution(block);
+    final TraceBlock.ChainUpdater chainUpdater = new TraceBlock.ChainUpdater(parentState);
+    final List<Transaction> transactions = block.getBody().getTransactions();
+    int transactionIndex = 0;
+    for (final int segmentStart : segmentStarts) {
+      while (transactionIndex < segmentStart) {
+        final WorldUpdater transactionUpdater = chainUpdater.getNextUpdater();
+        blockExecution.execute(
+            transactionUpdater, transactions.get(transactionIndex++), OperationTracer.NO_TRACING);
+        stateChanges.record(transactionUpdater);
+      }
+      segmentStates.add(stateChanges.copy());
+    }
+    return segmentStates;
+  }
+
+  private <T> Optional<List<T>> traceSegment(
+      final Block block,
+      final int from,
+      final int to,
+      final AccumulatedStateChanges segmentState,
+      final DebugOperationTracer tracer,
+      final Function<TransactionTrace, T> resultMapper) {
+    return Tracer.processTracing(
+        blockchainQueries,
+        Optional.of(block.getHeader()),
+        traceableState -> {
+          // the changes are applied on an updater stacked on the parent state, like the ones of
+          // the previous transactions when the block is traced sequentially
+          final WorldUpdater segmentUpdater = traceableState.updater().updater();
+          segmentState.applyTo(segmentUpdater);
+          final BlockExecution blockExecution = new BlockExecution(block);
+          final TraceBlock.ChainUpdater chainUpdater =
+              new TraceBlock.ChainUpdater(traceableState, segmentUpdater);
+          final List<T> results = new ArrayList<>(to - from);
+          for (final Transaction transaction : block.getBody().getTransactions().subList(from, to)) {
+            final TransactionProcessingResult result =
+                blockExecution.execute(chainUpdater.getNextUpdater(), transaction, tracer);
+            results.add(
+                resultMapper.apply(
+                    new TransactionTrace(
+                        transaction, result, tracer.copyTraceFrames(), Optional.of(block))));
+            tracer.reset();
+          }
+          return Optional.of(results);
+        });
+  }
+
+  /** Executes the transactions of a block the same way the sequential block tracing does. */
+  private class BlockExecution {
+    private final BlockHeader header;
+    private final MainnetTransactionProcessor transactionProcessor;
+    private final BlockHashLookup blockHashLookup;
+    private final Wei blobGasPrice;
+
+    BlockExecution(final Block block) {
+      this.header = block.getHeader();
+      final Blockchain blockchain = blockchainQueries.getBlockchain();
+      this.blockHashLookup = new CachingBlockHashLookup(header, blockchain);
+      final ProtocolSpec protocolSpec = protocolSchedule.getByBlockHeader(header);
+      this.transactionProcessor = protocolSpec.getTransactionProcessor();
+      this.blobGasPrice =
+          protocolSpec
+              .getFeeMarket()
+              .blobGasPricePerGas(
+                  blockchain
+                      .getBlockHeader(header.getParentHash())
+                      .map(parent -> calculateExcessBlobGasForParent(protocolSpec, parent))
+                      .orElse(BlobGas.ZERO));
+    }
+
+    TransactionProcessingResult execute(
+        final WorldUpdater updater, final Transaction transaction, final OperationTracer tracer) {
+      return transactionProcessor.processTransaction(
+          updater,
+          header,
+          transaction,
+          header.getCoinbase(),
+          tracer,
+          blockHashLookup,
+          false,
+          blobGasPrice);
+    }
+  }
+}
@@ -14,8 +14,6 @@
  */
 package org.hyperledger.besu.ethereum.api.jsonrpc.internal.methods;
 
-import static org.hyperledger.besu.services.pipeline.PipelineBuilder.createPipelineFrom;
-
 import org.hyperledger.besu.datatypes.Address;
 import org.hyperledger.besu.ethereum.api.jsonrpc.RpcMethod;
 import org.hyperledger.besu.ethereum.api.jsonrpc.internal.JsonRpcRequestContext;
@@ -34,40 +32,30 @@ import org.hyperledger.besu.ethereum.api.query.BlockchainQueries;
 import org.hyperledger.besu.ethereum.api.util.ArrayNodeWrapper;
 import org.hyperledger.besu.ethereum.core.Block;
 import org.hyperledger.besu.ethereum.core.BlockHeader;
-import org.hyperledger.besu.ethereum.core.Transaction;
 import org.hyperledger.besu.ethereum.debug.TraceOptions;
 import org.hyperledger.besu.ethereum.eth.manager.EthScheduler;
-import org.hyperledger.besu.ethereum.mainnet.MainnetTransactionProcessor;
 import org.hyperledger.besu.ethereum.mainnet.ProtocolSchedule;
-import org.hyperledger.besu.ethereum.mainnet.ProtocolSpec;
 import org.hyperledger.besu.ethereum.vm.DebugOperationTracer;
-import org.hyperledger.besu.metrics.BesuMetricCategory;
-import org.hyperledger.besu.metrics.noop.NoOpMetricsSystem;
-import org.hyperledger.besu.metrics.prometheus.PrometheusMetricsSystem;
-import org.hyperledger.besu.plugin.services.metrics.Counter;
-import org.hyperledger.besu.plugin.services.metrics.LabelledMetric;
-import org.hyperledger.besu.services.pipeline.Pipeline;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.Deque;
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ExecutionException;
-import java.util.function.Function;
 import java.util.function.Supplier;
-import java.util.stream.Stream;
-import javax.annotation.Nonnull;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
-import org.apache.tuweni.bytes.Bytes32;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 public class TraceFilter extends TraceBlock {
 
   private static final Logger LOG = LoggerFactory.getLogger(TraceFilter.class);
+  // blocks are traced in parallel, each one against its own parent state, but no more than this
+  // number of blocks is traced ahead of the one whose traces are being added to the result
+  private static final int MAX_BLOCKS_IN_FLIGHT = Runtime.getRuntime().availableProcessors();
+  private final Supplier<BlockTracer> blockTracerSupplier;
   private final Long maxRange;
 
   public TraceFilter(
@@ -76,6 +64,7 @@ public class TraceFilter extends TraceBlock {
       final BlockchainQueries blockchainQueries,
       final Long maxRange) {
     super(protocolSchedule, blockchainQueries);
+    this.blockTracerSupplier = blockTracerSupplier;
     this.maxRange = maxRange;
   }
 
@@ -112,130 +101,97 @@ public class TraceFilter extends TraceBlock {
       return new JsonRpcSuccessResponse(
           requestContext.getRequest().getId(), resultArrayNode.getArrayNode());
     else
-      return traceFilterWithPipeline(
+      return traceFilterInParallel(
           requestContext, filterParameter, fromBlock, toBlock, resultArrayNode);
   }
 
-  private JsonRpcResponse traceFilterWithPipeline(
+  private JsonRpcResponse traceFilterInParallel(
       final JsonRpcRequestContext requestContext,
       final FilterParameter filterParameter,
       final long fromBlock,
       final long toBlock,
       final ArrayNodeWrapper resultArrayNode) {
-
-    long currentBlockNumber = fromBlock;
-    Optional<Block> block =
-        blockchainQueriesSupplier.get().getBlockchain().getBlockByNumber(currentBlockNumber);
-    while ((block.isEmpty() || block.get().getHeader().getParentHash().equals(Bytes32.ZERO))
-        && currentBlockNumber < toBlock) {
-      currentBlockNumber++;
-      block = blockchainQueriesSupplier.get().getBlockchain().getBlockByNumber(currentBlockNumber);
-    }
-    if (block.isEmpty()) {
-      return new JsonRpcSuccessResponse(
-          requestContext.getRequest().getId(), resultArrayNode.getArrayNode());
+    final Optional<EthScheduler> maybeEthScheduler = getBlockchainQueries().getEthScheduler();
+    final Deque<CompletableFuture<List<FlatTrace>>> runningBlockTraces = new ArrayDeque<>();
+    long nextBlockNumber = fromBlock;
+    try {
+      while (!resultArrayNode.isFull()
+          && (nextBlockNumber <= toBlock || !runningBlockTraces.isEmpty())) {
+        while (nextBlockNumber <= toBlock && runningBlockTraces.size() < MAX_BLOCKS_IN_FLIGHT) {
+          final long blockNumber = nextBlockNumber++;
+          runningBlockTraces.add(
+              maybeEthScheduler
+                  .map(
+                      ethScheduler ->
+                          ethScheduler.scheduleComputationTask(
+                              () -> traceBlockNumber(blockNumber, filterParameter)))
+                  .orElseGet(
+                      () ->
+                          CompletableFuture.completedFuture(
+                              traceBlockNumber(blockNumber, filterParameter))));
+        }
+        runningBlockTraces.remove().join().forEach(resultArrayNode::addPOJO);
+      }
+    } finally {
+      // the count has been reached or a block failed, there is no need to trace the other blocks
+      runningBlockTraces.forEach(blockTraces -> blockTraces.cancel(false));
     }
-    final BlockHeader header = block.get().getHeader();
-
-    List<Block> blockList = getBlockList(currentBlockNumber, toBlock, block);
-
-    ArrayNodeWrapper result =
-        Tracer.processTracing(
-                getBlockchainQueries(),
-                Optional.of(header),
-                traceableState -> {
-                  TraceFilterSource traceFilterSource =
-                      new TraceFilterSource(blockList, resultArrayNode);
-                  final ProtocolSpec protocolSpec = protocolSchedule.getByBlockHeader(header);
-                  final MainnetTransactionProcessor transactionProcessor =
-                      protocolSpec.getTransactionProcessor();
-                  final ChainUpdater chainUpdater = new ChainUpdater(traceableState);
-                  final LabelledMetric<Counter> outputCounter =
-                      new PrometheusMetricsSystem(
-                              BesuMetricCategory.DEFAULT_METRIC_CATEGORIES, false)
-                          .createLabelledCounter(
-                              BesuMetricCategory.BLOCKCHAIN,
-                              "transactions_tracefilter_pipeline_processed_total",
-                              "Number of transactions processed for trace_filter",
-                              "step",
-                              "action");
-
-                  DebugOperationTracer debugOperationTracer =
-                      new DebugOperationTracer(new TraceOptions(false, false, true), false);
-                  ExecuteTransactionStep executeTransactionStep =
-                      new ExecuteTransactionStep(
-                          chainUpdater,
-                          transactionProcessor,
-                          getBlockchainQueries().getBlockchain(),
-                          debugOperationTracer,
-                          protocolSpec);
 
-                  Function<TransactionTrace, CompletableFuture<Stream<FlatTrace>>>
-                      traceFlatTransactionStep =
-                          new TraceFlatTransactionStep(
-                              protocolSchedule, null, Optional.of(filterParameter));
-
-                  BuildArrayNodeCompleterStep buildArrayNodeStep =
-                      new BuildArrayNodeCompleterStep(resultArrayNode);
-                  Pipeline<TransactionTrace> traceBlockPipeline =
-                      createPipelineFrom(
-                              "getTransactions",
-                              traceFilterSource,
-                              4,
-                              outputCounter,
-                              false,
-                              "trace_block_transactions")
-                          .thenProcess("executeTransaction", executeTransactionStep)
-                          .thenProcessAsyncOrdered(
-                              "traceFlatTransaction", traceFlatTransactionStep, 4)
-                          .andFinishWith(
-                              "buildArrayNode",
-                              traceStream -> traceStream.forEachOrdered(buildArrayNodeStep));
-
-                  try {
-                    Optional<EthScheduler> ethSchedulerOpt =
-                        getBlockchainQueries().getEthScheduler();
-
-                    ethSchedulerOpt
-                        .orElse(new EthScheduler(1, 1, 1, 1, new NoOpMetricsSystem()))
-                        .startPipeline(traceBlockPipeline)
-                        .get();
-
-                  } catch (InterruptedException | ExecutionException e) {
-                    throw new RuntimeException(e);
-                  }
-                  return Optional.of(resultArrayNode);
-                })
-            .orElse(emptyResult());
-
-    return new JsonRpcSuccessResponse(requestContext.getRequest().getId(), result.getArrayNode());
+    return new JsonRpcSuccessResponse(
+        requestContext.getRequest().getId(), resultArrayNode.getArrayNode());
   }
 
-  @Nonnull
-  private List<Block> getBlockList(
-      final long fromBlock, final long toBlock, final Optional<Block> block) {
-    List<Block> blockList = new ArrayList<>();
-    Block currentBlock = block.get();
-    blockList.add(currentBlock);
-    long index = fromBlock + 1; // We already stored current Block
-    while (index <= toBlock) {
-      Optional<Block> blockByNumber =
-          blockchainQueriesSupplier.get().getBlockchain().getBlockByNumber(index);
-      blockByNumber.ifPresent(blockList::add);
-      index++;
-    }
-    return blockList;
+  private List<FlatTrace> traceBlockNumber(
+      final long blockNumber, final FilterParameter filterParameter) {
+    return getBlockchainQueries()
+        .getBlockchain()
+        .getBlockByNumber(blockNumber)
+        .filter(block -> block.getHeader().getNumber() != BlockHeader.GENESIS_BLOCK_NUMBER)
+        .flatMap(block -> traceBlockWithFilter(block, filterParameter))
+        .orElse(List.of());
   }
 
-  public Map<Transaction, Block> createTransactionBlockMap(final List<Block> blockList) {
-    Map<Transaction, Block> transactionBlockMap = new HashMap<>();
-    for (Block block : blockList) {
-      List<Transaction> transactionList = block.getBody().getTransactions();
-      for (Transaction transaction : transactionList) {
-        transactionBlockMap.put(transaction, block);
-      }
+  private Optional<List<FlatTrace>> traceBlockWithFilter(
+      final Block block, final FilterParameter filterParameter) {
+    final TraceFlatTransactionStep traceFlatTransactionStep =
+        new TraceFlatTransactionStep(protocolSchedule, block, Optional.of(filterParameter));
+    final Optional<List<FlatTrace>> maybeFlatTraces;
+    if (block.getBody().getTransactions().isEmpty()) {
+      // only the rewards, that do not need the world state to be traced
+      maybeFlatTraces = Optional.of(new ArrayList<>());
+    } else {
+      maybeFlatTraces =
+          Tracer.processTracing(
+              getBlockchainQueries(),
+              Optional.of(block.getHeader()),
+              traceableState ->
+                  blockTracerSupplier
+                      .get()
+                      .trace(
+                          traceableState,
+                          block,
+                          new DebugOperationTracer(new TraceOptions(false, false, true), false))
+                      .map(
+                          blockTrace -> {
+                            final List<FlatTrace> flatTraces = new ArrayList<>();
+                            blockTrace
+                                .getTransactionTraces()
+                                .forEach(
+                                    transactionTrace ->
+                                        traceFlatTransactionStep
+                                            .apply(transactionTrace)
+                                            .join()
+                                            .forEachOrdered(flatTraces::add));
+                            return flatTraces;
+                          }));
     }
-    return transactionBlockMap;
+    maybeFlatTraces.ifPresent(
+        flatTraces ->
+            traceFlatTransactionStep
+                .apply(new TransactionTrace(Optional.of(block)))
+                .join()
+                .forEachOrdered(flatTraces::add));
+    return maybeFlatTraces;
   }
 
   @Override
@@ -49,18 +49,34 @@ import java.util.function.Function;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.google.common.annotations.VisibleForTesting;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 public class TraceReplayBlockTransactions extends AbstractBlockParameterMethod {
   private static final Logger LOG = LoggerFactory.getLogger(TraceReplayBlockTransactions.class);
   private final ProtocolSchedule protocolSchedule;
+  private final Optional<ParallelBlockTracer> parallelBlockTracer;
   private static final ObjectMapper MAPPER = new ObjectMapper();
 
   public TraceReplayBlockTransactions(
       final ProtocolSchedule protocolSchedule, final BlockchainQueries queries) {
+    this(
+        protocolSchedule,
+        queries,
+        queries.isParallelBlockTracingEnabled()
+            ? Optional.of(new ParallelBlockTracer(queries, protocolSchedule))
+            : Optional.empty());
+  }
+
+  @VisibleForTesting
+  TraceReplayBlockTransactions(
+      final ProtocolSchedule protocolSchedule,
+      final BlockchainQueries queries,
+      final Optional<ParallelBlockTracer> parallelBlockTracer) {
     super(queries);
     this.protocolSchedule = protocolSchedule;
+    this.parallelBlockTracer = parallelBlockTracer;
   }
 
   @Override
@@ -105,6 +121,10 @@ public class TraceReplayBlockTransactions extends AbstractBlockParameterMethod {
 
     final Set<TraceTypeParameter.TraceType> traceTypes = traceTypeParameter.getTraceTypes();
 
+    if (parallelBlockTracer.isPresent()) {
+      return traceBlockInParallel(parallelBlockTracer.get(), block, traceTypes);
+    }
+
     final BlockHeader header = block.getHeader();
     return Tracer.processTracing(
             getBlockchainQueries(),
@@ -176,6 +196,26 @@ public class TraceReplayBlockTransactions extends AbstractBlockParameterMethod {
         .orElse(emptyResult());
   }
 
+  private ArrayNode traceBlockInParallel(
+      final ParallelBlockTracer parallelBlockTracer,
+      final Block block,
+      final Set<TraceTypeParameter.TraceType> traceTypes) {
+    final TraceReplayTransactionStep traceReplayTransactionStep =
+        new TraceReplayTransactionStep(protocolSchedule, block, traceTypes);
+    return parallelBlockTracer
+        .trace(
+            block,
+            () -> new DebugOperationTracer(new TraceOptions(false, false, true), false),
+            transactionTrace -> traceReplayTransactionStep.apply(transactionTrace).join())
+        .map(
+            traceReplayResults -> {
+              final ArrayNode resultArrayNode = MAPPER.createArrayNode();
+              traceReplayResults.forEach(resultArrayNode::addPOJO);
+              return resultArrayNode;
+            })
+        .orElse(emptyResult());
+  }
+
   private ArrayNode emptyResult() {
     return MAPPER.createArrayNode();
   }
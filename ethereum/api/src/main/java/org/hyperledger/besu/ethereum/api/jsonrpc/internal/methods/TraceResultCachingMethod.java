@@ -0,0 +1,161 @@
+/*
+ * Copyright contributors to Hyperledger Besu.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.ethereum.api.jsonrpc.internal.methods;
+
+import org.hyperledger.besu.datatypes.Hash;
+import org.hyperledger.besu.ethereum.api.jsonrpc.internal.JsonRpcRequestContext;
+import org.hyperledger.besu.ethereum.api.jsonrpc.internal.exception.InvalidJsonRpcParameters;
+import org.hyperledger.besu.ethereum.api.jsonrpc.internal.parameters.BlockParameterOrBlockHash;
+import org.hyperledger.besu.ethereum.api.jsonrpc.internal.response.JsonRpcResponse;
+import org.hyperledger.besu.ethereum.api.jsonrpc.internal.response.JsonRpcSuccessResponse;
+import org.hyperledger.besu.ethereum.api.query.BlockchainQueries;
+import org.hyperledger.besu.ethereum.api.query.cache.TraceResultCache;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.util.RawValue;
+import com.fasterxml.jackson.datatype.jdk8.Jdk8Module;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Serves the results of a method tracing a block, whose first parameter is the block number or hash,
+ * from the {@link TraceResultCache}, and caches the results of the blocks it has to trace. Only
+ * requests for an explicit block number or hash are cached, the tracer configuration being the
+ * method name and its other parameters, while requests using a block tag are always traced since
+ * the block they refer to moves with the chain.
+ */
+public class TraceResultCachingMethod implements JsonRpcMethod {
+  private static final Logger LOG = LoggerFactory.getLogger(TraceResultCachingMethod.class);
+  private static final ObjectWriter RESULT_WRITER =
+      new ObjectMapper().registerModule(new Jdk8Module()).writer();
+  private static final ObjectWriter TRACER_CONFIG_WRITER =
+      new ObjectMapper().writer().with(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS);
+
+  private final JsonRpcMethod tracingMethod;
+  private final BlockchainQueries blockchainQueries;
+  private final TraceResultCache traceResultCache;
+
+  public TraceResultCachingMethod(
+      final JsonRpcMethod tracingMethod,
+      final BlockchainQueries blockchainQueries,
+      final TraceResultCache traceResultCache) {
+    this.tracingMethod = tracingMethod;
+    this.blockchainQueries = blockchainQueries;
+    this.traceResultCache = traceResultCache;
+  }
+
+  /**
+   * Decorate the tracing method to cache its results, if the trace cache is enabled.
+   *
+   * @param tracingMethod the method tracing a block
+   * @param blockchainQueries the blockchain queries holding the trace cache
+   * @return the decorated method if the trace cache is enabled, the tracing method otherwise
+   */
+  public static JsonRpcMethod cachingIfEnabled(
+      final JsonRpcMethod tracingMethod, final BlockchainQueries blockchainQueries) {
+    return blockchainQueries
+        .getTraceResultCache()
+        .<JsonRpcMethod>map(
+            traceResultCache ->
+                new TraceResultCachingMethod(tracingMethod, blockchainQueries, traceResultCache))
+        .orElse(tracingMethod);
+  }
+
+  @Override
+  public String getName() {
+    return tracingMethod.getName();
+  }
+
+  @Override
+  public List<String> getPermissions() {
+    return tracingMethod.getPermissions();
+  }
+
+  @Override
+  public JsonRpcResponse response(final JsonRpcRequestContext requestContext) {
+    final Optional<BlockParameterOrBlockHash> blockParameter = blockParameter(requestContext);
+    final Optional<Hash> blockHash = blockParameter.flatMap(this::blockHash);
+    if (blockHash.isEmpty()) {
+      return tracingMethod.response(requestContext);
+    }
+    final Optional<String> tracerConfig = tracerConfig(requestContext);
+    if (tracerConfig.isEmpty()) {
+      return tracingMethod.response(requestContext);
+    }
+
+    final Optional<String> cachedResult =
+        traceResultCache.get(blockHash.get(), tracerConfig.get());
+    if (cachedResult.isPresent()) {
+      return new JsonRpcSuccessResponse(
+          requestContext.getRequest().getId(), new RawValue(cachedResult.get()));
+    }
+
+    final JsonRpcResponse response = tracingMethod.response(requestContext);
+    // a block number could have been reorged to another block while it was traced
+    if (response instanceof JsonRpcSuccessResponse successResponse
+        && successResponse.getResult() != null
+        && blockHash.equals(blockHash(blockParameter.get()))) {
+      try {
+        traceResultCache.put(
+            blockHash.get(),
+            tracerConfig.get(),
+            RESULT_WRITER.writeValueAsString(successResponse.getResult()));
+      } catch (final JsonProcessingException e) {
+        LOG.debug("Unable to serialize the result of {} for caching", getName(), e);
+      }
+    }
+    return response;
+  }
+
+  private Optional<BlockParameterOrBlockHash> blockParameter(
+      final JsonRpcRequestContext requestContext) {
+    try {
+      return requestContext.getOptionalParameter(0, BlockParameterOrBlockHash.class);
+    } catch (final InvalidJsonRpcParameters e) {
+      // let the tracing method report the invalid parameter
+      return Optional.empty();
+    }
+  }
+
+  private Optional<Hash> blockHash(final BlockParameterOrBlockHash blockParameter) {
+    if (blockParameter.getHash().isPresent()) {
+      // whether the block is canonical is for the tracing method to check
+      return blockParameter.getRequireCanonical() ? Optional.empty() : blockParameter.getHash();
+    }
+    if (blockParameter.isNumeric() || blockParameter.isEarliest()) {
+      return blockchainQueries.getBlockHashByNumber(blockParameter.getNumber().getAsLong());
+    }
+    return Optional.empty();
+  }
+
+  private Optional<String> tracerConfig(final JsonRpcRequestContext requestContext) {
+    final Object[] params = requestContext.getRequest().getParams();
+    final List<Object> tracerConfig =
+        List.of(getName(), Arrays.asList(Arrays.copyOfRange(params, 1, params.length)));
+    try {
+      return Optional.of(TRACER_CONFIG_WRITER.writeValueAsString(tracerConfig));
+    } catch (final JsonProcessingException e) {
+      LOG.debug("Unable to serialize the parameters of {} for caching", getName(), e);
+      return Optional.empty();
+    }
+  }
+}
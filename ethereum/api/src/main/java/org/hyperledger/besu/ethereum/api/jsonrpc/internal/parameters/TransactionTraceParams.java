@@ -16,6 +16,7 @@ package org.hyperledger.besu.ethereum.api.jsonrpc.internal.parameters;
 
 import org.hyperledger.besu.ethereum.debug.TraceOptions;
 
+import java.util.Map;
 import javax.annotation.Nullable;
 
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
@@ -52,6 +53,14 @@ public interface TransactionTraceParams {
     return false;
   }
 
+  @JsonProperty("tracer")
+  @Nullable
+  String getTracer();
+
+  @JsonProperty("tracerConfig")
+  @Nullable
+  Map<String, Object> getTracerConfig();
+
   default TraceOptions traceOptions() {
     return new TraceOptions(!disableStorage(), !disableMemory(), !disableStack());
   }
@@ -15,16 +15,20 @@
 package org.hyperledger.besu.ethereum.api.jsonrpc.internal.processor;
 
 import org.hyperledger.besu.datatypes.Hash;
+import org.hyperledger.besu.ethereum.api.jsonrpc.internal.results.tracing.NativeTraceResult;
+import org.hyperledger.besu.ethereum.api.jsonrpc.internal.results.tracing.NativeTracer;
 import org.hyperledger.besu.ethereum.core.Block;
 import org.hyperledger.besu.ethereum.core.MutableWorldState;
 import org.hyperledger.besu.ethereum.debug.TraceFrame;
 import org.hyperledger.besu.ethereum.processing.TransactionProcessingResult;
 import org.hyperledger.besu.ethereum.vm.CachingBlockHashLookup;
 import org.hyperledger.besu.ethereum.vm.DebugOperationTracer;
+import org.hyperledger.besu.evm.tracing.OperationTracer;
 import org.hyperledger.besu.evm.worldstate.WorldUpdater;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Supplier;
 
 /** Used to produce debug traces of blocks */
 public class BlockTracer {
@@ -41,18 +45,46 @@ public class BlockTracer {
       final Tracer.TraceableState mutableWorldState,
       final Hash blockHash,
       final DebugOperationTracer tracer) {
-    return blockReplay.block(blockHash, prepareReplayAction(mutableWorldState, tracer));
+    return blockReplay.block(
+        blockHash, prepareReplayAction(mutableWorldState, tracer, () -> takeTraceFrames(tracer)));
   }
 
   public Optional<BlockTrace> trace(
       final Tracer.TraceableState mutableWorldState,
       final Block block,
       final DebugOperationTracer tracer) {
-    return blockReplay.block(block, prepareReplayAction(mutableWorldState, tracer));
+    return blockReplay.block(
+        block, prepareReplayAction(mutableWorldState, tracer, () -> takeTraceFrames(tracer)));
+  }
+
+  public Optional<List<NativeTraceResult>> traceNative(
+      final Tracer.TraceableState mutableWorldState,
+      final Hash blockHash,
+      final NativeTracer tracer) {
+    return blockReplay
+        .block(blockHash, prepareReplayAction(mutableWorldState, tracer, List::of))
+        .map(blockTrace -> tracer.getResults());
+  }
+
+  public Optional<List<NativeTraceResult>> traceNative(
+      final Tracer.TraceableState mutableWorldState,
+      final Block block,
+      final NativeTracer tracer) {
+    return blockReplay
+        .block(block, prepareReplayAction(mutableWorldState, tracer, List::of))
+        .map(blockTrace -> tracer.getResults());
+  }
+
+  private static List<TraceFrame> takeTraceFrames(final DebugOperationTracer tracer) {
+    final List<TraceFrame> traceFrames = tracer.copyTraceFrames();
+    tracer.reset();
+    return traceFrames;
   }
 
   private BlockReplay.TransactionAction<TransactionTrace> prepareReplayAction(
-      final MutableWorldState mutableWorldState, final DebugOperationTracer tracer) {
+      final MutableWorldState mutableWorldState,
+      final OperationTracer tracer,
+      final Supplier<List<TraceFrame>> traceFramesSupplier) {
     return (transaction, header, blockchain, transactionProcessor, blobGasPrice) -> {
       // if we have no prior updater, it must be the first TX, so use the block's initial state
       if (chainedUpdater == null) {
@@ -72,9 +104,7 @@ public class BlockTracer {
               new CachingBlockHashLookup(header, blockchain),
               false,
               blobGasPrice);
-      final List<TraceFrame> traceFrames = tracer.copyTraceFrames();
-      tracer.reset();
-      return new TransactionTrace(transaction, result, traceFrames);
+      return new TransactionTrace(transaction, result, traceFramesSupplier.get());
     };
   }
 }
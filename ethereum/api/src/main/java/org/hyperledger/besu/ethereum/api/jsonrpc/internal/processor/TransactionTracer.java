@@ -21,6 +21,8 @@ import org.hyperledger.besu.datatypes.BlobGas;
 import org.hyperledger.besu.datatypes.Hash;
 import org.hyperledger.besu.datatypes.Wei;
 import org.hyperledger.besu.ethereum.api.jsonrpc.internal.parameters.TransactionTraceParams;
+import org.hyperledger.besu.ethereum.api.jsonrpc.internal.results.tracing.NativeTraceResult;
+import org.hyperledger.besu.ethereum.api.jsonrpc.internal.results.tracing.NativeTracer;
 import org.hyperledger.besu.ethereum.chain.Blockchain;
 import org.hyperledger.besu.ethereum.core.BlockHeader;
 import org.hyperledger.besu.ethereum.core.MutableWorldState;
@@ -45,6 +47,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ObjectNode;
@@ -86,6 +89,31 @@ public class TransactionTracer {
         });
   }
 
+  public Optional<NativeTraceResult> traceTransactionNative(
+      final Tracer.TraceableState mutableWorldState,
+      final Hash blockHash,
+      final Hash transactionHash,
+      final NativeTracer tracer) {
+    return blockReplay
+        .beforeTransactionInBlock(
+            mutableWorldState,
+            blockHash,
+            transactionHash,
+            (transaction, header, blockchain, transactionProcessor, blobGasPrice) -> {
+              processTransaction(
+                  header,
+                  blockchain,
+                  mutableWorldState.updater(),
+                  transaction,
+                  transactionProcessor,
+                  tracer,
+                  blobGasPrice);
+              // an invalid transaction is not executed, so it has no result
+              return tracer.getResults().stream().findFirst();
+            })
+        .flatMap(Function.identity());
+  }
+
   public List<String> traceTransactionToFile(
       final MutableWorldState mutableWorldState,
       final Hash blockHash,
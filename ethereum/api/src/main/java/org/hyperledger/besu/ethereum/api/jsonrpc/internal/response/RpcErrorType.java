@@ -36,6 +36,8 @@ public enum RpcErrorType implements RpcMethodError {
   TX_POOL_DISABLED(
       -32002,
       "Transaction pool not enabled. (Either txpool explicitly disabled, or node not yet in sync)."),
+  METHOD_CONCURRENCY_LIMIT_EXCEEDED(
+      -32005, "Too many requests of this method are being executed, retry later"),
 
   // eth_getBlockByNumber specific error message
   UNKNOWN_BLOCK(-39001, "Unknown block"),
@@ -65,6 +67,7 @@ public enum RpcErrorType implements RpcMethodError {
   EXCEEDS_BLOCK_GAS_LIMIT(-32005, "Transaction gas limit exceeds block gas limit"),
   EXCEEDS_RPC_MAX_BLOCK_RANGE(-32005, "Requested range exceeds maximum RPC range limit"),
   EXCEEDS_RPC_MAX_BATCH_SIZE(-32005, "Number of requests exceeds max batch size"),
+  EXCEEDS_RPC_MAX_LOGS_RESULTS(-32005, "Number of logs exceeds maximum RPC results limit"),
   NONCE_TOO_HIGH(-32006, "Nonce too high"),
   TX_SENDER_NOT_AUTHORIZED(-32007, "Sender account not authorized to send transactions"),
   CHAIN_HEAD_WORLD_STATE_NOT_AVAILABLE(-32008, "Initial sync is still in progress"),
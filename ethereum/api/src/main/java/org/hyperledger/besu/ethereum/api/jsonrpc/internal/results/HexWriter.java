@@ -0,0 +1,144 @@
+/*
+ * Copyright contributors to Hyperledger Besu.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.ethereum.api.jsonrpc.internal.results;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import org.apache.tuweni.bytes.Bytes;
+
+/**
+ * Writes bytes and quantities as JSON hex strings, encoding them straight into the generator, so
+ * results can keep referencing the original bytes instead of holding their hex string copies until
+ * the response is written.
+ */
+public final class HexWriter {
+  private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+  private static final int WORD_SIZE = 32;
+
+  private HexWriter() {}
+
+  /**
+   * Write the bytes as a 0x prefixed hex string, same as {@link Bytes#toHexString()}.
+   *
+   * @param value the bytes to write
+   * @param gen the generator to write to
+   * @throws IOException if the write fails
+   */
+  public static void writeHex(final Bytes value, final JsonGenerator gen) throws IOException {
+    write(value, true, 0, gen);
+  }
+
+  /**
+   * Write the bytes as an unprefixed hex string, same as {@link Bytes#toUnprefixedHexString()}.
+   *
+   * @param value the bytes to write
+   * @param gen the generator to write to
+   * @throws IOException if the write fails
+   */
+  public static void writeUnprefixedHex(final Bytes value, final JsonGenerator gen)
+      throws IOException {
+    write(value, false, 0, gen);
+  }
+
+  /**
+   * Write the bytes as an unprefixed hex string, left padded with zeros to the size of a word.
+   *
+   * @param value the bytes to write
+   * @param gen the generator to write to
+   * @throws IOException if the write fails
+   */
+  public static void writeUnprefixedWord(final Bytes value, final JsonGenerator gen)
+      throws IOException {
+    write(value, false, Math.max(0, WORD_SIZE - value.size()), gen);
+  }
+
+  /**
+   * Write the value as a quantity, same as {@link Quantity#create(long)}.
+   *
+   * @param value the value to write
+   * @param gen the generator to write to
+   * @throws IOException if the write fails
+   */
+  public static void writeQuantity(final long value, final JsonGenerator gen) throws IOException {
+    if (value < 0) {
+      gen.writeString(Quantity.create(value));
+      return;
+    }
+    final int digits = Math.max(1, (Long.SIZE - Long.numberOfLeadingZeros(value) + 3) / 4);
+    final char[] chars = new char[2 + digits];
+    chars[0] = '0';
+    chars[1] = 'x';
+    long remaining = value;
+    for (int i = chars.length - 1; i >= 2; i--) {
+      chars[i] = HEX_DIGITS[(int) (remaining & 0x0f)];
+      remaining >>>= 4;
+    }
+    gen.writeString(chars, 0, chars.length);
+  }
+
+  private static void write(
+      final Bytes value, final boolean prefixed, final int leftPadSize, final JsonGenerator gen)
+      throws IOException {
+    final int prefixLength = prefixed ? 2 : 0;
+    final int size = value.size();
+    final char[] chars = new char[prefixLength + 2 * (leftPadSize + size)];
+    if (prefixed) {
+      chars[0] = '0';
+      chars[1] = 'x';
+    }
+    int pos = prefixLength + 2 * leftPadSize;
+    Arrays.fill(chars, prefixLength, pos, '0');
+    for (int i = 0; i < size; i++) {
+      final int b = value.get(i) & 0xff;
+      chars[pos++] = HEX_DIGITS[b >>> 4];
+      chars[pos++] = HEX_DIGITS[b & 0x0f];
+    }
+    gen.writeString(chars, 0, chars.length);
+  }
+
+  /** Serializes bytes as an unprefixed hex string. */
+  public static class UnprefixedHexSerializer extends StdSerializer<Bytes> {
+
+    public UnprefixedHexSerializer() {
+      super(Bytes.class);
+    }
+
+    @Override
+    public void serialize(
+        final Bytes value, final JsonGenerator gen, final SerializerProvider provider)
+        throws IOException {
+      writeUnprefixedHex(value, gen);
+    }
+  }
+
+  /** Serializes bytes as an unprefixed hex string, left padded with zeros to a word. */
+  public static class UnprefixedWordSerializer extends StdSerializer<Bytes> {
+
+    public UnprefixedWordSerializer() {
+      super(Bytes.class);
+    }
+
+    @Override
+    public void serialize(
+        final Bytes value, final JsonGenerator gen, final SerializerProvider provider)
+        throws IOException {
+      writeUnprefixedWord(value, gen);
+    }
+  }
+}
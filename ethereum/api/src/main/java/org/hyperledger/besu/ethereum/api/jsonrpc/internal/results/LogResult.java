@@ -16,95 +16,106 @@ package org.hyperledger.besu.ethereum.api.jsonrpc.internal.results;
 
 import org.hyperledger.besu.ethereum.core.LogWithMetadata;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 
-import com.fasterxml.jackson.annotation.JsonGetter;
-import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
 import org.apache.tuweni.bytes.Bytes;
 
-/** A single log result. */
-@JsonPropertyOrder({
-  "logIndex",
-  "removed",
-  "blockNumber",
-  "blockHash",
-  "transactionHash",
-  "transactionIndex",
-  "address",
-  "data",
-  "topics"
-})
+/**
+ * A single log result. It references the log and its metadata, which are hex encoded only when the
+ * result is written.
+ */
+@JsonSerialize(using = LogResult.Serializer.class)
 public class LogResult implements JsonRpcResult {
 
-  private final String logIndex;
-  private final String blockNumber;
-  private final String blockHash;
-  private final String transactionHash;
-  private final String transactionIndex;
-  private final String address;
-  private final String data;
-  private final List<String> topics;
-  private final boolean removed;
+  private final LogWithMetadata logWithMetadata;
 
   public LogResult(final LogWithMetadata logWithMetadata) {
-    this.logIndex = Quantity.create(logWithMetadata.getLogIndex());
-    this.blockNumber = Quantity.create(logWithMetadata.getBlockNumber());
-    this.blockHash = logWithMetadata.getBlockHash().toString();
-    this.transactionHash = logWithMetadata.getTransactionHash().toString();
-    this.transactionIndex = Quantity.create(logWithMetadata.getTransactionIndex());
-    this.address = logWithMetadata.getLogger().toString();
-    this.data = logWithMetadata.getData().toString();
-    this.topics = new ArrayList<>(logWithMetadata.getTopics().size());
-    this.removed = logWithMetadata.isRemoved();
-
-    for (final Bytes topic : logWithMetadata.getTopics()) {
-      topics.add(topic.toString());
-    }
+    this.logWithMetadata = logWithMetadata;
   }
 
-  @JsonGetter(value = "logIndex")
   public String getLogIndex() {
-    return logIndex;
+    return Quantity.create(logWithMetadata.getLogIndex());
   }
 
-  @JsonGetter(value = "blockNumber")
   public String getBlockNumber() {
-    return blockNumber;
+    return Quantity.create(logWithMetadata.getBlockNumber());
   }
 
-  @JsonGetter(value = "blockHash")
   public String getBlockHash() {
-    return blockHash;
+    return logWithMetadata.getBlockHash().toString();
   }
 
-  @JsonGetter(value = "transactionHash")
   public String getTransactionHash() {
-    return transactionHash;
+    return logWithMetadata.getTransactionHash().toString();
   }
 
-  @JsonGetter(value = "transactionIndex")
   public String getTransactionIndex() {
-    return transactionIndex;
+    return Quantity.create(logWithMetadata.getTransactionIndex());
   }
 
-  @JsonGetter(value = "address")
   public String getAddress() {
-    return address;
+    return logWithMetadata.getLogger().toString();
   }
 
-  @JsonGetter(value = "data")
   public String getData() {
-    return data;
+    return logWithMetadata.getData().toString();
   }
 
-  @JsonGetter(value = "topics")
   public List<String> getTopics() {
+    final List<String> topics = new ArrayList<>(logWithMetadata.getTopics().size());
+    for (final Bytes topic : logWithMetadata.getTopics()) {
+      topics.add(topic.toString());
+    }
     return topics;
   }
 
-  @JsonGetter(value = "removed")
   public boolean isRemoved() {
-    return removed;
+    return logWithMetadata.isRemoved();
+  }
+
+  public static class Serializer extends StdSerializer<LogResult> {
+
+    public Serializer() {
+      this(null);
+    }
+
+    protected Serializer(final Class<LogResult> t) {
+      super(t);
+    }
+
+    @Override
+    public void serialize(
+        final LogResult value, final JsonGenerator gen, final SerializerProvider provider)
+        throws IOException {
+      final LogWithMetadata log = value.logWithMetadata;
+      gen.writeStartObject();
+      gen.writeFieldName("logIndex");
+      HexWriter.writeQuantity(log.getLogIndex(), gen);
+      gen.writeBooleanField("removed", log.isRemoved());
+      gen.writeFieldName("blockNumber");
+      HexWriter.writeQuantity(log.getBlockNumber(), gen);
+      gen.writeFieldName("blockHash");
+      HexWriter.writeHex(log.getBlockHash(), gen);
+      gen.writeFieldName("transactionHash");
+      HexWriter.writeHex(log.getTransactionHash(), gen);
+      gen.writeFieldName("transactionIndex");
+      HexWriter.writeQuantity(log.getTransactionIndex(), gen);
+      gen.writeFieldName("address");
+      HexWriter.writeHex(log.getLogger(), gen);
+      gen.writeFieldName("data");
+      HexWriter.writeHex(log.getData(), gen);
+      gen.writeArrayFieldStart("topics");
+      for (final Bytes topic : log.getTopics()) {
+        HexWriter.writeHex(topic, gen);
+      }
+      gen.writeEndArray();
+      gen.writeEndObject();
+    }
   }
 }
@@ -23,8 +23,8 @@ import java.util.TreeMap;
 
 import com.fasterxml.jackson.annotation.JsonGetter;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 import org.apache.tuweni.bytes.Bytes;
-import org.apache.tuweni.bytes.Bytes32;
 import org.apache.tuweni.units.bigints.UInt256;
 
 @JsonPropertyOrder({"pc", "op", "gas", "gasCost", "depth", "stack", "memory", "storage"})
@@ -33,47 +33,27 @@ public class StructLog {
   private final int depth;
   private final long gas;
   private final long gasCost;
-  private final String[] memory;
+  // memory, stack and storage reference the contents of the trace frame, which consecutive frames
+  // share when unchanged, so they are only hex encoded when written
+  private final Bytes[] memory;
   private final String op;
   private final int pc;
-  private final String[] stack;
-  private final Object storage;
+  private final Bytes[] stack;
+  private final Map<UInt256, UInt256> storage;
   private final String reason;
-  static final String bytes32ZeroString = Bytes32.ZERO.toUnprefixedHexString();
 
   public StructLog(final TraceFrame traceFrame) {
     depth = traceFrame.getDepth() + 1;
     gas = traceFrame.getGasRemaining();
     gasCost = traceFrame.getGasCost().orElse(0L);
-    memory =
-        traceFrame
-            .getMemory()
-            .map(a -> Arrays.stream(a).map(Bytes::toUnprefixedHexString).toArray(String[]::new))
-            .orElse(null);
+    memory = traceFrame.getMemory().orElse(null);
     op = traceFrame.getOpcode();
     pc = traceFrame.getPc();
-    stack =
-        traceFrame
-            .getStack()
-            .map(
-                a ->
-                    Arrays.stream(a)
-                        .map(Bytes::toUnprefixedHexString)
-                        .map(this::stringLeftPadTo64)
-                        .toArray(String[]::new))
-            .orElse(null);
-
-    storage = traceFrame.getStorage().map(StructLog::formatStorage).orElse(null);
+    stack = traceFrame.getStack().orElse(null);
+    storage = traceFrame.getStorage().orElse(null);
     reason = traceFrame.getRevertReason().map(Bytes::toShortHexString).orElse(null);
   }
 
-  private String stringLeftPadTo64(final String unPaddedHexString) {
-    StringBuilder sb = new StringBuilder(64);
-    sb.append(bytes32ZeroString, 0, 64 - unPaddedHexString.length());
-    sb.append(unPaddedHexString);
-    return sb.toString();
-  }
-
   private static Map<String, String> formatStorage(final Map<UInt256, UInt256> storage) {
     final Map<String, String> formattedStorage = new TreeMap<>();
     storage.forEach(
@@ -98,7 +78,8 @@ public class StructLog {
   }
 
   @JsonGetter("memory")
-  public String[] memory() {
+  @JsonSerialize(contentUsing = HexWriter.UnprefixedHexSerializer.class)
+  public Bytes[] memory() {
     return memory;
   }
 
@@ -113,13 +94,14 @@ public class StructLog {
   }
 
   @JsonGetter("stack")
-  public String[] stack() {
+  @JsonSerialize(contentUsing = HexWriter.UnprefixedWordSerializer.class)
+  public Bytes[] stack() {
     return stack;
   }
 
   @JsonGetter("storage")
   public Object storage() {
-    return storage;
+    return storage == null ? null : formatStorage(storage);
   }
 
   @JsonGetter("reason")
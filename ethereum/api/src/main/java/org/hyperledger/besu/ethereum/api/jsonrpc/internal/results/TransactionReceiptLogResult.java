@@ -18,33 +18,28 @@ import org.hyperledger.besu.datatypes.Hash;
 import org.hyperledger.besu.evm.log.Log;
 import org.hyperledger.besu.evm.log.LogTopic;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 
-import com.fasterxml.jackson.annotation.JsonGetter;
-import com.fasterxml.jackson.annotation.JsonPropertyOrder;
-
-@JsonPropertyOrder({
-  "address",
-  "topics",
-  "data",
-  "blockNumber",
-  "transactionHash",
-  "transactionIndex",
-  "blockHash",
-  "logIndex",
-  "removed"
-})
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+/**
+ * A log of a transaction receipt. It references the log, which is hex encoded only when the result
+ * is written.
+ */
+@JsonSerialize(using = TransactionReceiptLogResult.Serializer.class)
 public class TransactionReceiptLogResult {
 
-  private final String address;
-  private final List<String> topics;
-  private final String data;
-  private final String blockNumber;
-  private final String transactionHash;
-  private final String transactionIndex;
-  private final String blockHash;
-  private final String logIndex;
+  private final Log log;
+  private final long blockNumber;
+  private final Hash transactionHash;
+  private final Hash blockHash;
+  private final int transactionIndex;
+  private final int logIndex;
   private final boolean removed;
 
   public TransactionReceiptLogResult(
@@ -54,66 +49,95 @@ public class TransactionReceiptLogResult {
       final Hash blockHash,
       final int transactionIndex,
       final int logIndex) {
-    this.address = log.getLogger().toString();
-    this.topics = new ArrayList<>(log.getTopics().size());
-
-    for (final LogTopic topic : log.getTopics()) {
-      topics.add(topic.toString());
-    }
-
-    this.data = log.getData().toString();
-    this.blockNumber = Quantity.create(blockNumber);
-    this.transactionHash = transactionHash.toString();
-    this.transactionIndex = Quantity.create(transactionIndex);
-    this.blockHash = blockHash.toString();
-    this.logIndex = Quantity.create(logIndex);
+    this.log = log;
+    this.blockNumber = blockNumber;
+    this.transactionHash = transactionHash;
+    this.blockHash = blockHash;
+    this.transactionIndex = transactionIndex;
+    this.logIndex = logIndex;
 
     // TODO: Handle chain reorgs, i.e. return `true` if log is removed
     this.removed = false;
   }
 
-  @JsonGetter(value = "address")
   public String getAddress() {
-    return address;
+    return log.getLogger().toString();
   }
 
-  @JsonGetter(value = "topics")
   public List<String> getTopics() {
+    final List<String> topics = new ArrayList<>(log.getTopics().size());
+    for (final LogTopic topic : log.getTopics()) {
+      topics.add(topic.toString());
+    }
     return topics;
   }
 
-  @JsonGetter(value = "data")
   public String getData() {
-    return data;
+    return log.getData().toString();
   }
 
-  @JsonGetter(value = "blockNumber")
   public String getBlockNumber() {
-    return blockNumber;
+    return Quantity.create(blockNumber);
   }
 
-  @JsonGetter(value = "transactionHash")
   public String getTransactionHash() {
-    return transactionHash;
+    return transactionHash.toString();
   }
 
-  @JsonGetter(value = "transactionIndex")
   public String getTransactionIndex() {
-    return transactionIndex;
+    return Quantity.create(transactionIndex);
   }
 
-  @JsonGetter(value = "blockHash")
   public String getBlockHash() {
-    return blockHash;
+    return blockHash.toString();
   }
 
-  @JsonGetter(value = "logIndex")
   public String getLogIndex() {
-    return logIndex;
+    return Quantity.create(logIndex);
   }
 
-  @JsonGetter(value = "removed")
   public boolean isRemoved() {
     return removed;
   }
+
+  public static class Serializer extends StdSerializer<TransactionReceiptLogResult> {
+
+    public Serializer() {
+      this(null);
+    }
+
+    protected Serializer(final Class<TransactionReceiptLogResult> t) {
+      super(t);
+    }
+
+    @Override
+    public void serialize(
+        final TransactionReceiptLogResult value,
+        final JsonGenerator gen,
+        final SerializerProvider provider)
+        throws IOException {
+      gen.writeStartObject();
+      gen.writeFieldName("address");
+      HexWriter.writeHex(value.log.getLogger(), gen);
+      gen.writeArrayFieldStart("topics");
+      for (final LogTopic topic : value.log.getTopics()) {
+        HexWriter.writeHex(topic, gen);
+      }
+      gen.writeEndArray();
+      gen.writeFieldName("data");
+      HexWriter.writeHex(value.log.getData(), gen);
+      gen.writeFieldName("blockNumber");
+      HexWriter.writeQuantity(value.blockNumber, gen);
+      gen.writeFieldName("transactionHash");
+      HexWriter.writeHex(value.transactionHash, gen);
+      gen.writeFieldName("transactionIndex");
+      HexWriter.writeQuantity(value.transactionIndex, gen);
+      gen.writeFieldName("blockHash");
+      HexWriter.writeHex(value.blockHash, gen);
+      gen.writeFieldName("logIndex");
+      HexWriter.writeQuantity(value.logIndex, gen);
+      gen.writeBooleanField("removed", value.removed);
+      gen.writeEndObject();
+    }
+  }
 }
@@ -0,0 +1,99 @@
+/*
+ * Copyright contributors to Hyperledger Besu.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.ethereum.api.jsonrpc.internal.results.tracing;
+
+import org.hyperledger.besu.datatypes.Address;
+import org.hyperledger.besu.datatypes.Transaction;
+import org.hyperledger.besu.ethereum.api.jsonrpc.internal.exception.InvalidJsonRpcParameters;
+import org.hyperledger.besu.ethereum.api.jsonrpc.internal.parameters.TransactionTraceParams;
+import org.hyperledger.besu.ethereum.api.jsonrpc.internal.results.tracing.call.CallTracer;
+import org.hyperledger.besu.ethereum.api.jsonrpc.internal.results.tracing.prestate.PrestateTracer;
+import org.hyperledger.besu.evm.log.Log;
+import org.hyperledger.besu.evm.tracing.OperationTracer;
+import org.hyperledger.besu.evm.worldstate.WorldView;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import org.apache.tuweni.bytes.Bytes;
+
+/**
+ * An operation tracer that builds the result of tracing each transaction while it executes, from
+ * the call frame boundaries and the touched state only, instead of recording a trace frame with
+ * copies of the stack, memory and storage for each operation and reshaping them afterward.
+ */
+public abstract class NativeTracer implements OperationTracer {
+  public static final String CALL_TRACER = "callTracer";
+  public static final String PRESTATE_TRACER = "prestateTracer";
+
+  private final List<NativeTraceResult> results = new ArrayList<>();
+
+  /**
+   * Create the native tracer selected by the tracer option of the trace params.
+   *
+   * @param transactionTraceParams the trace params
+   * @return the selected native tracer, or empty if no tracer is selected
+   * @throws InvalidJsonRpcParameters if the selected tracer is not supported
+   */
+  public static Optional<NativeTracer> create(final TransactionTraceParams transactionTraceParams) {
+    final String tracer = transactionTraceParams.getTracer();
+    if (tracer == null) {
+      return Optional.empty();
+    }
+    final Map<String, Object> tracerConfig =
+        Optional.ofNullable(transactionTraceParams.getTracerConfig()).orElse(Map.of());
+    return switch (tracer) {
+      case CALL_TRACER ->
+          Optional.of(new CallTracer(Boolean.TRUE.equals(tracerConfig.get("onlyTopCall"))));
+      case PRESTATE_TRACER -> Optional.of(new PrestateTracer());
+      default -> throw new InvalidJsonRpcParameters("Unsupported tracer " + tracer);
+    };
+  }
+
+  /**
+   * Get the results of the transactions traced so far, in execution order.
+   *
+   * @return the results of the traced transactions
+   */
+  public List<NativeTraceResult> getResults() {
+    return Collections.unmodifiableList(results);
+  }
+
+  @Override
+  public void traceEndTransaction(
+      final WorldView worldView,
+      final Transaction tx,
+      final boolean status,
+      final Bytes output,
+      final List<Log> logs,
+      final long gasUsed,
+      final Set<Address> selfDestructs,
+      final long timeNs) {
+    results.add(new NativeTraceResult(tx.getHash(), transactionResult(tx, gasUsed)));
+  }
+
+  /**
+   * Build the result of the transaction that just concluded, and get ready to trace the next one.
+   *
+   * @param tx the transaction that just concluded
+   * @param gasUsed the gas used by the entire transaction
+   * @return the result of tracing the transaction
+   */
+  protected abstract Object transactionResult(Transaction tx, long gasUsed);
+}
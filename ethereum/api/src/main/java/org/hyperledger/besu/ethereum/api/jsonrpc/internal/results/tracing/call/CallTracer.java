@@ -0,0 +1,123 @@
+/*
+ * Copyright contributors to Hyperledger Besu.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.ethereum.api.jsonrpc.internal.results.tracing.call;
+
+import org.hyperledger.besu.datatypes.Transaction;
+import org.hyperledger.besu.datatypes.Wei;
+import org.hyperledger.besu.ethereum.api.jsonrpc.internal.response.JsonRpcErrorResponse;
+import org.hyperledger.besu.ethereum.api.jsonrpc.internal.results.tracing.NativeTracer;
+import org.hyperledger.besu.evm.frame.ExceptionalHaltReason;
+import org.hyperledger.besu.evm.frame.MessageFrame;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Optional;
+
+import org.apache.tuweni.bytes.Bytes;
+
+/**
+ * Builds the call tree of a transaction, with one {@link CallFrame} for each message frame, filled
+ * when the frame is entered and when it is exited, so nothing is recorded for the operations in
+ * between.
+ */
+public class CallTracer extends NativeTracer {
+  private static final String EXECUTION_REVERTED = "execution reverted";
+
+  private final boolean onlyTopCall;
+  private final Deque<MessageFrame> messageFrames = new ArrayDeque<>();
+  private final Deque<CallFrame> callFrames = new ArrayDeque<>();
+  private CallFrame topCall;
+
+  public CallTracer(final boolean onlyTopCall) {
+    this.onlyTopCall = onlyTopCall;
+  }
+
+  @Override
+  public void traceContextEnter(final MessageFrame frame) {
+    if (onlyTopCall && frame.getDepth() > 0) {
+      return;
+    }
+    final MessageFrame parentFrame = messageFrames.peek();
+    final String type = callType(frame, parentFrame);
+    final boolean isCreation = frame.getType() == MessageFrame.Type.CONTRACT_CREATION;
+    final boolean transfersValue = !type.equals("DELEGATECALL") && !type.equals("STATICCALL");
+    final CallFrame callFrame =
+        new CallFrame(
+            type,
+            // the sender of a DELEGATECALL or CALLCODE frame is the sender of its parent, while the
+            // call is made from the account the parent is executing for
+            parentFrame == null ? frame.getSenderAddress() : parentFrame.getRecipientAddress(),
+            frame.getContractAddress(),
+            transfersValue ? frame.getValue() : null,
+            frame.getRemainingGas(),
+            isCreation ? frame.getCode().getBytes() : frame.getInputData());
+    if (callFrames.isEmpty()) {
+      topCall = callFrame;
+    } else {
+      callFrames.peek().addCall(callFrame);
+    }
+    messageFrames.push(frame);
+    callFrames.push(callFrame);
+  }
+
+  @Override
+  public void traceContextExit(final MessageFrame frame) {
+    if (onlyTopCall && frame.getDepth() > 0) {
+      return;
+    }
+    messageFrames.pop();
+    final CallFrame callFrame = callFrames.pop();
+    callFrame.setGasUsed(callFrame.gas() - frame.getRemainingGas());
+    if (frame.getState() == MessageFrame.State.COMPLETED_SUCCESS) {
+      callFrame.setOutput(frame.getOutputData());
+      return;
+    }
+    final Optional<Bytes> revertReason = frame.getRevertReason();
+    if (revertReason.isPresent()) {
+      callFrame.setOutput(revertReason.get());
+      callFrame.setError(EXECUTION_REVERTED);
+      JsonRpcErrorResponse.decodeRevertReason(revertReason.get())
+          .ifPresent(callFrame::setRevertReason);
+    } else {
+      callFrame.setError(
+          frame
+              .getExceptionalHaltReason()
+              .map(ExceptionalHaltReason::getDescription)
+              .orElse(EXECUTION_REVERTED));
+    }
+  }
+
+  @Override
+  protected Object transactionResult(final Transaction tx, final long gasUsed) {
+    final CallFrame result = topCall;
+    if (result != null) {
+      // the top call also accounts for the intrinsic gas of the transaction
+      result.setGas(tx.getGasLimit());
+      result.setGasUsed(gasUsed);
+    }
+    topCall = null;
+    messageFrames.clear();
+    callFrames.clear();
+    return result;
+  }
+
+  private static String callType(final MessageFrame frame, final MessageFrame parentFrame) {
+    if (parentFrame == null) {
+      return frame.getType() == MessageFrame.Type.CONTRACT_CREATION ? "CREATE" : "CALL";
+    }
+    // the parent frame is suspended on the operation that created the frame
+    return parentFrame.getCurrentOperation().getName();
+  }
+}
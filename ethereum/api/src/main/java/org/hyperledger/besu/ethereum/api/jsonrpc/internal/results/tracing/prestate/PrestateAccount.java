@@ -0,0 +1,76 @@
+/*
+ * Copyright contributors to Hyperledger Besu.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.ethereum.api.jsonrpc.internal.results.tracing.prestate;
+
+import org.hyperledger.besu.datatypes.Wei;
+import org.hyperledger.besu.ethereum.api.jsonrpc.internal.results.Quantity;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import com.fasterxml.jackson.annotation.JsonGetter;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import org.apache.tuweni.bytes.Bytes;
+import org.apache.tuweni.units.bigints.UInt256;
+
+/** The state of an account before a transaction, as recorded by the {@link PrestateTracer}. */
+@JsonPropertyOrder({"balance", "nonce", "code", "storage"})
+public class PrestateAccount {
+
+  private final Wei balance;
+  private final long nonce;
+  private final Bytes code;
+  private final Map<UInt256, UInt256> storage = new LinkedHashMap<>();
+
+  PrestateAccount(final Wei balance, final long nonce, final Bytes code) {
+    this.balance = balance;
+    this.nonce = nonce;
+    this.code = code;
+  }
+
+  @JsonGetter("balance")
+  public String getBalance() {
+    return Quantity.create(balance);
+  }
+
+  @JsonGetter("nonce")
+  @JsonInclude(JsonInclude.Include.NON_DEFAULT)
+  public long getNonce() {
+    return nonce;
+  }
+
+  @JsonGetter("code")
+  @JsonInclude(JsonInclude.Include.NON_NULL)
+  public String getCode() {
+    return code.isEmpty() ? null : code.toHexString();
+  }
+
+  @JsonGetter("storage")
+  @JsonInclude(JsonInclude.Include.NON_EMPTY)
+  public Map<String, String> getStorage() {
+    final Map<String, String> storageHex = new LinkedHashMap<>();
+    storage.forEach((key, value) -> storageHex.put(key.toHexString(), value.toHexString()));
+    return storageHex;
+  }
+
+  boolean hasStorage(final UInt256 key) {
+    return storage.containsKey(key);
+  }
+
+  void putStorage(final UInt256 key, final UInt256 value) {
+    storage.put(key, value);
+  }
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright contributors to Hyperledger Besu.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.ethereum.api.jsonrpc.internal.results.tracing.prestate;
+
+import org.hyperledger.besu.datatypes.Address;
+import org.hyperledger.besu.datatypes.Transaction;
+import org.hyperledger.besu.datatypes.Wei;
+import org.hyperledger.besu.ethereum.api.jsonrpc.internal.results.tracing.NativeTracer;
+import org.hyperledger.besu.evm.account.Account;
+import org.hyperledger.besu.evm.frame.MessageFrame;
+import org.hyperledger.besu.evm.internal.Words;
+import org.hyperledger.besu.evm.worldstate.WorldView;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.apache.tuweni.bytes.Bytes;
+import org.apache.tuweni.units.bigints.UInt256;
+
+/**
+ * Records the state before a transaction of the accounts, and storage slots, the transaction
+ * touches. The state is read, the first time an account or slot is touched, from the world view
+ * the transaction started from, which execution does not modify until the transaction completes.
+ */
+public class PrestateTracer extends NativeTracer {
+  private static final int BALANCE = 0x31;
+  private static final int EXTCODESIZE = 0x3B;
+  private static final int EXTCODECOPY = 0x3C;
+  private static final int EXTCODEHASH = 0x3F;
+  private static final int SLOAD = 0x54;
+  private static final int SSTORE = 0x55;
+  private static final int SELFDESTRUCT = 0xFF;
+
+  private final Map<Address, PrestateAccount> accounts = new LinkedHashMap<>();
+  private WorldView preState;
+
+  @Override
+  public void tracePrepareTransaction(final WorldView worldView, final Transaction transaction) {
+    preState = worldView;
+    // the sender is modified before execution starts, so it must be recorded now
+    touchAccount(transaction.getSender());
+    transaction.getTo().ifPresent(this::touchAccount);
+  }
+
+  @Override
+  public void traceContextEnter(final MessageFrame frame) {
+    if (frame.getDepth() == 0) {
+      touchAccount(frame.getMiningBeneficiary());
+    }
+    touchAccount(frame.getSenderAddress());
+    touchAccount(frame.getRecipientAddress());
+    touchAccount(frame.getContractAddress());
+  }
+
+  @Override
+  public void tracePreExecution(final MessageFrame frame) {
+    if (frame.stackSize() == 0) {
+      return;
+    }
+    switch (frame.getCurrentOperation().getOpcode()) {
+      case SLOAD, SSTORE ->
+          touchStorage(frame.getRecipientAddress(), UInt256.fromBytes(frame.getStackItem(0)));
+      case BALANCE, EXTCODESIZE, EXTCODECOPY, EXTCODEHASH, SELFDESTRUCT ->
+          touchAccount(Words.toAddress(frame.getStackItem(0)));
+      default -> {
+        // nothing is touched outside of the frame
+      }
+    }
+  }
+
+  @Override
+  protected Object transactionResult(final Transaction tx, final long gasUsed) {
+    final Map<String, PrestateAccount> result = new LinkedHashMap<>();
+    accounts.forEach((address, account) -> result.put(address.toHexString(), account));
+    accounts.clear();
+    preState = null;
+    return result;
+  }
+
+  private PrestateAccount touchAccount(final Address address) {
+    return accounts.computeIfAbsent(
+        address,
+        __ -> {
+          final Account account = preState == null ? null : preState.get(address);
+          return account == null
+              ? new PrestateAccount(Wei.ZERO, 0, Bytes.EMPTY)
+              : new PrestateAccount(account.getBalance(), account.getNonce(), account.getCode());
+        });
+  }
+
+  private void touchStorage(final Address address, final UInt256 key) {
+    final PrestateAccount prestateAccount = touchAccount(address);
+    if (!prestateAccount.hasStorage(key)) {
+      final Account account = preState == null ? null : preState.get(address);
+      prestateAccount.putStorage(key, account == null ? UInt256.ZERO : account.getStorageValue(key));
+    }
+  }
+}
@@ -138,7 +138,10 @@ public class EthJsonRpcMethods extends ApiGroupJsonRpcMethods {
             miningCoordinator,
             apiConfiguration),
         new EthGetCode(blockchainQueries),
-        new EthGetLogs(blockchainQueries, apiConfiguration.getMaxLogsRange()),
+        new EthGetLogs(
+            blockchainQueries,
+            apiConfiguration.getMaxLogsRange(),
+            apiConfiguration.getMaxLogsResults()),
         new EthGetProof(blockchainQueries),
         new EthGetUncleCountByBlockHash(blockchainQueries),
         new EthGetUncleCountByBlockNumber(blockchainQueries),
@@ -25,6 +25,7 @@ import org.hyperledger.besu.ethereum.api.jsonrpc.internal.methods.TraceFilter;
 import org.hyperledger.besu.ethereum.api.jsonrpc.internal.methods.TraceGet;
 import org.hyperledger.besu.ethereum.api.jsonrpc.internal.methods.TraceRawTransaction;
 import org.hyperledger.besu.ethereum.api.jsonrpc.internal.methods.TraceReplayBlockTransactions;
+import org.hyperledger.besu.ethereum.api.jsonrpc.internal.methods.TraceResultCachingMethod;
 import org.hyperledger.besu.ethereum.api.jsonrpc.internal.methods.TraceTransaction;
 import org.hyperledger.besu.ethereum.api.jsonrpc.internal.processor.BlockReplay;
 import org.hyperledger.besu.ethereum.api.jsonrpc.internal.processor.BlockTracer;
@@ -63,7 +64,9 @@ public class TraceJsonRpcMethods extends ApiGroupJsonRpcMethods {
     final BlockReplay blockReplay =
         new BlockReplay(protocolSchedule, protocolContext, blockchainQueries.getBlockchain());
     return mapOf(
-        new TraceReplayBlockTransactions(protocolSchedule, blockchainQueries),
+        TraceResultCachingMethod.cachingIfEnabled(
+            new TraceReplayBlockTransactions(protocolSchedule, blockchainQueries),
+            blockchainQueries),
         new TraceFilter(
             () -> new BlockTracer(blockReplay),
             protocolSchedule,
@@ -72,7 +75,8 @@ public class TraceJsonRpcMethods extends ApiGroupJsonRpcMethods {
         new TraceGet(() -> new BlockTracer(blockReplay), blockchainQueries, protocolSchedule),
         new TraceTransaction(
             () -> new BlockTracer(blockReplay), protocolSchedule, blockchainQueries),
-        new TraceBlock(protocolSchedule, blockchainQueries),
+        TraceResultCachingMethod.cachingIfEnabled(
+            new TraceBlock(protocolSchedule, blockchainQueries), blockchainQueries),
         new TraceCall(
             blockchainQueries,
             protocolSchedule,
@@ -24,6 +24,7 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 
 import com.google.common.base.MoreObjects;
@@ -48,6 +49,8 @@ public class WebSocketConfiguration {
   private long timeoutSec;
   private int maxActiveConnections;
   private int maxFrameSize;
+  private boolean virtualThreadsEnabled = false;
+  private Map<String, Integer> methodConcurrencyLimits = Collections.emptyMap();
 
   public static WebSocketConfiguration createDefault() {
     final WebSocketConfiguration config = new WebSocketConfiguration();
@@ -205,6 +208,8 @@ public class WebSocketConfiguration {
         .add("hostsAllowlist", hostsAllowlist)
         .add("authenticationPublicKeyFile", authenticationPublicKeyFile)
         .add("timeoutSec", timeoutSec)
+        .add("virtualThreadsEnabled", virtualThreadsEnabled)
+        .add("methodConcurrencyLimits", methodConcurrencyLimits)
         .toString();
   }
 
@@ -223,4 +228,20 @@ public class WebSocketConfiguration {
   public Integer getMaxFrameSize() {
     return maxFrameSize;
   }
+
+  public boolean isVirtualThreadsEnabled() {
+    return virtualThreadsEnabled;
+  }
+
+  public void setVirtualThreadsEnabled(final boolean virtualThreadsEnabled) {
+    this.virtualThreadsEnabled = virtualThreadsEnabled;
+  }
+
+  public Map<String, Integer> getMethodConcurrencyLimits() {
+    return methodConcurrencyLimits;
+  }
+
+  public void setMethodConcurrencyLimits(final Map<String, Integer> methodConcurrencyLimits) {
+    this.methodConcurrencyLimits = methodConcurrencyLimits;
+  }
 }
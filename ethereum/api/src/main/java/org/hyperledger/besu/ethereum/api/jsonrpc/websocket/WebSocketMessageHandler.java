@@ -29,12 +29,18 @@ import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import com.fasterxml.jackson.core.JsonGenerator.Feature;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.datatype.jdk8.Jdk8Module;
+import io.vertx.core.Context;
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
 import io.vertx.core.buffer.Buffer;
 import io.vertx.core.http.ServerWebSocket;
@@ -63,16 +69,32 @@ public class WebSocketMessageHandler {
   private final JsonRpcExecutor jsonRpcExecutor;
   final EthScheduler ethScheduler;
   private final long timeoutSec;
+  private final Optional<ExecutorService> maybeVirtualThreadExecutor;
 
   public WebSocketMessageHandler(
       final Vertx vertx,
       final JsonRpcExecutor jsonRpcExecutor,
       final EthScheduler ethScheduler,
       final long timeoutSec) {
+    this(vertx, jsonRpcExecutor, ethScheduler, timeoutSec, false);
+  }
+
+  public WebSocketMessageHandler(
+      final Vertx vertx,
+      final JsonRpcExecutor jsonRpcExecutor,
+      final EthScheduler ethScheduler,
+      final long timeoutSec,
+      final boolean virtualThreadsEnabled) {
     this.vertx = vertx;
     this.jsonRpcExecutor = jsonRpcExecutor;
     this.ethScheduler = ethScheduler;
     this.timeoutSec = timeoutSec;
+    this.maybeVirtualThreadExecutor =
+        virtualThreadsEnabled
+            ? Optional.of(
+                Executors.newThreadPerTaskExecutor(
+                    Thread.ofVirtual().name("rpc-ws-", 0).factory()))
+            : Optional.empty();
   }
 
   public void handle(
@@ -82,8 +104,7 @@ public class WebSocketMessageHandler {
     } else {
       try {
         final JsonObject jsonRpcRequest = buffer.toJsonObject();
-        vertx
-            .<JsonRpcResponse>executeBlocking(
+        this.<JsonRpcResponse>executeBlocking(
                 promise -> {
                   try {
                     final JsonRpcResponse jsonRpcResponse =
@@ -117,8 +138,7 @@ public class WebSocketMessageHandler {
       } catch (DecodeException jsonObjectDecodeException) {
         try {
           final JsonArray batchJsonRpcRequest = buffer.toJsonArray();
-          vertx
-              .<List<JsonRpcResponse>>executeBlocking(
+          this.<List<JsonRpcResponse>>executeBlocking(
                   promise -> {
                     List<JsonRpcResponse> responses = new ArrayList<>();
                     for (int i = 0; i < batchJsonRpcRequest.size(); i++) {
@@ -165,6 +185,36 @@ public class WebSocketMessageHandler {
     }
   }
 
+  private <T> Future<T> executeBlocking(final Handler<Promise<T>> blockingCodeHandler) {
+    if (maybeVirtualThreadExecutor.isPresent()) {
+      // the context of the connection, captured here since virtual threads have none, so the
+      // reply is written from it
+      final Context context = vertx.getOrCreateContext();
+      final Promise<T> promise = Promise.promise();
+      maybeVirtualThreadExecutor
+          .get()
+          .execute(
+              () -> {
+                final Promise<T> blockingPromise = Promise.promise();
+                try {
+                  blockingCodeHandler.handle(blockingPromise);
+                } catch (final RuntimeException e) {
+                  blockingPromise.tryFail(e);
+                }
+                blockingPromise
+                    .future()
+                    .onComplete(result -> context.runOnContext(unused -> promise.handle(result)));
+              });
+      return promise.future();
+    }
+    return vertx.executeBlocking(blockingCodeHandler);
+  }
+
+  /** Stops the execution of new requests on virtual threads, if enabled. */
+  public void stop() {
+    maybeVirtualThreadExecutor.ifPresent(ExecutorService::shutdown);
+  }
+
   private void replyToClient(final ServerWebSocket websocket, final Object result) {
     traceResponse(result);
     try {
@@ -256,6 +256,7 @@ public class WebSocketService {
   }
 
   public CompletableFuture<?> stop() {
+    websocketMessageHandler.stop();
     if (httpServer == null) {
       return CompletableFuture.completedFuture(null);
     }
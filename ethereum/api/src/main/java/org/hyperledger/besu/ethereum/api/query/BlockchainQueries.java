@@ -23,6 +23,8 @@ import org.hyperledger.besu.datatypes.Hash;
 import org.hyperledger.besu.datatypes.Wei;
 import org.hyperledger.besu.ethereum.api.ApiConfiguration;
 import org.hyperledger.besu.ethereum.api.ImmutableApiConfiguration;
+import org.hyperledger.besu.ethereum.api.query.cache.LogIndex;
+import org.hyperledger.besu.ethereum.api.query.cache.TraceResultCache;
 import org.hyperledger.besu.ethereum.api.query.cache.TransactionLogBloomCacher;
 import org.hyperledger.besu.ethereum.chain.Blockchain;
 import org.hyperledger.besu.ethereum.chain.TransactionLocation;
@@ -49,11 +51,19 @@ import java.io.RandomAccessFile;
 import java.math.BigInteger;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 import java.util.function.Supplier;
@@ -61,6 +71,7 @@ import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import java.util.stream.LongStream;
 
+import com.google.common.collect.Lists;
 import org.apache.tuweni.bytes.Bytes;
 import org.apache.tuweni.units.bigints.UInt256;
 import org.apache.tuweni.units.bigints.UInt256s;
@@ -69,13 +80,21 @@ import org.slf4j.LoggerFactory;
 
 public class BlockchainQueries {
   private static final Logger LOG = LoggerFactory.getLogger(BlockchainQueries.class);
+  private static final String TRACES_CACHE_DIR = "traces";
+  private static final long BLOCKS_PER_LOGS_SCAN = 1_000;
+  // the blocks returned by the log index almost always contain matching logs
+  private static final int INDEXED_BLOCKS_PER_LOGS_SCAN = 100;
 
   private final ProtocolSchedule protocolSchedule;
   private final WorldStateArchive worldStateArchive;
   private final Blockchain blockchain;
   private final Optional<Path> cachePath;
   private final Optional<TransactionLogBloomCacher> transactionLogBloomCacher;
+  private final Optional<TraceResultCache> traceResultCache;
+  private final Optional<LogIndex> logIndex;
   private final Optional<EthScheduler> ethScheduler;
+  // bounds the number of chunks of logs ranges scanned in parallel, across all the queries
+  private final Optional<Semaphore> logsScanPermits;
   private final ApiConfiguration apiConfig;
   private final MiningParameters miningParameters;
 
@@ -133,6 +152,26 @@ public class BlockchainQueries {
       final Optional<EthScheduler> scheduler,
       final ApiConfiguration apiConfig,
       final MiningParameters miningParameters) {
+    this(
+        protocolSchedule,
+        blockchain,
+        worldStateArchive,
+        cachePath,
+        scheduler,
+        apiConfig,
+        Optional.empty(),
+        miningParameters);
+  }
+
+  public BlockchainQueries(
+      final ProtocolSchedule protocolSchedule,
+      final Blockchain blockchain,
+      final WorldStateArchive worldStateArchive,
+      final Optional<Path> cachePath,
+      final Optional<EthScheduler> scheduler,
+      final ApiConfiguration apiConfig,
+      final Optional<LogIndex> logIndex,
+      final MiningParameters miningParameters) {
     this.protocolSchedule = protocolSchedule;
     this.blockchain = blockchain;
     this.worldStateArchive = worldStateArchive;
@@ -143,6 +182,18 @@ public class BlockchainQueries {
             ? Optional.of(
                 new TransactionLogBloomCacher(blockchain, cachePath.get(), scheduler.get()))
             : Optional.empty();
+    this.traceResultCache =
+        (cachePath.isPresent() && apiConfig.getTraceCacheMaxSizeBytes() > 0)
+            ? Optional.of(
+                new TraceResultCache(
+                    cachePath.get().resolve(TRACES_CACHE_DIR),
+                    apiConfig.getTraceCacheMaxSizeBytes()))
+            : Optional.empty();
+    this.logIndex = logIndex;
+    this.logsScanPermits =
+        (scheduler.isPresent() && apiConfig.getMaxLogsScanConcurrency() > 0)
+            ? Optional.of(new Semaphore(apiConfig.getMaxLogsScanConcurrency()))
+            : Optional.empty();
     this.apiConfig = apiConfig;
     this.miningParameters = miningParameters;
   }
@@ -159,6 +210,18 @@ public class BlockchainQueries {
     return transactionLogBloomCacher;
   }
 
+  public Optional<TraceResultCache> getTraceResultCache() {
+    return traceResultCache;
+  }
+
+  public Optional<LogIndex> getLogIndex() {
+    return logIndex;
+  }
+
+  public boolean isParallelBlockTracingEnabled() {
+    return apiConfig.isParallelBlockTracingEnabled();
+  }
+
   /**
    * Retrieves the header hash of the block at the given height in the canonical chain.
    *
@@ -745,6 +808,128 @@ public class BlockchainQueries {
       final long toBlockNumber,
       final LogsQuery query,
       final Supplier<Boolean> isQueryAlive) {
+    return matchingLogs(fromBlockNumber, toBlockNumber, query, 0, isQueryAlive);
+  }
+
+  /**
+   * Retrieve logs from the range of blocks with optional filtering based on logger address and log
+   * topics, stopping as soon as more than the given number of logs are found.
+   *
+   * <p>The range is split in chunks that are scanned in parallel, as long as the budget of
+   * concurrent scans shared by all the queries allows it, and by the querying thread otherwise.
+   *
+   * @param fromBlockNumber The block number defining the first block in the search range
+   *     (inclusive).
+   * @param toBlockNumber The block number defining the last block in the search range (inclusive).
+   * @param query Constraints on required topics by topic index. For a given index if the set of
+   *     topics is non-empty, the topic at this index must match one of the values in the set.
+   * @param maxResults The maximum number of logs to retrieve, 0 specifies no limit. When more logs
+   *     match, the first maxResults + 1 logs are returned, so the caller can tell the limit was
+   *     exceeded.
+   * @param isQueryAlive Whether or not the backend query should stay alive.
+   * @return The set of logs matching the given constraints, in block order.
+   */
+  public List<LogWithMetadata> matchingLogs(
+      final long fromBlockNumber,
+      final long toBlockNumber,
+      final LogsQuery query,
+      final long maxResults,
+      final Supplier<Boolean> isQueryAlive) {
+    final Iterator<Supplier<List<LogWithMetadata>>> chunks =
+        logsScanChunks(fromBlockNumber, toBlockNumber, query, isQueryAlive);
+    final List<LogWithMetadata> result = new ArrayList<>();
+    final Deque<Supplier<List<LogWithMetadata>>> chunkScans = new ArrayDeque<>();
+    final AtomicBoolean done = new AtomicBoolean();
+    try {
+      while (chunks.hasNext() || !chunkScans.isEmpty()) {
+        while (chunks.hasNext() && tryAcquireLogsScanPermit()) {
+          chunkScans.add(scheduleLogsScan(chunks.next(), done));
+        }
+        final List<LogWithMetadata> chunkResult =
+            (chunkScans.isEmpty() ? chunks.next() : chunkScans.remove()).get();
+        result.addAll(chunkResult);
+        if (maxResults > 0 && result.size() > maxResults) {
+          return new ArrayList<>(result.subList(0, (int) maxResults + 1));
+        }
+      }
+      return result;
+    } catch (final CompletionException e) {
+      if (e.getCause() instanceof RuntimeException cause) {
+        throw cause;
+      }
+      throw new IllegalStateException("Error retrieving matching logs", e.getCause());
+    } finally {
+      // the chunks that are not scanned yet are skipped
+      done.set(true);
+    }
+  }
+
+  private Iterator<Supplier<List<LogWithMetadata>>> logsScanChunks(
+      final long fromBlockNumber,
+      final long toBlockNumber,
+      final LogsQuery query,
+      final Supplier<Boolean> isQueryAlive) {
+    final Optional<List<Long>> indexedBlocks =
+        logIndex.flatMap(index -> index.matchingBlocks(fromBlockNumber, toBlockNumber, query));
+    if (indexedBlocks.isPresent()) {
+      return Lists.partition(indexedBlocks.get(), INDEXED_BLOCKS_PER_LOGS_SCAN).stream()
+          .<Supplier<List<LogWithMetadata>>>map(
+              blockNumbers ->
+                  () -> {
+                    try {
+                      return matchingLogsIndexed(blockNumbers, query, isQueryAlive);
+                    } catch (final Exception e) {
+                      throw new IllegalStateException("Error retrieving matching logs", e);
+                    }
+                  })
+          .iterator();
+    }
+    // the chunks are aligned, so they do not overlap two log bloom cache files
+    return LongStream.rangeClosed(
+            fromBlockNumber / BLOCKS_PER_LOGS_SCAN, toBlockNumber / BLOCKS_PER_LOGS_SCAN)
+        .<Supplier<List<LogWithMetadata>>>mapToObj(
+            chunk ->
+                () ->
+                    matchingLogsInRange(
+                        Math.max(fromBlockNumber, chunk * BLOCKS_PER_LOGS_SCAN),
+                        Math.min(toBlockNumber, (chunk + 1) * BLOCKS_PER_LOGS_SCAN - 1),
+                        query,
+                        isQueryAlive))
+        .iterator();
+  }
+
+  private boolean tryAcquireLogsScanPermit() {
+    return logsScanPermits.map(Semaphore::tryAcquire).orElse(false);
+  }
+
+  private Supplier<List<LogWithMetadata>> scheduleLogsScan(
+      final Supplier<List<LogWithMetadata>> chunk, final AtomicBoolean done) {
+    try {
+      final CompletableFuture<List<LogWithMetadata>> scan =
+          ethScheduler
+              .orElseThrow()
+              .scheduleComputationTask(
+                  () -> {
+                    try {
+                      return done.get() ? List.of() : chunk.get();
+                    } finally {
+                      logsScanPermits.orElseThrow().release();
+                    }
+                  });
+      return scan::join;
+    } catch (final RejectedExecutionException e) {
+      logsScanPermits.orElseThrow().release();
+      // the chunk is scanned by the calling thread when its turn comes
+      LOG.trace("Logs scan rejected, scanning the chunk on the calling thread");
+      return chunk;
+    }
+  }
+
+  private List<LogWithMetadata> matchingLogsInRange(
+      final long fromBlockNumber,
+      final long toBlockNumber,
+      final LogsQuery query,
+      final Supplier<Boolean> isQueryAlive) {
     try {
       final List<LogWithMetadata> result = new ArrayList<>();
       final long startSegment = fromBlockNumber / BLOCKS_PER_BLOOM_CACHE;
@@ -788,6 +973,22 @@ public class BlockchainQueries {
     }
   }
 
+  private List<LogWithMetadata> matchingLogsIndexed(
+      final List<Long> blockNumbers, final LogsQuery query, final Supplier<Boolean> isQueryAlive)
+      throws Exception {
+    final List<LogWithMetadata> results = new ArrayList<>();
+    for (final long blockNumber : blockNumbers) {
+      BackendQuery.stopIfExpired(isQueryAlive);
+      final Optional<Hash> blockHash = blockchain.getBlockHashByNumber(blockNumber);
+      if (blockHash.isEmpty()) {
+        // past the chain head
+        break;
+      }
+      results.addAll(matchingLogs(blockHash.get(), query, isQueryAlive));
+    }
+    return results;
+  }
+
   private List<LogWithMetadata> matchingLogsUncached(
       final long fromBlockNumber,
       final long toBlockNumber,
@@ -0,0 +1,270 @@
+/*
+ * Copyright contributors to Hyperledger Besu.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.ethereum.api.query.cache;
+
+import org.hyperledger.besu.datatypes.Address;
+import org.hyperledger.besu.ethereum.api.query.LogsQuery;
+import org.hyperledger.besu.ethereum.chain.BlockAddedEvent;
+import org.hyperledger.besu.ethereum.chain.Blockchain;
+import org.hyperledger.besu.ethereum.core.BlockHeader;
+import org.hyperledger.besu.ethereum.core.LogWithMetadata;
+import org.hyperledger.besu.ethereum.core.TransactionReceipt;
+import org.hyperledger.besu.evm.log.Log;
+import org.hyperledger.besu.evm.log.LogTopic;
+import org.hyperledger.besu.plugin.services.storage.KeyValueStorage;
+import org.hyperledger.besu.plugin.services.storage.KeyValueStorageTransaction;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.NavigableSet;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Stream;
+
+import org.apache.commons.lang3.tuple.Pair;
+import org.apache.tuweni.bytes.Bytes;
+
+/**
+ * An inverted index of the logs of the canonical chain, mapping each log address, and each log
+ * topic at a given position, to the numbers of the blocks containing a matching log.
+ *
+ * <p>Each posting is stored as its own key, made of the term followed by the block number in big
+ * endian, with an empty value. So indexing a block only writes the postings of that block, without
+ * reading or rewriting the postings of the previous blocks, and a range query is a range scan of
+ * the keys of each term. Merging the postings of the same term is left to the compaction of the
+ * storage, that also shares the common prefix of consecutive keys.
+ *
+ * <p>The index covers a contiguous range of blocks, extended at the head as blocks are imported,
+ * rolled back on reorgs, and extended towards genesis by {@link #indexPreviousBlocks(int)}. Queries
+ * outside of this range are not answered by the index. Updates are serialized, while queries only
+ * read a snapshot of the indexed range and then the storage, without waiting for updates.
+ */
+public class LogIndex {
+  private static final byte[] INDEXED_RANGE_KEY = {0};
+  private static final byte ADDRESS_PREFIX = 1;
+  // followed by the position of the topic in the log
+  private static final byte TOPIC_PREFIX = 2;
+  private static final byte[] EMPTY_VALUE = {};
+
+  private final Blockchain blockchain;
+  private final KeyValueStorage storage;
+  private volatile IndexedRange indexedRange;
+
+  public LogIndex(final Blockchain blockchain, final KeyValueStorage storage) {
+    this.blockchain = blockchain;
+    this.storage = storage;
+    this.indexedRange =
+        storage
+            .get(INDEXED_RANGE_KEY)
+            .map(Bytes::wrap)
+            .map(range -> new IndexedRange(range.getLong(0), range.getLong(Long.BYTES)))
+            // start empty at the chain head, the next blocks are indexed as they are imported
+            .orElseGet(
+                () ->
+                    new IndexedRange(
+                        blockchain.getChainHeadBlockNumber() + 1,
+                        blockchain.getChainHeadBlockNumber()));
+  }
+
+  /**
+   * Updates the index with the logs of the blocks that became canonical, and removes the logs of
+   * the blocks that are no longer canonical.
+   *
+   * @param event the block added event
+   */
+  public synchronized void onBlockAdded(final BlockAddedEvent event) {
+    if (!event.isNewCanonicalHead()) {
+      return;
+    }
+    final long headNumber = event.getBlock().getHeader().getNumber();
+    final long firstAddedBlock =
+        blockchain
+                .getBlockHeader(event.getCommonAncestorHash())
+                .map(BlockHeader::getNumber)
+                .orElse(headNumber - 1)
+            + 1;
+    final IndexedRange range = indexedRange;
+    long from = range.from();
+    if (firstAddedBlock > range.to() + 1 || firstAddedBlock < range.from()) {
+      // the blocks between the indexed ones and the added ones were not indexed
+      from = firstAddedBlock;
+    }
+
+    final KeyValueStorageTransaction transaction = storage.startTransaction();
+    for (final LogWithMetadata log : event.getLogsWithMetadata()) {
+      if (log.isRemoved()) {
+        postingsKeys(log.getBlockNumber(), log.getLogger(), log.getTopics())
+            .forEach(key -> transaction.remove(key.toArrayUnsafe()));
+      }
+    }
+    // added after the removals, in case a log is both removed and added again
+    for (final LogWithMetadata log : event.getLogsWithMetadata()) {
+      if (!log.isRemoved()) {
+        postingsKeys(log.getBlockNumber(), log.getLogger(), log.getTopics())
+            .forEach(key -> transaction.put(key.toArrayUnsafe(), EMPTY_VALUE));
+      }
+    }
+    commit(transaction, new IndexedRange(from, headNumber));
+  }
+
+  /**
+   * Indexes the blocks preceding the indexed ones, going towards genesis.
+   *
+   * @param maxBlocks the maximum number of blocks to index
+   * @return whether there are still blocks to index
+   */
+  public boolean indexPreviousBlocks(final int maxBlocks) {
+    final long previousFrom = indexedRange.from();
+    if (previousFrom == 0) {
+      return false;
+    }
+
+    // the receipts are read without holding the lock, so the indexing of new blocks is not delayed
+    final Set<Bytes> keys = new HashSet<>();
+    long from = previousFrom;
+    while (from > 0 && previousFrom - from < maxBlocks) {
+      final long blockNumber = from - 1;
+      final Optional<List<TransactionReceipt>> receipts =
+          blockchain.getBlockHashByNumber(blockNumber).flatMap(blockchain::getTxReceipts);
+      if (receipts.isEmpty()) {
+        // the older blocks have been pruned, or not downloaded yet
+        break;
+      }
+      for (final TransactionReceipt receipt : receipts.get()) {
+        for (final Log log : receipt.getLogsList()) {
+          keys.addAll(postingsKeys(blockNumber, log.getLogger(), log.getTopics()));
+        }
+      }
+      from = blockNumber;
+    }
+    if (from == previousFrom) {
+      return false;
+    }
+
+    synchronized (this) {
+      final IndexedRange range = indexedRange;
+      if (range.from() != previousFrom) {
+        // the index was restarted at the head in the meantime, the blocks must be read again
+        return true;
+      }
+      final KeyValueStorageTransaction transaction = storage.startTransaction();
+      keys.forEach(key -> transaction.put(key.toArrayUnsafe(), EMPTY_VALUE));
+      commit(transaction, new IndexedRange(from, range.to()));
+      return from > 0;
+    }
+  }
+
+  /**
+   * Returns the numbers of the blocks that may contain logs matching the query. The logs of the
+   * blocks still need to be matched against the query, since the topics of a block can belong to
+   * different logs.
+   *
+   * @param fromBlockNumber the first block of the range (inclusive)
+   * @param toBlockNumber the last block of the range (inclusive)
+   * @param query the logs query
+   * @return the numbers of the blocks in ascending order, or empty if the range is not indexed or
+   *     the query does not restrict the addresses or the topics of the logs
+   */
+  public Optional<List<Long>> matchingBlocks(
+      final long fromBlockNumber, final long toBlockNumber, final LogsQuery query) {
+    final IndexedRange range = indexedRange;
+    if (fromBlockNumber > toBlockNumber
+        || fromBlockNumber < range.from()
+        || toBlockNumber > range.to()) {
+      return Optional.empty();
+    }
+    NavigableSet<Long> candidates = null;
+    if (!query.getAddresses().isEmpty()) {
+      final List<Bytes> terms = new ArrayList<>();
+      query.getAddresses().forEach(address -> terms.add(addressTerm(address)));
+      candidates = union(terms, fromBlockNumber, toBlockNumber);
+    }
+    final List<List<LogTopic>> topics = query.getTopics();
+    for (int position = 0; position < topics.size(); position++) {
+      final List<LogTopic> positionTopics = topics.get(position);
+      if (positionTopics.isEmpty() || positionTopics.contains(null)) {
+        continue;
+      }
+      if (candidates != null && candidates.isEmpty()) {
+        break;
+      }
+      final List<Bytes> terms = new ArrayList<>();
+      for (final LogTopic topic : positionTopics) {
+        terms.add(topicTerm(position, topic));
+      }
+      final NavigableSet<Long> positionCandidates = union(terms, fromBlockNumber, toBlockNumber);
+      if (candidates == null) {
+        candidates = positionCandidates;
+      } else {
+        candidates.retainAll(positionCandidates);
+      }
+    }
+    // without any restriction every block matches, the index does not help
+    return Optional.ofNullable(candidates).map(ArrayList::new);
+  }
+
+  private NavigableSet<Long> union(
+      final List<Bytes> terms, final long fromBlockNumber, final long toBlockNumber) {
+    final NavigableSet<Long> blockNumbers = new TreeSet<>();
+    for (final Bytes term : terms) {
+      try (final Stream<byte[]> keys =
+          storage
+              .streamFromKey(
+                  postingsKey(term, fromBlockNumber).toArrayUnsafe(),
+                  postingsKey(term, toBlockNumber).toArrayUnsafe())
+              .map(Pair::getKey)) {
+        keys.forEach(key -> blockNumbers.add(Bytes.wrap(key).getLong(term.size())));
+      }
+    }
+    return blockNumbers;
+  }
+
+  private void commit(final KeyValueStorageTransaction transaction, final IndexedRange range) {
+    transaction.put(
+        INDEXED_RANGE_KEY,
+        Bytes.concatenate(Bytes.ofUnsignedLong(range.from()), Bytes.ofUnsignedLong(range.to()))
+            .toArrayUnsafe());
+    transaction.commit();
+    // published only once the postings are stored, so a query never sees a range not yet indexed
+    indexedRange = range;
+  }
+
+  private static Set<Bytes> postingsKeys(
+      final long blockNumber, final Address address, final List<LogTopic> topics) {
+    final Set<Bytes> keys = new HashSet<>(topics.size() + 1);
+    keys.add(postingsKey(addressTerm(address), blockNumber));
+    for (int position = 0; position < topics.size(); position++) {
+      keys.add(postingsKey(topicTerm(position, topics.get(position)), blockNumber));
+    }
+    return keys;
+  }
+
+  private static Bytes addressTerm(final Address address) {
+    return Bytes.concatenate(Bytes.of(ADDRESS_PREFIX), address);
+  }
+
+  private static Bytes topicTerm(final int position, final LogTopic topic) {
+    return Bytes.concatenate(Bytes.of(TOPIC_PREFIX, position), topic);
+  }
+
+  private static Bytes postingsKey(final Bytes term, final long blockNumber) {
+    return Bytes.concatenate(term, Bytes.ofUnsignedLong(blockNumber));
+  }
+
+  /** The blocks covered by the index, none if from is greater than to. */
+  private record IndexedRange(long from, long to) {}
+}
@@ -0,0 +1,134 @@
+/*
+ * Copyright contributors to Hyperledger Besu.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.ethereum.api.query.cache;
+
+import org.hyperledger.besu.ethereum.chain.BlockAddedEvent;
+import org.hyperledger.besu.ethereum.chain.Blockchain;
+import org.hyperledger.besu.ethereum.eth.manager.EthScheduler;
+import org.hyperledger.besu.ethereum.eth.manager.MonitoredExecutors;
+import org.hyperledger.besu.plugin.services.MetricsSystem;
+
+import java.time.Duration;
+import java.util.OptionalLong;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Keeps the {@link LogIndex} up to date with the canonical chain.
+ *
+ * <p>New blocks are indexed by a dedicated thread, so the import of blocks does not wait for the
+ * index, while the previous blocks are indexed one batch per computation task, so the other users
+ * of the computation executor are not blocked during the whole backfill.
+ */
+public class LogIndexingService {
+  private static final Logger LOG = LoggerFactory.getLogger(LogIndexingService.class);
+  private static final int BLOCKS_PER_BATCH = 1_000;
+  private static final int MAX_PENDING_BLOCK_EVENTS = 1_024;
+  private static final Duration RETRY_DELAY = Duration.ofMinutes(1);
+
+  private final Blockchain blockchain;
+  private final LogIndex logIndex;
+  private final EthScheduler scheduler;
+  private final ExecutorService blockAddedExecutor;
+  private OptionalLong blockAddedSubscriptionId = OptionalLong.empty();
+  private volatile boolean stopped;
+
+  public LogIndexingService(
+      final Blockchain blockchain,
+      final LogIndex logIndex,
+      final EthScheduler scheduler,
+      final MetricsSystem metricsSystem) {
+    this.blockchain = blockchain;
+    this.logIndex = logIndex;
+    this.scheduler = scheduler;
+    this.blockAddedExecutor =
+        MonitoredExecutors.newBoundedThreadPool(
+            LogIndexingService.class.getSimpleName(), 1, MAX_PENDING_BLOCK_EVENTS, metricsSystem);
+  }
+
+  public void start() {
+    LOG.info("Starting log indexing service.");
+    blockAddedSubscriptionId = OptionalLong.of(blockchain.observeBlockAdded(this::onBlockAdded));
+    schedulePreviousBlocksIndexing();
+  }
+
+  public void stop() {
+    LOG.info("Shutting down log indexing service.");
+    stopped = true;
+    blockAddedSubscriptionId.ifPresent(blockchain::removeObserver);
+    blockAddedExecutor.shutdownNow();
+  }
+
+  private void onBlockAdded(final BlockAddedEvent event) {
+    try {
+      blockAddedExecutor.execute(
+          () -> {
+            try {
+              logIndex.onBlockAdded(event);
+            } catch (final Exception e) {
+              LOG.error("Unhandled log indexing exception.", e);
+            }
+          });
+    } catch (final RejectedExecutionException e) {
+      // the index restarts at the head with the next block, and the skipped blocks are indexed
+      // again by the previous blocks indexing
+      LOG.debug(
+          "Skipped the log indexing of block {}: {}",
+          event.getBlock().getHeader().getNumber(),
+          e.getMessage());
+    }
+  }
+
+  private void schedulePreviousBlocksIndexing() {
+    scheduler.scheduleFutureTask(this::scheduleNextBatch, RETRY_DELAY);
+  }
+
+  private CompletableFuture<Void> scheduleNextBatch() {
+    // run long tasks in the computation executor
+    return scheduler.scheduleComputationTask(
+        () -> {
+          indexPreviousBlocks();
+          return null;
+        });
+  }
+
+  private void indexPreviousBlocks() {
+    if (stopped) {
+      return;
+    }
+    boolean hasMoreBlocks = false;
+    try {
+      hasMoreBlocks = logIndex.indexPreviousBlocks(BLOCKS_PER_BATCH);
+      LOG.trace("Indexed the logs of up to {} previous blocks", BLOCKS_PER_BATCH);
+    } catch (final Exception e) {
+      LOG.error("Unhandled log indexing exception.", e);
+    }
+    if (stopped) {
+      return;
+    }
+    if (hasMoreBlocks) {
+      // a new task for each batch, so the other users of the computation executor can run between
+      scheduleNextBatch();
+    } else {
+      // the index restarts at the head when blocks are missing, for example after a sync, and the
+      // older blocks become available once they are downloaded
+      schedulePreviousBlocksIndexing();
+    }
+  }
+}
@@ -0,0 +1,226 @@
+/*
+ * Copyright contributors to Hyperledger Besu.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.ethereum.api.query.cache;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import org.hyperledger.besu.datatypes.Hash;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import com.google.common.annotations.VisibleForTesting;
+import org.apache.tuweni.bytes.Bytes;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Stores on disk, compressed, the JSON results of tracing blocks, keyed by the block hash and the
+ * tracer configuration, so tracing the same block again does not need to replay it. Since a block
+ * hash identifies the block content, its traces never change and entries never need to be
+ * invalidated, they are only evicted, least recently used first, to keep the cache within its size
+ * budget. The cache content survives restarts.
+ */
+public class TraceResultCache {
+  private static final Logger LOG = LoggerFactory.getLogger(TraceResultCache.class);
+  private static final String ENTRY_SUFFIX = ".json.gz";
+  private static final String TEMP_SUFFIX = ".tmp";
+
+  private final Path cacheDir;
+  private final long maxSizeBytes;
+  private final Map<String, Long> entrySizes = new LinkedHashMap<>(16, 0.75f, true);
+  private long sizeBytes = 0;
+
+  public TraceResultCache(final Path cacheDir, final long maxSizeBytes) {
+    checkArgument(maxSizeBytes > 0, "Trace cache max size must be greater than 0");
+    this.cacheDir = cacheDir;
+    this.maxSizeBytes = maxSizeBytes;
+    loadEntries();
+  }
+
+  /**
+   * Get the cached JSON result of tracing a block.
+   *
+   * @param blockHash the hash of the traced block
+   * @param tracerConfig the tracer configuration the block was traced with
+   * @return the JSON result if cached, empty otherwise
+   */
+  public Optional<String> get(final Hash blockHash, final String tracerConfig) {
+    final String entryName = entryName(blockHash, tracerConfig);
+    synchronized (this) {
+      // a lookup also marks the entry as the most recently used
+      if (entrySizes.get(entryName) == null) {
+        return Optional.empty();
+      }
+    }
+    final Path entryPath = cacheDir.resolve(entryName);
+    try (final InputStream in = new GZIPInputStream(Files.newInputStream(entryPath))) {
+      final String result = new String(in.readAllBytes(), UTF_8);
+      Files.setLastModifiedTime(entryPath, FileTime.fromMillis(System.currentTimeMillis()));
+      return Optional.of(result);
+    } catch (final NoSuchFileException e) {
+      // evicted in the meantime
+      return Optional.empty();
+    } catch (final IOException e) {
+      LOG.debug("Unable to read cached trace {}, removing it", entryName, e);
+      synchronized (this) {
+        removeEntry(entryName);
+      }
+      return Optional.empty();
+    }
+  }
+
+  /**
+   * Cache the JSON result of tracing a block, evicting the least recently used results if the cache
+   * goes over its size budget.
+   *
+   * @param blockHash the hash of the traced block
+   * @param tracerConfig the tracer configuration the block was traced with
+   * @param result the JSON result of the tracing
+   */
+  public void put(final Hash blockHash, final String tracerConfig, final String result) {
+    final String entryName = entryName(blockHash, tracerConfig);
+    Path tempPath = null;
+    try {
+      Files.createDirectories(cacheDir);
+      tempPath = Files.createTempFile(cacheDir, entryName, TEMP_SUFFIX);
+      try (final OutputStream out = new GZIPOutputStream(Files.newOutputStream(tempPath))) {
+        out.write(result.getBytes(UTF_8));
+      }
+      final long entrySize = Files.size(tempPath);
+      if (entrySize > maxSizeBytes) {
+        LOG.debug(
+            "Not caching trace {} of {} bytes, since it is over the cache size of {} bytes",
+            entryName,
+            entrySize,
+            maxSizeBytes);
+        Files.delete(tempPath);
+        return;
+      }
+      synchronized (this) {
+        Files.move(
+            tempPath,
+            cacheDir.resolve(entryName),
+            StandardCopyOption.REPLACE_EXISTING,
+            StandardCopyOption.ATOMIC_MOVE);
+        final Long replacedSize = entrySizes.put(entryName, entrySize);
+        sizeBytes += entrySize - (replacedSize == null ? 0 : replacedSize);
+        evictUntilWithinBudget();
+      }
+    } catch (final IOException e) {
+      LOG.debug("Unable to cache trace {}", entryName, e);
+      if (tempPath != null) {
+        try {
+          Files.deleteIfExists(tempPath);
+        } catch (final IOException ignored) {
+          // nothing more to do
+        }
+      }
+    }
+  }
+
+  @VisibleForTesting
+  synchronized long getSizeBytes() {
+    return sizeBytes;
+  }
+
+  private void evictUntilWithinBudget() {
+    final Iterator<Map.Entry<String, Long>> leastRecentlyUsed = entrySizes.entrySet().iterator();
+    while (sizeBytes > maxSizeBytes && leastRecentlyUsed.hasNext()) {
+      final Map.Entry<String, Long> entry = leastRecentlyUsed.next();
+      leastRecentlyUsed.remove();
+      sizeBytes -= entry.getValue();
+      deleteEntryFile(entry.getKey());
+    }
+  }
+
+  private void removeEntry(final String entryName) {
+    final Long entrySize = entrySizes.remove(entryName);
+    if (entrySize != null) {
+      sizeBytes -= entrySize;
+      deleteEntryFile(entryName);
+    }
+  }
+
+  private void deleteEntryFile(final String entryName) {
+    try {
+      Files.deleteIfExists(cacheDir.resolve(entryName));
+    } catch (final IOException e) {
+      LOG.debug("Unable to delete cached trace {}", entryName, e);
+    }
+  }
+
+  private synchronized void loadEntries() {
+    if (!Files.isDirectory(cacheDir)) {
+      return;
+    }
+    final List<Path> files;
+    try (final Stream<Path> dirContent = Files.list(cacheDir)) {
+      files = dirContent.filter(Files::isRegularFile).toList();
+    } catch (final IOException e) {
+      LOG.warn("Unable to load the trace cache from {}", cacheDir, e);
+      return;
+    }
+    files.stream()
+        .filter(file -> file.getFileName().toString().endsWith(TEMP_SUFFIX))
+        .forEach(file -> deleteEntryFile(file.getFileName().toString()));
+    files.stream()
+        .filter(file -> file.getFileName().toString().endsWith(ENTRY_SUFFIX))
+        .sorted(Comparator.comparing(TraceResultCache::lastModifiedTime))
+        .forEach(
+            file -> {
+              try {
+                final long entrySize = Files.size(file);
+                entrySizes.put(file.getFileName().toString(), entrySize);
+                sizeBytes += entrySize;
+              } catch (final IOException e) {
+                LOG.debug("Unable to load cached trace {}", file, e);
+              }
+            });
+    evictUntilWithinBudget();
+    LOG.info("Loaded {} cached traces, {} bytes, from {}", entrySizes.size(), sizeBytes, cacheDir);
+  }
+
+  private static FileTime lastModifiedTime(final Path file) {
+    try {
+      return Files.getLastModifiedTime(file);
+    } catch (final IOException e) {
+      return FileTime.fromMillis(0);
+    }
+  }
+
+  private static String entryName(final Hash blockHash, final String tracerConfig) {
+    return blockHash.toUnprefixedHexString()
+        + "-"
+        + Hash.hash(Bytes.wrap(tracerConfig.getBytes(UTF_8))).toUnprefixedHexString()
+        + ENTRY_SUFFIX;
+  }
+}
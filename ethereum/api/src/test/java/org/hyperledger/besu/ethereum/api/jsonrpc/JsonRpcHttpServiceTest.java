@@ -47,6 +47,7 @@ import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import io.vertx.core.json.Json;
 import io.vertx.core.json.JsonArray;
@@ -1500,6 +1501,45 @@ public class JsonRpcHttpServiceTest extends JsonRpcHttpServiceTestBase {
     }
   }
 
+  @Test
+  public void concurrentBatchRequestRespondsInRequestOrder() throws Exception {
+    final JsonRpcConfiguration config = createJsonRpcConfig();
+    config.setMaxBatchConcurrency(4);
+    final JsonRpcHttpService concurrentService = createJsonRpcHttpService(config);
+    concurrentService.start().join();
+
+    final int requestCount = 32;
+    final String batchRequest =
+        IntStream.range(0, requestCount)
+            .mapToObj(
+                id ->
+                    "{\"jsonrpc\":\"2.0\",\"id\":"
+                        + Json.encode(id)
+                        + ",\"method\":\""
+                        + (id % 2 == 0 ? "web3_clientVersion" : "net_version")
+                        + "\"}")
+            .collect(Collectors.joining(",", "[", "]"));
+    final Request request =
+        new Request.Builder()
+            .post(RequestBody.create(batchRequest, JSON))
+            .url(concurrentService.url())
+            .build();
+
+    try (final Response resp = client.newCall(request).execute()) {
+      assertThat(resp.code()).isEqualTo(200);
+      final JsonArray json = new JsonArray(resp.body().string());
+      assertThat(json.size()).isEqualTo(requestCount);
+      for (int id = 0; id < requestCount; id++) {
+        final JsonObject response = json.getJsonObject(id);
+        testHelper.assertValidJsonRpcResult(response, id);
+        assertThat(response.getString("result"))
+            .isEqualTo(id % 2 == 0 ? CLIENT_VERSION : String.valueOf(CHAIN_ID));
+      }
+    } finally {
+      concurrentService.stop().join();
+    }
+  }
+
   @Test
   public void batchRequestContainingInvalidRequest() throws Exception {
     final int clientVersionRequestId = 2;
@@ -0,0 +1,162 @@
+/*
+ * Copyright contributors to Hyperledger Besu.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.ethereum.api.jsonrpc.execution;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+import org.hyperledger.besu.ethereum.api.jsonrpc.internal.JsonRpcRequest;
+import org.hyperledger.besu.ethereum.api.jsonrpc.internal.JsonRpcRequestContext;
+import org.hyperledger.besu.ethereum.api.jsonrpc.internal.JsonRpcRequestId;
+import org.hyperledger.besu.ethereum.api.jsonrpc.internal.methods.JsonRpcMethod;
+import org.hyperledger.besu.ethereum.api.jsonrpc.internal.response.JsonRpcErrorResponse;
+import org.hyperledger.besu.ethereum.api.jsonrpc.internal.response.JsonRpcResponse;
+import org.hyperledger.besu.ethereum.api.jsonrpc.internal.response.JsonRpcSuccessResponse;
+import org.hyperledger.besu.ethereum.api.jsonrpc.internal.response.RpcErrorType;
+import org.hyperledger.besu.metrics.noop.NoOpMetricsSystem;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.opentelemetry.api.trace.Span;
+import org.junit.jupiter.api.Test;
+
+public class ConcurrencyLimitedJsonRpcProcessorTest {
+  private static final String LIMITED_METHOD = "debug_traceTransaction";
+  private static final String UNLIMITED_METHOD = "eth_blockNumber";
+
+  private final AtomicInteger running = new AtomicInteger();
+  private final AtomicInteger maxRunning = new AtomicInteger();
+
+  private final JsonRpcProcessor slowProcessor =
+      (id, method, metricSpan, request) -> {
+        maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+        try {
+          Thread.sleep(20);
+        } catch (final InterruptedException e) {
+          Thread.currentThread().interrupt();
+        } finally {
+          running.decrementAndGet();
+        }
+        return new JsonRpcSuccessResponse(id);
+      };
+
+  @Test
+  public void limitsTheRequestsOfTheSameMethodProcessedAtTheSameTime() {
+    final JsonRpcProcessor processor =
+        new ConcurrencyLimitedJsonRpcProcessor(
+            slowProcessor, Map.of(LIMITED_METHOD, 2), new NoOpMetricsSystem());
+
+    final List<JsonRpcResponse> responses =
+        processConcurrently(
+            processor, LIMITED_METHOD, 8, Executors.newVirtualThreadPerTaskExecutor());
+
+    assertThat(responses).hasSize(8).allMatch(JsonRpcSuccessResponse.class::isInstance);
+    assertThat(maxRunning.get()).isLessThanOrEqualTo(2);
+  }
+
+  @Test
+  public void rejectsTheRequestsOverTheLimitOutsideOfVirtualThreads() throws Exception {
+    final CountDownLatch started = new CountDownLatch(1);
+    final CountDownLatch release = new CountDownLatch(1);
+    final JsonRpcProcessor blockingProcessor =
+        (id, method, metricSpan, request) -> {
+          started.countDown();
+          try {
+            release.await();
+          } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+          }
+          return new JsonRpcSuccessResponse(id);
+        };
+    final JsonRpcProcessor processor =
+        new ConcurrencyLimitedJsonRpcProcessor(
+            blockingProcessor, Map.of(LIMITED_METHOD, 1), new NoOpMetricsSystem());
+
+    final CompletableFuture<JsonRpcResponse> running =
+        CompletableFuture.supplyAsync(() -> process(processor, LIMITED_METHOD, 0));
+    started.await();
+
+    final JsonRpcResponse rejected = process(processor, LIMITED_METHOD, 1);
+    release.countDown();
+
+    assertThat(rejected).isInstanceOf(JsonRpcErrorResponse.class);
+    assertThat(((JsonRpcErrorResponse) rejected).getErrorType())
+        .isEqualTo(RpcErrorType.METHOD_CONCURRENCY_LIMIT_EXCEEDED);
+    assertThat(running.get(10, TimeUnit.SECONDS)).isInstanceOf(JsonRpcSuccessResponse.class);
+  }
+
+  @Test
+  public void doesNotLimitMethodsWithoutALimit() {
+    final JsonRpcProcessor processor =
+        new ConcurrencyLimitedJsonRpcProcessor(
+            slowProcessor, Map.of(LIMITED_METHOD, 1), new NoOpMetricsSystem());
+
+    final List<JsonRpcResponse> responses =
+        processConcurrently(processor, UNLIMITED_METHOD, 4, Executors.newFixedThreadPool(4));
+
+    assertThat(responses).hasSize(4).allMatch(JsonRpcSuccessResponse.class::isInstance);
+    assertThat(maxRunning.get()).isGreaterThan(1);
+  }
+
+  @Test
+  public void rejectsLimitsLowerThanOne() {
+    assertThatThrownBy(
+            () ->
+                new ConcurrencyLimitedJsonRpcProcessor(
+                    slowProcessor, Map.of(LIMITED_METHOD, 0), new NoOpMetricsSystem()))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Concurrency limit of debug_traceTransaction must be greater than 0");
+  }
+
+  private static JsonRpcResponse process(
+      final JsonRpcProcessor processor, final String methodName, final int id) {
+    final JsonRpcRequestContext request =
+        new JsonRpcRequestContext(new JsonRpcRequest("2.0", methodName, new Object[0]));
+    return processor.process(
+        new JsonRpcRequestId(id), mock(JsonRpcMethod.class), Span.getInvalid(), request);
+  }
+
+  private List<JsonRpcResponse> processConcurrently(
+      final JsonRpcProcessor processor,
+      final String methodName,
+      final int count,
+      final ExecutorService executor) {
+    try {
+      final List<CompletableFuture<JsonRpcResponse>> futures = new ArrayList<>(count);
+      for (int i = 0; i < count; i++) {
+        final int id = i;
+        futures.add(
+            CompletableFuture.supplyAsync(() -> process(processor, methodName, id), executor));
+      }
+      return futures.stream().map(CompletableFuture::join).toList();
+    } finally {
+      executor.shutdown();
+      try {
+        executor.awaitTermination(10, TimeUnit.SECONDS);
+      } catch (final InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    }
+  }
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright contributors to Hyperledger Besu.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.ethereum.api.jsonrpc.internal.methods;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hyperledger.besu.ethereum.core.InMemoryKeyValueStorageProvider.createInMemoryWorldState;
+
+import org.hyperledger.besu.datatypes.Address;
+import org.hyperledger.besu.datatypes.Wei;
+import org.hyperledger.besu.ethereum.core.MutableWorldState;
+import org.hyperledger.besu.evm.account.Account;
+import org.hyperledger.besu.evm.account.MutableAccount;
+import org.hyperledger.besu.evm.worldstate.WorldUpdater;
+
+import java.util.List;
+
+import org.apache.tuweni.bytes.Bytes;
+import org.apache.tuweni.units.bigints.UInt256;
+import org.junit.jupiter.api.Test;
+
+public class AccumulatedStateChangesTest {
+  private static final Address SENDER = Address.fromHexString("0x01");
+  private static final Address CONTRACT = Address.fromHexString("0x02");
+  private static final Address CREATED = Address.fromHexString("0x03");
+  private static final List<Address> ADDRESSES = List.of(SENDER, CONTRACT, CREATED);
+  private static final List<UInt256> KEYS = List.of(UInt256.ONE, UInt256.valueOf(2));
+
+  @Test
+  public void appliedChangesBringTheParentStateToTheRecordedState() {
+    final TraceBlock.ChainUpdater chainUpdater = new TraceBlock.ChainUpdater(parentState());
+    final AccumulatedStateChanges stateChanges = new AccumulatedStateChanges();
+
+    final WorldUpdater firstTransaction = chainUpdater.getNextUpdater();
+    final MutableAccount sender = firstTransaction.getAccount(SENDER);
+    sender.incrementNonce();
+    sender.setBalance(Wei.of(50));
+    sender.setStorageValue(UInt256.valueOf(2), UInt256.valueOf(3));
+    firstTransaction.createAccount(CREATED).setCode(Bytes.of(1, 2));
+    stateChanges.record(firstTransaction);
+    final AccumulatedStateChanges afterFirstTransaction = stateChanges.copy();
+
+    final WorldUpdater secondTransaction = chainUpdater.getNextUpdater();
+    secondTransaction.deleteAccount(CONTRACT);
+    secondTransaction.getAccount(SENDER).setStorageValue(UInt256.ONE, UInt256.ZERO);
+    stateChanges.record(secondTransaction);
+
+    assertSameState(replay(afterFirstTransaction), firstTransaction);
+    assertSameState(replay(stateChanges), secondTransaction);
+  }
+
+  private static WorldUpdater replay(final AccumulatedStateChanges stateChanges) {
+    final WorldUpdater updater = parentState().updater().updater();
+    stateChanges.applyTo(updater);
+    return updater;
+  }
+
+  private static MutableWorldState parentState() {
+    final MutableWorldState worldState = createInMemoryWorldState();
+    final WorldUpdater updater = worldState.updater();
+    final MutableAccount sender = updater.createAccount(SENDER, 1, Wei.of(100));
+    sender.setStorageValue(UInt256.ONE, UInt256.ONE);
+    final MutableAccount contract = updater.createAccount(CONTRACT);
+    contract.setCode(Bytes.of(0x60, 0x01));
+    contract.setStorageValue(UInt256.ONE, UInt256.valueOf(5));
+    updater.commit();
+    return worldState;
+  }
+
+  private static void assertSameState(final WorldUpdater actual, final WorldUpdater expected) {
+    for (final Address address : ADDRESSES) {
+      final Account actualAccount = actual.get(address);
+      final Account expectedAccount = expected.get(address);
+      if (expectedAccount == null) {
+        assertThat(actualAccount).isNull();
+        continue;
+      }
+      assertThat(actualAccount).isNotNull();
+      assertThat(actualAccount.getNonce()).isEqualTo(expectedAccount.getNonce());
+      assertThat(actualAccount.getBalance()).isEqualTo(expectedAccount.getBalance());
+      assertThat(actualAccount.getCode()).isEqualTo(expectedAccount.getCode());
+      for (final UInt256 key : KEYS) {
+        assertThat(actualAccount.getStorageValue(key))
+            .isEqualTo(expectedAccount.getStorageValue(key));
+      }
+    }
+  }
+}
@@ -164,11 +164,9 @@ public class DebugTraceTransactionTest {
     assertThat(transactionResult.getStructLogs()).isEqualTo(expectedStructLogs);
     assertThat(transactionResult.getStructLogs().size()).isEqualTo(1);
     assertThat(transactionResult.getStructLogs().get(0).stack().length).isEqualTo(1);
-    assertThat(transactionResult.getStructLogs().get(0).stack()[0])
-        .isEqualTo(stackBytes[0].toUnprefixedHexString());
+    assertThat(transactionResult.getStructLogs().get(0).stack()[0]).isEqualTo(stackBytes[0]);
     assertThat(transactionResult.getStructLogs().get(0).memory().length).isEqualTo(1);
-    assertThat(transactionResult.getStructLogs().get(0).memory()[0])
-        .isEqualTo(memoryBytes[0].toUnprefixedHexString());
+    assertThat(transactionResult.getStructLogs().get(0).memory()[0]).isEqualTo(memoryBytes[0]);
   }
 
   @Test
@@ -37,8 +37,10 @@ import org.hyperledger.besu.ethereum.api.jsonrpc.internal.response.JsonRpcSucces
 import org.hyperledger.besu.ethereum.api.jsonrpc.internal.response.RpcErrorType;
 import org.hyperledger.besu.ethereum.api.query.BlockchainQueries;
 import org.hyperledger.besu.ethereum.core.BlockHeader;
+import org.hyperledger.besu.ethereum.core.LogWithMetadata;
 
 import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -284,6 +286,24 @@ public class EthGetLogsTest {
     assertThat(errorResponse.getErrorType()).isEqualTo(RpcErrorType.EXCEEDS_RPC_MAX_BLOCK_RANGE);
   }
 
+  @Test
+  public void shouldFailIfLogsExceedMaxResults() {
+    final JsonRpcRequestContext request = buildRequest(0, 50);
+    method = new EthGetLogs(blockchainQueries, maxLogRange, 2L);
+    when(blockchainQueries.matchingLogs(anyLong(), anyLong(), any(), eq(2L), any()))
+        .thenReturn(
+            List.of(
+                mock(LogWithMetadata.class),
+                mock(LogWithMetadata.class),
+                mock(LogWithMetadata.class)));
+
+    final JsonRpcResponse response = method.response(request);
+
+    assertThat(response).isInstanceOf(JsonRpcErrorResponse.class);
+    final JsonRpcErrorResponse errorResponse = (JsonRpcErrorResponse) response;
+    assertThat(errorResponse.getErrorType()).isEqualTo(RpcErrorType.EXCEEDS_RPC_MAX_LOGS_RESULTS);
+  }
+
   private JsonRpcRequestContext buildRequest(final long fromBlock, final long toBlock) {
     final FilterParameter filterParameter =
         buildFilterParameter(new BlockParameter(fromBlock), new BlockParameter(toBlock));
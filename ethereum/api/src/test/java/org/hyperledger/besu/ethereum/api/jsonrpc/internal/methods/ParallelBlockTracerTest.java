@@ -0,0 +1,205 @@
+/*
+ * Copyright contributors to Hyperledger Besu.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.ethereum.api.jsonrpc.internal.methods;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.hyperledger.besu.ethereum.api.jsonrpc.internal.JsonRpcRequest;
+import org.hyperledger.besu.ethereum.api.jsonrpc.internal.JsonRpcRequestContext;
+import org.hyperledger.besu.ethereum.api.jsonrpc.internal.processor.BlockReplay;
+import org.hyperledger.besu.ethereum.api.jsonrpc.internal.processor.BlockTracer;
+import org.hyperledger.besu.ethereum.api.jsonrpc.internal.response.JsonRpcResponse;
+import org.hyperledger.besu.ethereum.api.jsonrpc.internal.response.JsonRpcSuccessResponse;
+import org.hyperledger.besu.ethereum.api.query.BlockchainQueries;
+import org.hyperledger.besu.ethereum.core.Block;
+import org.hyperledger.besu.ethereum.core.BlockchainSetupUtil;
+import org.hyperledger.besu.ethereum.core.MiningParameters;
+import org.hyperledger.besu.ethereum.eth.manager.EthScheduler;
+import org.hyperledger.besu.ethereum.mainnet.MainnetBlockHeaderFunctions;
+import org.hyperledger.besu.ethereum.mainnet.ProtocolSchedule;
+import org.hyperledger.besu.metrics.noop.NoOpMetricsSystem;
+import org.hyperledger.besu.plugin.services.storage.DataStorageFormat;
+import org.hyperledger.besu.testutil.BlockTestUtil.ChainResources;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.datatype.jdk8.Jdk8Module;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+public class ParallelBlockTracerTest {
+
+  private static final String CHAIN_DATA =
+      "/org/hyperledger/besu/ethereum/api/jsonrpc/trace/chain-data/";
+  // deploys self-destructing contracts and calls them from the next transaction, all from the
+  // same sender, so every transaction depends on the state left by the previous one
+  private static final String MULTI_TRANSACTION_BLOCK_NUMBER = "0x13";
+  private static final ObjectMapper MAPPER = new ObjectMapper().registerModule(new Jdk8Module());
+
+  @Mock private BlockchainQueries blockchainQueries;
+  @Mock private ProtocolSchedule protocolSchedule;
+
+  private final EthScheduler ethScheduler = new EthScheduler(1, 1, 4, new NoOpMetricsSystem());
+
+  @AfterEach
+  public void tearDown() throws InterruptedException {
+    ethScheduler.stop();
+    ethScheduler.awaitStop();
+  }
+
+  @Test
+  public void splitsTheTransactionsInAtMostOneSegmentPerThread() {
+    final ParallelBlockTracer parallelBlockTracer =
+        new ParallelBlockTracer(blockchainQueries, protocolSchedule, 4);
+
+    assertThat(parallelBlockTracer.segmentStarts(100)).containsExactly(0, 25, 50, 75);
+    assertThat(parallelBlockTracer.segmentStarts(18)).containsExactly(0, 4, 9, 13);
+  }
+
+  @Test
+  public void keepsSmallBlocksInOneSegment() {
+    final ParallelBlockTracer parallelBlockTracer =
+        new ParallelBlockTracer(blockchainQueries, protocolSchedule, 4);
+
+    assertThat(parallelBlockTracer.segmentStarts(0)).containsExactly(0);
+    assertThat(parallelBlockTracer.segmentStarts(7)).containsExactly(0);
+    assertThat(parallelBlockTracer.segmentStarts(10)).containsExactly(0, 5);
+  }
+
+  @ParameterizedTest
+  @ValueSource(ints = {2, 3, 6})
+  public void debugTraceBlockMatchesTheSequentialReplay(final int parallelism)
+      throws JsonProcessingException {
+    final BlockchainSetupUtil blockchainSetupUtil = importTraceChain();
+    final BlockchainQueries queries = blockchainQueries(blockchainSetupUtil);
+    final Block block = multiTransactionBlock(blockchainSetupUtil);
+    final BlockReplay blockReplay =
+        new BlockReplay(
+            blockchainSetupUtil.getProtocolSchedule(),
+            blockchainSetupUtil.getProtocolContext(),
+            blockchainSetupUtil.getBlockchain());
+    final JsonRpcRequestContext request =
+        new JsonRpcRequestContext(
+            new JsonRpcRequest(
+                "2.0", "debug_traceBlock", new Object[] {block.toRlp().toString()}));
+
+    final JsonRpcResponse sequentialResponse =
+        new DebugTraceBlock(
+                () -> new BlockTracer(blockReplay),
+                new MainnetBlockHeaderFunctions(),
+                queries,
+                Optional.empty())
+            .response(request);
+    final JsonRpcResponse parallelResponse =
+        new DebugTraceBlock(
+                () -> new BlockTracer(blockReplay),
+                new MainnetBlockHeaderFunctions(),
+                queries,
+                Optional.of(parallelBlockTracer(queries, blockchainSetupUtil, block, parallelism)))
+            .response(request);
+
+    assertThat((Collection<?>) ((JsonRpcSuccessResponse) sequentialResponse).getResult())
+        .hasSize(block.getBody().getTransactions().size());
+    assertThat(toJson(parallelResponse)).isEqualTo(toJson(sequentialResponse));
+  }
+
+  @ParameterizedTest
+  @ValueSource(ints = {2, 3, 6})
+  public void traceReplayBlockTransactionsMatchesTheSequentialReplay(final int parallelism)
+      throws JsonProcessingException {
+    final BlockchainSetupUtil blockchainSetupUtil = importTraceChain();
+    final BlockchainQueries queries = blockchainQueries(blockchainSetupUtil);
+    final Block block = multiTransactionBlock(blockchainSetupUtil);
+    final JsonRpcRequestContext request =
+        new JsonRpcRequestContext(
+            new JsonRpcRequest(
+                "2.0",
+                "trace_replayBlockTransactions",
+                new Object[] {
+                  MULTI_TRANSACTION_BLOCK_NUMBER, List.of("trace", "vmTrace", "stateDiff")
+                }));
+
+    final JsonRpcResponse sequentialResponse =
+        new TraceReplayBlockTransactions(
+                blockchainSetupUtil.getProtocolSchedule(), queries, Optional.empty())
+            .response(request);
+    final JsonRpcResponse parallelResponse =
+        new TraceReplayBlockTransactions(
+                blockchainSetupUtil.getProtocolSchedule(),
+                queries,
+                Optional.of(parallelBlockTracer(queries, blockchainSetupUtil, block, parallelism)))
+            .response(request);
+
+    assertThat((ArrayNode) ((JsonRpcSuccessResponse) sequentialResponse).getResult())
+        .hasSize(block.getBody().getTransactions().size());
+    assertThat(toJson(parallelResponse)).isEqualTo(toJson(sequentialResponse));
+  }
+
+  private BlockchainSetupUtil importTraceChain() {
+    final BlockchainSetupUtil blockchainSetupUtil =
+        BlockchainSetupUtil.createForEthashChain(
+            new ChainResources(
+                ParallelBlockTracerTest.class.getResource(CHAIN_DATA + "genesis.json"),
+                ParallelBlockTracerTest.class.getResource(CHAIN_DATA + "blocks.bin")),
+            DataStorageFormat.BONSAI);
+    blockchainSetupUtil.importAllBlocks();
+    return blockchainSetupUtil;
+  }
+
+  private BlockchainQueries blockchainQueries(final BlockchainSetupUtil blockchainSetupUtil) {
+    return new BlockchainQueries(
+        blockchainSetupUtil.getProtocolSchedule(),
+        blockchainSetupUtil.getBlockchain(),
+        blockchainSetupUtil.getWorldArchive(),
+        Optional.empty(),
+        Optional.of(ethScheduler),
+        MiningParameters.newDefault());
+  }
+
+  private Block multiTransactionBlock(final BlockchainSetupUtil blockchainSetupUtil) {
+    return blockchainSetupUtil
+        .getBlockchain()
+        .getBlockByNumber(Long.decode(MULTI_TRANSACTION_BLOCK_NUMBER))
+        .orElseThrow();
+  }
+
+  private ParallelBlockTracer parallelBlockTracer(
+      final BlockchainQueries queries,
+      final BlockchainSetupUtil blockchainSetupUtil,
+      final Block block,
+      final int parallelism) {
+    // one transaction per segment at most, so the block is really split
+    final ParallelBlockTracer parallelBlockTracer =
+        new ParallelBlockTracer(queries, blockchainSetupUtil.getProtocolSchedule(), parallelism, 1);
+    assertThat(parallelBlockTracer.segmentStarts(block.getBody().getTransactions().size()))
+        .hasSize(parallelism);
+    return parallelBlockTracer;
+  }
+
+  private static String toJson(final JsonRpcResponse response) throws JsonProcessingException {
+    return MAPPER.writeValueAsString(((JsonRpcSuccessResponse) response).getResult());
+  }
+}
@@ -15,7 +15,16 @@
 package org.hyperledger.besu.ethereum.api.jsonrpc.internal.methods;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
+import org.hyperledger.besu.datatypes.Hash;
+import org.hyperledger.besu.datatypes.Wei;
 import org.hyperledger.besu.ethereum.api.jsonrpc.internal.JsonRpcRequest;
 import org.hyperledger.besu.ethereum.api.jsonrpc.internal.JsonRpcRequestContext;
 import org.hyperledger.besu.ethereum.api.jsonrpc.internal.parameters.BlockParameter;
@@ -23,12 +32,23 @@ import org.hyperledger.besu.ethereum.api.jsonrpc.internal.parameters.FilterParam
 import org.hyperledger.besu.ethereum.api.jsonrpc.internal.processor.BlockTracer;
 import org.hyperledger.besu.ethereum.api.jsonrpc.internal.response.JsonRpcErrorResponse;
 import org.hyperledger.besu.ethereum.api.jsonrpc.internal.response.JsonRpcResponse;
+import org.hyperledger.besu.ethereum.api.jsonrpc.internal.response.JsonRpcSuccessResponse;
 import org.hyperledger.besu.ethereum.api.jsonrpc.internal.response.RpcErrorType;
+import org.hyperledger.besu.ethereum.api.jsonrpc.internal.results.tracing.flat.FlatTrace;
 import org.hyperledger.besu.ethereum.api.query.BlockchainQueries;
+import org.hyperledger.besu.ethereum.chain.Blockchain;
+import org.hyperledger.besu.ethereum.core.Block;
+import org.hyperledger.besu.ethereum.core.BlockDataGenerator;
+import org.hyperledger.besu.ethereum.core.BlockHeader;
+import org.hyperledger.besu.ethereum.mainnet.BlockProcessor;
 import org.hyperledger.besu.ethereum.mainnet.ProtocolSchedule;
+import org.hyperledger.besu.ethereum.mainnet.ProtocolSpec;
 
+import java.util.Optional;
 import java.util.function.Supplier;
 
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.POJONode;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -44,6 +64,9 @@ public class TraceFilterTest {
   @Mock Supplier<BlockTracer> blockTracerSupplier;
   @Mock ProtocolSchedule protocolSchedule;
   @Mock BlockchainQueries blockchainQueries;
+  @Mock Blockchain blockchain;
+  @Mock ProtocolSpec protocolSpec;
+  @Mock BlockProcessor blockProcessor;
 
   @ParameterizedTest
   @CsvSource({
@@ -78,6 +101,45 @@ public class TraceFilterTest {
     assertThat(errorResponse.getErrorType()).isEqualTo(RpcErrorType.EXCEEDS_RPC_MAX_BLOCK_RANGE);
   }
 
+  @Test
+  public void shouldReturnTheTracesOfTheBlocksInOrderWithinAfterAndCount() {
+    final BlockDataGenerator gen = new BlockDataGenerator();
+    for (long number = 1; number <= 5; number++) {
+      final Block block =
+          gen.block(
+              BlockDataGenerator.BlockOptions.create()
+                  .setBlockNumber(number)
+                  .hasTransactions(false)
+                  .hasOmmers(false));
+      lenient().when(blockchain.getBlockByNumber(number)).thenReturn(Optional.of(block));
+    }
+    when(blockchainQueries.getBlockchain()).thenReturn(blockchain);
+    when(protocolSchedule.getByBlockHeader(any())).thenReturn(protocolSpec);
+    when(protocolSpec.getBlockReward()).thenReturn(Wei.ONE);
+    when(protocolSpec.getMiningBeneficiaryCalculator()).thenReturn(BlockHeader::getCoinbase);
+    when(protocolSpec.getBlockProcessor()).thenReturn(blockProcessor);
+    when(blockProcessor.getCoinbaseReward(any(), anyLong(), anyInt())).thenReturn(Wei.ONE);
+
+    final FilterParameter filterParameter =
+        new FilterParameter(
+            new BlockParameter(1), new BlockParameter(5), null, null, null, null, null, 1, 3);
+    final JsonRpcRequestContext request =
+        new JsonRpcRequestContext(
+            new JsonRpcRequest("2.0", "trace_filter", new Object[] {filterParameter}));
+
+    method = new TraceFilter(blockTracerSupplier, protocolSchedule, blockchainQueries, 0L);
+
+    final JsonRpcResponse response = method.response(request);
+    assertThat(response).isInstanceOf(JsonRpcSuccessResponse.class);
+
+    final ArrayNode traces = (ArrayNode) ((JsonRpcSuccessResponse) response).getResult();
+    assertThat(traces)
+        .map(trace -> ((FlatTrace) ((POJONode) trace).getPojo()).getBlockNumber())
+        .containsExactly(2L, 3L, 4L);
+    // only rewards, the blocks without transactions do not need the world state to be traced
+    verify(blockchainQueries, never()).getAndMapWorldState(any(Hash.class), any());
+  }
+
   @Test
   void dryRunDetector() {
     assertThat(true)
@@ -0,0 +1,113 @@
+/*
+ * Copyright contributors to Hyperledger Besu.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.ethereum.api.jsonrpc.internal.results;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.hyperledger.besu.datatypes.Address;
+import org.hyperledger.besu.datatypes.Hash;
+import org.hyperledger.besu.ethereum.core.LogWithMetadata;
+import org.hyperledger.besu.evm.log.LogTopic;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.List;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.tuweni.bytes.Bytes;
+import org.apache.tuweni.bytes.Bytes32;
+import org.junit.jupiter.api.Test;
+
+public class HexWriterTest {
+  private static final ObjectMapper MAPPER = new ObjectMapper();
+
+  @Test
+  public void writesBytesLikeTheirHexString() throws IOException {
+    for (final Bytes value :
+        List.of(Bytes.EMPTY, Bytes.of(0), Bytes.fromHexString("0x0aff10"), Bytes32.random())) {
+      assertThat(write(gen -> HexWriter.writeHex(value, gen)))
+          .isEqualTo(quoted(value.toHexString()));
+      assertThat(write(gen -> HexWriter.writeUnprefixedHex(value, gen)))
+          .isEqualTo(quoted(value.toUnprefixedHexString()));
+    }
+  }
+
+  @Test
+  public void writesWordsLeftPadded() throws IOException {
+    assertThat(write(gen -> HexWriter.writeUnprefixedWord(Bytes.fromHexString("0x0aff"), gen)))
+        .isEqualTo(quoted("0".repeat(60) + "0aff"));
+    final Bytes32 word = Bytes32.random();
+    assertThat(write(gen -> HexWriter.writeUnprefixedWord(word, gen)))
+        .isEqualTo(quoted(word.toUnprefixedHexString()));
+  }
+
+  @Test
+  public void writesQuantitiesLikeQuantity() throws IOException {
+    for (final long value : new long[] {0, 1, 15, 16, 255, 4096, Long.MAX_VALUE, -1}) {
+      assertThat(write(gen -> HexWriter.writeQuantity(value, gen)))
+          .isEqualTo(quoted(Quantity.create(value)));
+    }
+  }
+
+  @Test
+  public void serializesLogResultFields() throws IOException {
+    final LogWithMetadata log =
+        new LogWithMetadata(
+            2,
+            100L,
+            Hash.ZERO,
+            Hash.EMPTY,
+            1,
+            Address.fromHexString("0x0000000000000000000000000000000000000042"),
+            Bytes.fromHexString("0x1234"),
+            List.of(LogTopic.of(Bytes32.ZERO)),
+            false);
+
+    final LogResult logResult = new LogResult(log);
+
+    assertThat(MAPPER.readTree(MAPPER.writeValueAsString(logResult)))
+        .isEqualTo(
+            MAPPER
+                .createObjectNode()
+                .put("logIndex", logResult.getLogIndex())
+                .put("removed", logResult.isRemoved())
+                .put("blockNumber", logResult.getBlockNumber())
+                .put("blockHash", logResult.getBlockHash())
+                .put("transactionHash", logResult.getTransactionHash())
+                .put("transactionIndex", logResult.getTransactionIndex())
+                .put("address", logResult.getAddress())
+                .put("data", logResult.getData())
+                .set("topics", MAPPER.valueToTree(logResult.getTopics())));
+  }
+
+  private static String write(final GeneratorWriter writer) throws IOException {
+    final StringWriter out = new StringWriter();
+    try (final JsonGenerator gen = new JsonFactory().createGenerator(out)) {
+      writer.write(gen);
+    }
+    return out.toString();
+  }
+
+  private static String quoted(final String value) {
+    return '"' + value + '"';
+  }
+
+  @FunctionalInterface
+  private interface GeneratorWriter {
+    void write(JsonGenerator gen) throws IOException;
+  }
+}
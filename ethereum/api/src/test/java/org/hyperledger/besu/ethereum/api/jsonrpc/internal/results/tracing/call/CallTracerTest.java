@@ -0,0 +1,135 @@
+/*
+ * Copyright contributors to Hyperledger Besu.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.ethereum.api.jsonrpc.internal.results.tracing.call;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+import org.hyperledger.besu.datatypes.Address;
+import org.hyperledger.besu.datatypes.Hash;
+import org.hyperledger.besu.datatypes.Wei;
+import org.hyperledger.besu.ethereum.core.Transaction;
+import org.hyperledger.besu.evm.frame.MessageFrame;
+import org.hyperledger.besu.evm.operation.Operation;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import org.apache.tuweni.bytes.Bytes;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+public class CallTracerTest {
+  private static final Address SENDER = Address.fromHexString("0x01");
+  private static final Address CONTRACT = Address.fromHexString("0x02");
+  private static final Address LIBRARY = Address.fromHexString("0x03");
+
+  @Mock private Transaction transaction;
+  @Mock private MessageFrame topFrame;
+  @Mock private MessageFrame childFrame;
+  @Mock private Operation delegateCall;
+
+  @BeforeEach
+  public void setUp() {
+    when(transaction.getHash()).thenReturn(Hash.ZERO);
+    when(transaction.getGasLimit()).thenReturn(30_000L);
+
+    when(topFrame.getDepth()).thenReturn(0);
+    when(topFrame.getType()).thenReturn(MessageFrame.Type.MESSAGE_CALL);
+    when(topFrame.getSenderAddress()).thenReturn(SENDER);
+    when(topFrame.getRecipientAddress()).thenReturn(CONTRACT);
+    when(topFrame.getContractAddress()).thenReturn(CONTRACT);
+    when(topFrame.getValue()).thenReturn(Wei.ONE);
+    when(topFrame.getInputData()).thenReturn(Bytes.of(1));
+    when(topFrame.getRemainingGas()).thenReturn(1_000L, 100L);
+    when(topFrame.getState()).thenReturn(MessageFrame.State.COMPLETED_SUCCESS);
+    when(topFrame.getOutputData()).thenReturn(Bytes.of(0xff));
+    when(topFrame.getCurrentOperation()).thenReturn(delegateCall);
+    when(delegateCall.getName()).thenReturn("DELEGATECALL");
+
+    when(childFrame.getDepth()).thenReturn(1);
+    when(childFrame.getType()).thenReturn(MessageFrame.Type.MESSAGE_CALL);
+    // a DELEGATECALL keeps the sender and the recipient of the calling frame
+    when(childFrame.getSenderAddress()).thenReturn(SENDER);
+    when(childFrame.getRecipientAddress()).thenReturn(CONTRACT);
+    when(childFrame.getContractAddress()).thenReturn(LIBRARY);
+    when(childFrame.getValue()).thenReturn(Wei.ONE);
+    when(childFrame.getInputData()).thenReturn(Bytes.of(2));
+    when(childFrame.getRemainingGas()).thenReturn(500L, 200L);
+    when(childFrame.getState()).thenReturn(MessageFrame.State.COMPLETED_FAILED);
+    when(childFrame.getRevertReason()).thenReturn(Optional.of(Bytes.EMPTY));
+  }
+
+  @Test
+  public void buildsTheCallTreeFromTheFrameBoundaries() {
+    final CallTracer callTracer = new CallTracer(false);
+
+    traceTransaction(callTracer);
+
+    assertThat(callTracer.getResults()).hasSize(1);
+    final CallFrame topCall = (CallFrame) callTracer.getResults().get(0).getResult();
+    assertThat(topCall.getType()).isEqualTo("CALL");
+    assertThat(topCall.getFrom()).isEqualTo(SENDER.toHexString());
+    assertThat(topCall.getTo()).isEqualTo(CONTRACT.toHexString());
+    assertThat(topCall.getValue()).isEqualTo("0x1");
+    assertThat(topCall.getGas()).isEqualTo("0x7530");
+    assertThat(topCall.getGasUsed()).isEqualTo("0x5208");
+    assertThat(topCall.getInput()).isEqualTo("0x01");
+    assertThat(topCall.getOutput()).isEqualTo("0xff");
+    assertThat(topCall.getError()).isNull();
+    assertThat(topCall.getCalls()).hasSize(1);
+
+    final CallFrame childCall = topCall.getCalls().get(0);
+    assertThat(childCall.getType()).isEqualTo("DELEGATECALL");
+    assertThat(childCall.getFrom()).isEqualTo(CONTRACT.toHexString());
+    assertThat(childCall.getTo()).isEqualTo(LIBRARY.toHexString());
+    assertThat(childCall.getValue()).isNull();
+    assertThat(childCall.getGas()).isEqualTo("0x1f4");
+    assertThat(childCall.getGasUsed()).isEqualTo("0x12c");
+    assertThat(childCall.getInput()).isEqualTo("0x02");
+    assertThat(childCall.getOutput()).isEqualTo("0x");
+    assertThat(childCall.getError()).isEqualTo("execution reverted");
+    assertThat(childCall.getCalls()).isEmpty();
+  }
+
+  @Test
+  public void onlyRecordsTheTopCallWhenConfigured() {
+    final CallTracer callTracer = new CallTracer(true);
+
+    traceTransaction(callTracer);
+
+    final CallFrame topCall = (CallFrame) callTracer.getResults().get(0).getResult();
+    assertThat(topCall.getType()).isEqualTo("CALL");
+    assertThat(topCall.getOutput()).isEqualTo("0xff");
+    assertThat(topCall.getCalls()).isEmpty();
+  }
+
+  private void traceTransaction(final CallTracer callTracer) {
+    callTracer.traceContextEnter(topFrame);
+    callTracer.traceContextEnter(childFrame);
+    callTracer.traceContextExit(childFrame);
+    callTracer.traceContextExit(topFrame);
+    callTracer.traceEndTransaction(
+        null, transaction, true, Bytes.of(0xff), List.of(), 21_000L, Set.of(), 0L);
+  }
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright contributors to Hyperledger Besu.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.ethereum.api.jsonrpc.internal.results.tracing.prestate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+import org.hyperledger.besu.datatypes.Address;
+import org.hyperledger.besu.datatypes.Hash;
+import org.hyperledger.besu.datatypes.Wei;
+import org.hyperledger.besu.ethereum.core.Transaction;
+import org.hyperledger.besu.evm.account.Account;
+import org.hyperledger.besu.evm.frame.MessageFrame;
+import org.hyperledger.besu.evm.operation.Operation;
+import org.hyperledger.besu.evm.worldstate.WorldView;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import org.apache.tuweni.bytes.Bytes;
+import org.apache.tuweni.units.bigints.UInt256;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+public class PrestateTracerTest {
+  private static final Address SENDER = Address.fromHexString("0x01");
+  private static final Address CONTRACT = Address.fromHexString("0x02");
+  private static final Address COINBASE = Address.fromHexString("0x03");
+
+  @Mock private Transaction transaction;
+  @Mock private WorldView worldView;
+  @Mock private Account sender;
+  @Mock private Account contract;
+  @Mock private MessageFrame frame;
+  @Mock private Operation sload;
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void recordsTheStateOfTheTouchedAccountsAndSlots() {
+    when(transaction.getHash()).thenReturn(Hash.ZERO);
+    when(transaction.getSender()).thenReturn(SENDER);
+    when(transaction.getTo()).thenReturn(Optional.of(CONTRACT));
+
+    when(worldView.get(SENDER)).thenReturn(sender);
+    when(worldView.get(CONTRACT)).thenReturn(contract);
+    when(sender.getBalance()).thenReturn(Wei.of(10));
+    when(sender.getNonce()).thenReturn(1L);
+    when(sender.getCode()).thenReturn(Bytes.EMPTY);
+    when(contract.getBalance()).thenReturn(Wei.ZERO);
+    when(contract.getCode()).thenReturn(Bytes.fromHexString("0x6001"));
+    when(contract.getStorageValue(UInt256.ONE)).thenReturn(UInt256.valueOf(5));
+
+    when(frame.getDepth()).thenReturn(0);
+    when(frame.getMiningBeneficiary()).thenReturn(COINBASE);
+    when(frame.getSenderAddress()).thenReturn(SENDER);
+    when(frame.getRecipientAddress()).thenReturn(CONTRACT);
+    when(frame.getContractAddress()).thenReturn(CONTRACT);
+    when(frame.getCurrentOperation()).thenReturn(sload);
+    when(frame.stackSize()).thenReturn(1);
+    when(frame.getStackItem(0)).thenReturn(Bytes.of(1));
+    when(sload.getOpcode()).thenReturn(0x54);
+
+    final PrestateTracer prestateTracer = new PrestateTracer();
+    prestateTracer.tracePrepareTransaction(worldView, transaction);
+    prestateTracer.traceContextEnter(frame);
+    prestateTracer.tracePreExecution(frame);
+    prestateTracer.traceContextExit(frame);
+    prestateTracer.traceEndTransaction(
+        worldView, transaction, true, Bytes.EMPTY, List.of(), 21_000L, Set.of(), 0L);
+
+    final Map<String, PrestateAccount> accounts =
+        (Map<String, PrestateAccount>) prestateTracer.getResults().get(0).getResult();
+    assertThat(accounts.keySet())
+        .containsExactly(SENDER.toHexString(), CONTRACT.toHexString(), COINBASE.toHexString());
+
+    final PrestateAccount senderState = accounts.get(SENDER.toHexString());
+    assertThat(senderState.getBalance()).isEqualTo("0xa");
+    assertThat(senderState.getNonce()).isEqualTo(1L);
+    assertThat(senderState.getCode()).isNull();
+    assertThat(senderState.getStorage()).isEmpty();
+
+    final PrestateAccount contractState = accounts.get(CONTRACT.toHexString());
+    assertThat(contractState.getCode()).isEqualTo("0x6001");
+    assertThat(contractState.getStorage())
+        .containsExactly(Map.entry(UInt256.ONE.toHexString(), UInt256.valueOf(5).toHexString()));
+
+    final PrestateAccount coinbaseState = accounts.get(COINBASE.toHexString());
+    assertThat(coinbaseState.getBalance()).isEqualTo("0x0");
+    assertThat(coinbaseState.getNonce()).isZero();
+  }
+}
@@ -22,6 +22,7 @@ import static org.hyperledger.besu.ethereum.core.InMemoryKeyValueStorageProvider
 import org.hyperledger.besu.datatypes.Address;
 import org.hyperledger.besu.datatypes.Hash;
 import org.hyperledger.besu.datatypes.Wei;
+import org.hyperledger.besu.ethereum.api.ImmutableApiConfiguration;
 import org.hyperledger.besu.ethereum.chain.MutableBlockchain;
 import org.hyperledger.besu.ethereum.core.Block;
 import org.hyperledger.besu.ethereum.core.BlockDataGenerator;
@@ -35,6 +36,8 @@ import org.hyperledger.besu.ethereum.eth.manager.EthScheduler;
 import org.hyperledger.besu.ethereum.mainnet.ProtocolSchedule;
 import org.hyperledger.besu.ethereum.worldstate.WorldStateArchive;
 import org.hyperledger.besu.evm.account.Account;
+import org.hyperledger.besu.evm.log.Log;
+import org.hyperledger.besu.evm.log.LogsBloomFilter;
 import org.hyperledger.besu.evm.worldstate.WorldState;
 import org.hyperledger.besu.metrics.noop.NoOpMetricsSystem;
 
@@ -45,7 +48,9 @@ import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
+import org.apache.tuweni.bytes.Bytes;
 import org.apache.tuweni.units.bigints.UInt256;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
@@ -60,6 +65,11 @@ public class BlockchainQueriesTest {
     scheduler = new EthScheduler(1, 1, 1, 1, new NoOpMetricsSystem());
   }
 
+  @AfterEach
+  public void tearDown() {
+    scheduler.stop();
+  }
+
   @Test
   public void getBlockByHash() {
     final BlockchainWithData data = setupBlockchain(3);
@@ -366,6 +376,56 @@ public class BlockchainQueriesTest {
     assertThat(logs).allMatch(LogWithMetadata::isRemoved);
   }
 
+  @Test
+  public void matchingLogsShouldScanTheRangeInParallelAndReturnTheLogsInBlockOrder() {
+    final Address address = Address.fromHexString("0x0a");
+    final Log log = new Log(address, Bytes.EMPTY, List.of());
+    final MutableBlockchain blockchain = createInMemoryBlockchain(gen.genesisBlock());
+    for (long number = 1; number <= 2_500; number++) {
+      final boolean hasLog = number % 250 == 0;
+      final BlockOptions options =
+          new BlockOptions()
+              .setBlockNumber(number)
+              .setParentHash(blockchain.getChainHeadHash())
+              .hasOmmers(false)
+              .hasTransactions(hasLog);
+      if (hasLog) {
+        options
+            .addTransaction(gen.transaction())
+            .setLogsBloom(LogsBloomFilter.builder().insertLog(log).build());
+      }
+      blockchain.appendBlock(
+          gen.block(options),
+          hasLog
+              ? List.of(new TransactionReceipt(1, 21_000, List.of(log), Optional.empty()))
+              : List.of());
+    }
+    final BlockchainQueries queries =
+        new BlockchainQueries(
+            Mockito.mock(ProtocolSchedule.class),
+            blockchain,
+            createInMemoryWorldStateArchive(),
+            Optional.empty(),
+            Optional.of(scheduler),
+            ImmutableApiConfiguration.builder().maxLogsScanConcurrency(2).build(),
+            MiningParameters.newDefault());
+    final LogsQuery query = new LogsQuery.Builder().address(address).build();
+
+    assertThat(queries.matchingLogs(1, 2_500, query, () -> true))
+        .extracting(LogWithMetadata::getBlockNumber)
+        .containsExactly(250L, 500L, 750L, 1_000L, 1_250L, 1_500L, 1_750L, 2_000L, 2_250L, 2_500L);
+    // the scan stops once the limit is exceeded
+    assertThat(queries.matchingLogs(1, 2_500, query, 3, () -> true))
+        .extracting(LogWithMetadata::getBlockNumber)
+        .containsExactly(250L, 500L, 750L, 1_000L);
+
+    // the chunks rejected by the stopped scheduler are scanned on the calling thread
+    scheduler.stop();
+    assertThat(queries.matchingLogs(1, 2_500, query, () -> true))
+        .extracting(LogWithMetadata::getBlockNumber)
+        .containsExactly(250L, 500L, 750L, 1_000L, 1_250L, 1_500L, 1_750L, 2_000L, 2_250L, 2_500L);
+  }
+
   @Test
   public void matchingLogsShouldReturnAnEmptyListWhenGivenAnInvalidBlockHash() {
     final BlockchainWithData data = setupBlockchain(3);
@@ -0,0 +1,194 @@
+/*
+ * Copyright contributors to Hyperledger Besu.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.ethereum.api.query.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+import org.hyperledger.besu.datatypes.Address;
+import org.hyperledger.besu.datatypes.Hash;
+import org.hyperledger.besu.ethereum.api.query.LogsQuery;
+import org.hyperledger.besu.ethereum.chain.BlockAddedEvent;
+import org.hyperledger.besu.ethereum.chain.Blockchain;
+import org.hyperledger.besu.ethereum.core.Block;
+import org.hyperledger.besu.ethereum.core.BlockBody;
+import org.hyperledger.besu.ethereum.core.BlockHeader;
+import org.hyperledger.besu.ethereum.core.BlockHeaderTestFixture;
+import org.hyperledger.besu.ethereum.core.LogWithMetadata;
+import org.hyperledger.besu.ethereum.core.TransactionReceipt;
+import org.hyperledger.besu.evm.log.Log;
+import org.hyperledger.besu.evm.log.LogTopic;
+import org.hyperledger.besu.plugin.services.storage.KeyValueStorage;
+import org.hyperledger.besu.services.kvstore.InMemoryKeyValueStorage;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.apache.tuweni.bytes.Bytes;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+public class LogIndexTest {
+  private static final Address ADDRESS_A = Address.fromHexString("0x0a");
+  private static final Address ADDRESS_B = Address.fromHexString("0x0b");
+  private static final LogTopic TOPIC_1 =
+      LogTopic.fromHexString("0x0000000000000000000000000000000000000000000000000000000000000001");
+  private static final LogTopic TOPIC_2 =
+      LogTopic.fromHexString("0x0000000000000000000000000000000000000000000000000000000000000002");
+
+  @Mock private Blockchain blockchain;
+  private final KeyValueStorage storage = new InMemoryKeyValueStorage();
+  private long timestamp;
+
+  @Test
+  public void indexesTheLogsOfNewBlocksAndRollsThemBackOnReorgs() {
+    final LogIndex logIndex = new LogIndex(blockchain, storage);
+    final Block block1 = block(1, Hash.ZERO);
+    final Block block2 = block(2, block1.getHash());
+    final Block block3 = block(3, block2.getHash());
+    logIndex.onBlockAdded(headAdvanced(block1, log(block1, ADDRESS_A, TOPIC_1, false)));
+    logIndex.onBlockAdded(headAdvanced(block2, log(block2, ADDRESS_B, TOPIC_2, false)));
+    logIndex.onBlockAdded(headAdvanced(block3, log(block3, ADDRESS_A, TOPIC_2, false)));
+
+    assertThat(logIndex.matchingBlocks(1, 3, query(List.of(ADDRESS_A), List.of())))
+        .contains(List.of(1L, 3L));
+    assertThat(logIndex.matchingBlocks(1, 3, query(List.of(), List.of(List.of(TOPIC_2)))))
+        .contains(List.of(2L, 3L));
+    assertThat(
+            logIndex.matchingBlocks(1, 3, query(List.of(ADDRESS_A), List.of(List.of(TOPIC_2)))))
+        .contains(List.of(3L));
+    assertThat(logIndex.matchingBlocks(2, 3, query(List.of(ADDRESS_A), List.of())))
+        .contains(List.of(3L));
+    // the topic is not at this position
+    assertThat(
+            logIndex.matchingBlocks(1, 3, query(List.of(), List.of(List.of(), List.of(TOPIC_1)))))
+        .contains(List.of());
+    // without any restriction, or outside of the indexed blocks, the index is not used
+    assertThat(logIndex.matchingBlocks(1, 3, query(List.of(), List.of()))).isEmpty();
+    assertThat(logIndex.matchingBlocks(0, 3, query(List.of(ADDRESS_A), List.of()))).isEmpty();
+    assertThat(logIndex.matchingBlocks(1, 4, query(List.of(ADDRESS_A), List.of()))).isEmpty();
+
+    final Block otherBlock3 = block(3, block2.getHash());
+    final Block block4 = block(4, otherBlock3.getHash());
+    logIndex.onBlockAdded(
+        BlockAddedEvent.createForChainReorg(
+            block4,
+            List.of(),
+            List.of(),
+            List.of(),
+            List.of(
+                log(block3, ADDRESS_A, TOPIC_2, true),
+                log(otherBlock3, ADDRESS_B, TOPIC_1, false),
+                log(block4, ADDRESS_B, TOPIC_2, false)),
+            block2.getHash()));
+
+    assertThat(logIndex.matchingBlocks(1, 4, query(List.of(ADDRESS_A), List.of())))
+        .contains(List.of(1L));
+    assertThat(logIndex.matchingBlocks(1, 4, query(List.of(ADDRESS_B), List.of())))
+        .contains(List.of(2L, 3L, 4L));
+    assertThat(
+            new LogIndex(blockchain, storage)
+                .matchingBlocks(1, 4, query(List.of(), List.of(List.of(TOPIC_1)))))
+        .contains(List.of(1L, 3L));
+  }
+
+  @Test
+  public void indexesThePreviousBlocksTowardsGenesis() {
+    when(blockchain.getChainHeadBlockNumber()).thenReturn(5L);
+    for (long number = 0; number <= 5; number++) {
+      final Hash hash = Hash.hash(Bytes.ofUnsignedLong(number));
+      final Address address = number % 2 == 0 ? ADDRESS_A : ADDRESS_B;
+      when(blockchain.getBlockHashByNumber(number)).thenReturn(Optional.of(hash));
+      when(blockchain.getTxReceipts(hash))
+          .thenReturn(
+              Optional.of(
+                  List.of(
+                      new TransactionReceipt(
+                          1,
+                          21_000,
+                          List.of(new Log(address, Bytes.EMPTY, List.of())),
+                          Optional.empty()))));
+    }
+    final LogIndex logIndex = new LogIndex(blockchain, storage);
+    final LogsQuery query = query(List.of(ADDRESS_A), List.of());
+    assertThat(logIndex.matchingBlocks(5, 5, query)).isEmpty();
+
+    assertThat(logIndex.indexPreviousBlocks(4)).isTrue();
+    assertThat(logIndex.matchingBlocks(2, 5, query)).contains(List.of(2L, 4L));
+    assertThat(logIndex.matchingBlocks(1, 5, query)).isEmpty();
+
+    assertThat(logIndex.indexPreviousBlocks(4)).isFalse();
+    assertThat(logIndex.matchingBlocks(0, 5, query)).contains(List.of(0L, 2L, 4L));
+  }
+
+  @Test
+  public void matchesOnlyThePostingsOfTheQueriedTermsAndRange() {
+    final LogIndex logIndex = new LogIndex(blockchain, storage);
+    Hash parentHash = Hash.ZERO;
+    for (long number = 1; number <= 300; number++) {
+      final Block block = block(number, parentHash);
+      final Address address = number % 100 == 0 ? ADDRESS_A : ADDRESS_B;
+      logIndex.onBlockAdded(headAdvanced(block, log(block, address, TOPIC_1, false)));
+      parentHash = block.getHash();
+    }
+
+    assertThat(logIndex.matchingBlocks(1, 300, query(List.of(ADDRESS_A), List.of())))
+        .contains(List.of(100L, 200L, 300L));
+    assertThat(logIndex.matchingBlocks(101, 299, query(List.of(ADDRESS_A), List.of())))
+        .contains(List.of(200L));
+    assertThat(logIndex.matchingBlocks(255, 257, query(List.of(), List.of(List.of(TOPIC_1)))))
+        .contains(List.of(255L, 256L, 257L));
+  }
+
+  private Block block(final long number, final Hash parentHash) {
+    final BlockHeader header =
+        new BlockHeaderTestFixture()
+            .number(number)
+            .parentHash(parentHash)
+            // distinguishes the blocks of the different forks
+            .timestamp(++timestamp)
+            .buildHeader();
+    when(blockchain.getBlockHeader(header.getHash())).thenReturn(Optional.of(header));
+    return new Block(header, BlockBody.empty());
+  }
+
+  private static BlockAddedEvent headAdvanced(final Block block, final LogWithMetadata log) {
+    return BlockAddedEvent.createForHeadAdvancement(block, List.of(log), List.of());
+  }
+
+  private static LogWithMetadata log(
+      final Block block, final Address address, final LogTopic topic, final boolean removed) {
+    return new LogWithMetadata(
+        0,
+        block.getHeader().getNumber(),
+        block.getHash(),
+        Hash.ZERO,
+        0,
+        address,
+        Bytes.EMPTY,
+        List.of(topic),
+        removed);
+  }
+
+  private static LogsQuery query(final List<Address> addresses, final List<List<LogTopic>> topics) {
+    return new LogsQuery(addresses, topics);
+  }
+}
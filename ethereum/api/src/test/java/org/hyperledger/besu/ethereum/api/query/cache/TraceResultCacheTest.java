@@ -0,0 +1,94 @@
+/*
+ * Copyright contributors to Hyperledger Besu.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.ethereum.api.query.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.hyperledger.besu.datatypes.Hash;
+
+import java.nio.file.Path;
+
+import org.apache.tuweni.bytes.Bytes32;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class TraceResultCacheTest {
+  private static final String TRACER_CONFIG = "[\"trace_block\",[]]";
+  private static final String RESULT = "[{\"result\":\"" + "0123456789abcdef".repeat(64) + "\"}]";
+
+  @TempDir private Path cacheDir;
+
+  @Test
+  public void returnsCachedResultOnlyForSameBlockAndTracerConfig() {
+    final TraceResultCache cache = new TraceResultCache(cacheDir, Long.MAX_VALUE);
+    final Hash blockHash = Hash.wrap(Bytes32.random());
+
+    cache.put(blockHash, TRACER_CONFIG, RESULT);
+
+    assertThat(cache.get(blockHash, TRACER_CONFIG)).contains(RESULT);
+    assertThat(cache.get(blockHash, "[\"trace_block\",[true]]")).isEmpty();
+    assertThat(cache.get(Hash.wrap(Bytes32.random()), TRACER_CONFIG)).isEmpty();
+  }
+
+  @Test
+  public void evictsLeastRecentlyUsedResultsWhenOverMaxSize() {
+    final long entrySize = entrySize();
+    final TraceResultCache cache = new TraceResultCache(cacheDir, 2 * entrySize + entrySize / 2);
+    final Hash blockHash1 = Hash.wrap(Bytes32.random());
+    final Hash blockHash2 = Hash.wrap(Bytes32.random());
+    final Hash blockHash3 = Hash.wrap(Bytes32.random());
+
+    cache.put(blockHash1, TRACER_CONFIG, RESULT);
+    cache.put(blockHash2, TRACER_CONFIG, RESULT);
+    assertThat(cache.get(blockHash1, TRACER_CONFIG)).contains(RESULT);
+    cache.put(blockHash3, TRACER_CONFIG, RESULT);
+
+    assertThat(cache.get(blockHash1, TRACER_CONFIG)).contains(RESULT);
+    assertThat(cache.get(blockHash2, TRACER_CONFIG)).isEmpty();
+    assertThat(cache.get(blockHash3, TRACER_CONFIG)).contains(RESULT);
+    assertThat(cache.getSizeBytes()).isEqualTo(2 * entrySize);
+  }
+
+  @Test
+  public void doesNotCacheResultsOverMaxSize() {
+    final TraceResultCache cache = new TraceResultCache(cacheDir, 10);
+    final Hash blockHash = Hash.wrap(Bytes32.random());
+
+    cache.put(blockHash, TRACER_CONFIG, RESULT);
+
+    assertThat(cache.get(blockHash, TRACER_CONFIG)).isEmpty();
+    assertThat(cache.getSizeBytes()).isZero();
+    assertThat(cacheDir.toFile().list()).isEmpty();
+  }
+
+  @Test
+  public void keepsCachedResultsAcrossRestarts() {
+    final Hash blockHash = Hash.wrap(Bytes32.random());
+    final TraceResultCache cache = new TraceResultCache(cacheDir, Long.MAX_VALUE);
+    cache.put(blockHash, TRACER_CONFIG, RESULT);
+
+    final TraceResultCache reloadedCache = new TraceResultCache(cacheDir, Long.MAX_VALUE);
+
+    assertThat(reloadedCache.getSizeBytes()).isEqualTo(cache.getSizeBytes());
+    assertThat(reloadedCache.get(blockHash, TRACER_CONFIG)).contains(RESULT);
+  }
+
+  private long entrySize() {
+    final TraceResultCache cache =
+        new TraceResultCache(cacheDir.resolve("entry-size"), Long.MAX_VALUE);
+    cache.put(Hash.ZERO, TRACER_CONFIG, RESULT);
+    return cache.getSizeBytes();
+  }
+}
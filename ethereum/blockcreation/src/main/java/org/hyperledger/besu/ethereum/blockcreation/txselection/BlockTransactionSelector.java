@@ -36,13 +36,16 @@ import org.hyperledger.besu.ethereum.core.Transaction;
 import org.hyperledger.besu.ethereum.core.TransactionReceipt;
 import org.hyperledger.besu.ethereum.eth.manager.EthScheduler;
 import org.hyperledger.besu.ethereum.eth.transactions.PendingTransaction;
+import org.hyperledger.besu.ethereum.eth.transactions.PendingTransactions;
 import org.hyperledger.besu.ethereum.eth.transactions.TransactionPool;
 import org.hyperledger.besu.ethereum.mainnet.AbstractBlockProcessor;
 import org.hyperledger.besu.ethereum.mainnet.MainnetTransactionProcessor;
 import org.hyperledger.besu.ethereum.mainnet.TransactionValidationParams;
 import org.hyperledger.besu.ethereum.mainnet.blockhash.BlockHashProcessor;
 import org.hyperledger.besu.ethereum.mainnet.feemarket.FeeMarket;
+import org.hyperledger.besu.ethereum.mainnet.parallelization.ParallelizedTransactionContext;
 import org.hyperledger.besu.ethereum.processing.TransactionProcessingResult;
+import org.hyperledger.besu.ethereum.trie.diffbased.bonsai.worldview.BonsaiWorldState;
 import org.hyperledger.besu.ethereum.vm.CachingBlockHashLookup;
 import org.hyperledger.besu.evm.gascalculator.GasCalculator;
 import org.hyperledger.besu.evm.operation.BlockHashOperation.BlockHashLookup;
@@ -52,6 +55,7 @@ import org.hyperledger.besu.plugin.services.tracer.BlockAwareOperationTracer;
 import org.hyperledger.besu.plugin.services.txselection.PluginTransactionSelector;
 
 import java.util.List;
+import java.util.Optional;
 import java.util.concurrent.CancellationException;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
@@ -100,8 +104,24 @@ public class BlockTransactionSelector {
   private final EthScheduler ethScheduler;
   private final AtomicBoolean isTimeout = new AtomicBoolean(false);
   private final long blockTxsSelectionMaxTime;
+  private final Optional<ParallelCandidateTransactionsExecutor> parallelCandidatesExecutor;
   private WorldUpdater blockWorldStateUpdater;
 
+  private final PendingTransactions.TransactionSelector poolTransactionSelector =
+      new PendingTransactions.TransactionSelector() {
+        @Override
+        public TransactionSelectionResult evaluateTransaction(
+            final PendingTransaction pendingTransaction) {
+          return BlockTransactionSelector.this.evaluateTransaction(pendingTransaction);
+        }
+
+        @Override
+        public void onCandidateTransactions(final List<PendingTransaction> candidateTransactions) {
+          parallelCandidatesExecutor.ifPresent(
+              executor -> executor.onCandidateTransactions(candidateTransactions));
+        }
+      };
+
   public BlockTransactionSelector(
       final MiningParameters miningParameters,
       final MainnetTransactionProcessor transactionProcessor,
@@ -141,6 +161,27 @@ public class BlockTransactionSelector {
     this.pluginOperationTracer = pluginTransactionSelector.getOperationTracer();
     blockWorldStateUpdater = worldState.updater();
     blockTxsSelectionMaxTime = miningParameters.getBlockTxsSelectionMaxTime();
+    parallelCandidatesExecutor =
+        createParallelCandidatesExecutor(
+            miningParameters.getUnstable().getBlockTxsSelectionParallelCandidates());
+  }
+
+  private Optional<ParallelCandidateTransactionsExecutor> createParallelCandidatesExecutor(
+      final int parallelCandidates) {
+    // candidates executed in parallel are not traced by the plugin operation tracer,
+    // and the conflict detection requires Bonsai
+    if (parallelCandidates > 0
+        && worldState instanceof BonsaiWorldState
+        && pluginOperationTracer == BlockAwareOperationTracer.NO_TRACING) {
+      return Optional.of(
+          new ParallelCandidateTransactionsExecutor(
+              transactionProcessor,
+              worldState,
+              blockSelectionContext,
+              blockchain,
+              parallelCandidates));
+    }
+    return Optional.empty();
   }
 
   private List<AbstractTransactionSelector> createTransactionSelectors(
@@ -179,10 +220,13 @@ public class BlockTransactionSelector {
   private void timeLimitedSelection() {
     final var txSelection =
         ethScheduler.scheduleBlockCreationTask(
-            () ->
-                blockSelectionContext
-                    .transactionPool()
-                    .selectTransactions(this::evaluateTransaction));
+            () -> {
+              try {
+                blockSelectionContext.transactionPool().selectTransactions(poolTransactionSelector);
+              } finally {
+                parallelCandidatesExecutor.ifPresent(ParallelCandidateTransactionsExecutor::stop);
+              }
+            });
 
     try {
       txSelection.get(blockTxsSelectionMaxTime, TimeUnit.MILLISECONDS);
@@ -214,8 +258,17 @@ public class BlockTransactionSelector {
    *     evaluations.
    */
   public TransactionSelectionResults evaluateTransactions(final List<Transaction> transactions) {
-    transactions.forEach(
-        transaction -> evaluateTransaction(new PendingTransaction.Local.Priority(transaction)));
+    final List<PendingTransaction> pendingTransactions =
+        transactions.stream()
+            .<PendingTransaction>map(PendingTransaction.Local.Priority::new)
+            .toList();
+    try {
+      parallelCandidatesExecutor.ifPresent(
+          executor -> executor.onCandidateTransactions(pendingTransactions));
+      pendingTransactions.forEach(this::evaluateTransaction);
+    } finally {
+      parallelCandidatesExecutor.ifPresent(ParallelCandidateTransactionsExecutor::stop);
+    }
     return transactionSelectionResults;
   }
 
@@ -242,13 +295,19 @@ public class BlockTransactionSelector {
     }
 
     final WorldUpdater txWorldStateUpdater = blockWorldStateUpdater.updater();
+    final Optional<ParallelizedTransactionContext> parallelExecution =
+        parallelCandidatesExecutor.flatMap(
+            executor -> executor.takeConflictFreeExecution(pendingTransaction));
     final TransactionProcessingResult processingResult =
-        processTransaction(pendingTransaction, txWorldStateUpdater);
+        parallelExecution
+            .map(ParallelizedTransactionContext::transactionProcessingResult)
+            .orElseGet(() -> processTransaction(pendingTransaction, txWorldStateUpdater));
 
     var postProcessingSelectionResult = evaluatePostProcessing(evaluationContext, processingResult);
 
     if (postProcessingSelectionResult.selected()) {
-      return handleTransactionSelected(evaluationContext, processingResult, txWorldStateUpdater);
+      return handleTransactionSelected(
+          evaluationContext, processingResult, txWorldStateUpdater, parallelExecution);
     }
     return handleTransactionNotSelected(
         evaluationContext, postProcessingSelectionResult, txWorldStateUpdater);
@@ -350,12 +409,15 @@ public class BlockTransactionSelector {
    * @param evaluationContext The current selection session data.
    * @param processingResult The result of the transaction processing.
    * @param txWorldStateUpdater The world state updater.
+   * @param parallelExecution The conflict free parallel execution of the transaction, if its result
+   *     has been used instead of processing the transaction with the world state updater.
    * @return The result of the transaction selection process.
    */
   private TransactionSelectionResult handleTransactionSelected(
       final TransactionEvaluationContext evaluationContext,
       final TransactionProcessingResult processingResult,
-      final WorldUpdater txWorldStateUpdater) {
+      final WorldUpdater txWorldStateUpdater,
+      final Optional<ParallelizedTransactionContext> parallelExecution) {
     final Transaction transaction = evaluationContext.getTransaction();
 
     final long gasUsedByTransaction =
@@ -373,7 +435,11 @@ public class BlockTransactionSelector {
     synchronized (isTimeout) {
       tooLate = isTimeout.get();
       if (!tooLate) {
-        txWorldStateUpdater.commit();
+        if (parallelExecution.isPresent()) {
+          parallelCandidatesExecutor.get().applyExecution(parallelExecution.get());
+        } else {
+          txWorldStateUpdater.commit();
+        }
         blockWorldStateUpdater.commit();
         final TransactionReceipt receipt =
             transactionReceiptFactory.create(
@@ -0,0 +1,164 @@
+/*
+ * Copyright contributors to Hyperledger Besu.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.ethereum.blockcreation.txselection;
+
+import org.hyperledger.besu.datatypes.Hash;
+import org.hyperledger.besu.ethereum.chain.Blockchain;
+import org.hyperledger.besu.ethereum.core.MutableWorldState;
+import org.hyperledger.besu.ethereum.core.ProcessableBlockHeader;
+import org.hyperledger.besu.ethereum.eth.transactions.PendingTransaction;
+import org.hyperledger.besu.ethereum.mainnet.MainnetTransactionProcessor;
+import org.hyperledger.besu.ethereum.mainnet.parallelization.ParallelizedConcurrentTransactionProcessor;
+import org.hyperledger.besu.ethereum.mainnet.parallelization.ParallelizedTransactionContext;
+import org.hyperledger.besu.ethereum.vm.CachingBlockHashLookup;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Executes in parallel the candidate transactions that are next in line for evaluation, each one
+ * against its own copy of the world state the block is built on. When a candidate is evaluated, its
+ * execution result is reused if it does not conflict with the transactions already selected,
+ * otherwise the candidate is executed again as usual.
+ *
+ * <p>Not thread safe, it must only be used by the thread running the selection.
+ */
+class ParallelCandidateTransactionsExecutor {
+  private static final Logger LOG =
+      LoggerFactory.getLogger(ParallelCandidateTransactionsExecutor.class);
+
+  private final ParallelizedConcurrentTransactionProcessor parallelProcessor;
+  private final MutableWorldState worldState;
+  private final BlockSelectionContext blockSelectionContext;
+  private final Blockchain blockchain;
+  private final int maxCandidatesAhead;
+  private final Map<Hash, Integer> candidateLocationByHash = new HashMap<>();
+  private final Map<Integer, CompletableFuture<Void>> runningExecutions = new HashMap<>();
+  private List<PendingTransaction> candidateTransactions = List.of();
+  private int nextCandidateToExecute = 0;
+
+  ParallelCandidateTransactionsExecutor(
+      final MainnetTransactionProcessor transactionProcessor,
+      final MutableWorldState worldState,
+      final BlockSelectionContext blockSelectionContext,
+      final Blockchain blockchain,
+      final int maxCandidatesAhead) {
+    this.parallelProcessor = new ParallelizedConcurrentTransactionProcessor(transactionProcessor);
+    this.worldState = worldState;
+    this.blockSelectionContext = blockSelectionContext;
+    this.blockchain = blockchain;
+    this.maxCandidatesAhead = maxCandidatesAhead;
+  }
+
+  /**
+   * Set the candidate transactions, in evaluation order, and start executing the first ones.
+   *
+   * @param candidateTransactions the candidate transactions in evaluation order
+   */
+  void onCandidateTransactions(final List<PendingTransaction> candidateTransactions) {
+    this.candidateTransactions = candidateTransactions;
+    for (int i = 0; i < candidateTransactions.size(); i++) {
+      candidateLocationByHash.putIfAbsent(candidateTransactions.get(i).getHash(), i);
+    }
+    executeCandidatesUpTo(maxCandidatesAhead);
+  }
+
+  /**
+   * Wait for the parallel execution of the candidate, and return its context only if it can be
+   * applied on top of the transactions selected so far. In any case the parallel execution of the
+   * following candidates is started, to keep the configured number of them ahead of the evaluation.
+   *
+   * @param pendingTransaction the candidate being evaluated
+   * @return the context of the parallel execution if it is conflict free, empty otherwise
+   */
+  Optional<ParallelizedTransactionContext> takeConflictFreeExecution(
+      final PendingTransaction pendingTransaction) {
+    final Integer location = candidateLocationByHash.remove(pendingTransaction.getHash());
+    if (location == null) {
+      return Optional.empty();
+    }
+
+    executeCandidatesUpTo(location + 1 + maxCandidatesAhead);
+
+    final CompletableFuture<Void> execution = runningExecutions.remove(location);
+    if (execution == null) {
+      return Optional.empty();
+    }
+    try {
+      execution.join();
+    } catch (final CompletionException e) {
+      LOG.atTrace()
+          .setMessage("Parallel execution of candidate {} failed: {}")
+          .addArgument(pendingTransaction::toTraceLog)
+          .addArgument(e::getMessage)
+          .log();
+      return Optional.empty();
+    }
+
+    return parallelProcessor.takeConflictFreeTransactionContext(
+        worldState,
+        blockSelectionContext.miningBeneficiary(),
+        pendingTransaction.getTransaction(),
+        location,
+        Optional.empty());
+  }
+
+  /**
+   * Apply the changes of a selected candidate, whose parallel execution was conflict free, to the
+   * world state of the block.
+   *
+   * @param parallelizedTransactionContext the context of the parallel execution of the candidate
+   */
+  void applyExecution(final ParallelizedTransactionContext parallelizedTransactionContext) {
+    parallelProcessor.applyTransactionContext(
+        worldState, blockSelectionContext.miningBeneficiary(), parallelizedTransactionContext);
+  }
+
+  /**
+   * Stop executing candidates and wait for the running executions, so none of them is still using
+   * the world state when the block creation is done with it.
+   */
+  void stop() {
+    nextCandidateToExecute = candidateTransactions.size();
+    CompletableFuture.allOf(runningExecutions.values().toArray(CompletableFuture[]::new))
+        .handle((unused, throwable) -> null)
+        .join();
+    runningExecutions.clear();
+  }
+
+  private void executeCandidatesUpTo(final int endLocation) {
+    final ProcessableBlockHeader blockHeader = blockSelectionContext.processableBlockHeader();
+    final int end = Math.min(endLocation, candidateTransactions.size());
+    for (; nextCandidateToExecute < end; nextCandidateToExecute++) {
+      runningExecutions.put(
+          nextCandidateToExecute,
+          parallelProcessor.runAsyncCandidateTransaction(
+              worldState,
+              blockHeader,
+              nextCandidateToExecute,
+              candidateTransactions.get(nextCandidateToExecute).getTransaction(),
+              blockSelectionContext.miningBeneficiary(),
+              new CachingBlockHashLookup(blockHeader, blockchain),
+              blockSelectionContext.blobGasPrice()));
+    }
+  }
+}
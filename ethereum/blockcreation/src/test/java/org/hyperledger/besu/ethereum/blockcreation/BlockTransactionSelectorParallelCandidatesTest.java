@@ -0,0 +1,306 @@
+/*
+ * Copyright contributors to Hyperledger Besu.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.ethereum.blockcreation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import org.hyperledger.besu.config.GenesisConfigFile;
+import org.hyperledger.besu.crypto.KeyPair;
+import org.hyperledger.besu.crypto.SignatureAlgorithmFactory;
+import org.hyperledger.besu.datatypes.Address;
+import org.hyperledger.besu.datatypes.Hash;
+import org.hyperledger.besu.datatypes.TransactionType;
+import org.hyperledger.besu.datatypes.Wei;
+import org.hyperledger.besu.ethereum.GasLimitCalculator;
+import org.hyperledger.besu.ethereum.blockcreation.txselection.BlockTransactionSelector;
+import org.hyperledger.besu.ethereum.blockcreation.txselection.TransactionSelectionResults;
+import org.hyperledger.besu.ethereum.chain.BadBlockManager;
+import org.hyperledger.besu.ethereum.chain.GenesisState;
+import org.hyperledger.besu.ethereum.chain.MutableBlockchain;
+import org.hyperledger.besu.ethereum.core.AddressHelpers;
+import org.hyperledger.besu.ethereum.core.Block;
+import org.hyperledger.besu.ethereum.core.BlockHeaderBuilder;
+import org.hyperledger.besu.ethereum.core.Difficulty;
+import org.hyperledger.besu.ethereum.core.ImmutableMiningParameters;
+import org.hyperledger.besu.ethereum.core.ImmutableMiningParameters.MutableInitValues;
+import org.hyperledger.besu.ethereum.core.InMemoryKeyValueStorageProvider;
+import org.hyperledger.besu.ethereum.core.MiningParameters;
+import org.hyperledger.besu.ethereum.core.MutableWorldState;
+import org.hyperledger.besu.ethereum.core.PrivacyParameters;
+import org.hyperledger.besu.ethereum.core.ProcessableBlockHeader;
+import org.hyperledger.besu.ethereum.core.Transaction;
+import org.hyperledger.besu.ethereum.eth.manager.EthScheduler;
+import org.hyperledger.besu.ethereum.eth.transactions.TransactionPool;
+import org.hyperledger.besu.ethereum.mainnet.MainnetTransactionProcessor;
+import org.hyperledger.besu.ethereum.mainnet.ProtocolSchedule;
+import org.hyperledger.besu.ethereum.mainnet.ProtocolScheduleBuilder;
+import org.hyperledger.besu.ethereum.mainnet.ProtocolSpec;
+import org.hyperledger.besu.ethereum.mainnet.ProtocolSpecAdapters;
+import org.hyperledger.besu.ethereum.trie.diffbased.bonsai.worldview.BonsaiWorldState;
+import org.hyperledger.besu.evm.account.MutableAccount;
+import org.hyperledger.besu.evm.gascalculator.LondonGasCalculator;
+import org.hyperledger.besu.evm.internal.EvmConfiguration;
+import org.hyperledger.besu.evm.worldstate.WorldUpdater;
+import org.hyperledger.besu.metrics.noop.NoOpMetricsSystem;
+import org.hyperledger.besu.plugin.services.txselection.PluginTransactionSelector;
+
+import java.math.BigInteger;
+import java.time.Instant;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import org.apache.tuweni.bytes.Bytes;
+import org.apache.tuweni.units.bigints.UInt256;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Checks the selection with the parallel execution of the candidates enabled, on a Bonsai world
+ * state and with the real transaction processing, against the sequential selection.
+ */
+public class BlockTransactionSelectorParallelCandidatesTest {
+  private static final BigInteger CHAIN_ID = BigInteger.valueOf(42L);
+  private static final int PARALLEL_CANDIDATES = 4;
+  private static final List<KeyPair> SENDER_KEYS =
+      Stream.generate(SignatureAlgorithmFactory.getInstance()::generateKeyPair).limit(4).toList();
+  private static final Address COUNTER = AddressHelpers.ofValue(0xc0de);
+  // increments the value of the storage slot 0 at each call
+  private static final Bytes COUNTER_CODE = Bytes.fromHexString("0x60005460010160005500");
+
+  private ProtocolSchedule protocolSchedule;
+  private MutableBlockchain blockchain;
+  private MainnetTransactionProcessor transactionProcessor;
+  private MutableWorldState worldState;
+
+  @BeforeEach
+  public void setup() {
+    final GenesisConfigFile genesisConfigFile =
+        GenesisConfigFile.fromResource("/block-transaction-selector/london-genesis.json");
+    protocolSchedule =
+        new ProtocolScheduleBuilder(
+                genesisConfigFile.getConfigOptions(),
+                CHAIN_ID,
+                ProtocolSpecAdapters.create(0, Function.identity()),
+                new PrivacyParameters(),
+                false,
+                EvmConfiguration.DEFAULT,
+                MiningParameters.MINING_DISABLED,
+                new BadBlockManager(),
+                false,
+                new NoOpMetricsSystem())
+            .createProtocolSchedule();
+    final Block genesisBlock =
+        GenesisState.fromConfig(genesisConfigFile, protocolSchedule).getBlock();
+    blockchain = InMemoryKeyValueStorageProvider.createInMemoryBlockchain(genesisBlock);
+    transactionProcessor =
+        spy(
+            protocolSchedule
+                .getByBlockHeader(blockchain.getChainHeadHeader())
+                .getTransactionProcessor());
+  }
+
+  @Test
+  public void conflictFreeParallelExecutionsAreReused() {
+    final List<Transaction> transactions =
+        List.of(
+            createTransfer(SENDER_KEYS.get(0), 0, AddressHelpers.ofValue(100)),
+            createTransfer(SENDER_KEYS.get(1), 0, AddressHelpers.ofValue(101)),
+            createTransfer(SENDER_KEYS.get(2), 0, AddressHelpers.ofValue(102)));
+
+    final TransactionSelectionResults results =
+        selectTransactions(PARALLEL_CANDIDATES, transactions);
+
+    assertThat(results.getSelectedTransactions()).containsExactlyElementsOf(transactions);
+    assertThat(results.getNotSelectedTransactions()).isEmpty();
+    transactions.forEach(transaction -> verifySequentialExecutions(transaction, 0));
+  }
+
+  @Test
+  public void sameSenderNonceChainFallsBackToSequentialExecution() {
+    final Transaction firstTransaction =
+        createTransfer(SENDER_KEYS.get(0), 0, AddressHelpers.ofValue(100));
+    final Transaction nextNonceTransaction =
+        createTransfer(SENDER_KEYS.get(0), 1, AddressHelpers.ofValue(101));
+
+    final TransactionSelectionResults results =
+        selectTransactions(PARALLEL_CANDIDATES, List.of(firstTransaction, nextNonceTransaction));
+
+    assertThat(results.getSelectedTransactions())
+        .containsExactly(firstTransaction, nextNonceTransaction);
+    assertThat(results.getNotSelectedTransactions()).isEmpty();
+    verifySequentialExecutions(firstTransaction, 0);
+    // executed in parallel against the parent state, its nonce is too high
+    verifySequentialExecutions(nextNonceTransaction, 1);
+  }
+
+  @Test
+  public void sharedStorageSlotFallsBackToSequentialExecution() {
+    final Transaction firstIncrement = createCounterIncrement(SENDER_KEYS.get(0), 0);
+    final Transaction secondIncrement = createCounterIncrement(SENDER_KEYS.get(1), 0);
+
+    final TransactionSelectionResults results =
+        selectTransactions(PARALLEL_CANDIDATES, List.of(firstIncrement, secondIncrement));
+
+    assertThat(results.getSelectedTransactions()).containsExactly(firstIncrement, secondIncrement);
+    assertThat(results.getNotSelectedTransactions()).isEmpty();
+    verifySequentialExecutions(firstIncrement, 0);
+    verifySequentialExecutions(secondIncrement, 1);
+    // the second increment sees the first one
+    assertThat(worldState.updater().get(COUNTER).getStorageValue(UInt256.ZERO))
+        .isEqualTo(UInt256.valueOf(2));
+  }
+
+  @Test
+  public void parallelSelectionMatchesSequentialSelection() {
+    final List<Transaction> transactions =
+        List.of(
+            createTransfer(SENDER_KEYS.get(0), 0, AddressHelpers.ofValue(100)),
+            createCounterIncrement(SENDER_KEYS.get(1), 0),
+            createTransfer(SENDER_KEYS.get(0), 1, AddressHelpers.ofValue(101)),
+            createCounterIncrement(SENDER_KEYS.get(2), 0),
+            createTransfer(SENDER_KEYS.get(3), 0, AddressHelpers.ofValue(102)),
+            createCounterIncrement(SENDER_KEYS.get(1), 1));
+
+    final TransactionSelectionResults sequentialResults = selectTransactions(0, transactions);
+    final Hash sequentialStateRoot = persistAndGetStateRoot();
+
+    final TransactionSelectionResults parallelResults =
+        selectTransactions(PARALLEL_CANDIDATES, transactions);
+    final Hash parallelStateRoot = persistAndGetStateRoot();
+
+    assertThat(sequentialResults.getSelectedTransactions()).containsExactlyElementsOf(transactions);
+    assertThat(parallelResults.getSelectedTransactions())
+        .containsExactlyElementsOf(sequentialResults.getSelectedTransactions());
+    assertThat(parallelResults.getReceipts())
+        .containsExactlyElementsOf(sequentialResults.getReceipts());
+    assertThat(parallelResults.getCumulativeGasUsed())
+        .isEqualTo(sequentialResults.getCumulativeGasUsed());
+    assertThat(parallelStateRoot).isEqualTo(sequentialStateRoot);
+  }
+
+  private TransactionSelectionResults selectTransactions(
+      final int parallelCandidates, final List<Transaction> transactions) {
+    worldState = createWorldState();
+    assertThat(worldState).isInstanceOf(BonsaiWorldState.class);
+
+    final ProcessableBlockHeader blockHeader =
+        BlockHeaderBuilder.create()
+            .parentHash(blockchain.getChainHeadHash())
+            .coinbase(AddressHelpers.ofValue(1))
+            .difficulty(Difficulty.ONE)
+            .number(1)
+            .gasLimit(blockchain.getChainHeadHeader().getGasLimit())
+            .timestamp(Instant.now().getEpochSecond())
+            .baseFee(Wei.ONE)
+            .buildProcessableBlockHeader();
+    final ProtocolSpec protocolSpec = protocolSchedule.getByBlockHeader(blockHeader);
+
+    final BlockTransactionSelector selector =
+        new BlockTransactionSelector(
+            createMiningParameters(parallelCandidates),
+            transactionProcessor,
+            blockchain,
+            worldState,
+            mock(TransactionPool.class),
+            blockHeader,
+            protocolSpec.getTransactionReceiptFactory(),
+            () -> false,
+            blockHeader.getCoinbase(),
+            Wei.ZERO,
+            protocolSpec.getFeeMarket(),
+            new LondonGasCalculator(),
+            GasLimitCalculator.constant(),
+            protocolSpec.getBlockHashProcessor(),
+            PluginTransactionSelector.ACCEPT_ALL,
+            mock(EthScheduler.class));
+
+    return selector.evaluateTransactions(transactions);
+  }
+
+  private MutableWorldState createWorldState() {
+    final MutableWorldState worldState =
+        InMemoryKeyValueStorageProvider.createBonsaiInMemoryWorldStateArchive(blockchain)
+            .getMutable();
+    final WorldUpdater updater = worldState.updater();
+    SENDER_KEYS.forEach(keyPair -> updater.createAccount(senderOf(keyPair), 0, Wei.fromEth(1)));
+    final MutableAccount counter = updater.createAccount(COUNTER);
+    counter.setCode(COUNTER_CODE);
+    updater.commit();
+    worldState.persist(null);
+    return worldState;
+  }
+
+  private Hash persistAndGetStateRoot() {
+    worldState.persist(null);
+    return worldState.rootHash();
+  }
+
+  private MiningParameters createMiningParameters(final int parallelCandidates) {
+    return ImmutableMiningParameters.builder()
+        .mutableInitValues(
+            MutableInitValues.builder()
+                .minTransactionGasPrice(Wei.ZERO)
+                .minBlockOccupancyRatio(0.8)
+                .build())
+        .unstable(
+            ImmutableMiningParameters.Unstable.builder()
+                .blockTxsSelectionParallelCandidates(parallelCandidates)
+                .build())
+        .build();
+  }
+
+  private void verifySequentialExecutions(
+      final Transaction transaction, final int expectedExecutions) {
+    verify(transactionProcessor, times(expectedExecutions))
+        .processTransaction(
+            any(), any(), eq(transaction), any(), any(), any(), anyBoolean(), any(), any());
+  }
+
+  private Transaction createTransfer(final KeyPair keyPair, final long nonce, final Address to) {
+    return createTransaction(keyPair, nonce, to, Wei.ONE);
+  }
+
+  private Transaction createCounterIncrement(final KeyPair keyPair, final long nonce) {
+    return createTransaction(keyPair, nonce, COUNTER, Wei.ZERO);
+  }
+
+  private Transaction createTransaction(
+      final KeyPair keyPair, final long nonce, final Address to, final Wei value) {
+    return Transaction.builder()
+        .type(TransactionType.EIP1559)
+        .gasLimit(100_000)
+        .maxFeePerGas(Wei.of(10))
+        .maxPriorityFeePerGas(Wei.ONE)
+        .nonce(nonce)
+        .payload(Bytes.EMPTY)
+        .to(to)
+        .value(value)
+        .sender(senderOf(keyPair))
+        .chainId(CHAIN_ID)
+        .signAndBuild(keyPair);
+  }
+
+  private static Address senderOf(final KeyPair keyPair) {
+    return Address.extract(Hash.hash(keyPair.getPublicKey().getEncodedBytes()));
+  }
+}
@@ -120,6 +120,14 @@ public class MainnetBlockValidator implements BlockValidator {
     final BlockHeader header = block.getHeader();
     final BlockHeader parentHeader;
 
+    // recover the senders while the header is validated and the parent world state is loaded,
+    // transactions pick up whatever has been recovered by the time they are executed
+    context
+        .getTransactionSenderRecovery()
+        .ifPresent(
+            transactionSenderRecovery ->
+                transactionSenderRecovery.recoverSendersAsync(block.getBody().getTransactions()));
+
     try {
       final MutableBlockchain blockchain = context.getBlockchain();
       final Optional<BlockHeader> maybeParentHeader =
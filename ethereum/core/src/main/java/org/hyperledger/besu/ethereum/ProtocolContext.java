@@ -18,6 +18,7 @@ import org.hyperledger.besu.ethereum.chain.BadBlockManager;
 import org.hyperledger.besu.ethereum.chain.MutableBlockchain;
 import org.hyperledger.besu.ethereum.core.Synchronizer;
 import org.hyperledger.besu.ethereum.mainnet.ProtocolSchedule;
+import org.hyperledger.besu.ethereum.mainnet.TransactionSenderRecovery;
 import org.hyperledger.besu.ethereum.worldstate.WorldStateArchive;
 
 import java.util.Optional;
@@ -34,6 +35,7 @@ public class ProtocolContext {
   private final ConsensusContext consensusContext;
 
   private Optional<Synchronizer> synchronizer;
+  private Optional<TransactionSenderRecovery> transactionSenderRecovery = Optional.empty();
 
   /**
    * Constructs a new ProtocolContext with the given blockchain, world state archive, consensus
@@ -98,6 +100,25 @@ public class ProtocolContext {
     this.synchronizer = synchronizer;
   }
 
+  /**
+   * Gets the transaction sender recovery of the protocol context.
+   *
+   * @return the transaction sender recovery of the protocol context, if any
+   */
+  public Optional<TransactionSenderRecovery> getTransactionSenderRecovery() {
+    return transactionSenderRecovery;
+  }
+
+  /**
+   * Sets the transaction sender recovery of the protocol context.
+   *
+   * @param transactionSenderRecovery the transaction sender recovery to set
+   */
+  public void setTransactionSenderRecovery(
+      final Optional<TransactionSenderRecovery> transactionSenderRecovery) {
+    this.transactionSenderRecovery = transactionSenderRecovery;
+  }
+
   /**
    * Gets the blockchain of the protocol context.
    *
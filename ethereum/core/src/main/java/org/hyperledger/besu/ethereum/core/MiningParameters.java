@@ -324,6 +324,9 @@ public abstract class MiningParameters {
     int DEFAULT_MAX_OMMERS_DEPTH = 8;
     long DEFAULT_POS_BLOCK_CREATION_MAX_TIME = Duration.ofSeconds(12).toMillis();
     long DEFAULT_POS_BLOCK_CREATION_REPETITION_MIN_DURATION = Duration.ofMillis(500).toMillis();
+    boolean DEFAULT_POS_SPECULATIVE_BLOCK_CREATION_ENABLED = false;
+    long DEFAULT_POS_SECONDS_PER_SLOT = 12;
+    int DEFAULT_BLOCK_TXS_SELECTION_PARALLEL_CANDIDATES = 0;
 
     MiningParameters.Unstable DEFAULT = ImmutableMiningParameters.Unstable.builder().build();
 
@@ -357,6 +360,21 @@ public abstract class MiningParameters {
       return DEFAULT_POS_BLOCK_CREATION_REPETITION_MIN_DURATION;
     }
 
+    @Value.Default
+    default boolean isPosSpeculativeBlockCreationEnabled() {
+      return DEFAULT_POS_SPECULATIVE_BLOCK_CREATION_ENABLED;
+    }
+
+    @Value.Default
+    default long getPosSecondsPerSlot() {
+      return DEFAULT_POS_SECONDS_PER_SLOT;
+    }
+
+    @Value.Default
+    default int getBlockTxsSelectionParallelCandidates() {
+      return DEFAULT_BLOCK_TXS_SELECTION_PARALLEL_CANDIDATES;
+    }
+
     @Value.Default
     default String getStratumExtranonce() {
       return "080c";
@@ -18,7 +18,6 @@ import static org.hyperledger.besu.evm.account.Account.MAX_NONCE;
 
 import org.hyperledger.besu.crypto.SECPSignature;
 import org.hyperledger.besu.crypto.SignatureAlgorithmFactory;
-import org.hyperledger.besu.datatypes.Blob;
 import org.hyperledger.besu.datatypes.BlobsWithCommitments;
 import org.hyperledger.besu.datatypes.Hash;
 import org.hyperledger.besu.datatypes.KZGCommitment;
@@ -100,7 +99,8 @@ public class MainnetTransactionValidator implements TransactionValidator {
 
       if (transaction.getBlobsWithCommitments().isPresent()) {
         final ValidationResult<TransactionInvalidReason> blobsResult =
-            validateTransactionsBlobs(transaction);
+            validateTransactionsBlobs(
+                transaction, transactionValidationParams.checkBlobsKzgProofs());
         if (!blobsResult.isValid()) {
           return blobsResult;
         }
@@ -320,6 +320,11 @@ public class MainnetTransactionValidator implements TransactionValidator {
 
   public ValidationResult<TransactionInvalidReason> validateTransactionsBlobs(
       final Transaction transaction) {
+    return validateTransactionsBlobs(transaction, true);
+  }
+
+  private ValidationResult<TransactionInvalidReason> validateTransactionsBlobs(
+      final Transaction transaction, final boolean checkKzgProofs) {
 
     if (transaction.getBlobsWithCommitments().isEmpty()) {
       return ValidationResult.invalid(
@@ -363,35 +368,45 @@ public class MainnetTransactionValidator implements TransactionValidator {
       }
     }
 
+    if (checkKzgProofs && !verifyKzgProofs(List.of(blobsWithCommitments))) {
+      return ValidationResult.invalid(
+          TransactionInvalidReason.INVALID_BLOBS,
+          "transaction blobs kzg proof verification failed");
+    }
+
+    return ValidationResult.valid();
+  }
+
+  @Override
+  public boolean verifyBlobsKzgProofs(final List<Transaction> transactions) {
+    return verifyKzgProofs(
+        transactions.stream()
+            .map(Transaction::getBlobsWithCommitments)
+            .flatMap(Optional::stream)
+            .toList());
+  }
+
+  private static boolean verifyKzgProofs(final List<BlobsWithCommitments> blobsWithCommitments) {
+    final List<BlobsWithCommitments.BlobQuad> blobQuads =
+        blobsWithCommitments.stream().flatMap(bwc -> bwc.getBlobQuads().stream()).toList();
+
     final byte[] blobs =
-        Bytes.wrap(blobsWithCommitments.getBlobs().stream().map(Blob::getData).toList())
+        Bytes.wrap(blobQuads.stream().map(blobQuad -> blobQuad.blob().getData()).toList())
             .toArrayUnsafe();
 
     final byte[] kzgCommitments =
         Bytes.wrap(
-                blobsWithCommitments.getKzgCommitments().stream()
-                    .map(kc -> (Bytes) kc.getData())
+                blobQuads.stream()
+                    .map(blobQuad -> (Bytes) blobQuad.kzgCommitment().getData())
                     .toList())
             .toArrayUnsafe();
 
     final byte[] kzgProofs =
         Bytes.wrap(
-                blobsWithCommitments.getKzgProofs().stream()
-                    .map(kp -> (Bytes) kp.getData())
-                    .toList())
+                blobQuads.stream().map(blobQuad -> (Bytes) blobQuad.kzgProof().getData()).toList())
             .toArrayUnsafe();
 
-    final boolean kzgVerification =
-        CKZG4844JNI.verifyBlobKzgProofBatch(
-            blobs, kzgCommitments, kzgProofs, blobsWithCommitments.getBlobs().size());
-
-    if (!kzgVerification) {
-      return ValidationResult.invalid(
-          TransactionInvalidReason.INVALID_BLOBS,
-          "transaction blobs kzg proof verification failed");
-    }
-
-    return ValidationResult.valid();
+    return CKZG4844JNI.verifyBlobKzgProofBatch(blobs, kzgCommitments, kzgProofs, blobQuads.size());
   }
 
   private VersionedHash hashCommitment(final KZGCommitment commitment) {
@@ -20,6 +20,7 @@ import org.hyperledger.besu.ethereum.core.Transaction;
 import org.hyperledger.besu.ethereum.transaction.TransactionInvalidReason;
 import org.hyperledger.besu.evm.account.Account;
 
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -63,6 +64,11 @@ public class PermissionTransactionValidator implements TransactionValidator {
     return delegate.validateForSender(transaction, sender, validationParams);
   }
 
+  @Override
+  public boolean verifyBlobsKzgProofs(final List<Transaction> transactions) {
+    return delegate.verifyBlobsKzgProofs(transactions);
+  }
+
   private boolean isSenderAllowed(
       final Transaction transaction, final TransactionValidationParams validationParams) {
     if (validationParams.checkLocalPermissions() || validationParams.checkOnchainPermissions()) {
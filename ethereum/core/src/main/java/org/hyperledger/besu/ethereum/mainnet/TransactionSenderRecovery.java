@@ -0,0 +1,123 @@
+/*
+ * Copyright contributors to Hyperledger Besu.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.ethereum.mainnet;
+
+import org.hyperledger.besu.ethereum.core.Transaction;
+
+import java.io.Closeable;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Recovers transaction senders on a bounded pool of worker threads, so that the signature recovery
+ * of a whole block, or of a batch of pooled transactions, is not paid serially by the caller.
+ *
+ * <p>The recovered sender is cached by the transaction itself, so a caller that reaches a
+ * transaction before its sender has been recovered in the background simply computes it, and the
+ * result is the same either way. For the same reason, the transactions that do not fit in the
+ * queue of the executor are just left to the caller.
+ */
+public class TransactionSenderRecovery implements Closeable {
+  private static final Logger LOG = LoggerFactory.getLogger(TransactionSenderRecovery.class);
+
+  /** The number of pending recoveries above which new ones are rejected. */
+  public static final int MAX_QUEUE_SIZE = 4_096;
+
+  // handing off a single recovery costs more than it saves
+  private static final int MIN_TRANSACTIONS_FOR_PARALLEL_RECOVERY = 2;
+
+  private final ExecutorService executor;
+
+  /**
+   * Instantiates a new transaction sender recovery, that takes ownership of the executor.
+   *
+   * @param executor the executor running the recoveries, shut down when this is closed
+   */
+  public TransactionSenderRecovery(final ExecutorService executor) {
+    this.executor = executor;
+  }
+
+  /**
+   * Start recovering the senders of the given transactions in the background, in iteration order.
+   * The transactions rejected by the executor are not recovered.
+   *
+   * @param transactions the transactions whose senders should be recovered
+   * @return a future completed once all the scheduled senders have been recovered or failed to
+   *     recover
+   */
+  public CompletableFuture<Void> recoverSendersAsync(final Collection<Transaction> transactions) {
+    return recoverSenders(transactions, false);
+  }
+
+  /**
+   * Recover the senders of the given transactions in parallel, returning once all are done. The
+   * transactions rejected by the executor are recovered by the calling thread.
+   *
+   * @param transactions the transactions whose senders should be recovered
+   */
+  public void recoverSenders(final Collection<Transaction> transactions) {
+    recoverSenders(transactions, true).join();
+  }
+
+  private CompletableFuture<Void> recoverSenders(
+      final Collection<Transaction> transactions, final boolean recoverRejected) {
+    if (transactions.size() < MIN_TRANSACTIONS_FOR_PARALLEL_RECOVERY) {
+      return CompletableFuture.completedFuture(null);
+    }
+    final List<CompletableFuture<Void>> recoveries = new ArrayList<>(transactions.size());
+    boolean rejected = false;
+    for (final Transaction transaction : transactions) {
+      if (!rejected) {
+        try {
+          recoveries.add(CompletableFuture.runAsync(() -> recoverSender(transaction), executor));
+          continue;
+        } catch (final RejectedExecutionException e) {
+          LOG.trace("Sender recovery queue full, leaving the remaining senders to the caller");
+          rejected = true;
+        }
+      }
+      if (!recoverRejected) {
+        break;
+      }
+      recoverSender(transaction);
+    }
+    return CompletableFuture.allOf(recoveries.toArray(CompletableFuture[]::new));
+  }
+
+  private static void recoverSender(final Transaction transaction) {
+    try {
+      transaction.getSender();
+    } catch (final RuntimeException e) {
+      // an invalid signature is reported when the transaction is validated
+      LOG.atTrace()
+          .setMessage("Unable to recover sender of transaction {}: {}")
+          .addArgument(transaction::getHash)
+          .addArgument(e::getMessage)
+          .log();
+    }
+  }
+
+  @Override
+  public void close() {
+    executor.shutdownNow();
+  }
+}
@@ -21,19 +21,19 @@ import org.immutables.value.Value;
 public interface TransactionValidationParams {
 
   TransactionValidationParams processingBlockParams =
-      ImmutableTransactionValidationParams.of(false, false, false, true, false, false);
+      ImmutableTransactionValidationParams.of(false, false, false, true, false, false, true);
 
   TransactionValidationParams transactionPoolParams =
-      ImmutableTransactionValidationParams.of(true, false, true, true, true, false);
+      ImmutableTransactionValidationParams.of(true, false, true, true, true, false, true);
 
   TransactionValidationParams miningParams =
-      ImmutableTransactionValidationParams.of(false, false, false, true, true, false);
+      ImmutableTransactionValidationParams.of(false, false, false, true, true, false, true);
 
   TransactionValidationParams blockReplayParams =
-      ImmutableTransactionValidationParams.of(false, false, false, false, false, false);
+      ImmutableTransactionValidationParams.of(false, false, false, false, false, false, true);
 
   TransactionValidationParams transactionSimulatorParams =
-      ImmutableTransactionValidationParams.of(false, false, false, false, false, true);
+      ImmutableTransactionValidationParams.of(false, false, false, false, false, true, true);
 
   @Value.Default
   default boolean isAllowFutureNonce() {
@@ -65,6 +65,11 @@ public interface TransactionValidationParams {
     return false;
   }
 
+  @Value.Default
+  default boolean checkBlobsKzgProofs() {
+    return true;
+  }
+
   static TransactionValidationParams transactionSimulator() {
     return transactionSimulatorParams;
   }
@@ -19,6 +19,7 @@ import org.hyperledger.besu.ethereum.core.Transaction;
 import org.hyperledger.besu.ethereum.transaction.TransactionInvalidReason;
 import org.hyperledger.besu.evm.account.Account;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface TransactionValidator {
@@ -53,4 +54,16 @@ public interface TransactionValidator {
    */
   ValidationResult<TransactionInvalidReason> validateForSender(
       Transaction transaction, Account sender, TransactionValidationParams validationParams);
+
+  /**
+   * Verifies the KZG proofs of the blobs of many transactions with a single batched verification.
+   * This is cheaper than verifying the proofs one transaction at a time.
+   *
+   * @param transactions the blob transactions, with their blobs
+   * @return true if all the proofs are valid, false if at least one of them is not or if batched
+   *     verification is not supported
+   */
+  default boolean verifyBlobsKzgProofs(final List<Transaction> transactions) {
+    return false;
+  }
 }
@@ -18,6 +18,7 @@ import org.hyperledger.besu.datatypes.Address;
 import org.hyperledger.besu.datatypes.Wei;
 import org.hyperledger.besu.ethereum.core.BlockHeader;
 import org.hyperledger.besu.ethereum.core.MutableWorldState;
+import org.hyperledger.besu.ethereum.core.ProcessableBlockHeader;
 import org.hyperledger.besu.ethereum.core.Transaction;
 import org.hyperledger.besu.ethereum.mainnet.MainnetTransactionProcessor;
 import org.hyperledger.besu.ethereum.mainnet.TransactionValidationParams;
@@ -126,6 +127,44 @@ public class ParallelizedConcurrentTransactionProcessor {
     }
   }
 
+  /**
+   * Starts the optimistic execution of a candidate transaction for the block being created, against
+   * a copy of the world state the block is built on. The result is kept until it is claimed with
+   * {@link #takeConflictFreeTransactionContext}.
+   *
+   * @param worldState the world state of the block being created, it is not modified
+   * @param blockHeader the header of the block being created
+   * @param transactionLocation a key that identifies the transaction among the candidates
+   * @param transaction the candidate transaction
+   * @param miningBeneficiary address of the beneficiary to receive mining rewards
+   * @param blockHashLookup function for block hash lookup
+   * @param blobGasPrice gas price for blob transactions
+   * @return a future completed when the execution is done
+   */
+  public CompletableFuture<Void> runAsyncCandidateTransaction(
+      final MutableWorldState worldState,
+      final ProcessableBlockHeader blockHeader,
+      final int transactionLocation,
+      final Transaction transaction,
+      final Address miningBeneficiary,
+      final BlockHashOperation.BlockHashLookup blockHashLookup,
+      final Wei blobGasPrice) {
+    return CompletableFuture.runAsync(
+        () ->
+            runTransaction(
+                worldState,
+                blockHeader,
+                transactionLocation,
+                transaction,
+                miningBeneficiary,
+                blockHashLookup,
+                blobGasPrice,
+                false,
+                TransactionValidationParams.mining(),
+                null),
+        executor);
+  }
+
   @VisibleForTesting
   public void runTransaction(
       final MutableWorldState worldState,
@@ -136,6 +175,30 @@ public class ParallelizedConcurrentTransactionProcessor {
       final BlockHashOperation.BlockHashLookup blockHashLookup,
       final Wei blobGasPrice,
       final PrivateMetadataUpdater privateMetadataUpdater) {
+    runTransaction(
+        worldState,
+        blockHeader,
+        transactionLocation,
+        transaction,
+        miningBeneficiary,
+        blockHashLookup,
+        blobGasPrice,
+        true,
+        TransactionValidationParams.processingBlock(),
+        privateMetadataUpdater);
+  }
+
+  private void runTransaction(
+      final MutableWorldState worldState,
+      final ProcessableBlockHeader blockHeader,
+      final int transactionLocation,
+      final Transaction transaction,
+      final Address miningBeneficiary,
+      final BlockHashOperation.BlockHashLookup blockHashLookup,
+      final Wei blobGasPrice,
+      final boolean isPersistingPrivateState,
+      final TransactionValidationParams transactionValidationParams,
+      final PrivateMetadataUpdater privateMetadataUpdater) {
     try (final DiffBasedWorldState roundWorldState =
         new BonsaiWorldState(
             (BonsaiWorldState) worldState, new NoopBonsaiCachedMerkleTrieLoader())) {
@@ -172,8 +235,8 @@ public class ParallelizedConcurrentTransactionProcessor {
                 }
               },
               blockHashLookup,
-              true,
-              TransactionValidationParams.processingBlock(),
+              isPersistingPrivateState,
+              transactionValidationParams,
               privateMetadataUpdater,
               blobGasPrice);
 
@@ -228,6 +291,44 @@ public class ParallelizedConcurrentTransactionProcessor {
       final int transactionLocation,
       final Optional<Counter> confirmedParallelizedTransactionCounter,
       final Optional<Counter> conflictingButCachedTransactionCounter) {
+    final Optional<ParallelizedTransactionContext> maybeParallelizedTransactionContext =
+        takeConflictFreeTransactionContext(
+            worldState,
+            miningBeneficiary,
+            transaction,
+            transactionLocation,
+            conflictingButCachedTransactionCounter);
+    maybeParallelizedTransactionContext.ifPresent(
+        parallelizedTransactionContext -> {
+          applyTransactionContext(worldState, miningBeneficiary, parallelizedTransactionContext);
+          confirmedParallelizedTransactionCounter.ifPresent(Counter::inc);
+        });
+    return maybeParallelizedTransactionContext.map(
+        ParallelizedTransactionContext::transactionProcessingResult);
+  }
+
+  /**
+   * Claims the context of a transaction executed in parallel, if its execution completed
+   * successfully and it does not conflict with the changes already applied to the world state.
+   *
+   * <p>In case of conflict, the data read during the execution is cached in the world state, to
+   * make the replay of the transaction faster, and an empty result is returned.
+   *
+   * @param worldState Mutable world state intended for applying transaction results.
+   * @param miningBeneficiary Address of the beneficiary for mining rewards.
+   * @param transaction Transaction for which the context is claimed.
+   * @param transactionLocation Index of the transaction within the block.
+   * @param conflictingButCachedTransactionCounter Metric counter for conflicting but cached
+   *     transactions
+   * @return Optional containing the context of the transaction if it can be applied, or empty if
+   *     the transaction needs to be executed again.
+   */
+  public Optional<ParallelizedTransactionContext> takeConflictFreeTransactionContext(
+      final MutableWorldState worldState,
+      final Address miningBeneficiary,
+      final Transaction transaction,
+      final int transactionLocation,
+      final Optional<Counter> conflictingButCachedTransactionCounter) {
     final DiffBasedWorldState diffBasedWorldState = (DiffBasedWorldState) worldState;
     final DiffBasedWorldStateUpdateAccumulator blockAccumulator =
         (DiffBasedWorldStateUpdateAccumulator) diffBasedWorldState.updater();
@@ -245,15 +346,7 @@ public class ParallelizedConcurrentTransactionProcessor {
           transactionCollisionDetector.hasCollision(
               transaction, miningBeneficiary, parallelizedTransactionContext, blockAccumulator);
       if (transactionProcessingResult.isSuccessful() && !hasCollision) {
-        blockAccumulator
-            .getOrCreate(miningBeneficiary)
-            .incrementBalance(parallelizedTransactionContext.miningBeneficiaryReward());
-
-        blockAccumulator.importStateChangesFromSource(transactionAccumulator);
-
-        if (confirmedParallelizedTransactionCounter.isPresent())
-          confirmedParallelizedTransactionCounter.get().inc();
-        return Optional.of(transactionProcessingResult);
+        return Optional.of(parallelizedTransactionContext);
       } else {
         blockAccumulator.importPriorStateFromSource(transactionAccumulator);
         if (conflictingButCachedTransactionCounter.isPresent())
@@ -265,4 +358,28 @@ public class ParallelizedConcurrentTransactionProcessor {
     }
     return Optional.empty();
   }
+
+  /**
+   * Applies the changes of a conflict free transaction, claimed with {@link
+   * #takeConflictFreeTransactionContext}, to the world state, including the reward of the mining
+   * beneficiary.
+   *
+   * @param worldState Mutable world state intended for applying transaction results.
+   * @param miningBeneficiary Address of the beneficiary for mining rewards.
+   * @param parallelizedTransactionContext The context of the transaction to apply.
+   */
+  public void applyTransactionContext(
+      final MutableWorldState worldState,
+      final Address miningBeneficiary,
+      final ParallelizedTransactionContext parallelizedTransactionContext) {
+    final DiffBasedWorldState diffBasedWorldState = (DiffBasedWorldState) worldState;
+    final DiffBasedWorldStateUpdateAccumulator blockAccumulator =
+        (DiffBasedWorldStateUpdateAccumulator) diffBasedWorldState.updater();
+    blockAccumulator
+        .getOrCreate(miningBeneficiary)
+        .incrementBalance(parallelizedTransactionContext.miningBeneficiaryReward());
+
+    blockAccumulator.importStateChangesFromSource(
+        parallelizedTransactionContext.transactionAccumulator());
+  }
 }
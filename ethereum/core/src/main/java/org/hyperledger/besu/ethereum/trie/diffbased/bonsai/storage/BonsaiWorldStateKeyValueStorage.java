@@ -33,17 +33,21 @@ import org.hyperledger.besu.ethereum.worldstate.StateTrieAccountValue;
 import org.hyperledger.besu.ethereum.worldstate.WorldStateKeyValueStorage;
 import org.hyperledger.besu.evm.account.AccountStorageEntry;
 import org.hyperledger.besu.plugin.services.MetricsSystem;
+import org.hyperledger.besu.plugin.services.storage.BulkLoadableKeyValueStorage;
 import org.hyperledger.besu.plugin.services.storage.DataStorageFormat;
 import org.hyperledger.besu.plugin.services.storage.KeyValueStorage;
 import org.hyperledger.besu.plugin.services.storage.KeyValueStorageTransaction;
+import org.hyperledger.besu.plugin.services.storage.SegmentIdentifier;
 import org.hyperledger.besu.plugin.services.storage.SegmentedKeyValueStorage;
 import org.hyperledger.besu.plugin.services.storage.SegmentedKeyValueStorageTransaction;
 
 import java.util.List;
 import java.util.NavigableMap;
 import java.util.Optional;
+import java.util.TreeMap;
 import java.util.function.Supplier;
 
+import org.apache.commons.lang3.tuple.Pair;
 import org.apache.tuweni.bytes.Bytes;
 import org.apache.tuweni.bytes.Bytes32;
 
@@ -172,6 +176,16 @@ public class BonsaiWorldStateKeyValueStorage extends DiffBasedWorldStateKeyValue
     flatDbStrategyProvider.downgradeToPartialFlatDbMode(composedWorldStateStorage);
   }
 
+  /**
+   * Whether the flat database can be written with {@link Updater#bulkLoadAccountInfoState} and
+   * {@link Updater#bulkLoadStorageValueBySlotHash} instead of the regular updater writes.
+   *
+   * @return true if the underlying storage supports bulk loading
+   */
+  public boolean isFlatDbBulkLoadSupported() {
+    return composedWorldStateStorage instanceof BulkLoadableKeyValueStorage;
+  }
+
   @Override
   public void clear() {
     super.clear();
@@ -189,7 +203,10 @@ public class BonsaiWorldStateKeyValueStorage extends DiffBasedWorldStateKeyValue
     return new Updater(
         composedWorldStateStorage.startTransaction(),
         trieLogStorage.startTransaction(),
-        flatDbStrategyProvider.getFlatDbStrategy(composedWorldStateStorage));
+        flatDbStrategyProvider.getFlatDbStrategy(composedWorldStateStorage),
+        composedWorldStateStorage instanceof BulkLoadableKeyValueStorage bulkLoadableStorage
+            ? Optional.of(bulkLoadableStorage)
+            : Optional.empty());
   }
 
   public static class Updater implements DiffBasedWorldStateKeyValueStorage.Updater {
@@ -197,15 +214,32 @@ public class BonsaiWorldStateKeyValueStorage extends DiffBasedWorldStateKeyValue
     private final SegmentedKeyValueStorageTransaction composedWorldStateTransaction;
     private final KeyValueStorageTransaction trieLogStorageTransaction;
     private final FlatDbStrategy flatDbStrategy;
+    private final Optional<BulkLoadableKeyValueStorage> maybeBulkLoadableStorage;
+    // sorted flat entries ingested all at once, after the transaction is committed
+    private final NavigableMap<Bytes, Bytes> bulkLoadedAccounts = new TreeMap<>();
+    private final NavigableMap<Bytes, Bytes> bulkLoadedStorage = new TreeMap<>();
 
     public Updater(
         final SegmentedKeyValueStorageTransaction composedWorldStateTransaction,
         final KeyValueStorageTransaction trieLogStorageTransaction,
         final FlatDbStrategy flatDbStrategy) {
+      this(
+          composedWorldStateTransaction,
+          trieLogStorageTransaction,
+          flatDbStrategy,
+          Optional.empty());
+    }
+
+    public Updater(
+        final SegmentedKeyValueStorageTransaction composedWorldStateTransaction,
+        final KeyValueStorageTransaction trieLogStorageTransaction,
+        final FlatDbStrategy flatDbStrategy,
+        final Optional<BulkLoadableKeyValueStorage> maybeBulkLoadableStorage) {
 
       this.composedWorldStateTransaction = composedWorldStateTransaction;
       this.trieLogStorageTransaction = trieLogStorageTransaction;
       this.flatDbStrategy = flatDbStrategy;
+      this.maybeBulkLoadableStorage = maybeBulkLoadableStorage;
     }
 
     public Updater removeCode(final Hash accountHash, final Hash codeHash) {
@@ -289,6 +323,48 @@ public class BonsaiWorldStateKeyValueStorage extends DiffBasedWorldStateKeyValue
       return this;
     }
 
+    /**
+     * Add an account to the flat database entries that are bulk loaded when this updater is
+     * committed, after its transaction, so all the accounts of the updater go in a single file.
+     * Only to be used when {@link BonsaiWorldStateKeyValueStorage#isFlatDbBulkLoadSupported()} is
+     * true.
+     *
+     * @param accountHash the account hash
+     * @param accountValue the account value
+     * @return this updater
+     */
+    public synchronized Updater bulkLoadAccountInfoState(
+        final Hash accountHash, final Bytes accountValue) {
+      checkBulkLoadSupported();
+      if (!accountValue.isEmpty()) {
+        bulkLoadedAccounts.put(accountHash, accountValue);
+      }
+      return this;
+    }
+
+    /**
+     * Add a storage slot to the flat database entries that are bulk loaded when this updater is
+     * committed, after its transaction, so all the slots of the updater go in a single file. Only
+     * to be used when {@link BonsaiWorldStateKeyValueStorage#isFlatDbBulkLoadSupported()} is true.
+     *
+     * @param accountHash the hash of the account owning the slot
+     * @param slotHash the slot hash
+     * @param storage the slot value
+     * @return this updater
+     */
+    public synchronized Updater bulkLoadStorageValueBySlotHash(
+        final Hash accountHash, final Hash slotHash, final Bytes storage) {
+      checkBulkLoadSupported();
+      bulkLoadedStorage.put(Bytes.concatenate(accountHash, slotHash), storage);
+      return this;
+    }
+
+    private void checkBulkLoadSupported() {
+      if (maybeBulkLoadableStorage.isEmpty()) {
+        throw new IllegalStateException("The storage does not support bulk loading");
+      }
+    }
+
     public synchronized void removeStorageValueBySlotHash(
         final Hash accountHash, final Hash slotHash) {
       flatDbStrategy.removeFlatAccountStorageValueByStorageSlotHash(
@@ -310,12 +386,36 @@ public class BonsaiWorldStateKeyValueStorage extends DiffBasedWorldStateKeyValue
       // write the log ahead, then the worldstate
       trieLogStorageTransaction.commit();
       composedWorldStateTransaction.commit();
+      // the bulk loaded flat entries go last, so a crash in between leaves trie nodes without
+      // their flat entries, that are then healed from the trie, and never the opposite
+      maybeBulkLoadableStorage.ifPresent(
+          storage -> {
+            bulkLoad(storage, ACCOUNT_INFO_STATE, bulkLoadedAccounts);
+            bulkLoad(storage, ACCOUNT_STORAGE_STORAGE, bulkLoadedStorage);
+          });
+    }
+
+    private static void bulkLoad(
+        final BulkLoadableKeyValueStorage storage,
+        final SegmentIdentifier segment,
+        final NavigableMap<Bytes, Bytes> entries) {
+      if (!entries.isEmpty()) {
+        storage.bulkLoad(
+            segment,
+            entries.entrySet().stream()
+                .map(
+                    entry ->
+                        Pair.of(entry.getKey().toArrayUnsafe(), entry.getValue().toArrayUnsafe())));
+        entries.clear();
+      }
     }
 
     @Override
     public void rollback() {
       composedWorldStateTransaction.rollback();
       trieLogStorageTransaction.rollback();
+      bulkLoadedAccounts.clear();
+      bulkLoadedStorage.clear();
     }
   }
 }
@@ -121,14 +121,19 @@ public abstract class DiffBasedWorldStateProvider implements WorldStateArchive {
   public boolean isWorldStateAvailable(final Hash rootHash, final Hash blockHash) {
     return cachedWorldStorageManager.contains(blockHash)
         || persistedState.blockHash().equals(blockHash)
-        || worldStateKeyValueStorage.isWorldStateAvailable(rootHash, blockHash);
+        || worldStateKeyValueStorage.isWorldStateAvailable(rootHash, blockHash)
+        || trieLogManager.containsUnpersistedTrieLog(blockHash);
   }
 
   @Override
   public Optional<MutableWorldState> getMutable(
       final BlockHeader blockHeader, final boolean shouldPersistState) {
     if (shouldPersistState) {
-      return getMutable(blockHeader.getStateRoot(), blockHeader.getHash());
+      synchronized (this) {
+        // the target header is not looked up, so the state can be moved to a block not stored yet
+        return rollMutableStateToBlockHash(
+            persistedState, blockHeader.getHash(), Optional.of(blockHeader));
+      }
     } else {
       final BlockHeader chainHeadBlockHeader = blockchain.getChainHeadHeader();
       if (chainHeadBlockHeader.getNumber() - blockHeader.getNumber()
@@ -155,6 +160,13 @@ public abstract class DiffBasedWorldStateProvider implements WorldStateArchive {
 
   Optional<MutableWorldState> rollMutableStateToBlockHash(
       final DiffBasedWorldState mutableState, final Hash blockHash) {
+    return rollMutableStateToBlockHash(mutableState, blockHash, Optional.empty());
+  }
+
+  private Optional<MutableWorldState> rollMutableStateToBlockHash(
+      final DiffBasedWorldState mutableState,
+      final Hash blockHash,
+      final Optional<BlockHeader> maybeTargetHeader) {
     if (blockHash.equals(mutableState.blockHash())) {
       return Optional.of(mutableState);
     } else {
@@ -168,7 +180,8 @@ public abstract class DiffBasedWorldStateProvider implements WorldStateArchive {
         if (maybePersistedHeader.isEmpty()) {
           trieLogManager.getTrieLogLayer(mutableState.blockHash()).ifPresent(rollBacks::add);
         } else {
-          BlockHeader targetHeader = blockchain.getBlockHeader(blockHash).get();
+          BlockHeader targetHeader =
+              maybeTargetHeader.orElseGet(() -> blockchain.getBlockHeader(blockHash).get());
           BlockHeader persistedHeader = maybePersistedHeader.get();
           // roll back from persisted to even with target
           Hash persistedBlockHash = persistedHeader.getBlockHash();
@@ -217,7 +230,8 @@ public abstract class DiffBasedWorldStateProvider implements WorldStateArchive {
           }
           diffBasedUpdater.commit();
 
-          mutableState.persist(blockchain.getBlockHeader(blockHash).get());
+          mutableState.persist(
+              maybeTargetHeader.orElseGet(() -> blockchain.getBlockHeader(blockHash).get()));
 
           LOG.debug(
               "Archive rolling finished, {} now at {}",
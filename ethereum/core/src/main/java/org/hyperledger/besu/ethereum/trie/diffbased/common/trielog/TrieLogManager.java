@@ -34,6 +34,8 @@ import java.util.Optional;
 import java.util.stream.LongStream;
 import java.util.stream.Stream;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import org.apache.tuweni.bytes.Bytes;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -41,6 +43,7 @@ import org.slf4j.LoggerFactory;
 public class TrieLogManager {
   private static final Logger LOG = LoggerFactory.getLogger(TrieLogManager.class);
   public static final long LOG_RANGE_LIMIT = 1000; // restrict trielog range queries to 1k logs
+  private static final int MAX_UNPERSISTED_TRIE_LOGS = 32;
   protected final Blockchain blockchain;
   protected final DiffBasedWorldStateKeyValueStorage rootWorldStateStorage;
 
@@ -49,6 +52,11 @@ public class TrieLogManager {
 
   protected final TrieLogFactory trieLogFactory;
 
+  // trie logs of the world states that are not persisted, like the ones used to validate locally
+  // built blocks, so the persisted state can be rolled forward to such a block when it is imported
+  private final Cache<Hash, TrieLog> unpersistedTrieLogs =
+      CacheBuilder.newBuilder().maximumSize(MAX_UNPERSISTED_TRIE_LOGS).concurrencyLevel(1).build();
+
   public TrieLogManager(
       final Blockchain blockchain,
       final DiffBasedWorldStateKeyValueStorage worldStateKeyValueStorage,
@@ -79,6 +87,12 @@ public class TrieLogManager {
         // notify trie log added observers, synchronously
         trieLogObservers.forEach(o -> o.onTrieLogAdded(new TrieLogAddedEvent(trieLog)));
 
+        if (forWorldState.isPersisted()) {
+          unpersistedTrieLogs.invalidate(forBlockHeader.getHash());
+        } else {
+          unpersistedTrieLogs.put(forBlockHeader.getHash(), trieLog);
+        }
+
         success = true;
       } finally {
         if (success) {
@@ -122,7 +136,22 @@ public class TrieLogManager {
   }
 
   public Optional<TrieLog> getTrieLogLayer(final Hash blockHash) {
-    return rootWorldStateStorage.getTrieLog(blockHash).map(trieLogFactory::deserialize);
+    return rootWorldStateStorage
+        .getTrieLog(blockHash)
+        .map(trieLogFactory::deserialize)
+        .or(() -> Optional.ofNullable(unpersistedTrieLogs.getIfPresent(blockHash)));
+  }
+
+  /**
+   * Checks whether the trie log of a block is kept in memory because it was saved by a world state
+   * that is not persisted, like the one used to validate a locally built block. Such trie log is
+   * not in the database, but the persisted state can still be rolled forward to the block with it.
+   *
+   * @param blockHash the hash of the block
+   * @return true if the in memory trie log of the block is available
+   */
+  public boolean containsUnpersistedTrieLog(final Hash blockHash) {
+    return unpersistedTrieLogs.getIfPresent(blockHash) != null;
   }
 
   public synchronized long subscribe(final TrieLogEvent.TrieLogObserver sub) {
@@ -28,6 +28,7 @@ import org.hyperledger.besu.evm.tracing.OperationTracer;
 import org.hyperledger.besu.evm.worldstate.WorldUpdater;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -38,6 +39,7 @@ import org.apache.tuweni.bytes.Bytes;
 import org.apache.tuweni.units.bigints.UInt256;
 
 public class DebugOperationTracer implements OperationTracer {
+  private static final Bytes[] EMPTY_WORDS = new Bytes[0];
 
   private final TraceOptions options;
 
@@ -57,6 +59,14 @@ public class DebugOperationTracer implements OperationTracer {
   private int pc;
   private int depth;
 
+  // The last captured memory of each depth, stack and storage. Consecutive trace frames mostly see
+  // the same contents, so a capture reuses the unchanged words, or the whole previous capture,
+  // instead of copying them again for every frame.
+  private final List<Bytes[]> memoryByDepth = new ArrayList<>();
+  private Bytes[] lastStack;
+  private Address lastStorageAddress;
+  private Map<UInt256, UInt256> lastStorage;
+
   /**
    * Creates the operation tracer.
    *
@@ -218,11 +228,14 @@ public class DebugOperationTracer implements OperationTracer {
       return Optional.empty();
     }
     try {
-      final Map<UInt256, UInt256> storageContents =
-          new TreeMap<>(
-              frame.getWorldUpdater().getAccount(frame.getRecipientAddress()).getUpdatedStorage());
-
-      return Optional.of(storageContents);
+      final Address address = frame.getRecipientAddress();
+      final Map<UInt256, UInt256> updatedStorage =
+          frame.getWorldUpdater().getAccount(address).getUpdatedStorage();
+      if (!address.equals(lastStorageAddress) || !updatedStorage.equals(lastStorage)) {
+        lastStorageAddress = address;
+        lastStorage = new TreeMap<>(updatedStorage);
+      }
+      return Optional.of(lastStorage);
     } catch (final ModificationNotAllowedException e) {
       return Optional.of(new TreeMap<>());
     }
@@ -232,10 +245,34 @@ public class DebugOperationTracer implements OperationTracer {
     if (!options.isMemoryEnabled()) {
       return Optional.empty();
     }
-    final Bytes[] memoryContents = new Bytes[frame.memoryWordSize()];
-    for (int i = 0; i < memoryContents.length; i++) {
-      memoryContents[i] = frame.readMemory(i * 32L, 32);
+    final int depth = frame.getDepth();
+    while (memoryByDepth.size() <= depth) {
+      memoryByDepth.add(EMPTY_WORDS);
+    }
+    final Bytes[] previousMemory = memoryByDepth.get(depth);
+    final int wordSize = frame.memoryWordSize();
+    // allocated on the first word that differs from the previous capture
+    Bytes[] memoryContents = null;
+    for (int i = 0; i < wordSize; i++) {
+      // a view of the memory, which is only copied when the word has changed
+      final Bytes word = frame.readMutableMemory(i * 32L, 32);
+      final boolean unchanged = i < previousMemory.length && previousMemory[i].equals(word);
+      if (memoryContents == null) {
+        if (unchanged) {
+          continue;
+        }
+        memoryContents = new Bytes[wordSize];
+        System.arraycopy(previousMemory, 0, memoryContents, 0, i);
+      }
+      memoryContents[i] = unchanged ? previousMemory[i] : word.copy();
+    }
+    if (memoryContents == null) {
+      memoryContents =
+          previousMemory.length == wordSize
+              ? previousMemory
+              : Arrays.copyOf(previousMemory, wordSize);
     }
+    memoryByDepth.set(depth, memoryContents);
     return Optional.of(memoryContents);
   }
 
@@ -243,13 +280,28 @@ public class DebugOperationTracer implements OperationTracer {
     if (!options.isStackEnabled()) {
       return Optional.empty();
     }
+    if (!isLastStack(frame)) {
+      final Bytes[] stackContents = new Bytes[frame.stackSize()];
+      for (int i = 0; i < stackContents.length; i++) {
+        // Record stack contents in reverse
+        stackContents[i] = frame.getStackItem(stackContents.length - i - 1);
+      }
+      lastStack = stackContents;
+    }
+    return Optional.of(lastStack);
+  }
 
-    final Bytes[] stackContents = new Bytes[frame.stackSize()];
-    for (int i = 0; i < stackContents.length; i++) {
-      // Record stack contents in reverse
-      stackContents[i] = frame.getStackItem(stackContents.length - i - 1);
+  private boolean isLastStack(final MessageFrame frame) {
+    if (lastStack == null || lastStack.length != frame.stackSize()) {
+      return false;
+    }
+    for (int i = 0; i < lastStack.length; i++) {
+      // stack items are immutable, so the same instance means the same value
+      if (lastStack[i] != frame.getStackItem(lastStack.length - i - 1)) {
+        return false;
+      }
     }
-    return Optional.of(stackContents);
+    return true;
   }
 
   public List<TraceFrame> getTraceFrames() {
@@ -259,6 +311,10 @@ public class DebugOperationTracer implements OperationTracer {
   public void reset() {
     traceFrames = new ArrayList<>();
     lastFrame = null;
+    memoryByDepth.clear();
+    lastStack = null;
+    lastStorageAddress = null;
+    lastStorage = null;
   }
 
   public List<TraceFrame> copyTraceFrames() {
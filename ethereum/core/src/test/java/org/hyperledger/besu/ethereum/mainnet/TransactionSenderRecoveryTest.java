@@ -0,0 +1,110 @@
+/*
+ * Copyright contributors to Hyperledger Besu.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.ethereum.mainnet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.hyperledger.besu.ethereum.core.BlockDataGenerator;
+import org.hyperledger.besu.ethereum.core.Transaction;
+import org.hyperledger.besu.ethereum.rlp.RLP;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+public class TransactionSenderRecoveryTest {
+
+  private final BlockDataGenerator gen = new BlockDataGenerator();
+  private TransactionSenderRecovery transactionSenderRecovery =
+      new TransactionSenderRecovery(Executors.newFixedThreadPool(2));
+
+  @AfterEach
+  public void tearDown() {
+    transactionSenderRecovery.close();
+  }
+
+  @Test
+  public void recoversTheSendersOfAllTransactions() {
+    final List<Transaction> signed =
+        IntStream.range(0, 20).mapToObj(__ -> gen.transaction()).toList();
+    final List<Transaction> decoded =
+        signed.stream()
+            .map(tx -> Transaction.readFrom(RLP.input(RLP.encode(tx::writeTo))))
+            .toList();
+
+    assertThat(transactionSenderRecovery.recoverSendersAsync(decoded))
+        .succeedsWithin(Duration.ofSeconds(10));
+
+    IntStream.range(0, signed.size())
+        .forEach(i -> assertThat(decoded.get(i).getSender()).isEqualTo(signed.get(i).getSender()));
+  }
+
+  @Test
+  public void completesImmediatelyForASingleTransaction() {
+    assertThat(transactionSenderRecovery.recoverSendersAsync(List.of(gen.transaction()))).isDone();
+  }
+
+  @Test
+  public void leavesTheRejectedSendersToTheCallerWhenAsync() {
+    transactionSenderRecovery.close();
+    final ThreadPoolExecutor executor =
+        new ThreadPoolExecutor(1, 1, 0, TimeUnit.SECONDS, new ArrayBlockingQueue<>(1));
+    transactionSenderRecovery = new TransactionSenderRecovery(executor);
+    // keep the only worker busy, so only one recovery fits in the queue
+    final CountDownLatch blocked = new CountDownLatch(1);
+    executor.execute(
+        () -> {
+          try {
+            blocked.await();
+          } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+          }
+        });
+
+    final CompletableFuture<Void> recovery =
+        transactionSenderRecovery.recoverSendersAsync(
+            IntStream.range(0, 5).mapToObj(__ -> gen.transaction()).toList());
+    assertThat(recovery).isNotDone();
+
+    blocked.countDown();
+    assertThat(recovery).succeedsWithin(Duration.ofSeconds(10));
+  }
+
+  @Test
+  public void recoversTheRejectedSendersOnTheCallingThread() {
+    transactionSenderRecovery.close();
+    final List<Transaction> signed =
+        IntStream.range(0, 5).mapToObj(__ -> gen.transaction()).toList();
+    final List<Transaction> decoded =
+        signed.stream()
+            .map(tx -> Transaction.readFrom(RLP.input(RLP.encode(tx::writeTo))))
+            .toList();
+
+    // the executor is shut down, so every recovery is rejected
+    transactionSenderRecovery.recoverSenders(decoded);
+
+    IntStream.range(0, signed.size())
+        .forEach(i -> assertThat(decoded.get(i).getSender()).isEqualTo(signed.get(i).getSender()));
+  }
+}
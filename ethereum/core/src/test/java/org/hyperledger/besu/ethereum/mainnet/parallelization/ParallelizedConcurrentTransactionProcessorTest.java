@@ -135,6 +135,42 @@ class ParallelizedConcurrentTransactionProcessorTest {
         "Expected the transaction context to be stored");
   }
 
+  @Test
+  void testConflictFreeTransactionContextCanOnlyBeTakenOnce() {
+    Address miningBeneficiary = Address.fromHexString("0x1");
+    Wei blobGasPrice = Wei.ZERO;
+
+    Mockito.when(
+            transactionProcessor.processTransaction(
+                any(), any(), any(), any(), any(), any(), anyBoolean(), any(), any(), any()))
+        .thenReturn(
+            TransactionProcessingResult.successful(
+                Collections.emptyList(), 0, 0, Bytes.EMPTY, ValidationResult.valid()));
+
+    processor.runTransaction(
+        worldState,
+        blockHeader,
+        0,
+        transaction,
+        miningBeneficiary,
+        (blockNumber) -> Hash.EMPTY,
+        blobGasPrice,
+        privateMetadataUpdater);
+
+    assertTrue(
+        processor
+            .takeConflictFreeTransactionContext(
+                worldState, miningBeneficiary, transaction, 0, Optional.empty())
+            .isPresent(),
+        "Expected the transaction context to be conflict free");
+    assertTrue(
+        processor
+            .takeConflictFreeTransactionContext(
+                worldState, miningBeneficiary, transaction, 0, Optional.empty())
+            .isEmpty(),
+        "Expected the transaction context to be already taken");
+  }
+
   @Test
   void testRunTransactionWithFailure() {
     Address miningBeneficiary = Address.fromHexString("0x1");
@@ -16,6 +16,7 @@ package org.hyperledger.besu.ethereum.trie.diffbased.bonsai.trielog;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.when;
 
 import org.hyperledger.besu.datatypes.Hash;
 import org.hyperledger.besu.ethereum.chain.Blockchain;
@@ -26,6 +27,7 @@ import org.hyperledger.besu.ethereum.trie.diffbased.bonsai.worldview.BonsaiWorld
 import org.hyperledger.besu.ethereum.trie.diffbased.bonsai.worldview.BonsaiWorldStateUpdateAccumulator;
 import org.hyperledger.besu.ethereum.trie.diffbased.common.trielog.TrieLogManager;
 import org.hyperledger.besu.evm.internal.EvmConfiguration;
+import org.hyperledger.besu.plugin.services.trielogs.TrieLog;
 
 import java.util.concurrent.atomic.AtomicBoolean;
 
@@ -71,4 +73,22 @@ class TrieLogManagerTests {
 
     assertThat(eventFired.get()).isTrue();
   }
+
+  @Test
+  void testTrieLogOfNotPersistedWorldStateIsAvailable() {
+    when(bonsaiWorldState.isPersisted()).thenReturn(false);
+    trieLogManager.saveTrieLog(bonsaiUpdater, Hash.ZERO, blockHeader, bonsaiWorldState);
+
+    assertThat(trieLogManager.getTrieLogLayer(blockHeader.getHash()))
+        .map(TrieLog::getBlockHash)
+        .contains(blockHeader.getHash());
+  }
+
+  @Test
+  void testTrieLogOfPersistedWorldStateIsOnlyReadFromStorage() {
+    when(bonsaiWorldState.isPersisted()).thenReturn(true);
+    trieLogManager.saveTrieLog(bonsaiUpdater, Hash.ZERO, blockHeader, bonsaiWorldState);
+
+    assertThat(trieLogManager.getTrieLogLayer(blockHeader.getHash())).isEmpty();
+  }
 }
@@ -186,6 +186,33 @@ class DebugOperationTracerTest {
     assertThat(flagEnabledTracer.getGasCost()).isEqualTo(flagDisabledTracer.getGasCost());
   }
 
+  @Test
+  void shouldReuseUnchangedMemoryAndStackBetweenFrames() {
+    final MessageFrame frame = validMessageFrame();
+    final Bytes32 word1 = Bytes32.fromHexString("0x01");
+    final Bytes32 word2 = Bytes32.fromHexString("0x02");
+    frame.writeMemory(0, 32, word1);
+    frame.writeMemory(32, 32, word2);
+    frame.pushStackItem(UInt256.ONE);
+    final DebugOperationTracer tracer =
+        new DebugOperationTracer(new TraceOptions(false, true, true), false);
+
+    traceOperation(tracer, frame);
+    traceOperation(tracer, frame);
+    final Bytes32 word3 = Bytes32.fromHexString("0x03");
+    frame.writeMemory(32, 32, word3);
+    traceOperation(tracer, frame);
+
+    final TraceFrame first = tracer.getTraceFrames().get(0);
+    final TraceFrame second = tracer.getTraceFrames().get(1);
+    final TraceFrame third = tracer.getTraceFrames().get(2);
+    assertThat(second.getMemory().get()).isSameAs(first.getMemory().get());
+    assertThat(second.getStack().get()).isSameAs(first.getStack().get());
+    assertThat(third.getMemory().get()).containsExactly(word1, word3);
+    assertThat(third.getMemory().get()[0]).isSameAs(first.getMemory().get()[0]);
+    assertThat(first.getMemory().get()).containsExactly(word1, word2);
+  }
+
   @Test
   void shouldCaptureFrameWhenExceptionalHaltOccurs() {
     final MessageFrame frame = validMessageFrame();
@@ -209,10 +236,14 @@ class DebugOperationTracerTest {
   private TraceFrame traceFrame(
       final MessageFrame frame, final TraceOptions traceOptions, final boolean additionalCallGas) {
     final DebugOperationTracer tracer = new DebugOperationTracer(traceOptions, additionalCallGas);
+    traceOperation(tracer, frame);
+    return getOnlyTraceFrame(tracer);
+  }
+
+  private void traceOperation(final DebugOperationTracer tracer, final MessageFrame frame) {
     tracer.tracePreExecution(frame);
     OperationResult operationResult = anOperation.execute(frame, null);
     tracer.tracePostExecution(frame, operationResult);
-    return getOnlyTraceFrame(tracer);
   }
 
   private MessageFrame validMessageFrame() {
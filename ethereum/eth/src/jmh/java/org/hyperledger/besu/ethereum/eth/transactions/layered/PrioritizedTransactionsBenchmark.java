@@ -0,0 +1,159 @@
+/*
+ * Copyright contributors to Hyperledger Besu.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.ethereum.eth.transactions.layered;
+
+import org.hyperledger.besu.crypto.SignatureAlgorithm;
+import org.hyperledger.besu.crypto.SignatureAlgorithmFactory;
+import org.hyperledger.besu.datatypes.TransactionType;
+import org.hyperledger.besu.datatypes.Wei;
+import org.hyperledger.besu.ethereum.core.BlockHeader;
+import org.hyperledger.besu.ethereum.core.BlockHeaderTestFixture;
+import org.hyperledger.besu.ethereum.core.MiningParameters;
+import org.hyperledger.besu.ethereum.core.TransactionTestFixture;
+import org.hyperledger.besu.ethereum.eth.manager.EthScheduler;
+import org.hyperledger.besu.ethereum.eth.transactions.BlobCache;
+import org.hyperledger.besu.ethereum.eth.transactions.ImmutableTransactionPoolConfiguration;
+import org.hyperledger.besu.ethereum.eth.transactions.PendingTransaction;
+import org.hyperledger.besu.ethereum.eth.transactions.TransactionPoolConfiguration;
+import org.hyperledger.besu.ethereum.eth.transactions.TransactionPoolMetrics;
+import org.hyperledger.besu.ethereum.mainnet.feemarket.FeeMarket;
+import org.hyperledger.besu.metrics.noop.NoOpMetricsSystem;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the cost of keeping the prioritized layer ordered by fee, when the base fee for the next
+ * block changes and when the candidates for block creation are listed.
+ */
+@State(Scope.Thread)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class PrioritizedTransactionsBenchmark {
+  private static final Wei GENESIS_BASE_FEE = Wei.of(7_000_000_000L);
+  private static final long GAS_LIMIT = 30_000_000L;
+
+  @Param({"10000", "100000"})
+  public int poolSize;
+
+  private EthScheduler ethScheduler;
+  private BaseFeePrioritizedTransactions prioritizedTransactions;
+  private final FeeMarket feeMarket = FeeMarket.london(0L);
+  private BlockHeader[] blockHeaders;
+  private int nextBlockHeader = 0;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    final TransactionPoolConfiguration poolConfig =
+        ImmutableTransactionPoolConfiguration.builder()
+            .maxPrioritizedTransactions(poolSize)
+            .pendingTransactionsLayerMaxCapacityBytes(Long.MAX_VALUE)
+            .build();
+    final TransactionPoolMetrics metrics = new TransactionPoolMetrics(new NoOpMetricsSystem());
+    ethScheduler = new EthScheduler(1, 1, 1, new NoOpMetricsSystem());
+
+    final var readyTransactions =
+        new ReadyTransactions(
+            poolConfig,
+            ethScheduler,
+            new SparseTransactions(
+                poolConfig,
+                ethScheduler,
+                new EndLayer(metrics),
+                metrics,
+                (pt1, pt2) -> false,
+                new BlobCache()),
+            metrics,
+            (pt1, pt2) -> false,
+            new BlobCache());
+
+    // alternating full and empty blocks move the next block base fee up and down,
+    // while keeping all the transactions executable
+    blockHeaders = new BlockHeader[] {blockHeader(1, GAS_LIMIT), blockHeader(2, 0L)};
+
+    prioritizedTransactions =
+        new BaseFeePrioritizedTransactions(
+            poolConfig,
+            () -> blockHeaders[0],
+            ethScheduler,
+            readyTransactions,
+            metrics,
+            (pt1, pt2) -> false,
+            feeMarket,
+            new BlobCache(),
+            MiningParameters.newDefault());
+
+    final SignatureAlgorithm signatureAlgorithm = SignatureAlgorithmFactory.getInstance();
+    final Random random = new Random(42);
+    for (int i = 0; i < poolSize; i++) {
+      final long maxPriorityFee = 1_000_000_000L + random.nextInt(5_000_000);
+      final long maxFee = 2 * GENESIS_BASE_FEE.toLong() + random.nextInt(5_000_000);
+      final var transaction =
+          new TransactionTestFixture()
+              .type(TransactionType.EIP1559)
+              .nonce(0)
+              .maxPriorityFeePerGas(Optional.of(Wei.of(maxPriorityFee)))
+              .maxFeePerGas(Optional.of(Wei.of(maxFee)))
+              .createTransaction(signatureAlgorithm.generateKeyPair());
+      prioritizedTransactions.add(new PendingTransaction.Remote(transaction), 0);
+    }
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    ethScheduler.stop();
+  }
+
+  @Benchmark
+  public int blockAdded() {
+    nextBlockHeader = (nextBlockHeader + 1) % blockHeaders.length;
+    prioritizedTransactions.blockAdded(feeMarket, blockHeaders[nextBlockHeader], Map.of());
+    return prioritizedTransactions.count();
+  }
+
+  @Benchmark
+  public List<SenderPendingTransactions> getBySender() {
+    return prioritizedTransactions.getBySender();
+  }
+
+  private static BlockHeader blockHeader(final long number, final long gasUsed) {
+    return new BlockHeaderTestFixture()
+        .number(number)
+        .gasLimit(GAS_LIMIT)
+        .gasUsed(gasUsed)
+        .baseFeePerGas(GENESIS_BASE_FEE)
+        .buildHeader();
+  }
+}
@@ -53,6 +53,8 @@ import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.google.common.annotations.VisibleForTesting;
 import kotlin.Pair;
 import kotlin.collections.ArrayDeque;
@@ -71,6 +73,7 @@ class SnapServer implements BesuEvents.InitialSyncCompletionListener {
   private static final int MAX_RESPONSE_SIZE = 2 * 1024 * 1024;
   private static final int MAX_CODE_LOOKUPS_PER_REQUEST = 1024;
   private static final int MAX_TRIE_LOOKUPS_PER_REQUEST = 1024;
+  private static final long MAX_RANGE_RESPONSE_CACHE_BYTES = 64 * 1024 * 1024;
   private static final AccountRangeMessage EMPTY_ACCOUNT_RANGE =
       AccountRangeMessage.create(new HashMap<>(), new ArrayDeque<>());
   private static final StorageRangeMessage EMPTY_STORAGE_RANGE =
@@ -96,6 +99,14 @@ class SnapServer implements BesuEvents.InitialSyncCompletionListener {
   private Function<Hash, Optional<BonsaiWorldStateKeyValueStorage>> worldStateStorageProvider =
       __ -> Optional.empty();
 
+  // range responses for a given root are immutable, so syncing peers asking for the same ranges
+  // can be served without re-reading the flat db and regenerating proofs:
+  private final Cache<Bytes, MessageData> rangeResponseCache =
+      Caffeine.newBuilder()
+          .maximumWeight(MAX_RANGE_RESPONSE_CACHE_BYTES)
+          .weigher((Bytes key, MessageData response) -> key.size() + response.getSize())
+          .build();
+
   SnapServer(
       final SnapSyncConfiguration snapConfig,
       final EthMessages snapMessages,
@@ -194,6 +205,7 @@ class SnapServer implements BesuEvents.InitialSyncCompletionListener {
 
   public synchronized SnapServer stop() {
     isStarted.set(false);
+    rangeResponseCache.invalidateAll();
     return this;
   }
 
@@ -229,6 +241,16 @@ class SnapServer implements BesuEvents.InitialSyncCompletionListener {
       if (range.worldStateRootHash().equals(Hash.EMPTY_TRIE_HASH)) {
         return AccountRangeMessage.create(new HashMap<>(), List.of(MerkleTrie.EMPTY_TRIE_NODE));
       }
+      final Bytes cacheKey = accountRangeCacheKey(range, maxResponseBytes);
+      final MessageData cachedResponse = rangeResponseCache.getIfPresent(cacheKey);
+      if (cachedResponse != null) {
+        LOGGER.debug(
+            "returned cached account range {} to {}, resp size {}",
+            asLogHash(range.startKeyHash()),
+            asLogHash(range.endKeyHash()),
+            cachedResponse.getSize());
+        return cachedResponse;
+      }
       return worldStateStorageProvider
           .apply(range.worldStateRootHash())
           .map(
@@ -288,6 +310,7 @@ class SnapServer implements BesuEvents.InitialSyncCompletionListener {
                     proof.size(),
                     resp.getSize(),
                     maxResponseBytes);
+                cacheRangeResponse(cacheKey, resp, stopWatch);
                 return resp;
               })
           .orElseGet(
@@ -325,6 +348,18 @@ class SnapServer implements BesuEvents.InitialSyncCompletionListener {
                     .collect(Collectors.joining(",", "[", "]")))
         .log();
     try {
+      final Bytes cacheKey = storageRangeCacheKey(range, maxResponseBytes);
+      final MessageData cachedResponse = rangeResponseCache.getIfPresent(cacheKey);
+      if (cachedResponse != null) {
+        LOGGER.debug(
+            "returned cached storage {} to {} range {} to {}, resp size {}",
+            asLogHash(range.hashes().first()),
+            asLogHash(range.hashes().last()),
+            asLogHash(range.startKeyHash()),
+            asLogHash(range.endKeyHash()),
+            cachedResponse.getSize());
+        return cachedResponse;
+      }
       return worldStateStorageProvider
           .apply(range.worldStateRootHash())
           .map(
@@ -420,6 +455,7 @@ class SnapServer implements BesuEvents.InitialSyncCompletionListener {
                     proofNodes.size(),
                     resp.getSize(),
                     maxResponseBytes);
+                cacheRangeResponse(cacheKey, resp, stopWatch);
                 return resp;
               })
           .orElseGet(
@@ -578,6 +614,36 @@ class SnapServer implements BesuEvents.InitialSyncCompletionListener {
     }
   }
 
+  private void cacheRangeResponse(
+      final Bytes cacheKey, final MessageData response, final StopWatch stopWatch) {
+    // responses truncated by the request time limit depend on load, do not serve them again:
+    if (stopWatch.getTime() <= StatefulPredicate.MAX_MILLIS_PER_REQUEST) {
+      rangeResponseCache.put(cacheKey, response);
+    }
+  }
+
+  private static Bytes accountRangeCacheKey(
+      final GetAccountRangeMessage.Range range, final int maxResponseBytes) {
+    return Bytes.concatenate(
+        Bytes.of(SnapV1.GET_ACCOUNT_RANGE),
+        range.worldStateRootHash(),
+        range.startKeyHash(),
+        range.endKeyHash(),
+        Bytes.ofUnsignedInt(maxResponseBytes));
+  }
+
+  private static Bytes storageRangeCacheKey(
+      final GetStorageRangeMessage.StorageRange range, final int maxResponseBytes) {
+    final List<Bytes> keyParts = new ArrayList<>(range.hashes().size() + 5);
+    keyParts.add(Bytes.of(SnapV1.GET_STORAGE_RANGE));
+    keyParts.add(range.worldStateRootHash());
+    keyParts.add(range.startKeyHash());
+    keyParts.add(Optional.ofNullable(range.endKeyHash()).orElse(HASH_LAST));
+    keyParts.add(Bytes.ofUnsignedInt(maxResponseBytes));
+    keyParts.addAll(range.hashes());
+    return Bytes.concatenate(keyParts.toArray(new Bytes[0]));
+  }
+
   static class StatefulPredicate implements Predicate<Pair<Bytes32, Bytes>> {
     // default to a max of 4 seconds per request
     static final long MAX_MILLIS_PER_REQUEST = 4000;
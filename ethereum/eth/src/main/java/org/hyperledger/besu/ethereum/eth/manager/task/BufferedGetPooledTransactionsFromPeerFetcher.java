@@ -95,7 +95,14 @@ public class BufferedGetPooledTransactionsFromPeerFetcher {
                     .addArgument(peer::getLoggableId)
                     .log();
 
-                transactionPool.addRemoteTransactions(retrievedTransactions);
+                // validating the transactions, blobs included, is expensive so it is done off the
+                // thread that received the response
+                if (!retrievedTransactions.isEmpty()) {
+                  ethContext
+                      .getScheduler()
+                      .scheduleTxWorkerTask(
+                          () -> transactionPool.addRemoteTransactions(retrievedTransactions));
+                }
               });
     }
   }
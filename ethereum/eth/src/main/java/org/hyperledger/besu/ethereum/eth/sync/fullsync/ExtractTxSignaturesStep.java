@@ -16,20 +16,32 @@ package org.hyperledger.besu.ethereum.eth.sync.fullsync;
 
 import org.hyperledger.besu.ethereum.core.Block;
 import org.hyperledger.besu.ethereum.core.Transaction;
+import org.hyperledger.besu.ethereum.mainnet.TransactionSenderRecovery;
 
 import java.util.List;
+import java.util.Optional;
 import java.util.function.Function;
 import java.util.stream.Stream;
 
 public class ExtractTxSignaturesStep implements Function<List<Block>, Stream<Block>> {
 
+  private final Optional<TransactionSenderRecovery> maybeTransactionSenderRecovery;
+
+  public ExtractTxSignaturesStep(
+      final Optional<TransactionSenderRecovery> maybeTransactionSenderRecovery) {
+    this.maybeTransactionSenderRecovery = maybeTransactionSenderRecovery;
+  }
+
   @Override
   public Stream<Block> apply(final List<Block> blocks) {
     return blocks.stream().map(this::extractSignatures);
   }
 
   private Block extractSignatures(final Block block) {
-    block.getBody().getTransactions().forEach(Transaction::getSender);
+    maybeTransactionSenderRecovery.ifPresentOrElse(
+        transactionSenderRecovery ->
+            transactionSenderRecovery.recoverSenders(block.getBody().getTransactions()),
+        () -> block.getBody().getTransactions().forEach(Transaction::getSender));
     return block;
   }
 }
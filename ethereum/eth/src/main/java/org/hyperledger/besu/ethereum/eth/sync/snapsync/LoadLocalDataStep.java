@@ -29,6 +29,8 @@ import org.hyperledger.besu.plugin.services.metrics.Counter;
 import org.hyperledger.besu.services.pipeline.Pipe;
 import org.hyperledger.besu.services.tasks.Task;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 import java.util.stream.Stream;
 
@@ -65,44 +67,76 @@ public class LoadLocalDataStep {
 
   public Stream<Task<SnapDataRequest>> loadLocalDataTrieNode(
       final Task<SnapDataRequest> task, final Pipe<Task<SnapDataRequest>> completedTasks) {
-    final TrieNodeHealingRequest request = (TrieNodeHealingRequest) task.getData();
-    // check if node is already stored in the worldstate
+    return loadLocalDataTrieNodes(List.of(task), completedTasks);
+  }
+
+  /**
+   * Looks up the requested trie nodes in the local world state. Every node that is already stored
+   * is completed without being requested from peers, and all the resulting writes are done with a
+   * single updater commit. This keeps the rescan of the already healed part of the trie, after a
+   * restart or a pivot block change, cheap compared to a commit per node.
+   *
+   * @param tasks the trie node healing tasks to look up
+   * @param completedTasks the pipe receiving the tasks completed from local data
+   * @return the tasks that still have to be requested from peers
+   */
+  public Stream<Task<SnapDataRequest>> loadLocalDataTrieNodes(
+      final List<Task<SnapDataRequest>> tasks, final Pipe<Task<SnapDataRequest>> completedTasks) {
+    // check if nodes are already stored in the worldstate
     try {
       if (snapSyncState.hasPivotBlockHeader()) {
-        Optional<Bytes> existingData = request.getExistingData(worldStateStorageCoordinator);
-        if (existingData.isPresent()) {
-          existingNodeCounter.inc();
-          request.setData(existingData.get());
-          request.setRequiresPersisting(false);
-          final WorldStateKeyValueStorage.Updater updater = worldStateStorageCoordinator.updater();
-          request.persist(
-              worldStateStorageCoordinator,
-              updater,
-              downloadState,
-              snapSyncState,
-              snapSyncConfiguration);
+        final List<Task<SnapDataRequest>> missingTasks = new ArrayList<>();
+        final List<TrieNodeHealingRequest> existingRequests = new ArrayList<>();
+        final List<Task<SnapDataRequest>> existingTasks = new ArrayList<>();
+        WorldStateKeyValueStorage.Updater updater = null;
+        for (Task<SnapDataRequest> task : tasks) {
+          final TrieNodeHealingRequest request = (TrieNodeHealingRequest) task.getData();
+          final Optional<Bytes> existingData =
+              request.getExistingData(worldStateStorageCoordinator);
+          if (existingData.isPresent()) {
+            existingNodeCounter.inc();
+            request.setData(existingData.get());
+            request.setRequiresPersisting(false);
+            if (updater == null) {
+              updater = worldStateStorageCoordinator.updater();
+            }
+            request.persist(
+                worldStateStorageCoordinator,
+                updater,
+                downloadState,
+                snapSyncState,
+                snapSyncConfiguration);
+            existingRequests.add(request);
+            existingTasks.add(task);
+          } else {
+            missingTasks.add(task);
+          }
+        }
+        if (updater != null) {
           updater.commit();
-          downloadState.enqueueRequests(
-              request.getRootStorageRequests(worldStateStorageCoordinator));
-          completedTasks.put(task);
-          return Stream.empty();
         }
+        existingRequests.forEach(
+            request ->
+                downloadState.enqueueRequests(
+                    request.getRootStorageRequests(worldStateStorageCoordinator)));
+        existingTasks.forEach(completedTasks::put);
+        return missingTasks.stream();
       }
     } catch (StorageException storageException) {
       if (canRetryOnError(storageException)) {
-        // We reset the task by setting it to null. This way, it is considered as failed by the
-        // pipeline, and it will attempt to execute it again later.
+        // We reset the tasks by setting them to null. This way, they are considered as failed by
+        // the pipeline, and it will attempt to execute them again later.
         if (errorCountAtThreshold()) {
           LOG.info(
               "Encountered {} retryable RocksDB errors, latest error message {}",
               getRetryableErrorCounter(),
               storageException.getMessage());
         }
-        task.getData().clear();
+        tasks.forEach(task -> task.getData().clear());
       } else {
         throw storageException;
       }
     }
-    return Stream.of(task);
+    return tasks.stream();
   }
 }
@@ -23,12 +23,19 @@ import org.hyperledger.besu.ethereum.eth.sync.snapsync.request.heal.TrieNodeHeal
 import org.hyperledger.besu.ethereum.trie.diffbased.bonsai.storage.BonsaiWorldStateKeyValueStorage;
 import org.hyperledger.besu.ethereum.worldstate.WorldStateKeyValueStorage;
 import org.hyperledger.besu.ethereum.worldstate.WorldStateStorageCoordinator;
+import org.hyperledger.besu.metrics.BesuMetricCategory;
+import org.hyperledger.besu.plugin.services.MetricsSystem;
 import org.hyperledger.besu.plugin.services.exception.StorageException;
+import org.hyperledger.besu.plugin.services.metrics.Counter;
 import org.hyperledger.besu.services.tasks.Task;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+import org.apache.tuweni.bytes.Bytes;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -40,16 +47,24 @@ public class PersistDataStep {
   private final SnapWorldDownloadState downloadState;
 
   private final SnapSyncConfiguration snapSyncConfiguration;
+  private final Counter existingNodeCounter;
 
   public PersistDataStep(
       final SnapSyncProcessState snapSyncState,
       final WorldStateStorageCoordinator worldStateStorageCoordinator,
       final SnapWorldDownloadState downloadState,
-      final SnapSyncConfiguration snapSyncConfiguration) {
+      final SnapSyncConfiguration snapSyncConfiguration,
+      final MetricsSystem metricsSystem) {
     this.snapSyncState = snapSyncState;
     this.worldStateStorageCoordinator = worldStateStorageCoordinator;
     this.downloadState = downloadState;
     this.snapSyncConfiguration = snapSyncConfiguration;
+    // same counter as the LoadLocalDataStep, the nodes read ahead are completed the same way
+    existingNodeCounter =
+        metricsSystem.createCounter(
+            BesuMetricCategory.SYNCHRONIZER,
+            "snap_world_state_existing_trie_nodes_total",
+            "Total number of node data requests completed using existing data");
   }
 
   public List<Task<SnapDataRequest>> persist(final List<Task<SnapDataRequest>> tasks) {
@@ -61,18 +76,34 @@ public class PersistDataStep {
           final Stream<SnapDataRequest> childRequests =
               task.getData()
                   .getChildRequests(downloadState, worldStateStorageCoordinator, snapSyncState);
+          final List<TrieNodeHealingRequest> locallyAvailableChildRequests;
           if (!(task.getData() instanceof TrieNodeHealingRequest)) {
             enqueueChildren(childRequests);
+            locallyAvailableChildRequests = List.of();
           } else {
             if (!task.getData().isExpired(snapSyncState)) {
-              enqueueChildren(childRequests);
+              if (snapSyncState.hasPivotBlockHeader()) {
+                // read ahead the children of the healed node, those already stored locally are
+                // completed with this batch instead of going through the heal queue one by one
+                final Map<Boolean, List<SnapDataRequest>> childRequestsByLocalAvailability =
+                    childRequests.collect(Collectors.partitioningBy(this::loadLocalData));
+                enqueueChildren(childRequestsByLocalAvailability.get(false).stream());
+                locallyAvailableChildRequests =
+                    childRequestsByLocalAvailability.get(true).stream()
+                        .map(TrieNodeHealingRequest.class::cast)
+                        .toList();
+              } else {
+                // like in the LoadLocalDataStep, local data is only used with a pivot block
+                enqueueChildren(childRequests);
+                locallyAvailableChildRequests = List.of();
+              }
             } else {
               continue;
             }
           }
 
           // persist nodes
-          final int persistedNodes =
+          int persistedNodes =
               task.getData()
                   .persist(
                       worldStateStorageCoordinator,
@@ -80,6 +111,17 @@ public class PersistDataStep {
                       downloadState,
                       snapSyncState,
                       snapSyncConfiguration);
+          // the children go after their parent, the last one persists it
+          for (TrieNodeHealingRequest childRequest : locallyAvailableChildRequests) {
+            persistedNodes +=
+                childRequest.persist(
+                    worldStateStorageCoordinator,
+                    updater,
+                    downloadState,
+                    snapSyncState,
+                    snapSyncConfiguration);
+            enqueueChildren(childRequest.getRootStorageRequests(worldStateStorageCoordinator));
+          }
           if (persistedNodes > 0) {
             if (task.getData() instanceof TrieNodeHealingRequest) {
               downloadState.getMetricsManager().notifyTrieNodesHealed(persistedNodes);
@@ -145,6 +187,20 @@ public class PersistDataStep {
     return healFlatDatabase(List.of(task)).get(0);
   }
 
+  private boolean loadLocalData(final SnapDataRequest request) {
+    if (request instanceof TrieNodeHealingRequest trieNodeHealingRequest) {
+      final Optional<Bytes> existingData =
+          trieNodeHealingRequest.getExistingData(worldStateStorageCoordinator);
+      if (existingData.isPresent()) {
+        existingNodeCounter.inc();
+        trieNodeHealingRequest.setData(existingData.get());
+        trieNodeHealingRequest.setRequiresPersisting(false);
+        return true;
+      }
+    }
+    return false;
+  }
+
   private void enqueueChildren(final Stream<SnapDataRequest> childRequests) {
     downloadState.enqueueRequests(childRequests);
   }
@@ -40,6 +40,8 @@ public class SnapSyncConfiguration {
 
   public static final Boolean DEFAULT_SNAP_SYNC_BFT_ENABLED = Boolean.FALSE;
 
+  public static final Boolean DEFAULT_FLAT_DB_BULK_LOAD_ENABLED = Boolean.FALSE;
+
   public static SnapSyncConfiguration getDefault() {
     return ImmutableSnapSyncConfiguration.builder().build();
   }
@@ -88,4 +90,9 @@ public class SnapSyncConfiguration {
   public Boolean isSnapSyncBftEnabled() {
     return DEFAULT_SNAP_SYNC_BFT_ENABLED;
   }
+
+  @Value.Default
+  public Boolean isFlatDbBulkLoadEnabled() {
+    return DEFAULT_FLAT_DB_BULK_LOAD_ENABLED;
+  }
 }
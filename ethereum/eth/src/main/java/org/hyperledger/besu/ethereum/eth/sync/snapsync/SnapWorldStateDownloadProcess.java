@@ -275,8 +275,12 @@ public class SnapWorldStateDownloadProcess implements WorldStateDownloadProcess
                   "batchDownloadAccountData",
                   requestTask -> requestDataStep.requestAccount(requestTask),
                   maxOutstandingRequests)
-              .thenProcess("batchPersistAccountData", task -> persistDataStep.persist(task))
-              .andFinishWith("batchAccountDataDownloaded", requestsToComplete::put);
+              // coalesce the ranges completed by the outstanding requests so that they are
+              // written with a single updater commit instead of one commit per range
+              .inBatches(maxOutstandingRequests)
+              .thenProcess("batchPersistAccountData", tasks -> persistDataStep.persist(tasks))
+              .andFinishWith(
+                  "batchAccountDataDownloaded", tasks -> tasks.forEach(requestsToComplete::put));
 
       final Pipeline<Task<SnapDataRequest>> fetchStorageDataPipeline =
           createPipelineFrom(
@@ -384,9 +388,10 @@ public class SnapWorldStateDownloadProcess implements WorldStateDownloadProcess
                   outputCounter,
                   true,
                   "world_state_heal")
+              .inBatches(snapSyncConfiguration.getTrienodeCountPerRequest())
               .thenFlatMapInParallel(
                   "requestLoadLocalTrieNodeData",
-                  task -> loadLocalDataStep.loadLocalDataTrieNode(task, requestsToComplete),
+                  tasks -> loadLocalDataStep.loadLocalDataTrieNodes(tasks, requestsToComplete),
                   3,
                   bufferCapacity)
               .inBatches(snapSyncConfiguration.getTrienodeCountPerRequest())
@@ -425,10 +430,13 @@ public class SnapWorldStateDownloadProcess implements WorldStateDownloadProcess
                   "batchDownloadFlatAccountData",
                   requestTask -> requestDataStep.requestLocalFlatAccounts(requestTask),
                   maxOutstandingRequests)
+              .inBatches(maxOutstandingRequests)
               .thenProcess(
                   "batchHealAndPersistFlatAccountData",
-                  task -> persistDataStep.healFlatDatabase(task))
-              .andFinishWith("batchFlatAccountDataDownloaded", requestsToComplete::put);
+                  tasks -> persistDataStep.healFlatDatabase(tasks))
+              .andFinishWith(
+                  "batchFlatAccountDataDownloaded",
+                  tasks -> tasks.forEach(requestsToComplete::put));
 
       final Pipeline<Task<SnapDataRequest>> storageFlatDatabaseHealingPipeline =
           createPipelineFrom(
@@ -444,10 +452,13 @@ public class SnapWorldStateDownloadProcess implements WorldStateDownloadProcess
                   "batchDownloadFlatStorageData",
                   requestTask -> requestDataStep.requestLocalFlatStorages(requestTask),
                   maxOutstandingRequests)
+              .inBatches(maxOutstandingRequests)
               .thenProcess(
                   "batchHealAndPersistFlatStorageData",
-                  task -> persistDataStep.healFlatDatabase(task))
-              .andFinishWith("batchFlatStorageDataDownloaded", requestsToComplete::put);
+                  tasks -> persistDataStep.healFlatDatabase(tasks))
+              .andFinishWith(
+                  "batchFlatStorageDataDownloaded",
+                  tasks -> tasks.forEach(requestsToComplete::put));
 
       return new SnapWorldStateDownloadProcess(
           fetchAccountDataPipeline,
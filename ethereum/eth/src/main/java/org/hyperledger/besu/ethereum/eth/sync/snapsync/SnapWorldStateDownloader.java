@@ -226,7 +226,8 @@ public class SnapWorldStateDownloader implements WorldStateDownloader {
                       snapSyncState,
                       worldStateStorageCoordinator,
                       newDownloadState,
-                      snapSyncConfiguration))
+                      snapSyncConfiguration,
+                      metricsSystem))
               .completeTaskStep(maybeCompleteTask.get())
               .downloadState(newDownloadState)
               .fastSyncState(snapSyncState)
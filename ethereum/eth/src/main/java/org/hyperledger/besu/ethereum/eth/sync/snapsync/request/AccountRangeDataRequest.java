@@ -140,10 +140,20 @@ public class AccountRangeDataRequest extends SnapDataRequest {
     worldStateStorageCoordinator.applyOnMatchingFlatMode(
         FlatDbMode.FULL,
         bonsaiWorldStateStorageStrategy -> {
-          flatDatabaseUpdater.set(
-              (key, value) ->
-                  ((BonsaiWorldStateKeyValueStorage.Updater) updater)
-                      .putAccountInfoState(Hash.wrap(key), value));
+          if (snapSyncConfiguration.isFlatDbBulkLoadEnabled()
+              && bonsaiWorldStateStorageStrategy.isFlatDbBulkLoadSupported()) {
+            // ingested with the flat entries of the other ranges of the batch, once the updater
+            // is committed
+            flatDatabaseUpdater.set(
+                (key, value) ->
+                    ((BonsaiWorldStateKeyValueStorage.Updater) updater)
+                        .bulkLoadAccountInfoState(Hash.wrap(key), value));
+          } else {
+            flatDatabaseUpdater.set(
+                (key, value) ->
+                    ((BonsaiWorldStateKeyValueStorage.Updater) updater)
+                        .putAccountInfoState(Hash.wrap(key), value));
+          }
         });
 
     stackTrie.commit(flatDatabaseUpdater.get(), nodeUpdater);
@@ -112,11 +112,22 @@ public class StorageRangeDataRequest extends SnapDataRequest {
     worldStateStorageCoordinator.applyOnMatchingFlatMode(
         FlatDbMode.FULL,
         bonsaiWorldStateStorageStrategy -> {
-          flatDatabaseUpdater.set(
-              (key, value) ->
-                  ((BonsaiWorldStateKeyValueStorage.Updater) updater)
-                      .putStorageValueBySlotHash(
-                          accountHash, Hash.wrap(key), Bytes32.leftPad(RLP.decodeValue(value))));
+          if (snapSyncConfiguration.isFlatDbBulkLoadEnabled()
+              && bonsaiWorldStateStorageStrategy.isFlatDbBulkLoadSupported()) {
+            // ingested with the flat entries of the other ranges of the batch, once the updater
+            // is committed
+            flatDatabaseUpdater.set(
+                (key, value) ->
+                    ((BonsaiWorldStateKeyValueStorage.Updater) updater)
+                        .bulkLoadStorageValueBySlotHash(
+                            accountHash, Hash.wrap(key), Bytes32.leftPad(RLP.decodeValue(value))));
+          } else {
+            flatDatabaseUpdater.set(
+                (key, value) ->
+                    ((BonsaiWorldStateKeyValueStorage.Updater) updater)
+                        .putStorageValueBySlotHash(
+                            accountHash, Hash.wrap(key), Bytes32.leftPad(RLP.decodeValue(value))));
+          }
         });
 
     stackTrie.commit(flatDatabaseUpdater.get(), nodeUpdater);
@@ -14,38 +14,78 @@
  */
 package org.hyperledger.besu.ethereum.eth.transactions;
 
+import org.hyperledger.besu.datatypes.Blob;
 import org.hyperledger.besu.datatypes.BlobsWithCommitments;
+import org.hyperledger.besu.datatypes.KZGCommitment;
+import org.hyperledger.besu.datatypes.KZGProof;
 import org.hyperledger.besu.datatypes.VersionedHash;
+import org.hyperledger.besu.datatypes.Wei;
 import org.hyperledger.besu.ethereum.core.Transaction;
 
+import java.nio.ByteBuffer;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Objects;
 import java.util.Optional;
-import java.util.concurrent.TimeUnit;
+import java.util.TreeSet;
 
-import com.github.benmanes.caffeine.cache.Cache;
-import com.github.benmanes.caffeine.cache.Caffeine;
+import com.google.common.annotations.VisibleForTesting;
+import org.apache.tuweni.bytes.Bytes;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+/**
+ * Keeps the blobs of the confirmed blob transactions, so they can be restored if the transactions
+ * need to go back to the pool after a reorg.
+ *
+ * <p>The blob data is stored off-heap, while the commitments, proofs and versioned hashes are kept
+ * on-heap. The size of the stored blob data is limited by a byte budget, and when it is exceeded
+ * the blobs of the transactions paying the lowest blob fee are evicted first.
+ */
 public class BlobCache {
-  private final Cache<VersionedHash, BlobsWithCommitments.BlobQuad> cache;
   private static final Logger LOG = LoggerFactory.getLogger(BlobCache.class);
 
+  /** 6 blobs max per 32 slots per 3 epochs, of 128 KiB each */
+  public static final long DEFAULT_MAX_CAPACITY_BYTES = 6 * 32 * 3L * 128 * 1024;
+
+  /** 3 epochs of 32 slots which take 12 seconds each */
+  private static final Duration RETENTION = Duration.ofSeconds(3 * 32 * 12L);
+
+  private final long maxCapacityBytes;
+  private final Clock clock;
+  // in insertion order, that is also the expiration order
+  private final Map<VersionedHash, CachedBlob> cachedBlobs = new LinkedHashMap<>();
+  private final NavigableSet<CachedBlob> evictionOrder =
+      new TreeSet<>(
+          Comparator.comparing(CachedBlob::maxFeePerBlobGas)
+              .thenComparingLong(CachedBlob::sequence));
+  private long nextSequence = 0;
+  private long usedBytes = 0;
+
   public BlobCache() {
-    this.cache =
-        Caffeine.newBuilder()
-            .maximumSize(6 * 32 * 3L) // 6 blobs max per 32 slots per 3 epochs
-            .expireAfterWrite(
-                3 * 32 * 12L, TimeUnit.SECONDS) // 3 epochs of 32 slots which take 12 seconds each.
-            .build();
+    this(DEFAULT_MAX_CAPACITY_BYTES, Clock.systemUTC());
+  }
+
+  @VisibleForTesting
+  BlobCache(final long maxCapacityBytes, final Clock clock) {
+    this.maxCapacityBytes = maxCapacityBytes;
+    this.clock = clock;
   }
 
   public void cacheBlobs(final Transaction t) {
     if (t.getType().supportsBlob()) {
       var bwc = t.getBlobsWithCommitments();
       if (bwc.isPresent()) {
-        bwc.get().getBlobQuads().stream()
-            .forEach(blobQuad -> this.cache.put(blobQuad.versionedHash(), blobQuad));
+        final Wei maxFeePerBlobGas = t.getMaxFeePerBlobGas().orElse(Wei.ZERO);
+        bwc.get().getBlobQuads().forEach(blobQuad -> cacheBlob(blobQuad, maxFeePerBlobGas));
       } else {
         LOG.debug("transaction is missing blobs, cannot cache");
       }
@@ -59,14 +99,9 @@ public class BlobCache {
         if (!maybeHashes.get().isEmpty()) {
           Transaction.Builder txBuilder = Transaction.builder();
           txBuilder.copiedFrom(transaction);
-          List<BlobsWithCommitments.BlobQuad> blobQuads =
-              maybeHashes.get().stream().map(cache::getIfPresent).toList();
-          final BlobsWithCommitments bwc = new BlobsWithCommitments(blobQuads);
-          if (blobQuads.stream()
-              .map(BlobsWithCommitments.BlobQuad::versionedHash)
-              .toList()
-              .containsAll(maybeHashes.get())) {
-            txBuilder.blobsWithCommitments(bwc);
+          List<BlobsWithCommitments.BlobQuad> blobQuads = getBlobQuads(maybeHashes.get());
+          if (blobQuads.size() == maybeHashes.get().size()) {
+            txBuilder.blobsWithCommitments(new BlobsWithCommitments(blobQuads));
             return Optional.of(txBuilder.build());
           } else {
             LOG.debug("did not find all versioned hashes to restore from cache");
@@ -87,4 +122,116 @@ public class BlobCache {
       return Optional.empty();
     }
   }
+
+  @VisibleForTesting
+  synchronized long getUsedBytes() {
+    return usedBytes;
+  }
+
+  private synchronized void cacheBlob(
+      final BlobsWithCommitments.BlobQuad blobQuad, final Wei maxFeePerBlobGas) {
+    evictExpired();
+
+    final Bytes blobData = blobQuad.blob().getData();
+    if (blobData.size() > maxCapacityBytes) {
+      LOG.debug("blob {} is bigger than the cache capacity", blobQuad.versionedHash());
+      return;
+    }
+
+    // first check that the blob fits, replacing the same blob if already cached and evicting the
+    // ones paying a lower blob fee, so nothing is removed if it does not
+    final CachedBlob replaced = cachedBlobs.get(blobQuad.versionedHash());
+    long availableBytes = maxCapacityBytes - usedBytes + (replaced == null ? 0 : replaced.size());
+    final List<CachedBlob> evicted = new ArrayList<>();
+    for (final CachedBlob candidate : evictionOrder) {
+      if (availableBytes >= blobData.size()) {
+        break;
+      }
+      if (candidate == replaced) {
+        continue;
+      }
+      if (candidate.maxFeePerBlobGas().compareTo(maxFeePerBlobGas) > 0) {
+        LOG.atTrace()
+            .setMessage("not caching blob {} since it pays a lower blob fee than the cached ones")
+            .addArgument(blobQuad::versionedHash)
+            .log();
+        return;
+      }
+      evicted.add(candidate);
+      availableBytes += candidate.size();
+    }
+
+    remove(replaced);
+    evicted.forEach(this::remove);
+
+    final ByteBuffer offHeapBlobData = ByteBuffer.allocateDirect(blobData.size());
+    offHeapBlobData.put(blobData.toArrayUnsafe());
+
+    final CachedBlob cachedBlob =
+        new CachedBlob(
+            blobQuad.versionedHash(),
+            blobQuad.kzgCommitment(),
+            blobQuad.kzgProof(),
+            offHeapBlobData,
+            maxFeePerBlobGas,
+            nextSequence++,
+            clock.instant());
+    cachedBlobs.put(cachedBlob.versionedHash(), cachedBlob);
+    evictionOrder.add(cachedBlob);
+    usedBytes += cachedBlob.size();
+  }
+
+  private synchronized List<BlobsWithCommitments.BlobQuad> getBlobQuads(
+      final List<VersionedHash> versionedHashes) {
+    evictExpired();
+    return versionedHashes.stream()
+        .map(cachedBlobs::get)
+        .filter(Objects::nonNull)
+        .map(CachedBlob::toBlobQuad)
+        .toList();
+  }
+
+  private void evictExpired() {
+    final Instant expiredBefore = clock.instant().minus(RETENTION);
+    final Iterator<CachedBlob> itCachedBlobs = cachedBlobs.values().iterator();
+    while (itCachedBlobs.hasNext()) {
+      final CachedBlob cachedBlob = itCachedBlobs.next();
+      if (!cachedBlob.cachedAt().isBefore(expiredBefore)) {
+        break;
+      }
+      itCachedBlobs.remove();
+      evictionOrder.remove(cachedBlob);
+      usedBytes -= cachedBlob.size();
+    }
+  }
+
+  private void remove(final CachedBlob cachedBlob) {
+    if (cachedBlob != null) {
+      cachedBlobs.remove(cachedBlob.versionedHash());
+      evictionOrder.remove(cachedBlob);
+      usedBytes -= cachedBlob.size();
+    }
+  }
+
+  private record CachedBlob(
+      VersionedHash versionedHash,
+      KZGCommitment kzgCommitment,
+      KZGProof kzgProof,
+      ByteBuffer offHeapBlobData,
+      Wei maxFeePerBlobGas,
+      long sequence,
+      Instant cachedAt) {
+
+    int size() {
+      return offHeapBlobData.capacity();
+    }
+
+    BlobsWithCommitments.BlobQuad toBlobQuad() {
+      return new BlobsWithCommitments.BlobQuad(
+          new Blob(Bytes.wrapByteBuffer(offHeapBlobData, 0, size())),
+          kzgCommitment,
+          kzgProof,
+          versionedHash);
+    }
+  }
 }
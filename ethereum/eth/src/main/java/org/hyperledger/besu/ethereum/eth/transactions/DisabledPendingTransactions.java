@@ -121,4 +121,12 @@ public class DisabledPendingTransactions implements PendingTransactions {
   public Optional<Transaction> restoreBlob(final Transaction transaction) {
     return Optional.empty();
   }
+
+  @Override
+  public List<Transaction> reclaimOverflowTransactions() {
+    return List.of();
+  }
+
+  @Override
+  public void close() {}
 }
@@ -74,8 +74,31 @@ public interface PendingTransactions {
 
   Optional<Transaction> restoreBlob(Transaction transaction);
 
+  /**
+   * Remove, and return, the transactions that were moved out of memory when the pool was full and
+   * that now fit in the space that has been freed, so they can be validated and added again.
+   *
+   * @return the reclaimed transactions, grouped by sender and ordered by nonce
+   */
+  List<Transaction> reclaimOverflowTransactions();
+
+  /**
+   * Release the resources held outside the heap, like the overflow file, after the pool has been
+   * disabled and its content saved. No other method must be called after this.
+   */
+  void close();
+
   @FunctionalInterface
   interface TransactionSelector {
     TransactionSelectionResult evaluateTransaction(PendingTransaction pendingTransaction);
+
+    /**
+     * Called before the evaluation starts, with the candidate transactions in the order they are
+     * going to be evaluated, so the selector can start working on the next ones in advance. It is
+     * only a hint, implementations that do not know the candidates in advance do not call it.
+     *
+     * @param candidateTransactions the candidate transactions in evaluation order
+     */
+    default void onCandidateTransactions(final List<PendingTransaction> candidateTransactions) {}
   }
 }
@@ -28,10 +28,12 @@ import org.hyperledger.besu.ethereum.chain.BlockAddedEvent;
 import org.hyperledger.besu.ethereum.chain.BlockAddedObserver;
 import org.hyperledger.besu.ethereum.chain.MutableBlockchain;
 import org.hyperledger.besu.ethereum.core.BlockHeader;
+import org.hyperledger.besu.ethereum.core.MutableWorldState;
 import org.hyperledger.besu.ethereum.core.Transaction;
 import org.hyperledger.besu.ethereum.eth.manager.EthContext;
 import org.hyperledger.besu.ethereum.eth.manager.EthPeer;
 import org.hyperledger.besu.ethereum.eth.manager.EthScheduler;
+import org.hyperledger.besu.ethereum.mainnet.ImmutableTransactionValidationParams;
 import org.hyperledger.besu.ethereum.mainnet.ProtocolSchedule;
 import org.hyperledger.besu.ethereum.mainnet.TransactionValidationParams;
 import org.hyperledger.besu.ethereum.mainnet.TransactionValidator;
@@ -42,6 +44,7 @@ import org.hyperledger.besu.ethereum.transaction.TransactionInvalidReason;
 import org.hyperledger.besu.ethereum.trie.MerkleTrieException;
 import org.hyperledger.besu.evm.account.Account;
 import org.hyperledger.besu.evm.fluent.SimpleAccount;
+import org.hyperledger.besu.plugin.services.metrics.OperationTimer;
 import org.hyperledger.besu.util.Subscribers;
 
 import java.io.BufferedReader;
@@ -55,6 +58,8 @@ import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.IntSummaryStatistics;
 import java.util.List;
 import java.util.Map;
@@ -63,12 +68,16 @@ import java.util.OptionalLong;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -88,8 +97,16 @@ import org.slf4j.LoggerFactory;
 public class TransactionPool implements BlockAddedObserver {
   private static final Logger LOG = LoggerFactory.getLogger(TransactionPool.class);
   private static final Logger LOG_FOR_REPLAY = LoggerFactory.getLogger("LOG_FOR_REPLAY");
+  private static final TransactionValidationParams TRANSACTION_POOL_VERIFIED_BLOBS_PARAMS =
+      ImmutableTransactionValidationParams.builder()
+          .from(TransactionValidationParams.transactionPool())
+          .checkBlobsKzgProofs(false)
+          .build();
   private final Supplier<PendingTransactions> pendingTransactionsSupplier;
   private volatile PendingTransactions pendingTransactions = new DisabledPendingTransactions();
+  // completed when the pending transactions of the last time the pool was disabled are closed
+  private volatile CompletableFuture<Void> disabledPendingTransactionsClosed =
+      CompletableFuture.completedFuture(null);
   private final ProtocolSchedule protocolSchedule;
   private final ProtocolContext protocolContext;
   private final EthContext ethContext;
@@ -97,6 +114,8 @@ public class TransactionPool implements BlockAddedObserver {
   private final TransactionPoolMetrics metrics;
   private final TransactionPoolConfiguration configuration;
   private final AtomicBoolean isPoolEnabled = new AtomicBoolean(false);
+  // the last requested state, so an enabling that waited is skipped if the pool was disabled again
+  private volatile boolean isEnableRequested = false;
   private final PendingTransactionsListenersProxy pendingTransactionsListenersProxy =
       new PendingTransactionsListenersProxy();
   private volatile OptionalLong subscribeConnectId = OptionalLong.empty();
@@ -185,19 +204,21 @@ public class TransactionPool implements BlockAddedObserver {
     final List<Transaction> addedTransactions = new ArrayList<>(initialCount);
     LOG.trace("Adding {} remote transactions", initialCount);
 
-    final var validationResults =
-        sortedBySenderAndNonce(transactions)
-            .collect(
-                Collectors.toMap(
-                    Transaction::getHash,
-                    transaction -> {
-                      final var result = addTransaction(transaction, false);
-                      if (result.isValid()) {
-                        addedTransactions.add(transaction);
-                      }
-                      return result;
-                    },
-                    (transaction1, transaction2) -> transaction1));
+    final Map<Hash, ValidationResult<TransactionInvalidReason>> validationResults =
+        new HashMap<>(initialCount);
+    // the whole batch is validated against the same chain head and world state
+    try (final var validationContext = new ChainHeadValidationContext()) {
+      final List<Transaction> sortedTransactions = sortedBySenderAndNonce(transactions).toList();
+      validationContext.prevalidate(sortedTransactions);
+
+      for (final Transaction transaction : sortedTransactions) {
+        final var result = addTransaction(transaction, false, validationContext);
+        if (validationResults.putIfAbsent(transaction.getHash(), result) == null
+            && result.isValid()) {
+          addedTransactions.add(transaction);
+        }
+      }
+    }
 
     LOG_FOR_REPLAY
         .atTrace()
@@ -222,6 +243,15 @@ public class TransactionPool implements BlockAddedObserver {
 
   private ValidationResult<TransactionInvalidReason> addTransaction(
       final Transaction transaction, final boolean isLocal) {
+    try (final var validationContext = new ChainHeadValidationContext()) {
+      return addTransaction(transaction, isLocal, validationContext);
+    }
+  }
+
+  private ValidationResult<TransactionInvalidReason> addTransaction(
+      final Transaction transaction,
+      final boolean isLocal,
+      final ChainHeadValidationContext validationContext) {
 
     final boolean hasPriority = isPriorityTransaction(transaction, isLocal);
 
@@ -236,7 +266,7 @@ public class TransactionPool implements BlockAddedObserver {
     }
 
     final ValidationResultAndAccount validationResult =
-        validateTransaction(transaction, isLocal, hasPriority);
+        validateTransaction(transaction, isLocal, hasPriority, validationContext);
 
     if (validationResult.result.isValid()) {
       final TransactionAddedResult status =
@@ -291,6 +321,10 @@ public class TransactionPool implements BlockAddedObserver {
   }
 
   private Stream<Transaction> sortedBySenderAndNonce(final Collection<Transaction> transactions) {
+    protocolContext
+        .getTransactionSenderRecovery()
+        .ifPresent(
+            transactionSenderRecovery -> transactionSenderRecovery.recoverSenders(transactions));
     return transactions.stream()
         .sorted(Comparator.comparing(Transaction::getSender).thenComparing(Transaction::getNonce));
   }
@@ -339,6 +373,7 @@ public class TransactionPool implements BlockAddedObserver {
         e.getRemovedTransactions(),
         protocolSchedule.getByBlockHeader(e.getBlock().getHeader()).getFeeMarket());
     reAddTransactions(e.getRemovedTransactions());
+    reAddTransactions(pendingTransactions.reclaimOverflowTransactions());
     LOG.atTrace()
         .setMessage("Block added event {} processed in {}ms")
         .addArgument(e)
@@ -387,9 +422,12 @@ public class TransactionPool implements BlockAddedObserver {
   }
 
   private ValidationResultAndAccount validateTransaction(
-      final Transaction transaction, final boolean isLocal, final boolean hasPriority) {
+      final Transaction transaction,
+      final boolean isLocal,
+      final boolean hasPriority,
+      final ChainHeadValidationContext validationContext) {
 
-    final BlockHeader chainHeadBlockHeader = getChainHeadBlockHeader().orElse(null);
+    final BlockHeader chainHeadBlockHeader = validationContext.getChainHeadBlockHeader();
     if (chainHeadBlockHeader == null) {
       LOG.atWarn()
           .setMessage("rejecting transaction {} due to chain head not available yet")
@@ -398,12 +436,81 @@ public class TransactionPool implements BlockAddedObserver {
       return ValidationResultAndAccount.invalid(CHAIN_HEAD_NOT_AVAILABLE);
     }
 
+    final ValidationResult<TransactionInvalidReason> statelessValidationResult =
+        validationContext
+            .getPrevalidationResult(transaction)
+            .orElseGet(
+                () ->
+                    validateStateless(
+                        transaction,
+                        isLocal,
+                        hasPriority,
+                        chainHeadBlockHeader,
+                        TransactionValidationParams.transactionPool()));
+    if (!statelessValidationResult.isValid()) {
+      return new ValidationResultAndAccount(statelessValidationResult);
+    }
+
+    // Call the transaction validator plugin
+    final Optional<String> maybePluginInvalid;
+    try (final OperationTimer.TimingContext ignored = metrics.startValidationTimer("plugin")) {
+      maybePluginInvalid =
+          configuration
+              .getTransactionPoolValidatorService()
+              .createTransactionValidator()
+              .validateTransaction(transaction, isLocal, hasPriority);
+    }
+    if (maybePluginInvalid.isPresent()) {
+      return ValidationResultAndAccount.invalid(
+          TransactionInvalidReason.PLUGIN_TX_POOL_VALIDATOR, maybePluginInvalid.get());
+    }
+
+    try (final OperationTimer.TimingContext ignored = metrics.startValidationTimer("sender")) {
+      final Account senderAccount = validationContext.getAccount(transaction.getSender());
+      return new ValidationResultAndAccount(
+          senderAccount,
+          getTransactionValidator()
+              .validateForSender(
+                  transaction, senderAccount, TransactionValidationParams.transactionPool()));
+    } catch (MerkleTrieException ex) {
+      LOG.debug(
+          "MerkleTrieException while validating transaction for sender {}",
+          transaction.getSender());
+      return ValidationResultAndAccount.invalid(CHAIN_HEAD_WORLD_STATE_NOT_AVAILABLE);
+    } catch (Exception ex) {
+      return ValidationResultAndAccount.invalid(CHAIN_HEAD_WORLD_STATE_NOT_AVAILABLE);
+    }
+  }
+
+  /**
+   * Checks that only depend on the transaction itself and on the chain head header, so they can be
+   * run in parallel for the transactions of a batch.
+   */
+  private ValidationResult<TransactionInvalidReason> validateStateless(
+      final Transaction transaction,
+      final boolean isLocal,
+      final boolean hasPriority,
+      final BlockHeader chainHeadBlockHeader,
+      final TransactionValidationParams validationParams) {
+    try (final OperationTimer.TimingContext ignored = metrics.startValidationTimer("stateless")) {
+      return doValidateStateless(
+          transaction, isLocal, hasPriority, chainHeadBlockHeader, validationParams);
+    }
+  }
+
+  private ValidationResult<TransactionInvalidReason> doValidateStateless(
+      final Transaction transaction,
+      final boolean isLocal,
+      final boolean hasPriority,
+      final BlockHeader chainHeadBlockHeader,
+      final TransactionValidationParams validationParams) {
+
     final FeeMarket feeMarket =
         protocolSchedule.getByBlockHeader(chainHeadBlockHeader).getFeeMarket();
     final TransactionInvalidReason priceInvalidReason =
         validatePrice(transaction, isLocal, hasPriority, feeMarket);
     if (priceInvalidReason != null) {
-      return ValidationResultAndAccount.invalid(priceInvalidReason);
+      return ValidationResult.invalid(priceInvalidReason);
     }
 
     final ValidationResult<TransactionInvalidReason> basicValidationResult =
@@ -414,65 +521,35 @@ public class TransactionPool implements BlockAddedObserver {
                 Optional.of(
                     Wei.ZERO), // TransactionValidationParams.transactionPool() allows underpriced
                 // txs
-                TransactionValidationParams.transactionPool());
+                validationParams);
     if (!basicValidationResult.isValid()) {
-      return new ValidationResultAndAccount(basicValidationResult);
+      return basicValidationResult;
     }
 
     if (hasPriority
         && strictReplayProtectionShouldBeEnforcedLocally(chainHeadBlockHeader)
         && transaction.getChainId().isEmpty()) {
       // Strict replay protection is enabled but the tx is not replay-protected
-      return ValidationResultAndAccount.invalid(
-          TransactionInvalidReason.REPLAY_PROTECTED_SIGNATURE_REQUIRED);
+      return ValidationResult.invalid(TransactionInvalidReason.REPLAY_PROTECTED_SIGNATURE_REQUIRED);
     }
     if (transaction.getGasLimit() > chainHeadBlockHeader.getGasLimit()) {
-      return ValidationResultAndAccount.invalid(
+      return ValidationResult.invalid(
           TransactionInvalidReason.EXCEEDS_BLOCK_GAS_LIMIT,
           String.format(
               "Transaction gas limit of %s exceeds block gas limit of %s",
               transaction.getGasLimit(), chainHeadBlockHeader.getGasLimit()));
     }
     if (transaction.getType().equals(TransactionType.EIP1559) && !feeMarket.implementsBaseFee()) {
-      return ValidationResultAndAccount.invalid(
+      return ValidationResult.invalid(
           TransactionInvalidReason.INVALID_TRANSACTION_FORMAT,
           "EIP-1559 transaction are not allowed yet");
     } else if (transaction.getType().equals(TransactionType.BLOB)
         && transaction.getBlobsWithCommitments().isEmpty()) {
-      return ValidationResultAndAccount.invalid(
+      return ValidationResult.invalid(
           TransactionInvalidReason.INVALID_BLOBS, "Blob transaction must have at least one blob");
     }
 
-    // Call the transaction validator plugin
-    final Optional<String> maybePluginInvalid =
-        configuration
-            .getTransactionPoolValidatorService()
-            .createTransactionValidator()
-            .validateTransaction(transaction, isLocal, hasPriority);
-    if (maybePluginInvalid.isPresent()) {
-      return ValidationResultAndAccount.invalid(
-          TransactionInvalidReason.PLUGIN_TX_POOL_VALIDATOR, maybePluginInvalid.get());
-    }
-
-    try (final var worldState =
-        protocolContext
-            .getWorldStateArchive()
-            .getMutable(chainHeadBlockHeader, false)
-            .orElseThrow()) {
-      final Account senderAccount = worldState.get(transaction.getSender());
-      return new ValidationResultAndAccount(
-          senderAccount,
-          getTransactionValidator()
-              .validateForSender(
-                  transaction, senderAccount, TransactionValidationParams.transactionPool()));
-    } catch (MerkleTrieException ex) {
-      LOG.debug(
-          "MerkleTrieException while validating transaction for sender {}",
-          transaction.getSender());
-      return ValidationResultAndAccount.invalid(CHAIN_HEAD_WORLD_STATE_NOT_AVAILABLE);
-    } catch (Exception ex) {
-      return ValidationResultAndAccount.invalid(CHAIN_HEAD_WORLD_STATE_NOT_AVAILABLE);
-    }
+    return ValidationResult.valid();
   }
 
   private TransactionInvalidReason validatePrice(
@@ -576,6 +653,164 @@ public class TransactionPool implements BlockAddedObserver {
     void onTransactionsAdded(Collection<Transaction> transactions);
   }
 
+  /**
+   * What is shared when validating a batch of transactions: the chain head at the start of the
+   * batch, a world state for that chain head that is only opened if needed and closed with the
+   * context, and the results of the stateless checks run in parallel, on the tx workers, for the
+   * batch.
+   */
+  private class ChainHeadValidationContext implements AutoCloseable {
+    private final BlockHeader chainHeadBlockHeader = getChainHeadBlockHeader().orElse(null);
+    // the results are kept by position in the batch, and not by hash, since the hash does not
+    // cover the blobs, so copies of a blob transaction with different blobs share the same hash
+    private final Map<Transaction, Integer> batchPositions = new IdentityHashMap<>();
+    private AtomicReferenceArray<ValidationResult<TransactionInvalidReason>> prevalidationResults;
+    private MutableWorldState worldState;
+
+    BlockHeader getChainHeadBlockHeader() {
+      return chainHeadBlockHeader;
+    }
+
+    void prevalidate(final List<Transaction> transactions) {
+      if (chainHeadBlockHeader == null || transactions.size() < 2) {
+        return;
+      }
+      final List<Transaction> newTransactions =
+          transactions.stream()
+              .filter(transaction -> !pendingTransactions.containsTransaction(transaction))
+              .toList();
+      final boolean blobsVerified = verifyBlobsKzgProofs(newTransactions);
+
+      for (int i = 0; i < newTransactions.size(); i++) {
+        batchPositions.put(newTransactions.get(i), i);
+      }
+      prevalidationResults = new AtomicReferenceArray<>(newTransactions.size());
+
+      // the transactions are claimed one at a time by the calling thread and by the tx workers
+      // that pick up a helper task, so the calling thread never waits for a task that has not
+      // started, and a helper that starts late or is rejected simply has nothing left to do
+      final AtomicInteger nextIndex = new AtomicInteger();
+      final CountDownLatch prevalidated = new CountDownLatch(newTransactions.size());
+      final Runnable prevalidateRemaining =
+          () -> {
+            for (int i = nextIndex.getAndIncrement();
+                i < newTransactions.size();
+                i = nextIndex.getAndIncrement()) {
+              final Transaction transaction = newTransactions.get(i);
+              try {
+                prevalidate(
+                    i,
+                    transaction,
+                    blobsVerified && transaction.getBlobsWithCommitments().isPresent()
+                        ? TRANSACTION_POOL_VERIFIED_BLOBS_PARAMS
+                        : TransactionValidationParams.transactionPool());
+              } finally {
+                prevalidated.countDown();
+              }
+            }
+          };
+
+      final int helperCount =
+          Math.min(newTransactions.size(), Runtime.getRuntime().availableProcessors()) - 1;
+      try {
+        for (int i = 0; i < helperCount; i++) {
+          ethContext.getScheduler().scheduleTxWorkerTask(prevalidateRemaining);
+        }
+      } catch (final RejectedExecutionException e) {
+        LOG.trace("Tx worker queue full, prevalidating the remaining transactions on the caller");
+      }
+      prevalidateRemaining.run();
+
+      try {
+        prevalidated.await();
+      } catch (final InterruptedException e) {
+        // the transactions not prevalidated yet are fully validated one by one
+        Thread.currentThread().interrupt();
+      }
+    }
+
+    /**
+     * Verify the KZG proofs of all the blobs of the batch with a single batched verification. If
+     * it fails, then none of the transactions is considered verified and each one is verified on
+     * its own, to find the ones with invalid proofs.
+     *
+     * @param transactions the transactions of the batch
+     * @return true if the proofs of all the blob transactions of the batch are verified
+     */
+    private boolean verifyBlobsKzgProofs(final List<Transaction> transactions) {
+      final List<Transaction> blobTransactions =
+          transactions.stream()
+              .filter(transaction -> transaction.getBlobsWithCommitments().isPresent())
+              .toList();
+      if (blobTransactions.size() < 2) {
+        return false;
+      }
+      try {
+        return getTransactionValidator().verifyBlobsKzgProofs(blobTransactions);
+      } catch (final RuntimeException e) {
+        LOG.atTrace()
+            .setMessage("Unable to batch verify the blobs of {} transactions: {}")
+            .addArgument(blobTransactions::size)
+            .addArgument(e::getMessage)
+            .log();
+      }
+      return false;
+    }
+
+    private void prevalidate(
+        final int batchPosition,
+        final Transaction transaction,
+        final TransactionValidationParams validationParams) {
+      try {
+        prevalidationResults.set(
+            batchPosition,
+            validateStateless(
+                transaction,
+                false,
+                isPriorityTransaction(transaction, false),
+                chainHeadBlockHeader,
+                validationParams));
+      } catch (final RuntimeException e) {
+        // leave it to the sequential validation to report the failure for this transaction
+        LOG.atTrace()
+            .setMessage("Unable to prevalidate transaction {}: {}")
+            .addArgument(transaction::getHash)
+            .addArgument(e::getMessage)
+            .log();
+      }
+    }
+
+    Optional<ValidationResult<TransactionInvalidReason>> getPrevalidationResult(
+        final Transaction transaction) {
+      final Integer batchPosition = batchPositions.get(transaction);
+      return batchPosition == null
+          ? Optional.empty()
+          : Optional.ofNullable(prevalidationResults.get(batchPosition));
+    }
+
+    Account getAccount(final Address address) {
+      if (worldState == null) {
+        worldState =
+            protocolContext
+                .getWorldStateArchive()
+                .getMutable(chainHeadBlockHeader, false)
+                .orElseThrow();
+      }
+      return worldState.get(address);
+    }
+
+    @Override
+    public void close() {
+      if (worldState != null) {
+        try {
+          worldState.close();
+        } catch (final Exception e) {
+          LOG.debug("Error closing world state used to validate transactions", e);
+        }
+      }
+    }
+  }
+
   private static class ValidationResultAndAccount {
     final ValidationResult<TransactionInvalidReason> result;
     final Optional<Account> maybeAccount;
@@ -604,38 +839,58 @@ public class TransactionPool implements BlockAddedObserver {
     }
   }
 
-  public CompletableFuture<Void> setEnabled() {
+  public synchronized CompletableFuture<Void> setEnabled() {
+    isEnableRequested = true;
     if (!isEnabled()) {
-      pendingTransactions = pendingTransactionsSupplier.get();
-      pendingTransactionsListenersProxy.subscribe();
-      isPoolEnabled.set(true);
-      subscribeConnectId =
-          OptionalLong.of(ethContext.getEthPeers().subscribeConnect(this::handleConnect));
-      return saveRestoreManager
-          .loadFromDisk()
-          .exceptionally(
-              t -> {
-                LOG.error("Error while restoring transaction pool from disk", t);
-                return null;
-              });
+      // the new pending transactions take over resources, like the overflow file, that must
+      // first be released by the previous ones, once their content has been saved, so if that
+      // is still in progress the pool is enabled after it, without blocking the caller
+      if (!disabledPendingTransactionsClosed.isDone()) {
+        LOG.info("Transaction pool will be enabled once its previous content has been saved");
+      }
+      return disabledPendingTransactionsClosed
+          .handle((unused, throwable) -> null)
+          .thenCompose(unused -> enable());
     }
     return CompletableFuture.completedFuture(null);
   }
 
-  public CompletableFuture<Void> setDisabled() {
+  private synchronized CompletableFuture<Void> enable() {
+    if (!isEnableRequested || isEnabled()) {
+      return CompletableFuture.completedFuture(null);
+    }
+    pendingTransactions = pendingTransactionsSupplier.get();
+    pendingTransactionsListenersProxy.subscribe();
+    isPoolEnabled.set(true);
+    subscribeConnectId =
+        OptionalLong.of(ethContext.getEthPeers().subscribeConnect(this::handleConnect));
+    return saveRestoreManager
+        .loadFromDisk()
+        .exceptionally(
+            t -> {
+              LOG.error("Error while restoring transaction pool from disk", t);
+              return null;
+            });
+  }
+
+  public synchronized CompletableFuture<Void> setDisabled() {
+    isEnableRequested = false;
     if (isEnabled()) {
       isPoolEnabled.set(false);
       subscribeConnectId.ifPresent(ethContext.getEthPeers()::unsubscribeConnect);
       pendingTransactionsListenersProxy.unsubscribe();
       final PendingTransactions pendingTransactionsToSave = pendingTransactions;
       pendingTransactions = new DisabledPendingTransactions();
-      return saveRestoreManager
-          .saveToDisk(pendingTransactionsToSave)
-          .exceptionally(
-              t -> {
-                LOG.error("Error while saving transaction pool to disk", t);
-                return null;
-              });
+      disabledPendingTransactionsClosed =
+          saveRestoreManager
+              .saveToDisk(pendingTransactionsToSave)
+              .exceptionally(
+                  t -> {
+                    LOG.error("Error while saving transaction pool to disk", t);
+                    return null;
+                  })
+              .thenRun(pendingTransactionsToSave::close);
+      return disabledPendingTransactionsClosed;
     }
     return CompletableFuture.completedFuture(null);
   }
@@ -40,6 +40,8 @@ public interface TransactionPoolConfiguration {
   interface Unstable {
     Duration ETH65_TRX_ANNOUNCED_BUFFERING_PERIOD = Duration.ofMillis(500);
     int DEFAULT_TX_MSG_KEEP_ALIVE = 60;
+    long DEFAULT_OVERFLOW_LAYER_MAX_CAPACITY_BYTES = 0L;
+    File DEFAULT_OVERFLOW_LAYER_FILE = new File("txpool-overflow.dat");
 
     TransactionPoolConfiguration.Unstable DEFAULT =
         ImmutableTransactionPoolConfiguration.Unstable.builder().build();
@@ -53,6 +55,22 @@ public interface TransactionPoolConfiguration {
     default int getTxMessageKeepAliveSeconds() {
       return DEFAULT_TX_MSG_KEEP_ALIVE;
     }
+
+    /**
+     * Max amount of disk space, in bytes, that the layered transaction pool can use to keep the
+     * transactions that do not fit in memory anymore. Zero disables the overflow layer.
+     *
+     * @return the max disk space used by the overflow layer
+     */
+    @Value.Default
+    default long getOverflowLayerMaxCapacityBytes() {
+      return DEFAULT_OVERFLOW_LAYER_MAX_CAPACITY_BYTES;
+    }
+
+    @Value.Default
+    default File getOverflowLayerFile() {
+      return DEFAULT_OVERFLOW_LAYER_FILE;
+    }
   }
 
   enum Implementation {
@@ -28,8 +28,10 @@ import org.hyperledger.besu.ethereum.eth.transactions.layered.BaseFeePrioritized
 import org.hyperledger.besu.ethereum.eth.transactions.layered.EndLayer;
 import org.hyperledger.besu.ethereum.eth.transactions.layered.GasPricePrioritizedTransactions;
 import org.hyperledger.besu.ethereum.eth.transactions.layered.LayeredPendingTransactions;
+import org.hyperledger.besu.ethereum.eth.transactions.layered.OverflowTransactions;
 import org.hyperledger.besu.ethereum.eth.transactions.layered.ReadyTransactions;
 import org.hyperledger.besu.ethereum.eth.transactions.layered.SparseTransactions;
+import org.hyperledger.besu.ethereum.eth.transactions.layered.TransactionsLayer;
 import org.hyperledger.besu.ethereum.eth.transactions.sorter.AbstractPendingTransactionsSorter;
 import org.hyperledger.besu.ethereum.eth.transactions.sorter.BaseFeePendingTransactionsSorter;
 import org.hyperledger.besu.ethereum.eth.transactions.sorter.GasPricePendingTransactionsSorter;
@@ -39,6 +41,7 @@ import org.hyperledger.besu.plugin.services.BesuEvents;
 import org.hyperledger.besu.plugin.services.MetricsSystem;
 
 import java.time.Clock;
+import java.util.Optional;
 import java.util.function.BiFunction;
 
 import org.slf4j.Logger;
@@ -309,11 +312,20 @@ public class TransactionPoolFactory {
 
     final EndLayer endLayer = new EndLayer(metrics);
 
+    final Optional<OverflowTransactions> maybeOverflowTransactions =
+        transactionPoolConfiguration.getUnstable().getOverflowLayerMaxCapacityBytes() > 0
+            ? Optional.of(
+                new OverflowTransactions(
+                    transactionPoolConfiguration, endLayer, metrics, transactionReplacementTester))
+            : Optional.empty();
+    final TransactionsLayer sparseNextLayer =
+        maybeOverflowTransactions.isPresent() ? maybeOverflowTransactions.get() : endLayer;
+
     final SparseTransactions sparseTransactions =
         new SparseTransactions(
             transactionPoolConfiguration,
             ethScheduler,
-            endLayer,
+            sparseNextLayer,
             metrics,
             transactionReplacementTester,
             blobCache);
@@ -358,6 +370,9 @@ public class TransactionPoolFactory {
     }
 
     return new LayeredPendingTransactions(
-        transactionPoolConfiguration, pendingTransactionsSorter, ethScheduler);
+        transactionPoolConfiguration,
+        pendingTransactionsSorter,
+        ethScheduler,
+        maybeOverflowTransactions);
   }
 }
@@ -23,6 +23,7 @@ import org.hyperledger.besu.plugin.services.MetricsSystem;
 import org.hyperledger.besu.plugin.services.metrics.Counter;
 import org.hyperledger.besu.plugin.services.metrics.LabelledGauge;
 import org.hyperledger.besu.plugin.services.metrics.LabelledMetric;
+import org.hyperledger.besu.plugin.services.metrics.OperationTimer;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -38,11 +39,17 @@ public class TransactionPoolMetrics {
   public static final String REMOVED_COUNTER_NAME = "removed_total";
   public static final String REJECTED_COUNTER_NAME = "rejected_total";
   public static final String EXPIRED_MESSAGES_COUNTER_NAME = "messages_expired_total";
+  public static final String LAYER_FULL_COUNTER_NAME = "layer_full_total";
   private static final int SKIPPED_MESSAGES_LOGGING_THRESHOLD = 1000;
   private final MetricsSystem metricsSystem;
   private final LabelledMetric<Counter> addedCounter;
   private final LabelledMetric<Counter> removedCounter;
   private final LabelledMetric<Counter> rejectedCounter;
+  private final LabelledMetric<Counter> layerFullCounter;
+  private final LabelledMetric<OperationTimer> validationTimer;
+  private final LabelledMetric<OperationTimer> lockWaitTimer;
+  private final LabelledMetric<OperationTimer> lockHoldTimer;
+  private final OperationTimer selectionTimer;
   private final LabelledGauge spaceUsed;
   private final LabelledGauge transactionCount;
   private final LabelledGauge transactionCountByType;
@@ -88,6 +95,40 @@ public class TransactionPoolMetrics {
             "reason",
             "layer");
 
+    layerFullCounter =
+        metricsSystem.createLabelledCounter(
+            BesuMetricCategory.TRANSACTION_POOL,
+            LAYER_FULL_COUNTER_NAME,
+            "Count of times a layer was full and transactions were evicted to make room",
+            "layer");
+
+    validationTimer =
+        metricsSystem.createLabelledTimer(
+            BesuMetricCategory.TRANSACTION_POOL,
+            "validation_time",
+            "Time spent validating a transaction, by validation stage",
+            "stage");
+
+    lockWaitTimer =
+        metricsSystem.createLabelledTimer(
+            BesuMetricCategory.TRANSACTION_POOL,
+            "lock_wait_time",
+            "Time spent waiting to acquire the lock on the pending transactions",
+            "lock");
+
+    lockHoldTimer =
+        metricsSystem.createLabelledTimer(
+            BesuMetricCategory.TRANSACTION_POOL,
+            "lock_hold_time",
+            "Time the lock on the pending transactions was held",
+            "lock");
+
+    selectionTimer =
+        metricsSystem.createTimer(
+            BesuMetricCategory.TRANSACTION_POOL,
+            "selection_time",
+            "Time spent selecting the pending transactions for a block");
+
     spaceUsed =
         metricsSystem.createLabelledGauge(
             BesuMetricCategory.TRANSACTION_POOL,
@@ -215,12 +256,20 @@ public class TransactionPoolMetrics {
 
   public void incrementRemoved(
       final PendingTransaction pendingTransaction, final String operation, final String layer) {
+    incrementRemoved(
+        pendingTransaction.isReceivedFromLocalSource(),
+        pendingTransaction.hasPriority(),
+        operation,
+        layer);
+  }
+
+  public void incrementRemoved(
+      final boolean receivedFromLocalSource,
+      final boolean hasPriority,
+      final String operation,
+      final String layer) {
     removedCounter
-        .labels(
-            location(pendingTransaction.isReceivedFromLocalSource()),
-            priority(pendingTransaction.hasPriority()),
-            operation,
-            layer)
+        .labels(location(receivedFromLocalSource), priority(hasPriority), operation, layer)
         .inc();
   }
 
@@ -246,6 +295,26 @@ public class TransactionPoolMetrics {
         .inc();
   }
 
+  public void incrementLayerFull(final String layer) {
+    layerFullCounter.labels(layer).inc();
+  }
+
+  public OperationTimer.TimingContext startValidationTimer(final String stage) {
+    return validationTimer.labels(stage).startTimer();
+  }
+
+  public OperationTimer.TimingContext startLockWaitTimer(final String lock) {
+    return lockWaitTimer.labels(lock).startTimer();
+  }
+
+  public OperationTimer.TimingContext startLockHoldTimer(final String lock) {
+    return lockHoldTimer.labels(lock).startTimer();
+  }
+
+  public OperationTimer.TimingContext startSelectionTimer() {
+    return selectionTimer.startTimer();
+  }
+
   public void incrementExpiredMessages(final String message) {
     expiredMessagesCounter.labels(message).inc();
   }
@@ -219,6 +219,7 @@ public abstract class AbstractTransactionsLayer implements TransactionsLayer {
                       : "need to evict " + overflowTxsCount + " transaction(s)")
           .log();
 
+      metrics.incrementLayerFull(name());
       evict(-cacheFreeSpace, overflowTxsCount);
       return true;
     }
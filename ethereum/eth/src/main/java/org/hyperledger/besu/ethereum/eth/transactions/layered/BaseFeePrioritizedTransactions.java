@@ -40,6 +40,19 @@ public class BaseFeePrioritizedTransactions extends AbstractPrioritizedTransacti
 
   private static final Logger LOG = LoggerFactory.getLogger(BaseFeePrioritizedTransactions.class);
   private Optional<Wei> nextBlockBaseFee;
+  // built once, since the comparison is called for every insertion and removal
+  private final Comparator<PendingTransaction> orderByEffectivePriorityFee =
+      Comparator.comparing(PendingTransaction::hasPriority)
+          .thenComparing(
+              (PendingTransaction pendingTransaction) ->
+                  pendingTransaction
+                      .getTransaction()
+                      .getEffectivePriorityFeePerGas(nextBlockBaseFee))
+          .thenComparing(
+              (PendingTransaction pendingTransaction) ->
+                  pendingTransaction.getTransaction().getMaxGasPrice())
+          .thenComparing(Comparator.comparing(PendingTransaction::getNonce).reversed())
+          .thenComparing(PendingTransaction::getSequence);
 
   public BaseFeePrioritizedTransactions(
       final TransactionPoolConfiguration poolConfig,
@@ -66,23 +79,15 @@ public class BaseFeePrioritizedTransactions extends AbstractPrioritizedTransacti
 
   @Override
   protected int compareByFee(final PendingTransaction pt1, final PendingTransaction pt2) {
-    return Comparator.comparing(PendingTransaction::hasPriority)
-        .thenComparing(
-            (PendingTransaction pendingTransaction) ->
-                pendingTransaction.getTransaction().getEffectivePriorityFeePerGas(nextBlockBaseFee))
-        .thenComparing(
-            (PendingTransaction pendingTransaction) ->
-                pendingTransaction.getTransaction().getMaxGasPrice())
-        .thenComparing(Comparator.comparing(PendingTransaction::getNonce).reversed())
-        .thenComparing(PendingTransaction::getSequence)
-        .compare(pt1, pt2);
+    return orderByEffectivePriorityFee.compare(pt1, pt2);
   }
 
   /**
    * On base fee markets when a new block is added we can calculate the base fee for the next block
    * and use it to keep only pending transactions willing to pay at least that fee in the
    * prioritized layer, since only these transactions are executable, while all the other can be
-   * demoted to the next layer.
+   * demoted to the next layer. The order by fee depends on the base fee, so it is only rebuilt
+   * when the base fee for the next block changes.
    *
    * @param blockHeader the header of the added block
    * @param feeMarket the fee market
@@ -97,8 +102,11 @@ public class BaseFeePrioritizedTransactions extends AbstractPrioritizedTransacti
         .addArgument(newNextBlockBaseFee::toHumanReadableString)
         .log();
 
+    final boolean isBaseFeeChanged = !newNextBlockBaseFee.equals(nextBlockBaseFee.get());
     nextBlockBaseFee = Optional.of(newNextBlockBaseFee);
-    orderByFee.clear();
+    if (isBaseFeeChanged) {
+      orderByFee.clear();
+    }
 
     final var itTxsBySender = txsBySender.entrySet().iterator();
     while (itTxsBySender.hasNext()) {
@@ -110,7 +118,9 @@ public class BaseFeePrioritizedTransactions extends AbstractPrioritizedTransacti
         final PendingTransaction tx = e.getValue();
         // it must pass the promotion filter to be prioritized
         if (promotionFilter(tx)) {
-          orderByFee.add(tx);
+          if (isBaseFeeChanged) {
+            orderByFee.add(tx);
+          }
         } else {
           // otherwise sender txs starting from this nonce need to be demoted to next layer,
           // and we can go to next sender
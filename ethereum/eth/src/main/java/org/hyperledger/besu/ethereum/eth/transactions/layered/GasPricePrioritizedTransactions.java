@@ -25,6 +25,7 @@ import org.hyperledger.besu.ethereum.eth.transactions.TransactionPoolConfigurati
 import org.hyperledger.besu.ethereum.eth.transactions.TransactionPoolMetrics;
 import org.hyperledger.besu.ethereum.mainnet.feemarket.FeeMarket;
 
+import java.util.Comparator;
 import java.util.function.BiFunction;
 
 /**
@@ -34,6 +35,10 @@ import java.util.function.BiFunction;
  * <p>This class is safe for use across multiple threads.
  */
 public class GasPricePrioritizedTransactions extends AbstractPrioritizedTransactions {
+  private static final Comparator<PendingTransaction> ORDER_BY_GAS_PRICE =
+      comparing(PendingTransaction::hasPriority)
+          .thenComparing(PendingTransaction::getGasPrice)
+          .thenComparing(PendingTransaction::getSequence);
 
   public GasPricePrioritizedTransactions(
       final TransactionPoolConfiguration poolConfig,
@@ -56,10 +61,7 @@ public class GasPricePrioritizedTransactions extends AbstractPrioritizedTransact
 
   @Override
   protected int compareByFee(final PendingTransaction pt1, final PendingTransaction pt2) {
-    return comparing(PendingTransaction::hasPriority)
-        .thenComparing(PendingTransaction::getGasPrice)
-        .thenComparing(PendingTransaction::getSequence)
-        .compare(pt1, pt2);
+    return ORDER_BY_GAS_PRICE.compare(pt1, pt2);
   }
 
   @Override
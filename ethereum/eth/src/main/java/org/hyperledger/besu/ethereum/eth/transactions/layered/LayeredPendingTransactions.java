@@ -39,6 +39,7 @@ import org.hyperledger.besu.ethereum.rlp.BytesValueRLPOutput;
 import org.hyperledger.besu.evm.account.Account;
 import org.hyperledger.besu.evm.account.AccountState;
 import org.hyperledger.besu.plugin.data.TransactionSelectionResult;
+import org.hyperledger.besu.plugin.services.metrics.OperationTimer;
 
 import java.util.ArrayDeque;
 import java.util.ArrayList;
@@ -46,6 +47,8 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.OptionalLong;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
 import java.util.stream.Collector;
 import java.util.stream.Collectors;
 
@@ -62,46 +65,71 @@ public class LayeredPendingTransactions implements PendingTransactions {
   private final TransactionPoolConfiguration poolConfig;
   private final AbstractPrioritizedTransactions prioritizedTransactions;
   private final EthScheduler ethScheduler;
+  private final Optional<OverflowTransactions> maybeOverflowTransactions;
+  // queries and the block selection snapshot only read the layers, so they do not need to wait
+  // for each other, while anything that changes the layers runs exclusively
+  private final ReadWriteLock rwLock;
 
   public LayeredPendingTransactions(
       final TransactionPoolConfiguration poolConfig,
       final AbstractPrioritizedTransactions prioritizedTransactions,
       final EthScheduler ethScheduler) {
+    this(poolConfig, prioritizedTransactions, ethScheduler, Optional.empty());
+  }
+
+  public LayeredPendingTransactions(
+      final TransactionPoolConfiguration poolConfig,
+      final AbstractPrioritizedTransactions prioritizedTransactions,
+      final EthScheduler ethScheduler,
+      final Optional<OverflowTransactions> maybeOverflowTransactions) {
     this.poolConfig = poolConfig;
     this.prioritizedTransactions = prioritizedTransactions;
     this.ethScheduler = ethScheduler;
+    this.maybeOverflowTransactions = maybeOverflowTransactions;
+    this.rwLock = new TimedReadWriteLock(prioritizedTransactions.metrics);
   }
 
   @Override
-  public synchronized void reset() {
-    prioritizedTransactions.reset();
+  public void reset() {
+    final Lock lock = rwLock.writeLock();
+    lock.lock();
+    try {
+      prioritizedTransactions.reset();
+    } finally {
+      lock.unlock();
+    }
   }
 
   @Override
-  public synchronized TransactionAddedResult addTransaction(
+  public TransactionAddedResult addTransaction(
       final PendingTransaction pendingTransaction, final Optional<Account> maybeSenderAccount) {
+    final Lock lock = rwLock.writeLock();
+    lock.lock();
+    try {
+      final long stateSenderNonce = maybeSenderAccount.map(AccountState::getNonce).orElse(0L);
 
-    final long stateSenderNonce = maybeSenderAccount.map(AccountState::getNonce).orElse(0L);
-
-    logTransactionForReplayAdd(pendingTransaction, stateSenderNonce);
+      logTransactionForReplayAdd(pendingTransaction, stateSenderNonce);
 
-    if (hasAccountNonceDisparity(pendingTransaction, stateSenderNonce)) {
-      reconcileSender(pendingTransaction.getSender(), stateSenderNonce);
-    }
+      if (hasAccountNonceDisparity(pendingTransaction, stateSenderNonce)) {
+        reconcileSender(pendingTransaction.getSender(), stateSenderNonce);
+      }
 
-    final long nonceDistance = pendingTransaction.getNonce() - stateSenderNonce;
+      final long nonceDistance = pendingTransaction.getNonce() - stateSenderNonce;
 
-    final TransactionAddedResult nonceChecksResult =
-        nonceChecks(pendingTransaction, stateSenderNonce, nonceDistance);
-    if (nonceChecksResult != null) {
-      return nonceChecksResult;
-    }
+      final TransactionAddedResult nonceChecksResult =
+          nonceChecks(pendingTransaction, stateSenderNonce, nonceDistance);
+      if (nonceChecksResult != null) {
+        return nonceChecksResult;
+      }
 
-    try {
-      return prioritizedTransactions.add(pendingTransaction, (int) nonceDistance);
-    } catch (final Throwable throwable) {
-      return reconcileAndRetryAdd(
-          pendingTransaction, stateSenderNonce, (int) nonceDistance, throwable);
+      try {
+        return prioritizedTransactions.add(pendingTransaction, (int) nonceDistance);
+      } catch (final Throwable throwable) {
+        return reconcileAndRetryAdd(
+            pendingTransaction, stateSenderNonce, (int) nonceDistance, throwable);
+      }
+    } finally {
+      lock.unlock();
     }
   }
 
@@ -302,67 +330,95 @@ public class LayeredPendingTransactions implements PendingTransactions {
   public void evictOldTransactions() {}
 
   @Override
-  public synchronized List<Transaction> getLocalTransactions() {
-    return prioritizedTransactions.getAllLocal();
+  public List<Transaction> getLocalTransactions() {
+    final Lock lock = rwLock.readLock();
+    lock.lock();
+    try {
+      return prioritizedTransactions.getAllLocal();
+    } finally {
+      lock.unlock();
+    }
   }
 
   @Override
-  public synchronized List<Transaction> getPriorityTransactions() {
-    return prioritizedTransactions.getAllPriority();
+  public List<Transaction> getPriorityTransactions() {
+    final Lock lock = rwLock.readLock();
+    lock.lock();
+    try {
+      return prioritizedTransactions.getAllPriority();
+    } finally {
+      lock.unlock();
+    }
   }
 
   @Override
   public void selectTransactions(final PendingTransactions.TransactionSelector selector) {
     final List<PendingTransaction> invalidTransactions = new ArrayList<>();
+    try (final OperationTimer.TimingContext ignored =
+        prioritizedTransactions.metrics.startSelectionTimer()) {
+      final List<SenderPendingTransactions> candidateTxsBySender;
+      final Lock lock = rwLock.readLock();
+      lock.lock();
+      try {
+        // since selecting transactions for block creation is a potential long operation
+        // we want to avoid to keep the lock for all the process, but we just lock to get
+        // the candidate transactions
+        candidateTxsBySender = prioritizedTransactions.getBySender();
+      } finally {
+        lock.unlock();
+      }
 
-    final List<SenderPendingTransactions> candidateTxsBySender;
-    synchronized (this) {
-      // since selecting transactions for block creation is a potential long operation
-      // we want to avoid to keep the lock for all the process, but we just lock to get
-      // the candidate transactions
-      candidateTxsBySender = prioritizedTransactions.getBySender();
-    }
-
-    selection:
-    for (final var senderTxs : candidateTxsBySender) {
-      LOG.trace("highPrioSenderTxs {}", senderTxs);
-
-      for (final var candidatePendingTx : senderTxs.pendingTransactions()) {
-        final var selectionResult = selector.evaluateTransaction(candidatePendingTx);
-
-        LOG.atTrace()
-            .setMessage("Selection result {} for transaction {}")
-            .addArgument(selectionResult)
-            .addArgument(candidatePendingTx::toTraceLog)
-            .log();
-
-        if (selectionResult.discard()) {
-          invalidTransactions.add(candidatePendingTx);
-          logDiscardedTransaction(candidatePendingTx, selectionResult);
-        }
-
-        if (selectionResult.stop()) {
-          LOG.trace("Stopping selection");
-          break selection;
-        }
-
-        if (!selectionResult.selected()) {
-          // avoid processing other txs from this sender if this one is skipped
-          // since the following will not be selected due to the nonce gap
-          LOG.trace("Skipping remaining txs for sender {}", candidatePendingTx.getSender());
-          break;
+      selector.onCandidateTransactions(
+          candidateTxsBySender.stream()
+              .flatMap(senderTxs -> senderTxs.pendingTransactions().stream())
+              .toList());
+
+      selection:
+      for (final var senderTxs : candidateTxsBySender) {
+        LOG.trace("highPrioSenderTxs {}", senderTxs);
+
+        for (final var candidatePendingTx : senderTxs.pendingTransactions()) {
+          final var selectionResult = selector.evaluateTransaction(candidatePendingTx);
+
+          LOG.atTrace()
+              .setMessage("Selection result {} for transaction {}")
+              .addArgument(selectionResult)
+              .addArgument(candidatePendingTx::toTraceLog)
+              .log();
+
+          if (selectionResult.discard()) {
+            invalidTransactions.add(candidatePendingTx);
+            logDiscardedTransaction(candidatePendingTx, selectionResult);
+          }
+
+          if (selectionResult.stop()) {
+            LOG.trace("Stopping selection");
+            break selection;
+          }
+
+          if (!selectionResult.selected()) {
+            // avoid processing other txs from this sender if this one is skipped
+            // since the following will not be selected due to the nonce gap
+            LOG.trace("Skipping remaining txs for sender {}", candidatePendingTx.getSender());
+            break;
+          }
         }
       }
     }
 
-    ethScheduler.scheduleTxWorkerTask(
-        () ->
-            invalidTransactions.forEach(
-                invalidTx -> {
-                  synchronized (this) {
-                    prioritizedTransactions.remove(invalidTx, INVALIDATED);
-                  }
-                }));
+    if (!invalidTransactions.isEmpty()) {
+      ethScheduler.scheduleTxWorkerTask(
+          () -> {
+            final Lock writeLock = rwLock.writeLock();
+            writeLock.lock();
+            try {
+              invalidTransactions.forEach(
+                  invalidTx -> prioritizedTransactions.remove(invalidTx, INVALIDATED));
+            } finally {
+              writeLock.unlock();
+            }
+          });
+    }
   }
 
   @Override
@@ -371,23 +427,47 @@ public class LayeredPendingTransactions implements PendingTransactions {
   }
 
   @Override
-  public synchronized int size() {
-    return prioritizedTransactions.count();
+  public int size() {
+    final Lock lock = rwLock.readLock();
+    lock.lock();
+    try {
+      return prioritizedTransactions.count();
+    } finally {
+      lock.unlock();
+    }
   }
 
   @Override
-  public synchronized boolean containsTransaction(final Transaction transaction) {
-    return prioritizedTransactions.contains(transaction);
+  public boolean containsTransaction(final Transaction transaction) {
+    final Lock lock = rwLock.readLock();
+    lock.lock();
+    try {
+      return prioritizedTransactions.contains(transaction);
+    } finally {
+      lock.unlock();
+    }
   }
 
   @Override
-  public synchronized Optional<Transaction> getTransactionByHash(final Hash transactionHash) {
-    return prioritizedTransactions.getByHash(transactionHash);
+  public Optional<Transaction> getTransactionByHash(final Hash transactionHash) {
+    final Lock lock = rwLock.readLock();
+    lock.lock();
+    try {
+      return prioritizedTransactions.getByHash(transactionHash);
+    } finally {
+      lock.unlock();
+    }
   }
 
   @Override
-  public synchronized List<PendingTransaction> getPendingTransactions() {
-    return prioritizedTransactions.getAll();
+  public List<PendingTransaction> getPendingTransactions() {
+    final Lock lock = rwLock.readLock();
+    lock.lock();
+    try {
+      return prioritizedTransactions.getAll();
+    } finally {
+      lock.unlock();
+    }
   }
 
   @Override
@@ -412,11 +492,17 @@ public class LayeredPendingTransactions implements PendingTransactions {
 
   @Override
   public OptionalLong getNextNonceForSender(final Address sender) {
-    return prioritizedTransactions.getNextNonceFor(sender);
+    final Lock lock = rwLock.readLock();
+    lock.lock();
+    try {
+      return prioritizedTransactions.getNextNonceFor(sender);
+    } finally {
+      lock.unlock();
+    }
   }
 
   @Override
-  public synchronized void manageBlockAdded(
+  public void manageBlockAdded(
       final BlockHeader blockHeader,
       final List<Transaction> confirmedTransactions,
       final List<Transaction> reorgTransactions,
@@ -426,23 +512,30 @@ public class LayeredPendingTransactions implements PendingTransactions {
         .addArgument(blockHeader::toLogString)
         .log();
 
+    // computed before taking the lock, since they do not depend on the pool content
     final var maxConfirmedNonceBySender = maxNonceBySender(confirmedTransactions);
 
     final var reorgNonceRangeBySender = nonceRangeBySender(reorgTransactions);
 
+    final Lock lock = rwLock.writeLock();
+    lock.lock();
     try {
-      prioritizedTransactions.blockAdded(feeMarket, blockHeader, maxConfirmedNonceBySender);
-    } catch (final Throwable throwable) {
-      LOG.warn(
-          "Unexpected error {} when managing added block {}, maxNonceBySender {}, reorgNonceRangeBySender {}",
-          throwable,
-          blockHeader.toLogString(),
-          maxConfirmedNonceBySender,
-          reorgTransactions);
-      LOG.warn("Stack trace", throwable);
-    }
+      try {
+        prioritizedTransactions.blockAdded(feeMarket, blockHeader, maxConfirmedNonceBySender);
+      } catch (final Throwable throwable) {
+        LOG.warn(
+            "Unexpected error {} when managing added block {}, maxNonceBySender {}, reorgNonceRangeBySender {}",
+            throwable,
+            blockHeader.toLogString(),
+            maxConfirmedNonceBySender,
+            reorgTransactions);
+        LOG.warn("Stack trace", throwable);
+      }
 
-    logBlockHeaderForReplay(blockHeader, maxConfirmedNonceBySender, reorgNonceRangeBySender);
+      logBlockHeaderForReplay(blockHeader, maxConfirmedNonceBySender, reorgNonceRangeBySender);
+    } finally {
+      lock.unlock();
+    }
   }
 
   private void logBlockHeaderForReplay(
@@ -528,17 +621,61 @@ public class LayeredPendingTransactions implements PendingTransactions {
   }
 
   @Override
-  public synchronized String toTraceLog() {
+  public String toTraceLog() {
     return "";
   }
 
   @Override
-  public synchronized String logStats() {
-    return prioritizedTransactions.logStats();
+  public String logStats() {
+    final Lock lock = rwLock.readLock();
+    lock.lock();
+    try {
+      return prioritizedTransactions.logStats();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  @Override
+  public List<Transaction> reclaimOverflowTransactions() {
+    if (maybeOverflowTransactions.isEmpty()) {
+      return List.of();
+    }
+
+    final Lock lock = rwLock.writeLock();
+    lock.lock();
+    try {
+      // only reclaim what fits in the space left free in the layers limited by space
+      final long freeSpace =
+          2 * poolConfig.getPendingTransactionsLayerMaxCapacityBytes()
+              - (prioritizedTransactions.getCumulativeUsedSpace()
+                  - prioritizedTransactions.getLayerSpaceUsed());
+      if (freeSpace <= 0) {
+        return List.of();
+      }
+      return maybeOverflowTransactions.get().reclaim(freeSpace).stream()
+          .map(PendingTransaction::getTransaction)
+          .toList();
+    } finally {
+      lock.unlock();
+    }
   }
 
   @Override
   public Optional<Transaction> restoreBlob(final Transaction transaction) {
     return prioritizedTransactions.getBlobCache().restoreBlob(transaction);
   }
+
+  @Override
+  public void close() {
+    if (maybeOverflowTransactions.isPresent()) {
+      final Lock lock = rwLock.writeLock();
+      lock.lock();
+      try {
+        maybeOverflowTransactions.get().close();
+      } finally {
+        lock.unlock();
+      }
+    }
+  }
 }
@@ -0,0 +1,604 @@
+/*
+ * Copyright contributors to Hyperledger Besu.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.ethereum.eth.transactions.layered;
+
+import static org.hyperledger.besu.ethereum.eth.transactions.TransactionAddedResult.ADDED;
+import static org.hyperledger.besu.ethereum.eth.transactions.TransactionAddedResult.ALREADY_KNOWN;
+import static org.hyperledger.besu.ethereum.eth.transactions.TransactionAddedResult.REJECTED_UNDERPRICED_REPLACEMENT;
+import static org.hyperledger.besu.ethereum.eth.transactions.layered.TransactionsLayer.RemovalReason.CONFIRMED;
+import static org.hyperledger.besu.ethereum.eth.transactions.layered.TransactionsLayer.RemovalReason.CROSS_LAYER_REPLACED;
+import static org.hyperledger.besu.ethereum.eth.transactions.layered.TransactionsLayer.RemovalReason.PROMOTED;
+import static org.hyperledger.besu.ethereum.eth.transactions.layered.TransactionsLayer.RemovalReason.REPLACED;
+
+import org.hyperledger.besu.datatypes.Address;
+import org.hyperledger.besu.datatypes.Hash;
+import org.hyperledger.besu.ethereum.core.BlockHeader;
+import org.hyperledger.besu.ethereum.core.Transaction;
+import org.hyperledger.besu.ethereum.core.encoding.EncodingContext;
+import org.hyperledger.besu.ethereum.core.encoding.TransactionDecoder;
+import org.hyperledger.besu.ethereum.core.encoding.TransactionEncoder;
+import org.hyperledger.besu.ethereum.eth.transactions.PendingTransaction;
+import org.hyperledger.besu.ethereum.eth.transactions.PendingTransactionAddedListener;
+import org.hyperledger.besu.ethereum.eth.transactions.PendingTransactionDroppedListener;
+import org.hyperledger.besu.ethereum.eth.transactions.TransactionAddedResult;
+import org.hyperledger.besu.ethereum.eth.transactions.TransactionPoolConfiguration;
+import org.hyperledger.besu.ethereum.eth.transactions.TransactionPoolMetrics;
+import org.hyperledger.besu.ethereum.mainnet.feemarket.FeeMarket;
+import org.hyperledger.besu.util.Subscribers;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.NavigableSet;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.function.BiFunction;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import org.apache.tuweni.bytes.Bytes;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Keeps on disk the transactions that are evicted from the in-memory layers, instead of dropping
+ * them, until its disk budget is full. Only a small index is kept in memory, while the transactions
+ * are appended to a local file, that is compacted when the space taken by removed transactions
+ * exceeds the space taken by the live ones.
+ *
+ * <p>Since transactions here could be far from being executable, they are not promoted to the
+ * previous layer, instead they are moved back when a previous layer needs the next nonce of a
+ * sender to fill a gap, or are reclaimed as a batch when there is free space in memory, so that
+ * they are validated and added again, as any other transaction. When this layer is full,
+ * transactions are passed to the next layer, that just drop them.
+ *
+ * <p>The file is owned by a single instance at a time, so an instance must be closed, after its
+ * content has been saved, before a new one is created for the same file.
+ */
+public class OverflowTransactions implements TransactionsLayer, AutoCloseable {
+  private static final Logger LOG = LoggerFactory.getLogger(OverflowTransactions.class);
+  // do not bother to compact the file until there is at least this amount of garbage
+  private static final long MIN_COMPACTION_BYTES = 1024 * 1024;
+
+  private final TransactionsLayer nextLayer;
+  private final BiFunction<PendingTransaction, PendingTransaction, Boolean>
+      transactionReplacementTester;
+  private final TransactionPoolMetrics metrics;
+  private final long maxCapacityBytes;
+  private final Path file;
+
+  private final Map<Hash, OverflowEntry> entriesByHash = new HashMap<>();
+  private final Map<Address, NavigableMap<Long, OverflowEntry>> entriesBySender = new HashMap<>();
+
+  /**
+   * Order entries by priority flag desc and sequence asc, so that priority and then older
+   * transactions are reclaimed first.
+   */
+  private final NavigableSet<OverflowEntry> reclaimOrder =
+      new TreeSet<>(
+          Comparator.comparing((OverflowEntry entry) -> !entry.hasPriority)
+              .thenComparing(entry -> entry.sequence));
+
+  private final Subscribers<PendingTransactionDroppedListener> onDroppedListeners =
+      Subscribers.create();
+  private OptionalLong nextLayerOnDroppedListenerId = OptionalLong.empty();
+
+  private FileChannel channel;
+  private long liveBytes = 0;
+  private long deadBytes = 0;
+
+  public OverflowTransactions(
+      final TransactionPoolConfiguration poolConfig,
+      final TransactionsLayer nextLayer,
+      final TransactionPoolMetrics metrics,
+      final BiFunction<PendingTransaction, PendingTransaction, Boolean>
+          transactionReplacementTester) {
+    this.nextLayer = nextLayer;
+    this.transactionReplacementTester = transactionReplacementTester;
+    this.metrics = metrics;
+    this.maxCapacityBytes = poolConfig.getUnstable().getOverflowLayerMaxCapacityBytes();
+    this.file = poolConfig.getUnstable().getOverflowLayerFile().toPath();
+    // the content of the pool is persisted across restarts by the save/restore feature,
+    // so what is left in the file from a previous run is discarded
+    this.channel = openChannel(file);
+    metrics.initSpaceUsed(() -> liveBytes, name());
+    metrics.initTransactionCount(entriesByHash::size, name());
+    metrics.initUniqueSenderCount(entriesBySender::size, name());
+  }
+
+  private static FileChannel openChannel(final Path file) {
+    try {
+      return FileChannel.open(
+          file,
+          StandardOpenOption.CREATE,
+          StandardOpenOption.READ,
+          StandardOpenOption.WRITE,
+          StandardOpenOption.TRUNCATE_EXISTING);
+    } catch (final IOException e) {
+      throw new UncheckedIOException("Unable to open transaction pool overflow file " + file, e);
+    }
+  }
+
+  @Override
+  public String name() {
+    return "overflow";
+  }
+
+  @Override
+  public void reset() {
+    entriesByHash.clear();
+    entriesBySender.clear();
+    reclaimOrder.clear();
+    truncate();
+    nextLayer.reset();
+  }
+
+  @Override
+  public Optional<Transaction> getByHash(final Hash transactionHash) {
+    final OverflowEntry entry = entriesByHash.get(transactionHash);
+    if (entry == null) {
+      return nextLayer.getByHash(transactionHash);
+    }
+    return Optional.of(readTransaction(entry));
+  }
+
+  @Override
+  public boolean contains(final Transaction transaction) {
+    return entriesByHash.containsKey(transaction.getHash()) || nextLayer.contains(transaction);
+  }
+
+  @Override
+  public TransactionAddedResult add(final PendingTransaction pendingTransaction, final int gap) {
+    final OverflowEntry existingEntry =
+        getEntry(pendingTransaction.getSender(), pendingTransaction.getNonce());
+    if (existingEntry != null) {
+      if (existingEntry.hash.equals(pendingTransaction.getHash())) {
+        return ALREADY_KNOWN;
+      }
+      final PendingTransaction existingTx = readPendingTransaction(existingEntry);
+      if (!transactionReplacementTester.apply(existingTx, pendingTransaction)) {
+        metrics.incrementRejected(
+            pendingTransaction,
+            REJECTED_UNDERPRICED_REPLACEMENT.maybeInvalidReason().orElseThrow(),
+            name());
+        return REJECTED_UNDERPRICED_REPLACEMENT;
+      }
+      removeEntry(existingEntry);
+      metrics.incrementRemoved(existingTx, REPLACED.label(), name());
+      notifyTransactionDropped(existingTx);
+      if (!append(pendingTransaction)) {
+        return nextLayer.add(pendingTransaction, gap);
+      }
+      return TransactionAddedResult.createForReplacement(existingTx);
+    }
+
+    if (!append(pendingTransaction)) {
+      return nextLayer.add(pendingTransaction, gap);
+    }
+    return ADDED;
+  }
+
+  private boolean append(final PendingTransaction pendingTransaction) {
+    final Bytes encoded =
+        TransactionEncoder.encodeOpaqueBytes(
+            pendingTransaction.getTransaction(), EncodingContext.POOLED_TRANSACTION);
+    if (liveBytes + encoded.size() > maxCapacityBytes) {
+      return false;
+    }
+
+    try {
+      final long position = channel.size();
+      writeFully(channel, ByteBuffer.wrap(encoded.toArrayUnsafe()), position);
+      addEntry(new OverflowEntry(pendingTransaction, position, encoded.size()));
+      metrics.incrementAdded(pendingTransaction, name());
+      return true;
+    } catch (final IOException e) {
+      LOG.atWarn()
+          .setMessage("Unable to write transaction {} to the overflow file {}: {}")
+          .addArgument(pendingTransaction::getHash)
+          .addArgument(file)
+          .addArgument(e::getMessage)
+          .log();
+      return false;
+    }
+  }
+
+  @Override
+  public void remove(final PendingTransaction pendingTransaction, final RemovalReason reason) {
+    final OverflowEntry entry = entriesByHash.get(pendingTransaction.getHash());
+    if (entry != null) {
+      removeEntry(entry);
+      metrics.incrementRemoved(pendingTransaction, reason.label(), name());
+    } else {
+      nextLayer.remove(pendingTransaction, reason);
+    }
+  }
+
+  @Override
+  public void blockAdded(
+      final FeeMarket feeMarket,
+      final BlockHeader blockHeader,
+      final Map<Address, Long> maxConfirmedNonceBySender) {
+    nextLayer.blockAdded(feeMarket, blockHeader, maxConfirmedNonceBySender);
+    maxConfirmedNonceBySender.forEach(this::confirmed);
+    maybeCompact();
+  }
+
+  private void confirmed(final Address sender, final long maxConfirmedNonce) {
+    final var senderEntries = entriesBySender.get(sender);
+    if (senderEntries != null) {
+      final var confirmedEntries =
+          List.copyOf(senderEntries.headMap(maxConfirmedNonce, true).values());
+      confirmedEntries.forEach(
+          entry -> {
+            removeEntry(entry);
+            metrics.incrementRemoved(entry.isLocal, entry.hasPriority, CONFIRMED.label(), name());
+          });
+    }
+  }
+
+  /**
+   * Remove from this layer, and return, a batch of transactions that fit in the specified space,
+   * taking all the transactions of a sender, in nonce order, before moving to the next sender.
+   * Senders are selected giving precedence to the ones with priority transactions and then to the
+   * oldest transactions.
+   *
+   * @param freeSpace max amount of memory the reclaimed transactions can occupy
+   * @return the reclaimed transactions, grouped by sender and ordered by nonce
+   */
+  public List<PendingTransaction> reclaim(final long freeSpace) {
+    final List<PendingTransaction> reclaimedTxs = new ArrayList<>();
+    long accumulatedSpace = 0;
+
+    search:
+    while (!reclaimOrder.isEmpty()) {
+      final var senderEntries =
+          List.copyOf(entriesBySender.get(reclaimOrder.first().sender).values());
+      for (final var entry : senderEntries) {
+        final PendingTransaction reclaimedTx = readPendingTransaction(entry);
+        accumulatedSpace += reclaimedTx.memorySize();
+        if (accumulatedSpace > freeSpace) {
+          break search;
+        }
+        removeEntry(entry);
+        metrics.incrementRemoved(reclaimedTx, PROMOTED.label(), name());
+        reclaimedTxs.add(reclaimedTx);
+      }
+    }
+
+    maybeCompact();
+    return reclaimedTxs;
+  }
+
+  @Override
+  public List<PendingTransaction> getAll() {
+    final List<PendingTransaction> allNextLayers = nextLayer.getAll();
+    final List<PendingTransaction> allTxs =
+        new ArrayList<>(entriesByHash.size() + allNextLayers.size());
+    entriesByHash.values().stream().map(this::readPendingTransaction).forEach(allTxs::add);
+    allTxs.addAll(allNextLayers);
+    return allTxs;
+  }
+
+  @Override
+  public List<PendingTransaction> getAllFor(final Address sender) {
+    final var senderEntries = entriesBySender.get(sender);
+    final List<PendingTransaction> fromNextLayers = nextLayer.getAllFor(sender);
+    if (senderEntries == null) {
+      return fromNextLayers;
+    }
+    final List<PendingTransaction> senderTxs =
+        new ArrayList<>(senderEntries.size() + fromNextLayers.size());
+    senderEntries.values().stream().map(this::readPendingTransaction).forEach(senderTxs::add);
+    senderTxs.addAll(fromNextLayers);
+    return senderTxs;
+  }
+
+  @Override
+  public List<Transaction> getAllLocal() {
+    final List<Transaction> localTxs =
+        entriesByHash.values().stream()
+            .filter(entry -> entry.isLocal)
+            .map(this::readTransaction)
+            .collect(Collectors.toCollection(ArrayList::new));
+    localTxs.addAll(nextLayer.getAllLocal());
+    return localTxs;
+  }
+
+  @Override
+  public List<Transaction> getAllPriority() {
+    final List<Transaction> priorityTxs =
+        entriesByHash.values().stream()
+            .filter(entry -> entry.hasPriority)
+            .map(this::readTransaction)
+            .collect(Collectors.toCollection(ArrayList::new));
+    priorityTxs.addAll(nextLayer.getAllPriority());
+    return priorityTxs;
+  }
+
+  @Override
+  public int count() {
+    return entriesByHash.size() + nextLayer.count();
+  }
+
+  @Override
+  public OptionalLong getNextNonceFor(final Address sender) {
+    // transactions here are not considered for the next nonce of a sender
+    return nextLayer.getNextNonceFor(sender);
+  }
+
+  @Override
+  public OptionalLong getCurrentNonceFor(final Address sender) {
+    return nextLayer.getCurrentNonceFor(sender);
+  }
+
+  /**
+   * Transactions are never promoted in bulk from this layer, since the previous layer allows nonce
+   * gaps, see {@link #reclaim(long)} for how they are moved back in bulk.
+   */
+  @Override
+  public List<PendingTransaction> promote(
+      final Predicate<PendingTransaction> promotionFilter,
+      final long freeSpace,
+      final int freeSlots,
+      final int[] remainingPromotionsPerType) {
+    return List.of();
+  }
+
+  @Override
+  public PendingTransaction promoteFor(
+      final Address sender, final long nonce, final int[] remainingPromotionsPerType) {
+    final OverflowEntry entry = getEntry(sender, nonce + 1);
+    if (entry != null) {
+      final PendingTransaction candidateTx = readPendingTransaction(entry);
+      final var txType = candidateTx.getTransaction().getType();
+      if (remainingPromotionsPerType[txType.ordinal()] > 0) {
+        removeEntry(entry);
+        metrics.incrementRemoved(candidateTx, PROMOTED.label(), name());
+        --remainingPromotionsPerType[txType.ordinal()];
+        return candidateTx;
+      }
+      return null;
+    }
+    return nextLayer.promoteFor(sender, nonce, remainingPromotionsPerType);
+  }
+
+  @Override
+  public void notifyAdded(final PendingTransaction pendingTransaction) {
+    final OverflowEntry entry =
+        getEntry(pendingTransaction.getSender(), pendingTransaction.getNonce());
+    if (entry != null && !entry.hash.equals(pendingTransaction.getHash())) {
+      // it is a cross layer replacement, namely added to a previous layer
+      removeEntry(entry);
+      metrics.incrementRemoved(
+          entry.isLocal, entry.hasPriority, CROSS_LAYER_REPLACED.label(), name());
+    }
+    nextLayer.notifyAdded(pendingTransaction);
+  }
+
+  @Override
+  public long getCumulativeUsedSpace() {
+    // only the index is kept in memory
+    return nextLayer.getCumulativeUsedSpace();
+  }
+
+  @Override
+  public long subscribeToAdded(final PendingTransactionAddedListener listener) {
+    return nextLayer.subscribeToAdded(listener);
+  }
+
+  @Override
+  public void unsubscribeFromAdded(final long id) {
+    nextLayer.unsubscribeFromAdded(id);
+  }
+
+  @Override
+  public long subscribeToDropped(final PendingTransactionDroppedListener listener) {
+    nextLayerOnDroppedListenerId = OptionalLong.of(nextLayer.subscribeToDropped(listener));
+    return onDroppedListeners.subscribe(listener);
+  }
+
+  @Override
+  public void unsubscribeFromDropped(final long id) {
+    nextLayerOnDroppedListenerId.ifPresent(nextLayer::unsubscribeFromDropped);
+    onDroppedListeners.unsubscribe(id);
+  }
+
+  private void notifyTransactionDropped(final PendingTransaction pendingTransaction) {
+    onDroppedListeners.forEach(
+        listener -> listener.onTransactionDropped(pendingTransaction.getTransaction()));
+  }
+
+  @Override
+  public String logStats() {
+    return "Overflow: "
+        + entriesByHash.size()
+        + " txs, "
+        + liveBytes
+        + " bytes on disk | "
+        + nextLayer.logStats();
+  }
+
+  @Override
+  public String logSender(final Address sender) {
+    final var senderEntries = entriesBySender.get(sender);
+    return name()
+        + "["
+        + (Objects.isNull(senderEntries) ? "Empty" : senderEntries.keySet())
+        + "] "
+        + nextLayer.logSender(sender);
+  }
+
+  private OverflowEntry getEntry(final Address sender, final long nonce) {
+    final var senderEntries = entriesBySender.get(sender);
+    return senderEntries == null ? null : senderEntries.get(nonce);
+  }
+
+  private void addEntry(final OverflowEntry entry) {
+    entriesByHash.put(entry.hash, entry);
+    entriesBySender.computeIfAbsent(entry.sender, s -> new TreeMap<>()).put(entry.nonce, entry);
+    reclaimOrder.add(entry);
+    liveBytes += entry.size;
+  }
+
+  private void removeEntry(final OverflowEntry entry) {
+    entriesByHash.remove(entry.hash);
+    final var senderEntries = entriesBySender.get(entry.sender);
+    senderEntries.remove(entry.nonce);
+    if (senderEntries.isEmpty()) {
+      entriesBySender.remove(entry.sender);
+    }
+    reclaimOrder.remove(entry);
+    liveBytes -= entry.size;
+    deadBytes += entry.size;
+  }
+
+  private Transaction readTransaction(final OverflowEntry entry) {
+    final ByteBuffer buffer = ByteBuffer.allocate(entry.size);
+    try {
+      while (buffer.hasRemaining()) {
+        if (channel.read(buffer, entry.position + buffer.position()) < 0) {
+          throw new IOException("Unexpected end of file");
+        }
+      }
+    } catch (final IOException e) {
+      throw new UncheckedIOException(
+          "Unable to read transaction " + entry.hash + " from the overflow file " + file, e);
+    }
+    return TransactionDecoder.decodeOpaqueBytes(
+        Bytes.wrap(buffer.array()), EncodingContext.POOLED_TRANSACTION);
+  }
+
+  private PendingTransaction readPendingTransaction(final OverflowEntry entry) {
+    return PendingTransaction.newPendingTransaction(
+        readTransaction(entry), entry.isLocal, entry.hasPriority, entry.addedAt);
+  }
+
+  private static void writeFully(
+      final FileChannel channel, final ByteBuffer buffer, final long position) throws IOException {
+    while (buffer.hasRemaining()) {
+      channel.write(buffer, position + buffer.position());
+    }
+  }
+
+  /**
+   * Rewrite the file with only the live transactions, when the space taken by the removed ones is
+   * more than the space taken by the live ones.
+   */
+  private void maybeCompact() {
+    if (entriesByHash.isEmpty()) {
+      if (deadBytes > 0) {
+        truncate();
+      }
+      return;
+    }
+    if (deadBytes < MIN_COMPACTION_BYTES || deadBytes < liveBytes) {
+      return;
+    }
+
+    final Path compactFile = file.resolveSibling(file.getFileName() + ".compact");
+    try (final FileChannel compactChannel =
+        FileChannel.open(
+            compactFile,
+            StandardOpenOption.CREATE,
+            StandardOpenOption.WRITE,
+            StandardOpenOption.TRUNCATE_EXISTING)) {
+      final Map<OverflowEntry, Long> newPositions = new HashMap<>(entriesByHash.size());
+      long position = 0;
+      for (final OverflowEntry entry : entriesByHash.values()) {
+        long transferred = 0;
+        while (transferred < entry.size) {
+          transferred +=
+              channel.transferTo(
+                  entry.position + transferred, entry.size - transferred, compactChannel);
+        }
+        newPositions.put(entry, position);
+        position += entry.size;
+      }
+      compactChannel.force(false);
+      channel.close();
+      Files.move(compactFile, file, StandardCopyOption.REPLACE_EXISTING);
+      channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE);
+      newPositions.forEach((entry, newPosition) -> entry.position = newPosition);
+      deadBytes = 0;
+    } catch (final IOException e) {
+      throw new UncheckedIOException("Unable to compact the overflow file " + file, e);
+    }
+  }
+
+  /** Close the overflow file and delete it, since its content is not reused across instances. */
+  @Override
+  public void close() {
+    try {
+      channel.close();
+      Files.deleteIfExists(file);
+    } catch (final IOException e) {
+      LOG.atWarn()
+          .setMessage("Unable to close the overflow file {}: {}")
+          .addArgument(file)
+          .addArgument(e::getMessage)
+          .log();
+    }
+  }
+
+  private void truncate() {
+    try {
+      channel.truncate(0);
+      liveBytes = 0;
+      deadBytes = 0;
+    } catch (final IOException e) {
+      throw new UncheckedIOException("Unable to truncate the overflow file " + file, e);
+    }
+  }
+
+  private static class OverflowEntry {
+    final Hash hash;
+    final Address sender;
+    final long nonce;
+    final boolean isLocal;
+    final boolean hasPriority;
+    final long addedAt;
+    final long sequence;
+    final int size;
+    long position;
+
+    OverflowEntry(
+        final PendingTransaction pendingTransaction, final long position, final int size) {
+      this.hash = pendingTransaction.getHash();
+      this.sender = pendingTransaction.getSender();
+      this.nonce = pendingTransaction.getNonce();
+      this.isLocal = pendingTransaction.isReceivedFromLocalSource();
+      this.hasPriority = pendingTransaction.hasPriority();
+      this.addedAt = pendingTransaction.getAddedAt();
+      this.sequence = pendingTransaction.getSequence();
+      this.position = position;
+      this.size = size;
+    }
+  }
+}
@@ -0,0 +1,127 @@
+/*
+ * Copyright contributors to Hyperledger Besu.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.ethereum.eth.transactions.layered;
+
+import org.hyperledger.besu.ethereum.eth.transactions.TransactionPoolMetrics;
+import org.hyperledger.besu.plugin.services.metrics.OperationTimer;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * A {@link ReentrantReadWriteLock} that reports, for both the read and the write lock, how long
+ * threads waited to acquire it and how long they held it. In case of reentrant acquisitions the
+ * lock is held from the outermost acquisition to the matching release.
+ */
+class TimedReadWriteLock implements ReadWriteLock {
+  private final Lock readLock;
+  private final Lock writeLock;
+
+  TimedReadWriteLock(final TransactionPoolMetrics metrics) {
+    final ReadWriteLock rwLock = new ReentrantReadWriteLock();
+    this.readLock = new TimedLock(rwLock.readLock(), "read", metrics);
+    this.writeLock = new TimedLock(rwLock.writeLock(), "write", metrics);
+  }
+
+  @Override
+  public Lock readLock() {
+    return readLock;
+  }
+
+  @Override
+  public Lock writeLock() {
+    return writeLock;
+  }
+
+  private static class TimedLock implements Lock {
+    private final Lock lock;
+    private final String name;
+    private final TransactionPoolMetrics metrics;
+    private final ThreadLocal<Hold> currentHold = ThreadLocal.withInitial(Hold::new);
+
+    TimedLock(final Lock lock, final String name, final TransactionPoolMetrics metrics) {
+      this.lock = lock;
+      this.name = name;
+      this.metrics = metrics;
+    }
+
+    @Override
+    public void lock() {
+      try (final OperationTimer.TimingContext ignored = metrics.startLockWaitTimer(name)) {
+        lock.lock();
+      }
+      acquired();
+    }
+
+    @Override
+    public void lockInterruptibly() throws InterruptedException {
+      try (final OperationTimer.TimingContext ignored = metrics.startLockWaitTimer(name)) {
+        lock.lockInterruptibly();
+      }
+      acquired();
+    }
+
+    @Override
+    public boolean tryLock() {
+      if (lock.tryLock()) {
+        acquired();
+        return true;
+      }
+      return false;
+    }
+
+    @Override
+    public boolean tryLock(final long time, final TimeUnit unit) throws InterruptedException {
+      final boolean locked;
+      try (final OperationTimer.TimingContext ignored = metrics.startLockWaitTimer(name)) {
+        locked = lock.tryLock(time, unit);
+      }
+      if (locked) {
+        acquired();
+      }
+      return locked;
+    }
+
+    @Override
+    public void unlock() {
+      final Hold hold = currentHold.get();
+      if (hold.count > 0 && --hold.count == 0) {
+        hold.timingContext.stopTimer();
+        hold.timingContext = null;
+      }
+      lock.unlock();
+    }
+
+    @Override
+    public Condition newCondition() {
+      return lock.newCondition();
+    }
+
+    private void acquired() {
+      final Hold hold = currentHold.get();
+      if (hold.count++ == 0) {
+        hold.timingContext = metrics.startLockHoldTimer(name);
+      }
+    }
+  }
+
+  private static class Hold {
+    int count;
+    OperationTimer.TimingContext timingContext;
+  }
+}
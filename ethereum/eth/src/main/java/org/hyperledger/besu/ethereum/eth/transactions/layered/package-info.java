@@ -72,5 +72,11 @@
  * that just drop it. When promoting to the prev layer Ready, only transactions that will not create
  * nonce gaps are selected, for that we need to keep track of the nonce distance for each sender. So
  * we can say that is ordered by nonce distance for promotion.
+ *
+ * <p>Overflow: Optional, and disabled by default, it sits between the Sparse and the End Layer and
+ * keeps on disk, instead of dropping them, the transactions evicted from the Sparse layer, until
+ * its disk budget is full. Its transactions are moved back when a previous layer needs the next
+ * nonce of a sender, or are reclaimed in bulk after a block is added, when there is free space in
+ * memory, to be validated and added again.
  */
 package org.hyperledger.besu.ethereum.eth.transactions.layered;
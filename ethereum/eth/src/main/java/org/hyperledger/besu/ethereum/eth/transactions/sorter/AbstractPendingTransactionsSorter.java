@@ -527,4 +527,15 @@ public abstract class AbstractPendingTransactionsSorter implements PendingTransa
   public Optional<Transaction> restoreBlob(final Transaction transaction) {
     return blobCache.restoreBlob(transaction);
   }
+
+  @Override
+  public List<Transaction> reclaimOverflowTransactions() {
+    // this implementation drops the transactions when full
+    return List.of();
+  }
+
+  @Override
+  public void close() {
+    // nothing is kept outside the heap
+  }
 }
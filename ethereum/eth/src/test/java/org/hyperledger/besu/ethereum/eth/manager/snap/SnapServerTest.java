@@ -19,6 +19,7 @@ import static org.hyperledger.besu.ethereum.eth.manager.snap.SnapServer.HASH_LAS
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 import org.hyperledger.besu.datatypes.Hash;
@@ -275,6 +276,26 @@ public class SnapServerTest {
     assertThat(assertIsValidAccountRangeProof(acct1.addressHash, rangeData)).isTrue();
   }
 
+  @Test
+  public void assertRepeatedRangeRequestsAreServedFromCache() {
+    insertTestAccounts(acct1, acct2, acct3, acct4);
+
+    var accountRange = requestAccountRange(acct1.addressHash, acct4.addressHash);
+    assertThat(requestAccountRange(acct1.addressHash, acct4.addressHash)).isSameAs(accountRange);
+
+    var storageRange = requestStorageRange(List.of(acct3.addressHash), Hash.ZERO, HASH_LAST);
+    assertThat(requestStorageRange(List.of(acct3.addressHash), Hash.ZERO, HASH_LAST))
+        .isSameAs(storageRange);
+
+    // the worldstate is only fetched for the first request of each range
+    verify(spyProvider, times(2)).apply(any());
+
+    // stopping the server drops cached responses
+    snapServer.stop().start();
+    assertThat(requestAccountRange(acct1.addressHash, acct4.addressHash))
+        .isNotSameAs(accountRange);
+  }
+
   @Test
   public void assertCompleteStorageForSingleAccount() {
     insertTestAccounts(acct1, acct2, acct3, acct4);
@@ -16,6 +16,7 @@ package org.hyperledger.besu.ethereum.eth.manager.task;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
@@ -94,11 +95,19 @@ public class BufferedGetPooledTransactionsFromPeerFetcherTest {
         new AbstractPeerTask.PeerTaskResult<>(ethPeer, taskResult);
     when(ethScheduler.scheduleSyncWorkerTask(any(GetPooledTransactionsFromPeerTask.class)))
         .thenReturn(CompletableFuture.completedFuture(peerTaskResult));
+    doAnswer(
+            invocation -> {
+              invocation.getArgument(0, Runnable.class).run();
+              return null;
+            })
+        .when(ethScheduler)
+        .scheduleTxWorkerTask(any());
 
     fetcher.addHashes(List.of(hash));
     fetcher.requestTransactions();
 
     verify(ethScheduler).scheduleSyncWorkerTask(any(GetPooledTransactionsFromPeerTask.class));
+    verify(ethScheduler).scheduleTxWorkerTask(any());
     verifyNoMoreInteractions(ethScheduler);
 
     verify(transactionPool, times(1)).addRemoteTransactions(taskResult);
@@ -17,7 +17,9 @@ package org.hyperledger.besu.ethereum.eth.sync.snapsync;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.hyperledger.besu.metrics.noop.NoOpMetricsSystem.NO_OP_COUNTER;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
@@ -34,6 +36,7 @@ import org.hyperledger.besu.services.pipeline.Pipe;
 import org.hyperledger.besu.services.tasks.Task;
 
 import java.util.HashSet;
+import java.util.List;
 import java.util.Optional;
 import java.util.stream.Stream;
 
@@ -131,4 +134,35 @@ public class LoadLocalDataStepTest {
         worldStateStorageCoordinator, updater, downloadState, snapSyncState, snapSyncConfiguration);
     verifyNoInteractions(updater);
   }
+
+  @Test
+  public void shouldCommitOnceAndReturnOnlyMissingTasksForBatch() {
+    final Task<SnapDataRequest> missingTask =
+        new StubTask(
+            SnapDataRequest.createAccountTrieNodeDataRequest(
+                HASH, Bytes.fromHexString("0x02"), new HashSet<>()));
+    final Task<SnapDataRequest> otherExistingTask =
+        new StubTask(
+            SnapDataRequest.createAccountTrieNodeDataRequest(
+                HASH, Bytes.fromHexString("0x03"), new HashSet<>()));
+
+    when(worldStateStorageCoordinator.getAccountStateTrieNode(any(), any()))
+        .thenReturn(Optional.of(DATA));
+    when(worldStateStorageCoordinator.getAccountStateTrieNode(
+            eq(Bytes.fromHexString("0x02")), any()))
+        .thenReturn(Optional.empty());
+    when(worldStateStorageCoordinator.updater()).thenReturn(updater);
+
+    final Stream<Task<SnapDataRequest>> output =
+        loadLocalDataStep.loadLocalDataTrieNodes(
+            List.of(task, missingTask, otherExistingTask), completedTasks);
+
+    assertThat(output).containsExactly(missingTask);
+    assertThat(completedTasks.poll()).isSameAs(task);
+    assertThat(completedTasks.poll()).isSameAs(otherExistingTask);
+    assertThat(completedTasks.poll()).isNull();
+
+    verify(worldStateStorageCoordinator, times(1)).updater();
+    verify(updater, times(1)).commit();
+  }
 }
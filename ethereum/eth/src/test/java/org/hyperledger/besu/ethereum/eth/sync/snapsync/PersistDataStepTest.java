@@ -16,26 +16,40 @@ package org.hyperledger.besu.ethereum.eth.sync.snapsync;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.fail;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import org.hyperledger.besu.datatypes.Hash;
 import org.hyperledger.besu.ethereum.core.InMemoryKeyValueStorageProvider;
+import org.hyperledger.besu.ethereum.core.TrieGenerator;
 import org.hyperledger.besu.ethereum.eth.sync.snapsync.request.AccountRangeDataRequest;
 import org.hyperledger.besu.ethereum.eth.sync.snapsync.request.BytecodeRequest;
 import org.hyperledger.besu.ethereum.eth.sync.snapsync.request.SnapDataRequest;
 import org.hyperledger.besu.ethereum.eth.sync.snapsync.request.StorageRangeDataRequest;
+import org.hyperledger.besu.ethereum.eth.sync.snapsync.request.heal.TrieNodeHealingRequest;
+import org.hyperledger.besu.ethereum.trie.MerkleTrie;
 import org.hyperledger.besu.ethereum.trie.diffbased.bonsai.storage.BonsaiWorldStateKeyValueStorage;
 import org.hyperledger.besu.ethereum.trie.patricia.StoredMerklePatriciaTrie;
 import org.hyperledger.besu.ethereum.worldstate.DataStorageConfiguration;
 import org.hyperledger.besu.ethereum.worldstate.WorldStateStorageCoordinator;
+import org.hyperledger.besu.plugin.services.MetricsSystem;
+import org.hyperledger.besu.plugin.services.metrics.Counter;
 import org.hyperledger.besu.services.tasks.Task;
 
+import java.util.HashSet;
 import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Stream;
 
 import org.apache.tuweni.bytes.Bytes;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 
 public class PersistDataStepTest {
 
@@ -48,13 +62,28 @@ public class PersistDataStepTest {
 
   private final SnapSyncConfiguration snapSyncConfiguration = mock(SnapSyncConfiguration.class);
 
-  private final PersistDataStep persistDataStep =
-      new PersistDataStep(
-          snapSyncState, worldStateStorageCoordinator, downloadState, snapSyncConfiguration);
+  @SuppressWarnings("unchecked")
+  private final ArgumentCaptor<Stream<SnapDataRequest>> enqueuedRequests =
+      ArgumentCaptor.forClass(Stream.class);
+
+  private final MetricsSystem metricsSystem = mock(MetricsSystem.class);
+  private final Counter existingNodeCounter = mock(Counter.class);
+
+  private PersistDataStep persistDataStep;
 
   @BeforeEach
   public void setUp() {
     when(downloadState.getMetricsManager()).thenReturn(mock(SnapSyncMetricsManager.class));
+    when(snapSyncState.hasPivotBlockHeader()).thenReturn(true);
+    when(metricsSystem.createCounter(any(), anyString(), anyString()))
+        .thenReturn(existingNodeCounter);
+    persistDataStep =
+        new PersistDataStep(
+            snapSyncState,
+            worldStateStorageCoordinator,
+            downloadState,
+            snapSyncConfiguration,
+            metricsSystem);
   }
 
   @Test
@@ -80,6 +109,47 @@ public class PersistDataStepTest {
         .isEmpty();
   }
 
+  @Test
+  public void shouldCompleteLocallyAvailableChildrenOfHealedNode() {
+    final SnapDataRequest rootRequest = createHealedRootRequest();
+    final SnapSyncMetricsManager metricsManager = mock(SnapSyncMetricsManager.class);
+    when(downloadState.getMetricsManager()).thenReturn(metricsManager);
+
+    persistDataStep.persist(List.of(new StubTask(rootRequest)));
+
+    // every child is already stored, so none is requested and the last one persists the root
+    verify(downloadState, atLeastOnce()).enqueueRequests(enqueuedRequests.capture());
+    assertThat(enqueuedRequests.getAllValues().stream().flatMap(Function.identity())).isEmpty();
+    verify(metricsManager).notifyTrieNodesHealed(1);
+    verify(existingNodeCounter, atLeastOnce()).inc();
+  }
+
+  @Test
+  public void shouldNotReadAheadChildrenOfHealedNodeWithoutPivotBlockHeader() {
+    final SnapDataRequest rootRequest = createHealedRootRequest();
+    when(snapSyncState.hasPivotBlockHeader()).thenReturn(false);
+
+    persistDataStep.persist(List.of(new StubTask(rootRequest)));
+
+    verify(downloadState, atLeastOnce()).enqueueRequests(enqueuedRequests.capture());
+    assertThat(enqueuedRequests.getAllValues().stream().flatMap(Function.identity())).isNotEmpty();
+    verify(existingNodeCounter, never()).inc();
+  }
+
+  private SnapDataRequest createHealedRootRequest() {
+    final MerkleTrie<Bytes, Bytes> accountStateTrie =
+        TrieGenerator.generateTrie(worldStateStorageCoordinator, 15);
+    final Hash rootHash = Hash.wrap(accountStateTrie.getRootHash());
+    final SnapDataRequest rootRequest =
+        SnapDataRequest.createAccountTrieNodeDataRequest(rootHash, Bytes.EMPTY, new HashSet<>());
+    ((TrieNodeHealingRequest) rootRequest)
+        .setData(
+            worldStateStorageCoordinator
+                .getAccountStateTrieNode(Bytes.EMPTY, rootHash)
+                .orElseThrow());
+    return rootRequest;
+  }
+
   private void assertDataPersisted(final List<Task<SnapDataRequest>> tasks) {
     tasks.forEach(
         task -> {
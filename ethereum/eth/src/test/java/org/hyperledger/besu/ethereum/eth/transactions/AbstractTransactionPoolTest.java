@@ -22,6 +22,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.hyperledger.besu.ethereum.mainnet.ValidationResult.valid;
 import static org.hyperledger.besu.ethereum.transaction.TransactionInvalidReason.EXCEEDS_BLOCK_GAS_LIMIT;
 import static org.hyperledger.besu.ethereum.transaction.TransactionInvalidReason.GAS_PRICE_TOO_LOW;
+import static org.hyperledger.besu.ethereum.transaction.TransactionInvalidReason.INVALID_BLOBS;
 import static org.hyperledger.besu.ethereum.transaction.TransactionInvalidReason.INVALID_TRANSACTION_FORMAT;
 import static org.hyperledger.besu.ethereum.transaction.TransactionInvalidReason.NONCE_TOO_FAR_IN_FUTURE_FOR_SENDER;
 import static org.hyperledger.besu.ethereum.transaction.TransactionInvalidReason.NONCE_TOO_LOW;
@@ -32,6 +33,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.nullable;
+import static org.mockito.ArgumentMatchers.same;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
@@ -84,6 +86,7 @@ import org.hyperledger.besu.ethereum.mainnet.TransactionValidatorFactory;
 import org.hyperledger.besu.ethereum.mainnet.ValidationResult;
 import org.hyperledger.besu.ethereum.mainnet.feemarket.FeeMarket;
 import org.hyperledger.besu.ethereum.transaction.TransactionInvalidReason;
+import org.hyperledger.besu.ethereum.worldstate.WorldStateArchive;
 import org.hyperledger.besu.evm.account.Account;
 import org.hyperledger.besu.evm.internal.EvmConfiguration;
 import org.hyperledger.besu.metrics.noop.NoOpMetricsSystem;
@@ -569,6 +572,87 @@ public abstract class AbstractTransactionPoolTest {
     verifyNoMoreInteractions(transactionValidatorFactory.get());
   }
 
+  @Test
+  public void shouldValidateRemoteTransactionsBatchAgainstASingleWorldState() {
+    final WorldStateArchive worldStateArchive = spy(protocolContext.getWorldStateArchive());
+    protocolContext = spy(protocolContext);
+    when(protocolContext.getWorldStateArchive()).thenReturn(worldStateArchive);
+    transactionPool = createTransactionPool();
+
+    final Transaction transaction2 = createTransaction(2);
+    givenTransactionIsValid(transaction0);
+    givenTransactionIsValid(transaction1);
+    givenTransactionIsValid(transaction2);
+
+    transactionPool.addRemoteTransactions(asList(transaction0, transaction1, transaction2));
+
+    assertTransactionPending(transaction0);
+    assertTransactionPending(transaction1);
+    assertTransactionPending(transaction2);
+    verify(worldStateArchive).getMutable(any(BlockHeader.class), eq(false));
+  }
+
+  @Test
+  @EnabledIf("isBaseFeeMarket")
+  public void shouldVerifyTheBlobsOfRemoteTransactionsBatchAtOnce() {
+    final Transaction blobTransaction0 = createBlobTransaction(0);
+    final Transaction blobTransaction1 = createBlobTransaction(1);
+    givenTransactionIsValid(blobTransaction0);
+    givenTransactionIsValid(blobTransaction1);
+    when(transactionValidatorFactory.get().verifyBlobsKzgProofs(any())).thenReturn(true);
+
+    transactionPool.addRemoteTransactions(asList(blobTransaction0, blobTransaction1));
+
+    verify(transactionValidatorFactory.get())
+        .verifyBlobsKzgProofs(List.of(blobTransaction0, blobTransaction1));
+    for (final Transaction blobTransaction : List.of(blobTransaction0, blobTransaction1)) {
+      verify(transactionValidatorFactory.get())
+          .validate(
+              eq(blobTransaction),
+              any(Optional.class),
+              any(Optional.class),
+              argThat(params -> !params.checkBlobsKzgProofs()));
+    }
+  }
+
+  @Test
+  @EnabledIf("isBaseFeeMarket")
+  public void shouldNotShareTheStatelessValidationOfCopiesWithDifferentBlobs() {
+    final Transaction validCopy = createBlobTransaction(0);
+    // same hash, since the blobs are not part of it, but different blobs
+    final Transaction invalidCopy =
+        Transaction.builder()
+            .copiedFrom(validCopy)
+            .blobsWithCommitments(new BlobTestFixture().createBlobsWithCommitments(6))
+            .build();
+    assertThat(invalidCopy.getHash()).isEqualTo(validCopy.getHash());
+    when(transactionValidatorFactory
+            .get()
+            .validate(same(validCopy), any(Optional.class), any(Optional.class), any()))
+        .thenReturn(valid());
+    when(transactionValidatorFactory
+            .get()
+            .validate(same(invalidCopy), any(Optional.class), any(Optional.class), any()))
+        .thenReturn(ValidationResult.invalid(INVALID_BLOBS));
+    when(transactionValidatorFactory
+            .get()
+            .validateForSender(
+                any(Transaction.class),
+                nullable(Account.class),
+                any(TransactionValidationParams.class)))
+        .thenReturn(valid());
+
+    transactionPool.addRemoteTransactions(asList(invalidCopy, validCopy));
+
+    verify(transactionValidatorFactory.get())
+        .validate(same(invalidCopy), any(Optional.class), any(Optional.class), any());
+    verify(transactionValidatorFactory.get(), never())
+        .validateForSender(same(invalidCopy), nullable(Account.class), any());
+    assertThat(transactions.getTransactionByHash(validCopy.getHash()))
+        .flatMap(Transaction::getBlobsWithCommitments)
+        .isEqualTo(validCopy.getBlobsWithCommitments());
+  }
+
   @ParameterizedTest
   @ValueSource(booleans = {true, false})
   public void shouldAllowSequenceOfTransactionsWithIncreasingNonceFromSameSender(
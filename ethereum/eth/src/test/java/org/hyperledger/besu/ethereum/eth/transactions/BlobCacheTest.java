@@ -0,0 +1,177 @@
+/*
+ * Copyright contributors to Hyperledger Besu.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.ethereum.eth.transactions;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.hyperledger.besu.crypto.KeyPair;
+import org.hyperledger.besu.crypto.SignatureAlgorithmFactory;
+import org.hyperledger.besu.datatypes.Address;
+import org.hyperledger.besu.datatypes.Blob;
+import org.hyperledger.besu.datatypes.BlobsWithCommitments;
+import org.hyperledger.besu.datatypes.Hash;
+import org.hyperledger.besu.datatypes.KZGCommitment;
+import org.hyperledger.besu.datatypes.KZGProof;
+import org.hyperledger.besu.datatypes.TransactionType;
+import org.hyperledger.besu.datatypes.VersionedHash;
+import org.hyperledger.besu.datatypes.Wei;
+import org.hyperledger.besu.ethereum.core.Transaction;
+import org.hyperledger.besu.ethereum.core.TransactionTestFixture;
+import org.hyperledger.besu.testutil.TestClock;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.IntStream;
+
+import org.apache.tuweni.bytes.Bytes;
+import org.apache.tuweni.bytes.Bytes32;
+import org.apache.tuweni.bytes.Bytes48;
+import org.junit.jupiter.api.Test;
+
+public class BlobCacheTest {
+  private static final KeyPair KEYS = SignatureAlgorithmFactory.getInstance().generateKeyPair();
+  private static final int BLOB_SIZE = 32 * 4096;
+
+  private final TestClock clock = new TestClock(Instant.now());
+  private final BlobCache blobCache = new BlobCache(2L * BLOB_SIZE, clock);
+
+  @Test
+  public void restoresTheBlobsOfCachedTransactions() {
+    final Transaction transaction = createBlobTransaction(Wei.ONE, 2);
+    blobCache.cacheBlobs(transaction);
+
+    assertThat(blobCache.getUsedBytes()).isEqualTo(2L * BLOB_SIZE);
+    assertThat(blobCache.restoreBlob(transaction))
+        .flatMap(Transaction::getBlobsWithCommitments)
+        .isEqualTo(transaction.getBlobsWithCommitments());
+  }
+
+  @Test
+  public void doesNotRestoreTransactionsWithMissingBlobs() {
+    final Transaction transaction = createBlobTransaction(Wei.ONE, 1);
+
+    assertThat(blobCache.restoreBlob(transaction)).isEmpty();
+  }
+
+  @Test
+  public void evictsTheBlobsPayingTheLowestBlobFeeWhenFull() {
+    final Transaction lowFeeTransaction = createBlobTransaction(Wei.of(1), 1);
+    final Transaction highFeeTransaction = createBlobTransaction(Wei.of(3), 1);
+    final Transaction midFeeTransaction = createBlobTransaction(Wei.of(2), 1);
+
+    blobCache.cacheBlobs(lowFeeTransaction);
+    blobCache.cacheBlobs(highFeeTransaction);
+    blobCache.cacheBlobs(midFeeTransaction);
+
+    assertThat(blobCache.getUsedBytes()).isEqualTo(2L * BLOB_SIZE);
+    assertThat(blobCache.restoreBlob(lowFeeTransaction)).isEmpty();
+    assertThat(blobCache.restoreBlob(highFeeTransaction)).isPresent();
+    assertThat(blobCache.restoreBlob(midFeeTransaction)).isPresent();
+  }
+
+  @Test
+  public void doesNotCacheBlobsPayingLessThanTheCachedOnesWhenFull() {
+    final Transaction highFeeTransaction = createBlobTransaction(Wei.of(3), 2);
+    final Transaction lowFeeTransaction = createBlobTransaction(Wei.of(1), 1);
+
+    blobCache.cacheBlobs(highFeeTransaction);
+    blobCache.cacheBlobs(lowFeeTransaction);
+
+    assertThat(blobCache.restoreBlob(highFeeTransaction)).isPresent();
+    assertThat(blobCache.restoreBlob(lowFeeTransaction)).isEmpty();
+  }
+
+  @Test
+  public void doesNotEvictAnythingWhenTheBlobDoesNotFit() {
+    final Transaction lowFeeTransaction = createBlobTransaction(Wei.of(1), 1);
+    final Transaction highFeeTransaction = createBlobTransaction(Wei.of(3), 1);
+    // evicting the low fee blob is not enough to make room for this one
+    final Transaction bigTransaction =
+        createBlobTransaction(
+            Wei.of(2),
+            BLOB_SIZE + BLOB_SIZE / 2,
+            List.of(new VersionedHash((byte) 1, Hash.wrap(Bytes32.random()))));
+
+    blobCache.cacheBlobs(lowFeeTransaction);
+    blobCache.cacheBlobs(highFeeTransaction);
+    blobCache.cacheBlobs(bigTransaction);
+
+    assertThat(blobCache.getUsedBytes()).isEqualTo(2L * BLOB_SIZE);
+    assertThat(blobCache.restoreBlob(lowFeeTransaction)).isPresent();
+    assertThat(blobCache.restoreBlob(highFeeTransaction)).isPresent();
+    assertThat(blobCache.restoreBlob(bigTransaction)).isEmpty();
+  }
+
+  @Test
+  public void keepsTheCachedBlobWhenItsReplacementDoesNotFit() {
+    final VersionedHash versionedHash = new VersionedHash((byte) 1, Hash.wrap(Bytes32.random()));
+    final Transaction transaction =
+        createBlobTransaction(Wei.of(3), BLOB_SIZE, List.of(versionedHash));
+    final Transaction otherTransaction = createBlobTransaction(Wei.of(3), 1);
+    final Transaction replacementTransaction =
+        createBlobTransaction(Wei.of(1), BLOB_SIZE + BLOB_SIZE / 2, List.of(versionedHash));
+
+    blobCache.cacheBlobs(transaction);
+    blobCache.cacheBlobs(otherTransaction);
+    blobCache.cacheBlobs(replacementTransaction);
+
+    assertThat(blobCache.getUsedBytes()).isEqualTo(2L * BLOB_SIZE);
+    assertThat(blobCache.restoreBlob(transaction))
+        .flatMap(Transaction::getBlobsWithCommitments)
+        .isEqualTo(transaction.getBlobsWithCommitments());
+    assertThat(blobCache.restoreBlob(otherTransaction)).isPresent();
+  }
+
+  @Test
+  public void expiresBlobsAfterThreeEpochs() {
+    final Transaction transaction = createBlobTransaction(Wei.ONE, 1);
+    blobCache.cacheBlobs(transaction);
+
+    clock.step(3 * 32 * 12L - 1, ChronoUnit.SECONDS);
+    assertThat(blobCache.restoreBlob(transaction)).isPresent();
+
+    clock.stepMillis(2000);
+    assertThat(blobCache.restoreBlob(transaction)).isEmpty();
+    assertThat(blobCache.getUsedBytes()).isZero();
+  }
+
+  private static Transaction createBlobTransaction(final Wei maxFeePerBlobGas, final int blobs) {
+    return createBlobTransaction(
+        maxFeePerBlobGas,
+        BLOB_SIZE,
+        IntStream.range(0, blobs)
+            .mapToObj(i -> new VersionedHash((byte) 1, Hash.wrap(Bytes32.random())))
+            .toList());
+  }
+
+  private static Transaction createBlobTransaction(
+      final Wei maxFeePerBlobGas, final int blobSize, final List<VersionedHash> versionedHashes) {
+    final int blobs = versionedHashes.size();
+    final var blobsWithCommitments =
+        new BlobsWithCommitments(
+            IntStream.range(0, blobs).mapToObj(i -> new KZGCommitment(Bytes48.random())).toList(),
+            IntStream.range(0, blobs).mapToObj(i -> new Blob(Bytes.random(blobSize))).toList(),
+            IntStream.range(0, blobs).mapToObj(i -> new KZGProof(Bytes48.random())).toList(),
+            versionedHashes);
+    return new TransactionTestFixture()
+        .type(TransactionType.BLOB)
+        .to(Optional.of(Address.ZERO))
+        .maxFeePerBlobGas(Optional.of(maxFeePerBlobGas))
+        .blobsWithCommitments(Optional.of(blobsWithCommitments))
+        .createTransaction(KEYS);
+  }
+}
@@ -114,6 +114,22 @@ public abstract class AbstractPrioritizedTransactionsTestBase extends BaseTransa
     remoteTxs.stream().skip(1).forEach(remoteTx -> assertTransactionPrioritized(remoteTx));
   }
 
+  @Test
+  public void countsTheTimesTheLayerIsFull() {
+    for (int i = 0; i <= MAX_TRANSACTIONS; i++) {
+      assertThat(getLayerFullCount()).isZero();
+      final PendingTransaction higherValueRemoteTx =
+          createRemotePendingTransaction(
+              createTransaction(
+                  0,
+                  Wei.of(DEFAULT_MIN_GAS_PRICE.multiply(2).toBigInteger().pow(i + 1)),
+                  SIGNATURE_ALGORITHM.get().generateKeyPair()));
+      assertThat(prioritizeTransaction(higherValueRemoteTx)).isEqualTo(ADDED);
+    }
+
+    assertThat(getLayerFullCount()).isEqualTo(1);
+  }
+
   @Test
   public void shouldStartDroppingLocalTransactionsWhenPoolIsFullOfLocalTransactions() {
     final List<PendingTransaction> localTransactions = new ArrayList<>();
@@ -214,6 +230,11 @@ public abstract class AbstractPrioritizedTransactionsTestBase extends BaseTransa
     assertThat(transactions.getByHash(tx.getHash())).isEmpty();
   }
 
+  private long getLayerFullCount() {
+    return metricsSystem.getCounterValue(
+        TransactionPoolMetrics.LAYER_FULL_COUNTER_NAME, transactions.name());
+  }
+
   protected void assertEvicted(final PendingTransaction tx) {
     assertThat(evictCollector.getEvictedTransactions()).contains(tx);
   }
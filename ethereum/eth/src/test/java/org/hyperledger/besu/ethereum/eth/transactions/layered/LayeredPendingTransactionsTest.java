@@ -47,6 +47,8 @@ import org.hyperledger.besu.ethereum.eth.transactions.ImmutableTransactionPoolCo
 import org.hyperledger.besu.ethereum.eth.transactions.PendingTransaction;
 import org.hyperledger.besu.ethereum.eth.transactions.PendingTransactionAddedListener;
 import org.hyperledger.besu.ethereum.eth.transactions.PendingTransactionDroppedListener;
+import org.hyperledger.besu.ethereum.eth.transactions.PendingTransactions;
+import org.hyperledger.besu.ethereum.eth.transactions.TransactionAddedResult;
 import org.hyperledger.besu.ethereum.eth.transactions.TransactionPoolConfiguration;
 import org.hyperledger.besu.ethereum.eth.transactions.TransactionPoolMetrics;
 import org.hyperledger.besu.ethereum.eth.transactions.TransactionPoolReplacementHandler;
@@ -59,7 +61,12 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.OptionalLong;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 import java.util.function.BiFunction;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -292,6 +299,37 @@ public class LayeredPendingTransactionsTest extends BaseTransactionPoolTest {
     assertTransactionPending(pendingTransactions, transactionSenderB);
   }
 
+  @Test
+  public void concurrentAddsAndQueriesForDifferentSenders() throws Exception {
+    final List<Transaction> transactions =
+        IntStream.range(0, MAX_TRANSACTIONS)
+            .mapToObj(i -> createTransaction(0, SIGNATURE_ALGORITHM.get().generateKeyPair()))
+            .toList();
+
+    final ExecutorService executor = Executors.newFixedThreadPool(MAX_TRANSACTIONS);
+    try {
+      final List<Future<TransactionAddedResult>> results =
+          transactions.stream()
+              .map(
+                  tx ->
+                      executor.submit(
+                          () -> {
+                            pendingTransactions.getPendingTransactions();
+                            return pendingTransactions.addTransaction(
+                                createRemotePendingTransaction(tx), Optional.empty());
+                          }))
+              .toList();
+      for (final var result : results) {
+        assertThat(result.get(10, TimeUnit.SECONDS)).isEqualTo(ADDED);
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+
+    assertThat(pendingTransactions.size()).isEqualTo(MAX_TRANSACTIONS);
+    transactions.forEach(tx -> assertTransactionPending(pendingTransactions, tx));
+  }
+
   @Test
   public void dropIfTransactionTooFarInFutureForTheSender() {
     final var futureTransaction =
@@ -441,6 +479,41 @@ public class LayeredPendingTransactionsTest extends BaseTransactionPoolTest {
     assertThat(iterationOrder).containsExactly(transaction0, transaction1, transaction2);
   }
 
+  @Test
+  public void selectorIsNotifiedOfTheCandidatesInEvaluationOrder() {
+    final Transaction transaction0 = createTransaction(0, KEYS1);
+    final Transaction transaction1 = createTransaction(1, KEYS1);
+
+    pendingTransactions.addTransaction(
+        createLocalPendingTransaction(transaction1), Optional.empty());
+    pendingTransactions.addTransaction(
+        createLocalPendingTransaction(transaction0), Optional.empty());
+
+    final List<Transaction> candidates = new ArrayList<>(2);
+    final List<Transaction> iterationOrder = new ArrayList<>(2);
+    pendingTransactions.selectTransactions(
+        new PendingTransactions.TransactionSelector() {
+          @Override
+          public TransactionSelectionResult evaluateTransaction(
+              final PendingTransaction pendingTransaction) {
+            assertThat(candidates).hasSize(2);
+            iterationOrder.add(pendingTransaction.getTransaction());
+            return SELECTED;
+          }
+
+          @Override
+          public void onCandidateTransactions(
+              final List<PendingTransaction> candidateTransactions) {
+            candidateTransactions.stream()
+                .map(PendingTransaction::getTransaction)
+                .forEach(candidates::add);
+          }
+        });
+
+    assertThat(candidates).containsExactly(transaction0, transaction1);
+    assertThat(iterationOrder).containsExactlyElementsOf(candidates);
+  }
+
   @ParameterizedTest
   @MethodSource
   public void ignoreSenderTransactionsAfterASkippedOne(
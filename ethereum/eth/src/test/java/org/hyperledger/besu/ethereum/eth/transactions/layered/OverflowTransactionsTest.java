@@ -0,0 +1,150 @@
+/*
+ * Copyright contributors to Hyperledger Besu.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.ethereum.eth.transactions.layered;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hyperledger.besu.ethereum.eth.transactions.TransactionAddedResult.ADDED;
+import static org.hyperledger.besu.ethereum.eth.transactions.TransactionAddedResult.DROPPED;
+
+import org.hyperledger.besu.datatypes.TransactionType;
+import org.hyperledger.besu.ethereum.core.BlockHeaderTestFixture;
+import org.hyperledger.besu.ethereum.core.Transaction;
+import org.hyperledger.besu.ethereum.core.encoding.EncodingContext;
+import org.hyperledger.besu.ethereum.core.encoding.TransactionEncoder;
+import org.hyperledger.besu.ethereum.eth.transactions.ImmutableTransactionPoolConfiguration;
+import org.hyperledger.besu.ethereum.eth.transactions.PendingTransaction;
+import org.hyperledger.besu.ethereum.eth.transactions.TransactionPoolMetrics;
+import org.hyperledger.besu.ethereum.mainnet.feemarket.FeeMarket;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import org.apache.tuweni.bytes.Bytes;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class OverflowTransactionsTest extends BaseTransactionPoolTest {
+  @TempDir private Path tempDir;
+
+  private Path overflowFile;
+  private OverflowTransactions overflowTransactions;
+
+  @BeforeEach
+  public void setup() {
+    overflowFile = tempDir.resolve("txpool-overflow.dat");
+    final long encodedTxsSize =
+        Stream.of(transaction0, transaction1, transaction2)
+            .map(tx -> TransactionEncoder.encodeOpaqueBytes(tx, EncodingContext.POOLED_TRANSACTION))
+            .mapToLong(Bytes::size)
+            .sum();
+    final var poolConfig =
+        ImmutableTransactionPoolConfiguration.builder()
+            .unstable(
+                ImmutableTransactionPoolConfiguration.Unstable.builder()
+                    .overflowLayerMaxCapacityBytes(encodedTxsSize)
+                    .overflowLayerFile(overflowFile.toFile())
+                    .build())
+            .build();
+    final var txPoolMetrics = new TransactionPoolMetrics(metricsSystem);
+    overflowTransactions =
+        new OverflowTransactions(
+            poolConfig, new EndLayer(txPoolMetrics), txPoolMetrics, (pt1, pt2) -> false);
+  }
+
+  @AfterEach
+  public void tearDown() {
+    overflowTransactions.close();
+  }
+
+  @Test
+  public void keepsTransactionsUntilFullThenDrops() {
+    final Transaction transaction3 = createTransaction(3);
+    assertThat(overflowTransactions.add(createRemotePendingTransaction(transaction0), 0))
+        .isEqualTo(ADDED);
+    assertThat(overflowTransactions.add(createRemotePendingTransaction(transaction1), 0))
+        .isEqualTo(ADDED);
+    assertThat(overflowTransactions.add(createRemotePendingTransaction(transaction2), 0))
+        .isEqualTo(ADDED);
+    assertThat(overflowTransactions.add(createRemotePendingTransaction(transaction3), 0))
+        .isEqualTo(DROPPED);
+
+    assertThat(overflowTransactions.count()).isEqualTo(3);
+    assertThat(overflowTransactions.getByHash(transaction1.getHash())).contains(transaction1);
+    assertThat(overflowTransactions.contains(transaction3)).isFalse();
+    assertThat(overflowTransactions.getAll())
+        .extracting(PendingTransaction::getTransaction)
+        .containsExactlyInAnyOrder(transaction0, transaction1, transaction2);
+  }
+
+  @Test
+  public void promotesTheNextNonceOfASender() {
+    overflowTransactions.add(createLocalPendingTransaction(transaction1), 1);
+
+    final PendingTransaction promoted =
+        overflowTransactions.promoteFor(SENDER1, 0, unlimitedPromotions());
+
+    assertThat(promoted.getTransaction()).isEqualTo(transaction1);
+    assertThat(promoted.isReceivedFromLocalSource()).isTrue();
+    assertThat(overflowTransactions.count()).isZero();
+  }
+
+  @Test
+  public void removesConfirmedTransactions() {
+    overflowTransactions.add(createRemotePendingTransaction(transaction0), 0);
+    overflowTransactions.add(createRemotePendingTransaction(transaction1), 0);
+
+    overflowTransactions.blockAdded(
+        FeeMarket.london(0L), new BlockHeaderTestFixture().buildHeader(), Map.of(SENDER1, 0L));
+
+    assertThat(overflowTransactions.contains(transaction0)).isFalse();
+    assertThat(overflowTransactions.contains(transaction1)).isTrue();
+  }
+
+  @Test
+  public void reclaimsTransactionsBySenderAndNonceWithinTheFreeSpace() {
+    overflowTransactions.add(createRemotePendingTransaction(transaction1), 0);
+    overflowTransactions.add(createRemotePendingTransaction(transaction0), 0);
+    overflowTransactions.add(createRemotePendingTransaction(transaction2), 0);
+
+    final long spaceForTwoTxs = 2L * createRemotePendingTransaction(transaction0).memorySize();
+
+    assertThat(overflowTransactions.reclaim(spaceForTwoTxs))
+        .extracting(PendingTransaction::getTransaction)
+        .containsExactly(transaction0, transaction1);
+    assertThat(overflowTransactions.count()).isEqualTo(1);
+    assertThat(overflowTransactions.contains(transaction2)).isTrue();
+  }
+
+  @Test
+  public void closeReleasesTheOverflowFile() {
+    overflowTransactions.add(createRemotePendingTransaction(transaction0), 0);
+    assertThat(overflowFile).exists();
+
+    overflowTransactions.close();
+
+    assertThat(Files.exists(overflowFile)).isFalse();
+  }
+
+  private static int[] unlimitedPromotions() {
+    final int[] remainingPromotionsPerType = new int[TransactionType.values().length];
+    Arrays.fill(remainingPromotionsPerType, Integer.MAX_VALUE);
+    return remainingPromotionsPerType;
+  }
+}
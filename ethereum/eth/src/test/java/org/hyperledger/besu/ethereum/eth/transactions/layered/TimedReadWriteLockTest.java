@@ -0,0 +1,128 @@
+/*
+ * Copyright contributors to Hyperledger Besu.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.ethereum.eth.transactions.layered;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.hyperledger.besu.ethereum.eth.transactions.TransactionPoolMetrics;
+import org.hyperledger.besu.plugin.services.metrics.OperationTimer;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class TimedReadWriteLockTest {
+  private final TransactionPoolMetrics metrics = mock(TransactionPoolMetrics.class);
+  private final OperationTimer.TimingContext waitTimingContext =
+      mock(OperationTimer.TimingContext.class);
+  private final OperationTimer.TimingContext holdTimingContext =
+      mock(OperationTimer.TimingContext.class);
+
+  private TimedReadWriteLock rwLock;
+
+  @BeforeEach
+  public void setUp() {
+    when(metrics.startLockWaitTimer(anyString())).thenReturn(waitTimingContext);
+    when(metrics.startLockHoldTimer(anyString())).thenReturn(holdTimingContext);
+    rwLock = new TimedReadWriteLock(metrics);
+  }
+
+  @Test
+  public void waitAndHoldAreTimed() {
+    final Lock lock = rwLock.readLock();
+
+    lock.lock();
+    verify(metrics).startLockWaitTimer("read");
+    verify(waitTimingContext).close();
+    verify(metrics).startLockHoldTimer("read");
+    verify(holdTimingContext, never()).stopTimer();
+
+    lock.unlock();
+    verify(holdTimingContext).stopTimer();
+  }
+
+  @Test
+  public void onlyTheOutermostReentrantAcquisitionIsHeld() throws InterruptedException {
+    final Lock lock = rwLock.writeLock();
+
+    lock.lock();
+    lock.lockInterruptibly();
+    assertThat(lock.tryLock()).isTrue();
+    assertThat(lock.tryLock(1, TimeUnit.SECONDS)).isTrue();
+
+    // every blocking acquisition waits, but the lock is only held once
+    verify(metrics, times(3)).startLockWaitTimer("write");
+    verify(waitTimingContext, times(3)).close();
+    verify(metrics).startLockHoldTimer("write");
+
+    lock.unlock();
+    lock.unlock();
+    lock.unlock();
+    verify(holdTimingContext, never()).stopTimer();
+
+    lock.unlock();
+    verify(holdTimingContext).stopTimer();
+
+    // a new acquisition starts a new hold
+    lock.lock();
+    lock.unlock();
+    verify(metrics, times(2)).startLockHoldTimer("write");
+    verify(holdTimingContext, times(2)).stopTimer();
+  }
+
+  @Test
+  public void readAndWriteLocksAreTimedSeparately() {
+    final Lock writeLock = rwLock.writeLock();
+    final Lock readLock = rwLock.readLock();
+
+    writeLock.lock();
+    readLock.lock();
+    verify(metrics).startLockHoldTimer("write");
+    verify(metrics).startLockHoldTimer("read");
+
+    writeLock.unlock();
+    verify(holdTimingContext).stopTimer();
+
+    readLock.unlock();
+    verify(holdTimingContext, times(2)).stopTimer();
+  }
+
+  @Test
+  public void failedAcquisitionIsNotHeld() throws InterruptedException {
+    final Lock lock = rwLock.writeLock();
+
+    // the lock stays held by the other thread, even after it terminates
+    final Thread otherThread = new Thread(lock::lock);
+    otherThread.start();
+    otherThread.join();
+    verify(metrics).startLockHoldTimer("write");
+
+    assertThat(lock.tryLock()).isFalse();
+    assertThat(lock.tryLock(1, TimeUnit.MILLISECONDS)).isFalse();
+
+    // the failed timed wait is still recorded, but nothing is held by this thread
+    verify(metrics, times(2)).startLockWaitTimer("write");
+    verify(waitTimingContext, times(2)).close();
+    verify(metrics).startLockHoldTimer("write");
+  }
+}
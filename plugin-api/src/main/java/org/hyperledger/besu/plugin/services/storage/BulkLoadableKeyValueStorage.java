@@ -0,0 +1,40 @@
+/*
+ * Copyright contributors to Hyperledger Besu.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.plugin.services.storage;
+
+import org.hyperledger.besu.plugin.services.exception.StorageException;
+
+import java.util.stream.Stream;
+
+import org.apache.commons.lang3.tuple.Pair;
+
+/**
+ * The interface Bulk loadable key value storage. Implemented by storages that are able to load
+ * large sorted ranges of data directly, without going through the regular transactional write
+ * path.
+ */
+public interface BulkLoadableKeyValueStorage extends SegmentedKeyValueStorage {
+
+  /**
+   * Load the given entries into the segment in a single operation. The entries are visible once
+   * this method returns, they are not part of any transaction and cannot be rolled back.
+   *
+   * @param segmentIdentifier the segment to load the entries into
+   * @param sortedEntries the key value pairs to load, in strictly ascending key order
+   * @throws StorageException if the entries are not sorted or the load fails
+   */
+  void bulkLoad(SegmentIdentifier segmentIdentifier, Stream<Pair<byte[], byte[]>> sortedEntries)
+      throws StorageException;
+}
@@ -19,8 +19,8 @@ import static java.util.stream.Collectors.toUnmodifiableSet;
 import org.hyperledger.besu.plugin.services.MetricsSystem;
 import org.hyperledger.besu.plugin.services.exception.StorageException;
 import org.hyperledger.besu.plugin.services.metrics.OperationTimer;
+import org.hyperledger.besu.plugin.services.storage.BulkLoadableKeyValueStorage;
 import org.hyperledger.besu.plugin.services.storage.SegmentIdentifier;
-import org.hyperledger.besu.plugin.services.storage.SegmentedKeyValueStorage;
 import org.hyperledger.besu.plugin.services.storage.rocksdb.RocksDBMetrics;
 import org.hyperledger.besu.plugin.services.storage.rocksdb.RocksDBMetricsFactory;
 import org.hyperledger.besu.plugin.services.storage.rocksdb.RocksDbIterator;
@@ -28,9 +28,13 @@ import org.hyperledger.besu.plugin.services.storage.rocksdb.RocksDbSegmentIdenti
 import org.hyperledger.besu.plugin.services.storage.rocksdb.RocksDbUtil;
 import org.hyperledger.besu.plugin.services.storage.rocksdb.configuration.RocksDBConfiguration;
 
+import java.io.IOException;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -53,12 +57,15 @@ import org.rocksdb.ColumnFamilyOptions;
 import org.rocksdb.CompressionType;
 import org.rocksdb.DBOptions;
 import org.rocksdb.Env;
+import org.rocksdb.EnvOptions;
+import org.rocksdb.IngestExternalFileOptions;
 import org.rocksdb.LRUCache;
 import org.rocksdb.Options;
 import org.rocksdb.ReadOptions;
 import org.rocksdb.RocksDB;
 import org.rocksdb.RocksDBException;
 import org.rocksdb.RocksIterator;
+import org.rocksdb.SstFileWriter;
 import org.rocksdb.Statistics;
 import org.rocksdb.Status;
 import org.rocksdb.TransactionDBOptions;
@@ -67,7 +74,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /** The RocksDb columnar key value storage. */
-public abstract class RocksDBColumnarKeyValueStorage implements SegmentedKeyValueStorage {
+public abstract class RocksDBColumnarKeyValueStorage implements BulkLoadableKeyValueStorage {
 
   private static final Logger LOG = LoggerFactory.getLogger(RocksDBColumnarKeyValueStorage.class);
   private static final int ROCKSDB_FORMAT_VERSION = 5;
@@ -431,6 +438,76 @@ public abstract class RocksDBColumnarKeyValueStorage implements SegmentedKeyValu
         .collect(toUnmodifiableSet());
   }
 
+  /**
+   * Load sorted entries by writing them to an external SST file, built with the options of the
+   * segment column family, and ingesting that file directly into the column family. This bypasses
+   * the WAL, the memtables and most of the compaction work a regular transaction would cause.
+   *
+   * @param segmentIdentifier the segment to load the entries into
+   * @param sortedEntries the key value pairs to load, in strictly ascending key order
+   * @throws StorageException if the entries are not sorted or the ingestion fails
+   */
+  @Override
+  public void bulkLoad(
+      final SegmentIdentifier segmentIdentifier, final Stream<Pair<byte[], byte[]>> sortedEntries)
+      throws StorageException {
+    throwIfClosed();
+
+    final Iterator<Pair<byte[], byte[]>> entries = sortedEntries.iterator();
+    if (!entries.hasNext()) {
+      // an empty SST file can not be ingested
+      return;
+    }
+
+    Path sstFile = null;
+    try (final OperationTimer.TimingContext ignored = metrics.getWriteLatency().startTimer();
+        final EnvOptions envOptions = new EnvOptions();
+        final Options sstOptions = new Options(options, columnFamilyOptions(segmentIdentifier));
+        final SstFileWriter sstFileWriter = new SstFileWriter(envOptions, sstOptions);
+        final IngestExternalFileOptions ingestOptions =
+            new IngestExternalFileOptions().setMoveFiles(true)) {
+      // create the file next to the database so that it can be moved instead of copied
+      sstFile = Files.createTempFile(configuration.getDatabaseDir(), "bulk-load-", ".sst");
+      sstFileWriter.open(sstFile.toString());
+      while (entries.hasNext()) {
+        final Pair<byte[], byte[]> entry = entries.next();
+        sstFileWriter.put(entry.getKey(), entry.getValue());
+      }
+      sstFileWriter.finish();
+
+      getDB()
+          .ingestExternalFile(
+              safeColumnHandle(segmentIdentifier), List.of(sstFile.toString()), ingestOptions);
+    } catch (final RocksDBException e) {
+      throw new StorageException(e);
+    } catch (final IOException e) {
+      throw new StorageException("Unable to create bulk load file", e);
+    } finally {
+      deleteQuietly(sstFile);
+    }
+  }
+
+  private ColumnFamilyOptions columnFamilyOptions(final SegmentIdentifier segmentIdentifier) {
+    return columnDescriptors.stream()
+        .filter(descriptor -> Arrays.equals(descriptor.getName(), segmentIdentifier.getId()))
+        .findFirst()
+        .map(ColumnFamilyDescriptor::getOptions)
+        .orElseThrow(
+            () ->
+                new StorageException(
+                    "Column family not found for segment " + segmentIdentifier.getName()));
+  }
+
+  private static void deleteQuietly(final Path file) {
+    if (file != null) {
+      try {
+        Files.deleteIfExists(file);
+      } catch (final IOException e) {
+        LOG.warn("Unable to delete bulk load file {}", file, e);
+      }
+    }
+  }
+
   @Override
   public void clear(final SegmentIdentifier segmentIdentifier) {
     Optional.ofNullable(columnHandlesBySegmentIdentifier.get(segmentIdentifier))
@@ -15,6 +15,7 @@
 package org.hyperledger.besu.plugin.services.storage.rocksdb.segmented;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.assertj.core.api.Assertions.fail;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
@@ -31,6 +32,7 @@ import org.hyperledger.besu.plugin.services.exception.StorageException;
 import org.hyperledger.besu.plugin.services.metrics.Counter;
 import org.hyperledger.besu.plugin.services.metrics.LabelledMetric;
 import org.hyperledger.besu.plugin.services.metrics.OperationTimer;
+import org.hyperledger.besu.plugin.services.storage.BulkLoadableKeyValueStorage;
 import org.hyperledger.besu.plugin.services.storage.KeyValueStorage;
 import org.hyperledger.besu.plugin.services.storage.SegmentIdentifier;
 import org.hyperledger.besu.plugin.services.storage.SegmentedKeyValueStorage;
@@ -45,6 +47,7 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.function.Consumer;
 import java.util.function.LongSupplier;
+import java.util.stream.Stream;
 
 import org.apache.commons.lang3.tuple.Pair;
 import org.junit.jupiter.api.Test;
@@ -187,6 +190,51 @@ public abstract class RocksDBColumnarKeyValueStorageTest extends AbstractKeyValu
     store.close();
   }
 
+  @Test
+  public void canBulkLoadSortedEntries() throws Exception {
+    final BulkLoadableKeyValueStorage store =
+        (BulkLoadableKeyValueStorage)
+            createSegmentedStore(
+                folder,
+                Arrays.asList(TestSegment.DEFAULT, TestSegment.FOO, TestSegment.BAR),
+                List.of());
+
+    final SegmentedKeyValueStorageTransaction tx = store.startTransaction();
+    tx.put(TestSegment.FOO, bytesOf(1), bytesOf(1));
+    tx.commit();
+
+    store.bulkLoad(
+        TestSegment.FOO,
+        Stream.of(
+            Pair.of(bytesOf(2), bytesOf(2)),
+            Pair.of(bytesOf(3), bytesOf(3)),
+            Pair.of(bytesOf(4), bytesOf(4))));
+
+    assertThat(store.stream(TestSegment.FOO).map(Pair::getKey))
+        .containsExactly(bytesOf(1), bytesOf(2), bytesOf(3), bytesOf(4));
+    assertThat(store.get(TestSegment.FOO, bytesOf(3))).contains(bytesOf(3));
+    assertThat(store.stream(TestSegment.BAR)).isEmpty();
+    assertThat(folder.toFile().list((dir, name) -> name.startsWith("bulk-load-"))).isEmpty();
+
+    store.close();
+  }
+
+  @Test
+  public void bulkLoadShouldRejectUnsortedEntries() throws Exception {
+    final BulkLoadableKeyValueStorage store =
+        (BulkLoadableKeyValueStorage) createSegmentedStore();
+
+    assertThatThrownBy(
+            () ->
+                store.bulkLoad(
+                    TestSegment.FOO,
+                    Stream.of(Pair.of(bytesOf(2), bytesOf(2)), Pair.of(bytesOf(1), bytesOf(1)))))
+        .isInstanceOf(StorageException.class);
+    assertThat(store.stream(TestSegment.FOO)).isEmpty();
+
+    store.close();
+  }
+
   @Test
   public void dbShouldIgnoreExperimentalSegmentsIfNotExisted(@TempDir final Path testPath)
       throws Exception {